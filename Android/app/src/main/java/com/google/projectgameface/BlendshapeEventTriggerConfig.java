@@ -15,14 +15,8 @@
  */
 package com.google.projectgameface;
 
-import static android.content.Context.RECEIVER_EXPORTED;
-
-import android.content.BroadcastReceiver;
 import android.content.Context;
 import android.content.Intent;
-import android.content.IntentFilter;
-import android.content.SharedPreferences;
-import android.os.Build;
 import android.util.Log;
 
 import androidx.annotation.Nullable;
@@ -39,8 +33,8 @@ public class BlendshapeEventTriggerConfig {
   private static final String TAG = "BlendshapeEventTriggerConfig";
   private static final int PREFERENCE_INT_NOT_FOUND = -1;
 
-  /** Persistent storage on device (Data/data/{app}) */
-  SharedPreferences sharedPreferences;
+  /** In-memory view of the profiles persisted on device (Data/data/{app}) */
+  private final ProfileStore profileStore;
 
   public static class EventDetails {
     public EventType eventType;
@@ -280,42 +274,14 @@ public class BlendshapeEventTriggerConfig {
   /**
    * Stores event and Blendshape pair that will be triggered when the threshold is passed.
    *
-   * @param context Context for open SharedPreference in device's local storage.
+   * @param context Context for the profile store.
    */
-  private BroadcastReceiver profileChangeReceiver;
-
   public BlendshapeEventTriggerConfig(Context context) {
     Log.i(TAG, "Create BlendshapeEventTriggerConfig.");
-    // Create or retrieve SharedPreference.
-    String profileName = ProfileManager.getCurrentProfile(context);
-    sharedPreferences = context.getSharedPreferences(profileName, Context.MODE_PRIVATE);
+    profileStore = ProfileStore.getInstance(context);
 
     configMap = new HashMap<>();
     updateAllConfigFromSharedPreference();
-
-    profileChangeReceiver = new BroadcastReceiver() {
-      @Override
-      public void onReceive(Context context, Intent intent) {
-        String profileName = ProfileManager.getCurrentProfile(context);
-        sharedPreferences = context.getSharedPreferences(profileName, Context.MODE_PRIVATE);
-        updateAllConfigFromSharedPreference();
-      }
-    };
-    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.TIRAMISU) {
-      context.registerReceiver(profileChangeReceiver, new IntentFilter("PROFILE_CHANGED"), RECEIVER_EXPORTED);
-    } else {
-      context.registerReceiver(profileChangeReceiver, new IntentFilter("PROFILE_CHANGED"));
-    }
-    updateProfile(context, ProfileManager.getCurrentProfile(context));
-  }
-
-  public void updateProfile(Context context, String profileName) {
-    sharedPreferences = context.getSharedPreferences(profileName, Context.MODE_PRIVATE);
-    updateAllConfigFromSharedPreference();
-  }
-
-  public void cleanup(Context context) {
-    context.unregisterReceiver(profileChangeReceiver);
   }
 
   /** Get every EventType-BlendshapeAndThreshold pairs. */
@@ -338,10 +304,7 @@ public class BlendshapeEventTriggerConfig {
   public void updateOneConfigFromSharedPreference(String eventTypeString) {
     Log.i(TAG, "updateOneConfigFromSharedPreference: " + eventTypeString);
 
-    if (sharedPreferences == null) {
-      Log.w(TAG, "sharedPreferences instance does not exist.");
-      return;
-    }
+    ProfileStore.Profile profile = profileStore.getCurrentProfile();
 
     EventType eventType;
     try {
@@ -351,7 +314,7 @@ public class BlendshapeEventTriggerConfig {
       return;
     }
 
-    int blendshapeIndexInUi = sharedPreferences.getInt(eventTypeString, -1);
+    int blendshapeIndexInUi = profile.getInt(eventTypeString, -1);
     if (blendshapeIndexInUi == -1) {
       Log.i(
           TAG,
@@ -360,7 +323,7 @@ public class BlendshapeEventTriggerConfig {
     }
 
     int thresholdInUi =
-        sharedPreferences.getInt(eventTypeString + "_size", PREFERENCE_INT_NOT_FOUND);
+        profile.getInt(eventTypeString + "_size", PREFERENCE_INT_NOT_FOUND);
     if (thresholdInUi == PREFERENCE_INT_NOT_FOUND) {
       Log.w(TAG, "Cannot find " + eventTypeString + "_size" + " in SharedPreference.");
       return;
@@ -395,13 +358,11 @@ public class BlendshapeEventTriggerConfig {
   {
     Log.i(TAG, "writeBindingConfig: " + blendshape.toString() +" "+ eventType.toString() + " " + thresholdInUI);
 
-    String profileName = ProfileManager.getCurrentProfile(context);
-    SharedPreferences preferences = context.getSharedPreferences(profileName, Context.MODE_PRIVATE);
-    SharedPreferences.Editor editor = preferences.edit();
-    editor.putInt(eventType.toString(), BLENDSHAPE_FROM_ORDER_IN_UI.indexOf(blendshape));
-    editor.putInt(eventType.toString()+"_size", thresholdInUI);
-    editor.putString(blendshape.toString()+"_event", eventType.toString());
-    editor.apply();
+    ProfileStore.getInstance(context).edit()
+        .putInt(eventType.toString(), BLENDSHAPE_FROM_ORDER_IN_UI.indexOf(blendshape))
+        .putInt(eventType.toString()+"_size", thresholdInUI)
+        .putString(blendshape.toString()+"_event", eventType.toString())
+        .apply();
 
     // Tell service to refresh its config.
     Intent intent = new Intent("LOAD_SHARED_CONFIG_GESTURE");
@@ -48,36 +48,6 @@ public class CalibrationActivity extends AppCompatActivity {
 
     private Boolean isPlaceHolderLaidOut = false;
 
-    private float minPitch = 0.0f;    // Minimum pitch (down)
-    private float maxPitch = 0.0f;    // Maximum pitch (up)
-    private float minYaw = 0.0f;      // Minimum yaw (left)
-    private float maxYaw = 0.0f;      // Maximum yaw (right)
-
-    public void resetMinMaxValues() {
-        minPitch = 0.0f;
-        maxPitch = 0.0f;
-        minYaw = 0.0f;
-        maxYaw = 0.0f;
-    }
-
-    public void updatePitchYawMinMax(float[] pitchYawXY) {
-        if (pitchYawXY[0] == 0 && pitchYawXY[1] == 0) {
-            return;
-        }
-        if (pitchYawXY[0] > maxPitch) {
-            maxPitch = pitchYawXY[0];
-        }
-        if (pitchYawXY[0] < minPitch) {
-            minPitch = pitchYawXY[0];
-        }
-        if (pitchYawXY[1] > maxYaw) {
-            maxYaw = pitchYawXY[1];
-        }
-        if (pitchYawXY[1] < minYaw) {
-            minYaw = pitchYawXY[1];
-        }
-    }
-
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
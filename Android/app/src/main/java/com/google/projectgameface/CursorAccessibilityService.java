@@ -26,7 +26,6 @@ import android.content.BroadcastReceiver;
 import android.content.Context;
 import android.content.Intent;
 import android.content.IntentFilter;
-import android.content.SharedPreferences;
 import android.content.pm.PackageInfo;
 import android.content.pm.PackageManager;
 import android.content.pm.Signature;
@@ -71,8 +70,6 @@ import com.google.projectgameface.utils.DebuggingStats;
 import com.google.projectgameface.utils.WriteToFile;
 
 import java.lang.reflect.Method;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -122,7 +119,6 @@ public class CursorAccessibilityService extends AccessibilityService implements
     private BroadcastReceiver loadSharedConfigBasicReceiver;
     private BroadcastReceiver loadSharedConfigGestureReceiver;
     private BroadcastReceiver enableScorePreviewReceiver;
-    private BroadcastReceiver profileChangeReceiver;
     private BroadcastReceiver resetDebuggingStatsReceiver;
     private BroadcastReceiver justTypeHeadTrackingReceiver;
     private long startUptime;
@@ -167,143 +163,116 @@ public class CursorAccessibilityService extends AccessibilityService implements
     private boolean shouldSendScore = false;
     private String[] debugText = {"", ""};
 
-    private static final int HOVER_DETECTION_SAMPLE_RATE = 16; // ms between samples
     private static final int HOVER_DETECTION_WINDOW = 500; // ms to analyze movement
-    private static final double HOVER_MOVEMENT_THRESHOLD = 5.0; // pixels
-    private static final double SWIPE_VELOCITY_THRESHOLD = 0.5; // pixels per ms
+    private static final float HOVER_MOVEMENT_THRESHOLD = 5.0f; // pixels
+    private static final float SWIPE_VELOCITY_THRESHOLD = 0.5f; // pixels per ms
+    private static final float SWIPE_MIN_STRAIGHTNESS = 0.6f; // net displacement / path length
 
-    private class MovementSample {
-        long timestamp;
-        int[] position;
-        double velocity;
-
-        MovementSample(long timestamp, int[] position, double velocity) {
-            this.timestamp = timestamp;
-            this.position = position;
-            this.velocity = velocity;
-        }
-    }
-
-    private List<MovementSample> movementSamples = new ArrayList<>();
     private boolean isIntentionalMovement = false;
     private boolean canStartSwipe = false;
+    private boolean isMonitoringMovement = false;
+    private long movementMonitoringStartTime = 0;
 
     /**
-     * Analyzes cursor movement to determine if it's intentional (swipe) or hovering (tap/long tap)
-     *
-     * @return true if movement appears intentional (swipe), false if hovering (tap/long tap)
+     * Starts monitoring cursor movement for hover detection. The decision is made in
+     * {@link #checkMovementIntent()} on every cursor update.
      */
-    private boolean analyzeMovement() {
-        if (movementSamples.size() < 2) {
-            return false;
-        }
-
-        // Calculate average velocity
-        double totalVelocity = 0;
-        int validSamples = 0;
-
-        for (int i = 1; i < movementSamples.size(); i++) {
-            MovementSample current = movementSamples.get(i);
-            MovementSample previous = movementSamples.get(i - 1);
+    private void startMovementMonitoring() {
+        cursorController.getPathMotionAnalyzer().clear();
+        isIntentionalMovement = false;
+        movementMonitoringStartTime = SystemClock.uptimeMillis();
+        isMonitoringMovement = true;
+    }
 
-            float dpThreshold = 20f;
-            float density = this.getResources().getDisplayMetrics().density;
-            float pxThreshold = dpThreshold * density;
+    /**
+     * Analyzes cursor movement to determine if it's intentional (swipe) or hovering (tap/long tap),
+     * and starts the swipe once it is. Called from the tick after the cursor moved.
+     */
+    private void checkMovementIntent() {
+        if (!isMonitoringMovement) {
+            return;
+        }
+        if (!swipeEventStarted || swipeEventEnding) {
+            isMonitoringMovement = false;
+            return;
+        }
+        if (SystemClock.uptimeMillis() - movementMonitoringStartTime < HOVER_DETECTION_WINDOW) {
+            return;
+        }
+        isIntentionalMovement = cursorController.getPathMotionAnalyzer().isIntentionalMovement(
+            SWIPE_VELOCITY_THRESHOLD, HOVER_MOVEMENT_THRESHOLD, SWIPE_MIN_STRAIGHTNESS);
+        if (isIntentionalMovement && canStartSwipe && !cursorController.isSwiping) {
+            isMonitoringMovement = false; // Stop monitoring once a swipe is detected
+            startSwipe();
+        }
+    }
 
-            double distance = Math.hypot(
-                current.position[0] - previous.position[0],
-                current.position[1] - previous.position[1]);
+    /** Minimum time between two rebuilds of the dwell target cache. */
+    private static final int DWELL_TARGET_REFRESH_DELAY = 250; // ms
 
-            if (distance > pxThreshold) {
-                // distance is greater than 20dp
-            }
+    /** Targets the dwell engine snaps to; read and updated on the main thread only. */
+    private final DwellTargetCache dwellTargetCache = new DwellTargetCache();
+    /** Rebuilt on the dwell target thread, then copied into {@link #dwellTargetCache}. */
+    private final DwellTargetCache pendingDwellTargetCache = new DwellTargetCache();
+    private HandlerThread dwellTargetThread;
+    private Handler dwellTargetHandler;
+    private DwellClickEngine dwellClickEngine;
+    private final int[] dwellTapPosition = new int[2];
+    private boolean dwellTargetsLoaded = false;
+    private boolean dwellTargetRefreshPending = false;
+    private final Runnable rebuildDwellTargetsRunnable = this::rebuildDwellTargets;
+    private final Runnable publishDwellTargetsRunnable = this::publishDwellTargets;
 
-            double timeDelta = current.timestamp - previous.timestamp;
-            if (timeDelta > 0) {
-                double velocity = distance / timeDelta;
-                if (velocity > 0) {
-                    totalVelocity += velocity;
-                    validSamples++;
-                }
-            }
+    /**
+     * Advances dwell clicking by one cursor update. Dwelling is suspended while another event
+     * (tap, swipe, drag) owns the cursor and in JustType joystick mode.
+     */
+    private void updateDwellClick() {
+        if (!cursorController.isDwellClickEnabled() || isJustTypeJoystickMode
+            || cursorController.isEventActive()) {
+            dwellClickEngine.reset();
+            return;
         }
-
-        // Calculate movement consistency
-        double avgVelocity = validSamples > 0 ? totalVelocity / validSamples : 0;
-        boolean hasConsistentMovement = avgVelocity > SWIPE_VELOCITY_THRESHOLD;
-
-        // Check for movement pattern
-        boolean hasDirectionalMovement = false;
-        if (movementSamples.size() >= 3) {
-            int[] startPos = movementSamples.get(0).position;
-            int[] endPos = movementSamples.get(movementSamples.size() - 1).position;
-            double totalDistance = Math.sqrt(
-                Math.pow(endPos[0] - startPos[0], 2) + Math.pow(endPos[1] - startPos[1], 2));
-            hasDirectionalMovement = totalDistance > HOVER_MOVEMENT_THRESHOLD;
+        if (!dwellTargetsLoaded) {
+            requestDwellTargetRefresh();
         }
-
-        return hasConsistentMovement && hasDirectionalMovement;
+        dwellClickEngine.setDwellTimeMs(cursorController.getDwellTimeMs());
+        dwellClickEngine.setRadius(cursorController.getDwellRadius());
+        dwellClickEngine.update(SystemClock.uptimeMillis());
     }
 
     /**
-     * Starts monitoring cursor movement for hover detection
+     * Schedules a rebuild of the dwell target cache. Requests made while one is pending are merged,
+     * so a burst of window content changes costs a single tree walk. The walk is an IPC per node,
+     * so it runs on the dwell target thread rather than on the cursor tick.
      */
-    private void startMovementMonitoring() {
-        movementSamples.clear();
-        isIntentionalMovement = false;
-
-        new Thread(() -> {
-            long startTime = System.currentTimeMillis();
-
-            while (swipeEventStarted && !swipeEventEnding) {
-                int[] currentPosition = getPathCursorPosition();
-                if (currentPosition == null) {
-                    try {
-                        Thread.sleep(HOVER_DETECTION_SAMPLE_RATE);
-                    } catch (InterruptedException e) {
-                        break;
-                    }
-                    continue;
-                }
-
-                long currentTime = System.currentTimeMillis();
-
-                // Calculate velocity if we have previous samples
-                double velocity = 0;
-                if (!movementSamples.isEmpty()) {
-                    MovementSample lastSample = movementSamples.get(movementSamples.size() - 1);
-                    double distance = Math.sqrt(Math.pow(currentPosition[0] - lastSample.position[0], 2) +
-                                                Math.pow(currentPosition[1] - lastSample.position[1], 2));
-                    velocity = distance / (currentTime - lastSample.timestamp);
-                }
-
-                // Add new sample
-                movementSamples.add(new MovementSample(currentTime, currentPosition, velocity));
-
-                // Remove old samples outside our analysis window
-                while (!movementSamples.isEmpty() && currentTime - movementSamples.get(0).timestamp > HOVER_DETECTION_WINDOW) {
-                    movementSamples.remove(0);
-                }
+    private void requestDwellTargetRefresh() {
+        if (dwellTargetRefreshPending) {
+            return;
+        }
+        dwellTargetRefreshPending = true;
+        dwellTargetHandler.postDelayed(rebuildDwellTargetsRunnable, DWELL_TARGET_REFRESH_DELAY);
+    }
 
-                // Analyze movement if we have enough samples
-                if (currentTime - startTime >= HOVER_DETECTION_WINDOW) {
-                    boolean isAttemptingSwipe = analyzeMovement();
-                    isIntentionalMovement = isAttemptingSwipe;
-                    if (isAttemptingSwipe && canStartSwipe && !cursorController.isSwiping && !swipeEventEnding) {
-                        mainHandler.post(() -> {
-                            startSwipe();
-                        });
-                        break; // Exit monitoring if swipe is detected
-                    }
-                }
+    /** Runs on the dwell target thread. */
+    private void rebuildDwellTargets() {
+        pendingDwellTargetCache.rebuild(getWindows());
+        mainHandler.post(publishDwellTargetsRunnable);
+    }
 
-                try {
-                    Thread.sleep(HOVER_DETECTION_SAMPLE_RATE);
-                } catch (InterruptedException e) {
-                    break;
-                }
-            }
-        }).start();
+    /**
+     * Runs on the main thread. No rebuild runs meanwhile, since the next one is only requested
+     * once this clears the pending flag.
+     */
+    private void publishDwellTargets() {
+        dwellTargetRefreshPending = false;
+        if (serviceState != ServiceState.ENABLE || !cursorController.isDwellClickEnabled()) {
+            dwellTargetCache.clear();
+            dwellTargetsLoaded = false;
+            return;
+        }
+        dwellTargetCache.copyFrom(pendingDwellTargetCache);
+        dwellTargetsLoaded = true;
     }
 
     @SuppressLint("UnspecifiedRegisterReceiverFlag")
@@ -374,15 +343,6 @@ public class CursorAccessibilityService extends AccessibilityService implements
             }
         };
 
-        profileChangeReceiver = new BroadcastReceiver() {
-            @Override
-            public void onReceive(Context context, Intent intent) {
-                Log.i(TAG, "Profile change detected. Reloading configuration.");
-                cursorController.cursorMovementConfig.reloadSharedPreferences(context);
-                cursorController.blendshapeEventTriggerConfig.updateAllConfigFromSharedPreference();
-            }
-        };
-
         resetDebuggingStatsReceiver = new BroadcastReceiver() {
             @Override
             public void onReceive(Context context, Intent intent) {
@@ -409,6 +369,8 @@ public class CursorAccessibilityService extends AccessibilityService implements
                     handleJustTypeHeadTrackingDisabled();
                 } else if ("com.justtype.nativeapp.ACTION_HEAD_TRACKING_POP_OUT".equals(action)) {
                     handleJustTypePopOut();
+                } else if ("com.justtype.nativeapp.ACTION_JOYSTICK_SHARED_MEMORY_SUPPORTED".equals(action)) {
+                    keyboardManager.enableJoystickSharedMemoryTransport();
                 }
             }
         };
@@ -416,6 +378,7 @@ public class CursorAccessibilityService extends AccessibilityService implements
         justTypeFilter.addAction("com.justtype.nativeapp.ACTION_HEAD_TRACKING_ENABLED");
         justTypeFilter.addAction("com.justtype.nativeapp.ACTION_HEAD_TRACKING_DISABLED");
         justTypeFilter.addAction("com.justtype.nativeapp.ACTION_HEAD_TRACKING_POP_OUT");
+        justTypeFilter.addAction("com.justtype.nativeapp.ACTION_JOYSTICK_SHARED_MEMORY_SUPPORTED");
 
         ContextCompat.registerReceiver(this, changeServiceStateReceiver, new IntentFilter("CHANGE_SERVICE_STATE"),
             ContextCompat.RECEIVER_EXPORTED);
@@ -431,8 +394,6 @@ public class CursorAccessibilityService extends AccessibilityService implements
             ContextCompat.RECEIVER_EXPORTED);
         ContextCompat.registerReceiver(this, serviceUiManager.flyOutWindowReceiver, new IntentFilter("FLY_OUT_FLOAT_WINDOW"),
             ContextCompat.RECEIVER_EXPORTED);
-        ContextCompat.registerReceiver(this, profileChangeReceiver, new IntentFilter("PROFILE_CHANGED"),
-            ContextCompat.RECEIVER_EXPORTED);
         ContextCompat.registerReceiver(this, resetDebuggingStatsReceiver, new IntentFilter("RESET_DEBUGGING_STATS"),
             ContextCompat.RECEIVER_EXPORTED);
         ContextCompat.registerReceiver(this, keyboardEventReceiver, kbdFilter,
@@ -461,6 +422,9 @@ public class CursorAccessibilityService extends AccessibilityService implements
         handlerThread = new HandlerThread("MotionEventThread");
         handlerThread.start();
         handler = new Handler(handlerThread.getLooper());
+        dwellTargetThread = new HandlerThread("DwellTargetThread");
+        dwellTargetThread.start();
+        dwellTargetHandler = new Handler(dwellTargetThread.getLooper());
 
         windowManager = ContextCompat.getSystemService(this, WindowManager.class);
 
@@ -468,6 +432,28 @@ public class CursorAccessibilityService extends AccessibilityService implements
         windowManager.getDefaultDisplay().getRealSize(screenSize);
 
         cursorController = new CursorController(this, screenSize.x, screenSize.y);
+        cursorController.getPathMotionAnalyzer().addZone(tapHoverZone);
+        cursorController.getPathMotionAnalyzer().addZone(swipeHoverZone);
+        dwellClickEngine = new DwellClickEngine(
+            cursorController.getCursorMotionAnalyzer(),
+            dwellTargetCache,
+            new DwellClickEngine.Callback() {
+                @Override
+                public void onDwellProgress(float progress) {
+                    serviceUiManager.cursorSetDwellProgress(progress);
+                }
+
+                @Override
+                public void onDwellClick(int x, int y) {
+                    Log.d(TAG, "Dwell click at " + x + ", " + y);
+                    dwellTapPosition[0] = x;
+                    dwellTapPosition[1] = y;
+                    dispatchTapGesture(dwellTapPosition,
+                        keyboardManager.canInjectEvent(x, y) ? 100 : Config.QUICK_TAP_DURATION);
+                }
+            },
+            cursorController.getDwellTimeMs(),
+            cursorController.getDwellRadius());
         serviceUiManager = new ServiceUiManager(this, windowManager, cursorController);
         cursorController.setServiceUiManager(serviceUiManager);
         cursorController.setJustTypeEngagementListener(this);
@@ -594,6 +580,7 @@ public class CursorAccessibilityService extends AccessibilityService implements
                         if (isJustTypeJoystickMode) {
                             Log.d(TAG, "Exiting JustType joystick mode - showing cursor");
                             isJustTypeJoystickMode = false;
+                            keyboardManager.resetJoystickStream();
                             // Show cursor again
                             serviceUiManager.showCursor();
                         }
@@ -605,7 +592,11 @@ public class CursorAccessibilityService extends AccessibilityService implements
                         facelandmarkerHelper.getNoseCoordXY(),
                         facelandmarkerHelper.getPitchYaw(),
                         new int[]{facelandmarkerHelper.mpInputWidth, facelandmarkerHelper.frameHeight},
-                        new int[]{screenSize.x, screenSize.y});
+                        new int[]{screenSize.x, screenSize.y},
+                        facelandmarkerHelper.getLastMeasurementTimeMs());
+
+                    checkMovementIntent();
+                    updateDwellClick();
 
                     dispatchEvent(null, null);
 
@@ -864,8 +855,6 @@ public class CursorAccessibilityService extends AccessibilityService implements
 
                 facelandmarkerHelper.resumeThread();
                 setImageAnalyzer();
-                cursorController.resetRawCoordMinMax();
-                facelandmarkerHelper.resetMinMaxValues();
 
             case PAUSE:
             case GLOBAL_STICK:
@@ -879,6 +868,7 @@ public class CursorAccessibilityService extends AccessibilityService implements
         serviceUiManager.setCameraBoxDraggable(true);
 
         serviceState = ServiceState.ENABLE;
+        keyboardManager.sendGestureProfileToIME(Config.IME_GESTURE_PROFILE_HEAD_POINTER);
 
     }
 
@@ -897,6 +887,8 @@ public class CursorAccessibilityService extends AccessibilityService implements
                 // stop the service functions.
                 facelandmarkerHelper.pauseThread();
                 imageAnalyzer.clearAnalyzer();
+                cursorController.saveHeadRangeCalibration();
+                keyboardManager.sendGestureProfileToIME(Config.IME_GESTURE_PROFILE_TOUCH);
 
                 // Stop camera.
                 cameraProviderFuture = ProcessCameraProvider.getInstance(this);
@@ -926,7 +918,11 @@ public class CursorAccessibilityService extends AccessibilityService implements
         disableService();
         disableSelf();
         handlerThread.quitSafely();
+        dwellTargetHandler.removeCallbacks(rebuildDwellTargetsRunnable);
+        dwellTargetThread.quitSafely();
+        mainHandler.removeCallbacks(publishDwellTargetsRunnable);
         cursorController.cleanup();
+        keyboardManager.releaseJoystickTransport();
         
         // Cleanup continuous swipe gesture controller
         if (continuousGestureController != null) {
@@ -941,7 +937,6 @@ public class CursorAccessibilityService extends AccessibilityService implements
         try { unregisterReceiver(enableScorePreviewReceiver); } catch (Exception e) {}
         try { unregisterReceiver(serviceUiManager.flyInWindowReceiver); } catch (Exception e) {}
         try { unregisterReceiver(serviceUiManager.flyOutWindowReceiver); } catch (Exception e) {}
-        try { unregisterReceiver(profileChangeReceiver); } catch (Exception e) {}
         try { unregisterReceiver(resetDebuggingStatsReceiver); } catch (Exception e) {}
         try { unregisterReceiver(keyboardEventReceiver); } catch (Exception e) {}
         try { unregisterReceiver(justTypeHeadTrackingReceiver); } catch (Exception e) {}
@@ -1066,6 +1061,19 @@ public class CursorAccessibilityService extends AccessibilityService implements
                 processTypedText(newText);
             }
         }
+
+        if (cursorController.isDwellClickEnabled()) {
+            switch (event.getEventType()) {
+                case AccessibilityEvent.TYPE_WINDOWS_CHANGED:
+                case AccessibilityEvent.TYPE_WINDOW_STATE_CHANGED:
+                case AccessibilityEvent.TYPE_WINDOW_CONTENT_CHANGED:
+                case AccessibilityEvent.TYPE_VIEW_SCROLLED:
+                    requestDwellTargetRefresh();
+                    break;
+                default:
+                    break;
+            }
+        }
     }
     private boolean checkKeyboardBoundsAgain = false;
 
@@ -1153,9 +1161,7 @@ public class CursorAccessibilityService extends AccessibilityService implements
         if (serviceState != ServiceState.ENABLE && serviceState != ServiceState.PAUSE) {
             return false;
         }
-        SharedPreferences preferences = getSharedPreferences(
-            ProfileManager.getCurrentProfile(this),
-            Context.MODE_PRIVATE);
+        ProfileStore.Profile preferences = ProfileStore.getInstance(this).getCurrentProfile();
         String eventName = "NONE";
         BlendshapeEventTriggerConfig.Blendshape blendshape;
         int keyCode = event.getKeyCode();
@@ -1805,9 +1811,7 @@ public class CursorAccessibilityService extends AccessibilityService implements
      * Handle swipe from right keyboard event.
      */
     public void handleSwipeFromRightKbd() {
-        SharedPreferences preferences = getSharedPreferences(
-            ProfileManager.getCurrentProfile(this),
-            Context.MODE_PRIVATE);
+        ProfileStore.Profile preferences = ProfileStore.getInstance(this).getCurrentProfile();
         String eventName = preferences.getString(
             BlendshapeEventTriggerConfig.Blendshape.SWIPE_FROM_RIGHT_KBD.toString() + "_event",
             BlendshapeEventTriggerConfig.Blendshape.NONE.toString());
@@ -2051,6 +2055,7 @@ public class CursorAccessibilityService extends AccessibilityService implements
         // Disarm will trigger disengage callback if engaged, which shows cursor
         cursorController.setJustTypeHeadTrackingArmed(false);
         isJustTypeJoystickMode = false;
+        keyboardManager.resetJoystickStream();
         // Ensure cursor is visible (even if wasn't engaged)
         serviceUiManager.showCursor();
     }
@@ -2063,6 +2068,7 @@ public class CursorAccessibilityService extends AccessibilityService implements
     private void handleJustTypePopOut() {
         Log.d(TAG, "JustType pop-out triggered - showing cursor in text field (head tracking stays armed)");
         isJustTypeJoystickMode = false;
+        keyboardManager.resetJoystickStream();
 
         // Show cursor (will also be shown by onJustTypeDisengaged callback)
         serviceUiManager.showCursor();
@@ -2365,58 +2371,33 @@ public class CursorAccessibilityService extends AccessibilityService implements
     }
 
     /**
-     * Starts monitoring the cursor position to check if it stays within the hover zone.
+     * Tracks whether the cursor stays within the hover zone around the tap start position.
      */
-    private void startHoverZoneMonitoring() {
-        new Thread(() -> {
-            while (tapEventStarted && !tapEventEnding) {
-                int[] currentPosition = getPathCursorPosition();
-                int[] startPos = tapStartPosition;
-
-                // Skip if either position is null
-                if (currentPosition == null || startPos == null) {
-                    try {
-                        Thread.sleep(16);
-                    } catch (InterruptedException e) {
-                        break;
-                    }
-                    continue;
-                }
-
-                double distance = Math.sqrt(Math.pow(currentPosition[0] - startPos[0], 2) +
-                                            Math.pow(currentPosition[1] - startPos[1], 2));
-
-                boolean newHoverState = distance <= Config.HOVER_ZONE_RADIUS;
-
-                // Only update UI if hover state changed
-                if (newHoverState != isInHoverZone) {
-                    isInHoverZone = newHoverState;
-                    Log.d(TAG, "HOVER ZONE " + (isInHoverZone ? "ENTERED" : "EXITED") + "; Cursor Distance: "
-                        + distance + "px; Hover Zone Radius: " + Config.HOVER_ZONE_RADIUS + "px");
-
-                    if (!isInHoverZone) {
-                        // Cursor left hover zone
-                        hoverZoneExitTime = System.currentTimeMillis();
-                        mainHandler.post(() -> {
-                            // Hide current animations and show red
-                            serviceUiManager.cursorHideAnimation("RED");
-                        });
-                    } else {
-                        // Cursor returned to hover zone
-                        mainHandler.post(() -> {
-                            // Show animations again
-                            serviceUiManager.cursorShowAnimation();
-                        });
-                    }
-                }
+    private final MotionAnalyzer.HoverZone tapHoverZone = new MotionAnalyzer.HoverZone(
+        (zone, inside, distance) -> {
+            isInHoverZone = inside;
+            Log.d(TAG, "HOVER ZONE " + (isInHoverZone ? "ENTERED" : "EXITED") + "; Cursor Distance: "
+                + distance + "px; Hover Zone Radius: " + Config.HOVER_ZONE_RADIUS + "px");
 
-                try {
-                    Thread.sleep(16); // ~60fps
-                } catch (InterruptedException e) {
-                    break;
-                }
+            if (!isInHoverZone) {
+                // Cursor left hover zone
+                hoverZoneExitTime = System.currentTimeMillis();
+                // Hide current animations and show red
+                serviceUiManager.cursorHideAnimation("RED");
+            } else {
+                // Cursor returned to hover zone
+                // Show animations again
+                serviceUiManager.cursorShowAnimation();
             }
-        }).start();
+        });
+
+    /**
+     * Starts monitoring the cursor position to check if it stays within the hover zone.
+     * The zone is updated with every cursor update until the tap ends.
+     */
+    private void startHoverZoneMonitoring() {
+        tapHoverZone.anchor(tapStartPosition[0], tapStartPosition[1],
+            Config.HOVER_ZONE_RADIUS, Config.HOVER_ZONE_RADIUS, SystemClock.uptimeMillis());
     }
 
     /**
@@ -2425,6 +2406,7 @@ public class CursorAccessibilityService extends AccessibilityService implements
     private void endTapSequence() {
         // Cancel any pending runnables
         tapEventEnding = true;
+        tapHoverZone.clear();
         mainHandler.removeCallbacks(showAltPopupRunnable);
         mainHandler.removeCallbacks(animateCursorTapRunnable);
 
@@ -2784,60 +2766,34 @@ public class CursorAccessibilityService extends AccessibilityService implements
         }
     }
 
+    /**
+     * Tracks whether the path cursor stays within the hover zone around the swipe start position.
+     */
+    private final MotionAnalyzer.HoverZone swipeHoverZone = new MotionAnalyzer.HoverZone(
+        (zone, inside, distance) -> {
+            isInHoverZone = inside;
+            Log.d(TAG, "HOVER ZONE " + (isInHoverZone ? "ENTERED" : "EXITED") + "; Cursor Distance: "
+                + distance + "px; Hover Zone Radius: " + Config.HOVER_ZONE_RADIUS + "px");
+
+            if (!isInHoverZone) {
+                // Cursor left hover zone
+                hoverZoneExitTime = System.currentTimeMillis();
+                // Hide current animations and show red
+                serviceUiManager.pathCursorHideAnimation("RED");
+            } else {
+                // Cursor returned to hover zone
+                // Show animations again
+                serviceUiManager.pathCursorShowAnimation();
+            }
+        });
+
     /**
      * Starts monitoring the cursor position to check if it stays within the hover zone.
      * This is used specifically for swipe events to provide visual feedback.
      */
     private void startSwipeHoverZoneMonitoring() {
-        new Thread(() -> {
-            while (swipeEventStarted && !swipeEventEnding) {
-                int[] currentPosition = getPathCursorPosition();
-                int[] startPos = swipeStartPosition; // Get local copy to avoid NPE
-
-                // Skip if either position is null
-                if (currentPosition == null || startPos == null) {
-                    try {
-                        Thread.sleep(16);
-                    } catch (InterruptedException e) {
-                        break;
-                    }
-                    continue;
-                }
-
-                double distance = Math.sqrt(Math.pow(currentPosition[0] - startPos[0], 2) +
-                                            Math.pow(currentPosition[1] - startPos[1], 2));
-
-                boolean newHoverState = distance <= Config.HOVER_ZONE_RADIUS;
-
-                // Only update UI if hover state changed
-                if (newHoverState != isInHoverZone) {
-                    isInHoverZone = newHoverState;
-                    Log.d(TAG, "HOVER ZONE " + (isInHoverZone ? "ENTERED" : "EXITED") + "; Cursor Distance: "
-                        + distance + "px; Hover Zone Radius: " + Config.HOVER_ZONE_RADIUS + "px");
-
-                    if (!isInHoverZone) {
-                        // Cursor left hover zone
-                        hoverZoneExitTime = System.currentTimeMillis();
-                        mainHandler.post(() -> {
-                            // Hide current animations and show red
-                            serviceUiManager.pathCursorHideAnimation("RED");
-                        });
-                    } else {
-                        // Cursor returned to hover zone
-                        mainHandler.post(() -> {
-                            // Show animations again
-                            serviceUiManager.pathCursorShowAnimation();
-                        });
-                    }
-                }
-
-                try {
-                    Thread.sleep(16); // ~60fps
-                } catch (InterruptedException e) {
-                    break;
-                }
-            }
-        }).start();
+        swipeHoverZone.anchor(swipeStartPosition[0], swipeStartPosition[1],
+            Config.HOVER_ZONE_RADIUS, Config.HOVER_ZONE_RADIUS, SystemClock.uptimeMillis());
     }
 
     /**
@@ -2847,6 +2803,8 @@ public class CursorAccessibilityService extends AccessibilityService implements
         // Cancel any pending runnables
         swipeEventEnding = true;
         canStartSwipe = false;
+        isMonitoringMovement = false;
+        swipeHoverZone.clear();
         mainHandler.removeCallbacks(animateCursorTouchRunnable);
 //        mainHandler.removeCallbacks(touchGreenToBlueRunnable);
 //        mainHandler.removeCallbacks(endTouchAnimationRunnable);
@@ -18,15 +18,11 @@ package com.google.projectgameface;
 
 import static androidx.core.math.MathUtils.clamp;
 
-import android.content.BroadcastReceiver;
 import android.content.Context;
-import android.content.Intent;
-import android.content.IntentFilter;
 import android.graphics.Rect;
+import android.os.SystemClock;
 import android.util.Log;
 
-import androidx.core.content.ContextCompat;
-
 import com.google.projectgameface.utils.Config;
 
 import java.util.ArrayDeque;
@@ -90,7 +86,7 @@ public class CursorController {
     public boolean isRealtimeSwipe = false;
     public boolean isCursorTap = false;
     public boolean isCursorTouch = false;
-    private BroadcastReceiver profileChangeReceiver;
+    private ProfileStore.OnProfileChangedListener profileChangedListener;
     private Context parentContext;
     private KeyboardManager mKeyboardManager;
     private ServiceUiManager serviceUiManager;
@@ -129,10 +125,6 @@ public class CursorController {
         resetCursorToCenter();
         Log.d(TAG, "OnCreate() -  Cursor Position = (" + cursorPositionX + "x, " + cursorPositionY + "y)");
         Log.d(TAG, "OnCreate() - Screen Size = " + screenWidth + "x" + screenHeight);
-        Log.d(
-            TAG,
-            "OnCreate() - Min/Max Head Coord = x: " + minRawCoordX + " - " + maxRawCoordX + "; y: " +
-            minRawCoordY + " - " + maxRawCoordY);
 
         parentContext = context;
         rawCoordXBuffer = new ArrayList<>();
@@ -146,22 +138,22 @@ public class CursorController {
         blendshapeEventTriggerConfig = new BlendshapeEventTriggerConfig(context);
         blendshapeEventTriggerConfig.updateAllConfigFromSharedPreference();
 
-        // Register profile change receiver
-        IntentFilter filter = new IntentFilter("PROFILE_CHANGED");
-        profileChangeReceiver = new BroadcastReceiver() {
-            @Override
-            public void onReceive(Context context, Intent intent) {
-                String profileName = ProfileManager.getCurrentProfile(context);
-                cursorMovementConfig.updateProfile(context, profileName);
-                blendshapeEventTriggerConfig.updateProfile(context, profileName);
-            }
+        // Warm-start head range calibration from the current profile.
+        ProfileStore profileStore = ProfileStore.getInstance(context);
+        headTiltCalibrator.load(profileStore.getCurrentProfile());
+        noseTipCalibrator.load(profileStore.getCurrentProfile());
+
+        // Reload both configs from memory when the profile switches.
+        profileChangedListener = profile -> {
+            cursorMovementConfig.updateAllConfigFromSharedPreference();
+            blendshapeEventTriggerConfig.updateAllConfigFromSharedPreference();
+            // Flush the calibration gathered since the last save into the profile it belongs to.
+            saveHeadRangeCalibration();
+            headTiltCalibrator.load(profile);
+            noseTipCalibrator.load(profile);
+            Log.i(TAG, "Profile changed to " + profile.getName() + ", updated configs.");
         };
-        ContextCompat.registerReceiver(
-            context,
-            profileChangeReceiver,
-            new IntentFilter("PROFILE_CHANGED"),
-            ContextCompat.RECEIVER_NOT_EXPORTED
-        );
+        profileStore.addOnProfileChangedListener(profileChangedListener);
 
         // Init blendshape event tracker
         for (BlendshapeEventTriggerConfig.EventType eventType: BlendshapeEventTriggerConfig.EventType.values()) {
@@ -174,7 +166,8 @@ public class CursorController {
     }
 
     public void cleanup() {
-        cursorMovementConfig.unregisterReceiver(parentContext);
+        saveHeadRangeCalibration();
+        ProfileStore.getInstance(parentContext).removeOnProfileChangedListener(profileChangedListener);
     }
 
     /**
@@ -331,32 +324,35 @@ public class CursorController {
         isDragging = false;
     }
 
-    private float maxRawCoordX = -1;
-    private float minRawCoordY = -1;
-    private float maxRawCoordY = -1;
-    private float minRawCoordX = -1;
+    /** Sliding window used to tell hovering from intentional movement (~30 samples at 60 fps). */
+    private static final long MOTION_ANALYSIS_WINDOW_MS = 500;
+
+    /** Motion of the path cursor, or of the cursor when the path cursor is disabled. */
+    private final MotionAnalyzer pathMotionAnalyzer = new MotionAnalyzer(MOTION_ANALYSIS_WINDOW_MS, 64);
 
-    public void resetRawCoordMinMax() {
-        maxRawCoordX = -1;
-        minRawCoordY = -1;
-        maxRawCoordY = -1;
-        minRawCoordX = -1;
+    MotionAnalyzer getPathMotionAnalyzer() {
+        return pathMotionAnalyzer;
     }
 
-    public void updateRawCoordMinMax(float[] rawCoordXY) {
-        if (rawCoordXY[0] == 0 && rawCoordXY[1] == 0) return;
-        if (maxRawCoordX == -1 || rawCoordXY[0] > maxRawCoordX) {
-            maxRawCoordX = rawCoordXY[0];
-        }
-        if (minRawCoordX == -1 || rawCoordXY[0] < minRawCoordX) {
-            minRawCoordX = rawCoordXY[0];
-        }
-        if (maxRawCoordY == -1 || rawCoordXY[1] > maxRawCoordY) {
-            maxRawCoordY = rawCoordXY[1];
-        }
-        if (minRawCoordY == -1 || rawCoordXY[1] < minRawCoordY) {
-            minRawCoordY = rawCoordXY[1];
-        }
+    /** Motion of the cursor the user sees, whether or not the path cursor is enabled. */
+    private final MotionAnalyzer cursorMotionAnalyzer = new MotionAnalyzer(MOTION_ANALYSIS_WINDOW_MS, 64);
+
+    MotionAnalyzer getCursorMotionAnalyzer() {
+        return cursorMotionAnalyzer;
+    }
+
+    /** Head range calibration for pitch/yaw head tilt coordinates. */
+    private final HeadRangeCalibrator headTiltCalibrator = new HeadRangeCalibrator("HEAD_RANGE_CALIBRATION_HEAD_TILT");
+    /** Head range calibration for nose tip coordinates. */
+    private final HeadRangeCalibrator noseTipCalibrator = new HeadRangeCalibrator("HEAD_RANGE_CALIBRATION_NOSE_TIP");
+
+    /**
+     * Persist the head range calibration to the current profile.
+     */
+    public void saveHeadRangeCalibration() {
+        ProfileStore profileStore = ProfileStore.getInstance(parentContext);
+        headTiltCalibrator.save(profileStore);
+        noseTipCalibrator.save(profileStore);
     }
 
     private float targetOffsetX = 0f;
@@ -382,13 +378,17 @@ public class CursorController {
      * @param screenSize Screen size.
      *                   screenSize[0] = width.
      *                   screenSize[1] = height.
+     * @param frameTimeMs Time of the camera frame the coordinates come from. The cursor is updated
+     *                    more often than the camera delivers frames, and the head range calibration
+     *                    only takes each frame once.
      */
     public void updateInternalCursorPosition(
         float[] headTiltXY,
         float[] noseTipXY,
         float[] pitchYawXY,
         int[] inputSize,
-        int[] screenSize) {
+        int[] screenSize,
+        long frameTimeMs) {
 
         this.screenWidth = screenSize[0];
         this.screenHeight = screenSize[1];
@@ -413,17 +413,19 @@ public class CursorController {
             headCoordScaleFactorX *= 2;
             headCoordScaleFactorY *= 6;
         } else {
+            HeadRangeCalibrator calibrator;
             if (isPitchYawEnabled) { // Only Pitch+Yaw
                 coordsXY = headTiltXY;
+                calibrator = headTiltCalibrator;
             } else { // Only Nose Tip
                 coordsXY = noseTipXY;
+                calibrator = noseTipCalibrator;
             }
-            updateRawCoordMinMax(coordsXY);
-            if (maxRawCoordX != minRawCoordX) {
-                normalizedX = (coordsXY[0] - minRawCoordX) / (maxRawCoordX - minRawCoordX);
-            }
-            if (maxRawCoordY != minRawCoordY) {
-                normalizedY = (coordsXY[1] - minRawCoordY) / (maxRawCoordY - minRawCoordY);
+            calibrator.update(coordsXY, frameTimeMs);
+            normalizedX = calibrator.normalizeX(coordsXY[0]);
+            normalizedY = calibrator.normalizeY(coordsXY[1]);
+            if (calibrator.shouldSave()) {
+                calibrator.save(ProfileStore.getInstance(parentContext));
             }
         }
         //CK What is this test?
@@ -483,6 +485,16 @@ public class CursorController {
         cursorPositionX = clamp(cursorPositionX, 0, screenWidth);
         pathCursorPositionX = clamp(pathCursorPositionX, 0, screenWidth);
 
+        // Feed motion analysis with the same positions getPathCursorPositionXY() and
+        // getCursorPositionXY() report.
+        long now = SystemClock.uptimeMillis();
+        if (isPathCursorEnabled()) {
+            pathMotionAnalyzer.addSample((int) pathCursorPositionX, (int) pathCursorPositionY, now);
+        } else {
+            pathMotionAnalyzer.addSample((int) cursorPositionX, (int) cursorPositionY, now);
+        }
+        cursorMotionAnalyzer.addSample((int) cursorPositionX, (int) cursorPositionY, now);
+
         // Add current cursor position to history for rolling average calculation
         addCursorPositionToHistory(cursorPositionX, cursorPositionY);
         
@@ -894,6 +906,18 @@ public class CursorController {
         return cursorMovementConfig.get(CursorMovementConfig.CursorMovementBooleanConfigType.ENABLE_PATH_CURSOR);
     }
 
+    public boolean isDwellClickEnabled() {
+        return cursorMovementConfig.get(CursorMovementConfig.CursorMovementBooleanConfigType.DWELL_CLICK);
+    }
+
+    public int getDwellTimeMs() {
+        return (int) cursorMovementConfig.get(CursorMovementConfig.CursorMovementConfigType.DWELL_TIME_MS);
+    }
+
+    public int getDwellRadius() {
+        return (int) cursorMovementConfig.get(CursorMovementConfig.CursorMovementConfigType.DWELL_RADIUS);
+    }
+
     public boolean isPathCursorVisible() {
 //        if (!isPathCursorEnabled()) return false;
 //        return isPathCursorVisible;
@@ -15,15 +15,9 @@
  */
 package com.google.projectgameface;
 
-import android.content.BroadcastReceiver;
 import android.content.Context;
-import android.content.Intent;
-import android.content.IntentFilter;
-import android.content.SharedPreferences;
 import android.util.Log;
 
-import androidx.core.content.ContextCompat;
-
 import com.google.projectgameface.utils.Config;
 
 import java.util.HashMap;
@@ -34,39 +28,28 @@ import java.util.Map;
  */
 class CursorMovementConfig {
 
-    public void updateProfile(Context context, String profileName) {
-        sharedPreferences = context.getSharedPreferences(profileName, Context.MODE_PRIVATE);
-        updateAllConfigFromSharedPreference();
-    }
-
     public enum CursorMovementConfigType {
         UP_SPEED, DOWN_SPEED, RIGHT_SPEED, LEFT_SPEED, SMOOTH_POINTER, SMOOTH_BLENDSHAPES, HOLD_TIME_MS,
         HOLD_RADIUS, EDGE_HOLD_DURATION, DRAG_TOGGLE_DURATION, HEAD_COORD_SCALE_FACTOR_X,
         HEAD_COORD_SCALE_FACTOR_Y, AVG_SMOOTHING, PATH_CURSOR, ACTION_STATE_CHANGE_DELAY, LONG_TAP_THRESHOLD,
-        UI_FEEDBACK_DELAY, PATH_CURSOR_MIN,
+        UI_FEEDBACK_DELAY, PATH_CURSOR_MIN, JOYSTICK_DEAD_BAND, JOYSTICK_CHANGE_THRESHOLD, DWELL_TIME_MS,
+        DWELL_RADIUS,
 
         LATEST_AVG_WPM, AVG_WPM, AVG_WORDS_PER_PHRASE, AVG_SWIPE_DURATION, AVG_PHRASE_LENGTH,
     }
 
     public enum CursorMovementBooleanConfigType {
         REALTIME_SWIPE, DURATION_POP_OUT, DIRECT_MAPPING, NOSE_TIP, PITCH_YAW, DEBUG_SWIPE,
-        EXPONENTIAL_SMOOTHING, ENABLE_PATH_CURSOR
+        EXPONENTIAL_SMOOTHING, ENABLE_PATH_CURSOR, DWELL_CLICK
     }
 
-    private final BroadcastReceiver profileChangeReceiver = new BroadcastReceiver() {
-        @Override public void onReceive(Context context, Intent intent) {
-            // Reload the configuration for the new profile
-            updateAllConfigFromSharedPreference();
-            Log.i(TAG, "Profile changed, updated configs in CursorMovementConfig.");
-        }
-    };
     private static final String TAG = "CursorMovementConfig";
     private static final int PREFERENCE_INT_NOT_FOUND = -1;
 
     /**
-     * Persistent storage on device (Data/data/{app})
+     * In-memory view of the profiles persisted on device (Data/data/{app}).
      */
-    SharedPreferences sharedPreferences;
+    private final ProfileStore profileStore;
 
     /**
      * Raw int value, same as the UI's slider.
@@ -106,6 +89,11 @@ class CursorMovementConfig {
         public static final int UI_FEEDBACK_DELAY = Config.DEFAULT_UI_FEEDBACK_DELAY;
         public static final int PATH_CURSOR = Config.DEFAULT_PATH_CURSOR;
         public static final int PATH_CURSOR_MIN = Config.DEFAULT_PATH_CURSOR_MIN;
+        public static final int JOYSTICK_DEAD_BAND = Config.DEFAULT_JOYSTICK_DEAD_BAND;
+        public static final int JOYSTICK_CHANGE_THRESHOLD = Config.DEFAULT_JOYSTICK_CHANGE_THRESHOLD;
+        public static final boolean DWELL_CLICK = Config.DEFAULT_DWELL_CLICK;
+        public static final int DWELL_TIME_MS = Config.DEFAULT_DWELL_TIME_MS;
+        public static final int DWELL_RADIUS = Config.DEFAULT_DWELL_RADIUS;
 
         public static final float LATEST_AVG_WPM = 0.0f;
         public static final float AVG_WPM = 0.0f;
@@ -147,14 +135,12 @@ class CursorMovementConfig {
 
     /**
      * Stores cursor configs such as LEFT_SPEED or SMOOTH_POINTER.
-     * @param context Context for open SharedPreference in device's local storage.
+     * @param context Context for the profile store.
      */
     public CursorMovementConfig(Context context) {
         Log.i(TAG, "Create CursorMovementConfig.");
 
-        // Create or retrieve SharedPreference.
-        String profileName = ProfileManager.getCurrentProfile(context);
-        sharedPreferences = context.getSharedPreferences(profileName, Context.MODE_PRIVATE);
+        profileStore = ProfileStore.getInstance(context);
 
         // Initialize default slider values.
         rawValueMap = new HashMap<>();
@@ -174,6 +160,10 @@ class CursorMovementConfig {
         rawValueMap.put(CursorMovementConfigType.UI_FEEDBACK_DELAY, InitialRawValue.UI_FEEDBACK_DELAY);
         rawValueMap.put(CursorMovementConfigType.PATH_CURSOR, InitialRawValue.PATH_CURSOR);
         rawValueMap.put(CursorMovementConfigType.PATH_CURSOR_MIN, InitialRawValue.PATH_CURSOR_MIN);
+        rawValueMap.put(CursorMovementConfigType.JOYSTICK_DEAD_BAND, InitialRawValue.JOYSTICK_DEAD_BAND);
+        rawValueMap.put(CursorMovementConfigType.JOYSTICK_CHANGE_THRESHOLD, InitialRawValue.JOYSTICK_CHANGE_THRESHOLD);
+        rawValueMap.put(CursorMovementConfigType.DWELL_TIME_MS, InitialRawValue.DWELL_TIME_MS);
+        rawValueMap.put(CursorMovementConfigType.DWELL_RADIUS, InitialRawValue.DWELL_RADIUS);
 
         // Initialize default float values.
         rawFloatValueMap = new HashMap<>();
@@ -197,20 +187,7 @@ class CursorMovementConfig {
         rawBooleanValueMap.put(CursorMovementBooleanConfigType.DEBUG_SWIPE, InitialRawValue.DEBUG_SWIPE);
         rawBooleanValueMap.put(CursorMovementBooleanConfigType.EXPONENTIAL_SMOOTHING, InitialRawValue.EXPONENTIAL_SMOOTHING);
         rawBooleanValueMap.put(CursorMovementBooleanConfigType.ENABLE_PATH_CURSOR, InitialRawValue.ENABLE_PATH_CURSOR);
-
-
-        // Register the receiver
-            ContextCompat.registerReceiver(context, profileChangeReceiver, new IntentFilter("PROFILE_CHANGED"), ContextCompat.RECEIVER_NOT_EXPORTED);
-    }
-
-    public void unregisterReceiver(Context context) {
-        context.unregisterReceiver(profileChangeReceiver);
-    }
-
-    public void reloadSharedPreferences(Context context) {
-        String profileName = ProfileManager.getCurrentProfile(context);
-        sharedPreferences = context.getSharedPreferences(profileName, Context.MODE_PRIVATE);
-        updateAllConfigFromSharedPreference();
+        rawBooleanValueMap.put(CursorMovementBooleanConfigType.DWELL_CLICK, InitialRawValue.DWELL_CLICK);
     }
 
     /**
@@ -342,10 +319,8 @@ class CursorMovementConfig {
     public void updateOneConfigFromSharedPreference(String configName) {
         Log.i(TAG, "updateOneConfigFromSharedPreference: " + configName);
 
-        if (sharedPreferences == null) {
-            Log.w(TAG, "sharedPreferences instance does not exist.");
-            return;
-        }
+        // Served from memory; the store keeps the snapshot in sync with SharedPreferences.
+        ProfileStore.Profile profile = profileStore.getCurrentProfile();
 
         CursorMovementConfigType targetConfig;
         try {
@@ -356,67 +331,83 @@ class CursorMovementConfig {
         }
 
         if (targetConfig == CursorMovementConfigType.HEAD_COORD_SCALE_FACTOR_X) {
-            float configValueInUi = sharedPreferences.getFloat(configName, InitialRawValue.HEAD_COORD_SCALE_FACTOR_X);
+            float configValueInUi = profile.getFloat(configName, InitialRawValue.HEAD_COORD_SCALE_FACTOR_X);
             setRawFloatValueFromUi(configName, configValueInUi);
             Log.i(TAG, "Set raw float value to: " + configValueInUi);
         } else if (targetConfig == CursorMovementConfigType.HEAD_COORD_SCALE_FACTOR_Y) {
-            float configValueInUi = sharedPreferences.getFloat(configName, InitialRawValue.HEAD_COORD_SCALE_FACTOR_Y);
+            float configValueInUi = profile.getFloat(configName, InitialRawValue.HEAD_COORD_SCALE_FACTOR_Y);
             setRawFloatValueFromUi(configName, configValueInUi);
             Log.i(TAG, "Set raw float value to: " + configValueInUi);
         } else if (targetConfig == CursorMovementConfigType.LATEST_AVG_WPM) {
-            float configValueInUi = sharedPreferences.getFloat(configName, InitialRawValue.LATEST_AVG_WPM);
+            float configValueInUi = profile.getFloat(configName, InitialRawValue.LATEST_AVG_WPM);
             setRawFloatValueFromUi(configName, configValueInUi);
             Log.i(TAG, "Set raw float value to: " + configValueInUi);
         } else if (targetConfig == CursorMovementConfigType.AVG_WPM) {
-            float configValueInUi = sharedPreferences.getFloat(configName, InitialRawValue.AVG_WPM);
+            float configValueInUi = profile.getFloat(configName, InitialRawValue.AVG_WPM);
             setRawFloatValueFromUi(configName, configValueInUi);
             Log.i(TAG, "Set raw float value to: " + configValueInUi);
         } else if (targetConfig == CursorMovementConfigType.AVG_WORDS_PER_PHRASE) {
-            float configValueInUi = sharedPreferences.getFloat(configName, InitialRawValue.AVG_WORDS_PER_PHRASE);
+            float configValueInUi = profile.getFloat(configName, InitialRawValue.AVG_WORDS_PER_PHRASE);
             setRawFloatValueFromUi(configName, configValueInUi);
             Log.i(TAG, "Set raw float value to: " + configValueInUi);
         } else if (targetConfig == CursorMovementConfigType.AVG_SWIPE_DURATION) {
-            float configValueInUi = sharedPreferences.getFloat(configName, InitialRawValue.AVG_SWIPE_DURATION);
+            float configValueInUi = profile.getFloat(configName, InitialRawValue.AVG_SWIPE_DURATION);
             setRawFloatValueFromUi(configName, configValueInUi);
             Log.i(TAG, "Set raw float value to: " + configValueInUi);
         } else if (targetConfig == CursorMovementConfigType.AVG_PHRASE_LENGTH) {
-            float configValueInUi = sharedPreferences.getFloat(configName, InitialRawValue.AVG_PHRASE_LENGTH);
+            float configValueInUi = profile.getFloat(configName, InitialRawValue.AVG_PHRASE_LENGTH);
             setRawFloatValueFromUi(configName, configValueInUi);
             Log.i(TAG, "Set raw float value to: " + configValueInUi);
         } else if (targetConfig == CursorMovementConfigType.AVG_SMOOTHING) {
-            int configValueInUi = sharedPreferences.getInt(configName, InitialRawValue.AVG_SMOOTHING);
+            int configValueInUi = profile.getInt(configName, InitialRawValue.AVG_SMOOTHING);
             setRawValueFromUi(configName, configValueInUi);
             Log.i(TAG, "Set raw int value to: " + configValueInUi);
         } else if (targetConfig == CursorMovementConfigType.EDGE_HOLD_DURATION) {
-            int configValueInUi = sharedPreferences.getInt(configName, InitialRawValue.EDGE_HOLD_DURATION);
+            int configValueInUi = profile.getInt(configName, InitialRawValue.EDGE_HOLD_DURATION);
             setRawValueFromUi(configName, configValueInUi);
             Log.i(TAG, "Set raw value to: " + configValueInUi);
         } else if (targetConfig == CursorMovementConfigType.DRAG_TOGGLE_DURATION) {
-            int configValueInUi = sharedPreferences.getInt(configName, InitialRawValue.DRAG_TOGGLE_DURATION);
+            int configValueInUi = profile.getInt(configName, InitialRawValue.DRAG_TOGGLE_DURATION);
             setRawValueFromUi(configName, configValueInUi);
             Log.i(TAG, "Set raw value to: " + configValueInUi);
         } else if (targetConfig == CursorMovementConfigType.ACTION_STATE_CHANGE_DELAY) {
-            int configValueInUi = sharedPreferences.getInt(configName, InitialRawValue.ACTION_STATE_CHANGE_DELAY);
+            int configValueInUi = profile.getInt(configName, InitialRawValue.ACTION_STATE_CHANGE_DELAY);
             setRawValueFromUi(configName, configValueInUi);
             Log.i(TAG, "Set raw value to: " + configValueInUi);
         } else if (targetConfig == CursorMovementConfigType.LONG_TAP_THRESHOLD) {
-            int configValueInUi = sharedPreferences.getInt(configName, InitialRawValue.LONG_TAP_THRESHOLD);
+            int configValueInUi = profile.getInt(configName, InitialRawValue.LONG_TAP_THRESHOLD);
             setRawValueFromUi(configName, configValueInUi);
             Log.i(TAG, "Set raw value to: " + configValueInUi);
         } else if (targetConfig == CursorMovementConfigType.UI_FEEDBACK_DELAY) {
-            int configValueInUi = sharedPreferences.getInt(configName, InitialRawValue.UI_FEEDBACK_DELAY);
+            int configValueInUi = profile.getInt(configName, InitialRawValue.UI_FEEDBACK_DELAY);
             setRawValueFromUi(configName, configValueInUi);
             Log.i(TAG, "Set raw value to: " + configValueInUi);
         } else if (targetConfig == CursorMovementConfigType.PATH_CURSOR) {
-            int configValueInUi = sharedPreferences.getInt(configName, InitialRawValue.PATH_CURSOR);
+            int configValueInUi = profile.getInt(configName, InitialRawValue.PATH_CURSOR);
             setRawValueFromUi(configName, configValueInUi);
             Log.i(TAG, "Set raw value to: " + configValueInUi);
         } else if (targetConfig == CursorMovementConfigType.PATH_CURSOR_MIN) {
-            int configValueInUi = sharedPreferences.getInt(configName, InitialRawValue.PATH_CURSOR_MIN);
+            int configValueInUi = profile.getInt(configName, InitialRawValue.PATH_CURSOR_MIN);
+            setRawValueFromUi(configName, configValueInUi);
+            Log.i(TAG, "Set raw value to: " + configValueInUi);
+        } else if (targetConfig == CursorMovementConfigType.JOYSTICK_DEAD_BAND) {
+            int configValueInUi = profile.getInt(configName, InitialRawValue.JOYSTICK_DEAD_BAND);
+            setRawValueFromUi(configName, configValueInUi);
+            Log.i(TAG, "Set raw value to: " + configValueInUi);
+        } else if (targetConfig == CursorMovementConfigType.JOYSTICK_CHANGE_THRESHOLD) {
+            int configValueInUi = profile.getInt(configName, InitialRawValue.JOYSTICK_CHANGE_THRESHOLD);
+            setRawValueFromUi(configName, configValueInUi);
+            Log.i(TAG, "Set raw value to: " + configValueInUi);
+        } else if (targetConfig == CursorMovementConfigType.DWELL_TIME_MS) {
+            int configValueInUi = profile.getInt(configName, InitialRawValue.DWELL_TIME_MS);
+            setRawValueFromUi(configName, configValueInUi);
+            Log.i(TAG, "Set raw value to: " + configValueInUi);
+        } else if (targetConfig == CursorMovementConfigType.DWELL_RADIUS) {
+            int configValueInUi = profile.getInt(configName, InitialRawValue.DWELL_RADIUS);
             setRawValueFromUi(configName, configValueInUi);
             Log.i(TAG, "Set raw value to: " + configValueInUi);
         } else {
-            int configValueInUi = sharedPreferences.getInt(configName, PREFERENCE_INT_NOT_FOUND);
+            int configValueInUi = profile.getInt(configName, PREFERENCE_INT_NOT_FOUND);
             if (configValueInUi == PREFERENCE_INT_NOT_FOUND) {
                 Log.i(TAG, "Key " + configName + " not found in SharedPreference, keep using default value.");
                 return;
@@ -433,10 +424,8 @@ class CursorMovementConfig {
     public void updateOneBooleanConfigFromSharedPreference(String configName) {
         Log.i(TAG, "updateOneBooleanConfigFromSharedPreference: " + configName);
 
-        if (sharedPreferences == null) {
-            Log.w(TAG, "sharedPreferences instance does not exist.");
-            return;
-        }
+        // Served from memory; the store keeps the snapshot in sync with SharedPreferences.
+        ProfileStore.Profile profile = profileStore.getCurrentProfile();
 
         CursorMovementBooleanConfigType targetConfig;
         try {
@@ -472,12 +461,15 @@ class CursorMovementConfig {
             case ENABLE_PATH_CURSOR:
                 defaultValue = InitialRawValue.ENABLE_PATH_CURSOR;
                 break;
+            case DWELL_CLICK:
+                defaultValue = InitialRawValue.DWELL_CLICK;
+                break;
             default:
                 defaultValue = InitialRawValue.DEFAULT_ENABLE_FEATURE;
                 break;
         }
 
-        boolean configValueInUi = sharedPreferences.getBoolean(configName, defaultValue);
+        boolean configValueInUi = profile.getBoolean(configName, defaultValue);
         setRawBooleanValueFromUi(configName, configValueInUi);
         Log.i(TAG, "Set raw boolean value to: " + configValueInUi);
     }
@@ -81,9 +81,12 @@ public class CursorView extends View {
     private Paint targetOutlinePaint;
 
     private Paint centerDotPaint;
+    private Paint dwellPaint;
+    private float dwellProgress = 0f;
     private RectF circleBounds;
     private float radius;
     private static final float CENTER_DOT_RADIUS = 6f;
+    private static final float DWELL_STROKE_WIDTH = 8f;
 
     // Shadow parameters
     private final float shadowRadius = 10f;
@@ -128,6 +131,12 @@ public class CursorView extends View {
         centerDotPaint.setStyle(Paint.Style.FILL);
         centerDotPaint.setColor(0xFF4285F4);
 
+        dwellPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        dwellPaint.setStyle(Paint.Style.STROKE);
+        dwellPaint.setStrokeWidth(DWELL_STROKE_WIDTH);
+        dwellPaint.setStrokeCap(Paint.Cap.ROUND);
+        dwellPaint.setColor(0xFF4285F4);
+
         // Animator Setup
         animator = ValueAnimator.ofFloat(0f /*60f*/, 360f);
         animator.addUpdateListener(a -> {
@@ -386,6 +395,19 @@ public class CursorView extends View {
         }
     }
 
+    /**
+     * Shows dwell-click progress as an arc around the cursor. Only redraws when the value changes.
+     *
+     * @param progress 0 to hide the arc, up to 1 for a full circle.
+     */
+    public void setDwellProgress(float progress) {
+        if (progress == dwellProgress) {
+            return;
+        }
+        dwellProgress = progress;
+        invalidate();
+    }
+
     @Override
     protected void onSizeChanged(int w, int h, int oldw, int oldh) {
         float cx = w / 2f;
@@ -430,6 +452,10 @@ public class CursorView extends View {
             canvas.drawCircle(cx, cy, radius, outlinePaint);
         }
 
+        if (dwellProgress > 0f) {
+            canvas.drawArc(circleBounds, -90f, 360f * Math.min(dwellProgress, 1f), false, dwellPaint);
+        }
+
         canvas.drawCircle(cx, cy, CENTER_DOT_RADIUS, centerDotPaint);
     }
 }
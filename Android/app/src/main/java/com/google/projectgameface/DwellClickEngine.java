@@ -0,0 +1,171 @@
+package com.google.projectgameface;
+
+import android.graphics.Rect;
+
+/**
+ * Hands-free tapping: clicks when the cursor stays within a tolerance radius for the dwell time.
+ *
+ * The dwell anchor is a {@link MotionAnalyzer.HoverZone} on the cursor's motion analyzer, so
+ * entering and leaving it costs nothing beyond the samples the analyzer already gets, and the
+ * exit radius is larger than the enter radius so jitter at the edge does not restart the timer.
+ * When the cursor is over a cached target the anchor snaps to the target's centre and the zone
+ * grows to cover it, so wandering within a key or button keeps the dwell going. On a target too
+ * long for that, such as a list row, the anchor stays at the cursor and the zone covers the
+ * target's bounds instead.
+ *
+ * {@link #update(long)} is called once per cursor tick; it neither allocates nor posts anything.
+ * Not thread-safe; use from the main thread.
+ */
+class DwellClickEngine {
+    /** Exit radius as a multiple of the enter radius. */
+    static final float EXIT_RADIUS_RATIO = 1.5f;
+
+    /** Smallest progress change pushed to the cursor, to avoid redundant redraws. */
+    private static final float PROGRESS_STEP = 0.02f;
+
+    /**
+     * Receives dwell progress and clicks.
+     */
+    interface Callback {
+        /**
+         * @param progress 0 when idle, rising to 1 as the dwell time elapses.
+         */
+        void onDwellProgress(float progress);
+
+        /** The cursor dwelled long enough; tap at the given screen position. */
+        void onDwellClick(int x, int y);
+    }
+
+    private enum State {
+        /** No anchor; the next update anchors at the cursor. */
+        IDLE,
+        /** Counting down inside the zone. */
+        DWELLING,
+        /** Clicked; waiting for the cursor to leave before arming again. */
+        FIRED
+    }
+
+    private final MotionAnalyzer motionAnalyzer;
+    private final DwellTargetCache targetCache;
+    private final Callback callback;
+    private final MotionAnalyzer.HoverZone zone;
+    private final Rect targetBounds = new Rect();
+
+    private State state = State.IDLE;
+    private long dwellTimeMs;
+    private float radius;
+    private float reportedProgress = 0;
+
+    /**
+     * @param motionAnalyzer Analyzer fed with the cursor position; the dwell zone is attached to it.
+     * @param targetCache    Cached click targets to snap to.
+     * @param dwellTimeMs    Time the cursor must stay inside the zone.
+     * @param radius         Enter radius of the zone when no target is under the cursor, in px.
+     */
+    DwellClickEngine(
+        MotionAnalyzer motionAnalyzer,
+        DwellTargetCache targetCache,
+        Callback callback,
+        long dwellTimeMs,
+        float radius) {
+        this.motionAnalyzer = motionAnalyzer;
+        this.targetCache = targetCache;
+        this.callback = callback;
+        this.dwellTimeMs = dwellTimeMs;
+        this.radius = radius;
+        zone = new MotionAnalyzer.HoverZone(new MotionAnalyzer.HoverZoneListener() {
+            @Override
+            public void onHoverZoneChanged(MotionAnalyzer.HoverZone zone, boolean inside, float distance) {
+                if (!inside) {
+                    // Left the anchor (after a click or mid-dwell): re-anchor on the next update.
+                    zone.clear();
+                    state = State.IDLE;
+                    setProgress(0);
+                }
+            }
+        });
+        motionAnalyzer.addZone(zone);
+    }
+
+    void setDwellTimeMs(long dwellTimeMs) {
+        this.dwellTimeMs = Math.max(1, dwellTimeMs);
+    }
+
+    void setRadius(float radius) {
+        this.radius = radius;
+    }
+
+    /**
+     * Advance the dwell timer. Call once per cursor tick, after the analyzer got the new sample.
+     */
+    void update(long now) {
+        if (motionAnalyzer.getSampleCount() == 0) {
+            return;
+        }
+        switch (state) {
+            case IDLE:
+                anchor(motionAnalyzer.getLastX(), motionAnalyzer.getLastY(), now);
+                state = State.DWELLING;
+                setProgress(0);
+                break;
+            case DWELLING:
+                long timeInside = zone.getTimeInside(now);
+                if (timeInside >= dwellTimeMs) {
+                    state = State.FIRED;
+                    setProgress(0);
+                    callback.onDwellClick(Math.round(zone.getAnchorX()), Math.round(zone.getAnchorY()));
+                } else {
+                    setProgress((float) timeInside / dwellTimeMs);
+                }
+                break;
+            case FIRED:
+                break;
+        }
+    }
+
+    /**
+     * Drop the current anchor and progress, e.g. while another gesture owns the cursor.
+     */
+    void reset() {
+        if (state == State.IDLE) {
+            return;
+        }
+        zone.clear();
+        state = State.IDLE;
+        setProgress(0);
+    }
+
+    boolean isDwelling() {
+        return state == State.DWELLING;
+    }
+
+    private void anchor(float x, float y, long now) {
+        if (targetCache.findTarget(x, y, targetBounds)) {
+            float centerX = targetBounds.exactCenterX();
+            float centerY = targetBounds.exactCenterY();
+            float halfExtent = Math.min(targetBounds.width(), targetBounds.height()) / 2f;
+            float enterRadius = Math.max(radius, halfExtent);
+            float exitRadius = enterRadius * EXIT_RADIUS_RATIO;
+            float dx = x - centerX;
+            float dy = y - centerY;
+            if (dx * dx + dy * dy <= exitRadius * exitRadius) {
+                zone.anchor(centerX, centerY, enterRadius, exitRadius, now);
+            } else {
+                // Snapping would put the cursor outside the zone at once and re-anchor every tick.
+                zone.anchor(x, y, targetBounds.left, targetBounds.top, targetBounds.right,
+                    targetBounds.bottom, radius, radius * EXIT_RADIUS_RATIO, now);
+            }
+        } else {
+            zone.anchor(x, y, radius, radius * EXIT_RADIUS_RATIO, now);
+        }
+    }
+
+    private void setProgress(float progress) {
+        if (progress == reportedProgress
+            || (progress != 0 && Math.abs(progress - reportedProgress) < PROGRESS_STEP)) {
+            return;
+        }
+        reportedProgress = progress;
+        callback.onDwellProgress(progress);
+    }
+}
@@ -0,0 +1,178 @@
+package com.google.projectgameface;
+
+import android.graphics.Rect;
+import android.view.accessibility.AccessibilityNodeInfo;
+import android.view.accessibility.AccessibilityWindowInfo;
+
+import java.util.List;
+
+/**
+ * Screen bounds of the clickable accessibility nodes, cached for dwell-click snapping.
+ *
+ * Walking the node tree is an IPC per node, so it is only done when the window content changes
+ * (see {@link #rebuild(List)}). Lookups from the cursor loop read the flat arrays and allocate
+ * nothing.
+ *
+ * Not thread-safe. The service rebuilds a spare instance off the main thread and copies it into
+ * the one it queries with {@link #copyFrom(DwellTargetCache)}.
+ */
+class DwellTargetCache {
+    /** Targets kept per rebuild; nodes beyond this are ignored. */
+    static final int MAX_TARGETS = 512;
+    static final int MAX_WINDOWS = 16;
+    /** Deeper nodes are ignored, to bound the cost of pathological trees. */
+    private static final int MAX_DEPTH = 32;
+
+    /** left, top, right, bottom of each target. */
+    private final int[] targets = new int[MAX_TARGETS * 4];
+    private int targetCount = 0;
+
+    /** left, top, right, bottom of each window, top-most first. */
+    private final int[] windows = new int[MAX_WINDOWS * 4];
+    /** Index one past the last target of each window. */
+    private final int[] windowTargetEnd = new int[MAX_WINDOWS];
+    private int windowCount = 0;
+
+    private final Rect scratch = new Rect();
+
+    /**
+     * Re-read the clickable nodes of the given windows.
+     * @param windowInfos Windows in z-order, top-most first, as returned by getWindows().
+     */
+    void rebuild(List<AccessibilityWindowInfo> windowInfos) {
+        clear();
+        for (AccessibilityWindowInfo window: windowInfos) {
+            if (windowCount == MAX_WINDOWS) {
+                break;
+            }
+            window.getBoundsInScreen(scratch);
+            int w = windowCount * 4;
+            windows[w] = scratch.left;
+            windows[w + 1] = scratch.top;
+            windows[w + 2] = scratch.right;
+            windows[w + 3] = scratch.bottom;
+
+            AccessibilityNodeInfo root = window.getRoot();
+            if (root != null) {
+                collect(root, 0);
+            }
+            windowTargetEnd[windowCount++] = targetCount;
+        }
+    }
+
+    void clear() {
+        targetCount = 0;
+        windowCount = 0;
+    }
+
+    /**
+     * Replace the targets and windows with those of another cache.
+     */
+    void copyFrom(DwellTargetCache other) {
+        System.arraycopy(other.targets, 0, targets, 0, other.targetCount * 4);
+        targetCount = other.targetCount;
+        System.arraycopy(other.windows, 0, windows, 0, other.windowCount * 4);
+        System.arraycopy(other.windowTargetEnd, 0, windowTargetEnd, 0, other.windowCount);
+        windowCount = other.windowCount;
+    }
+
+    int getTargetCount() {
+        return targetCount;
+    }
+
+    /**
+     * Find the smallest cached target under the point, in the top-most window containing it.
+     * @param out Set to the target bounds if one is found.
+     * @return True if a target was found.
+     */
+    boolean findTarget(float x, float y, Rect out) {
+        int start = 0;
+        for (int w = 0; w < windowCount; w++) {
+            int end = windowTargetEnd[w];
+            if (contains(windows, w * 4, x, y)) {
+                return findTarget(start, end, x, y, out);
+            }
+            start = end;
+        }
+        return false;
+    }
+
+    /**
+     * Add a target directly; used by {@link #rebuild(List)} and tests.
+     */
+    void addTarget(int left, int top, int right, int bottom) {
+        if (targetCount == MAX_TARGETS || right <= left || bottom <= top) {
+            return;
+        }
+        int t = targetCount * 4;
+        targets[t] = left;
+        targets[t + 1] = top;
+        targets[t + 2] = right;
+        targets[t + 3] = bottom;
+        targetCount++;
+    }
+
+    /**
+     * Add a window directly, covering the targets added since the previous window; used by tests.
+     */
+    void addWindow(int left, int top, int right, int bottom) {
+        if (windowCount == MAX_WINDOWS) {
+            return;
+        }
+        int w = windowCount * 4;
+        windows[w] = left;
+        windows[w + 1] = top;
+        windows[w + 2] = right;
+        windows[w + 3] = bottom;
+        windowTargetEnd[windowCount++] = targetCount;
+    }
+
+    private boolean findTarget(int start, int end, float x, float y, Rect out) {
+        int best = -1;
+        long bestArea = Long.MAX_VALUE;
+        for (int i = start; i < end; i++) {
+            int t = i * 4;
+            if (!contains(targets, t, x, y)) {
+                continue;
+            }
+            long area = (long) (targets[t + 2] - targets[t]) * (targets[t + 3] - targets[t + 1]);
+            if (area < bestArea) {
+                bestArea = area;
+                best = t;
+            }
+        }
+        if (best < 0) {
+            return false;
+        }
+        out.set(targets[best], targets[best + 1], targets[best + 2], targets[best + 3]);
+        return true;
+    }
+
+    private void collect(AccessibilityNodeInfo node, int depth) {
+        try {
+            if (!node.isVisibleToUser()) {
+                return;
+            }
+            if (node.isClickable() && node.isEnabled()) {
+                node.getBoundsInScreen(scratch);
+                addTarget(scratch.left, scratch.top, scratch.right, scratch.bottom);
+            }
+            if (depth >= MAX_DEPTH) {
+                return;
+            }
+            for (int i = 0; i < node.getChildCount() && targetCount < MAX_TARGETS; i++) {
+                AccessibilityNodeInfo child = node.getChild(i);
+                if (child != null) {
+                    collect(child, depth + 1);
+                }
+            }
+        } finally {
+            node.recycle();
+        }
+    }
+
+    private static boolean contains(int[] bounds, int offset, float x, float y) {
+        return x >= bounds[offset] && x < bounds[offset + 2]
+            && y >= bounds[offset + 1] && y < bounds[offset + 3];
+    }
+}
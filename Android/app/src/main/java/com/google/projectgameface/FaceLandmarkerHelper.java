@@ -103,7 +103,7 @@ class FaceLandmarkerHelper extends HandlerThread {
     public long prevCallbackTimeMs = 0;
 
     public long timeSinceLastMeasurement = 0;
-    private long lastMeasurementTsMs;
+    private volatile long lastMeasurementTsMs;
 
     FaceLandmarker.FaceLandmarkerOptions options;
     public boolean isFaceVisible;
@@ -314,18 +314,6 @@ class FaceLandmarkerHelper extends HandlerThread {
         return matrix;
     }
 
-    private float minPitch = -30.0f;    // Minimum pitch (down)
-    private float maxPitch = 30.0f;     // Maximum pitch (up)
-    private float minYaw = -45.0f;      // Minimum yaw (left)
-    private float maxYaw = 45.0f;       // Maximum yaw (right)
-
-    public void resetMinMaxValues() {
-        minPitch = -30.0f;
-        maxPitch = 30.0f;
-        minYaw = -45.0f;
-        maxYaw = 45.0f;
-    }
-
     /**
      * Gets result landmarks and blend shapes then apply some scaling and save the value.
      * @param result The result of face landmarker.
@@ -438,6 +426,14 @@ class FaceLandmarkerHelper extends HandlerThread {
         return new float[]{currPitch, currYaw};
     }
 
+    /**
+     * Uptime of the last camera frame a face was found in. Tells a new frame from the same one
+     * read again by a faster caller.
+     */
+    public long getLastMeasurementTimeMs() {
+        return lastMeasurementTsMs;
+    }
+
     public float[] getBlendshapes() {
         return currBlendshapes;
     }
@@ -82,6 +82,24 @@ public class HeadBoardSettings extends AppCompatActivity {
     private ConstraintLayout pathCursorLayout;
     private ConstraintLayout pathCursorMinLayout;
 
+    // Dwell click UI elements
+    /** Dwell time slider step; the slider covers 250 to 2500 ms. */
+    private static final int DWELL_TIME_STEP_MS = 250;
+    /** Dwell radius slider step; the slider covers 10 to 100 px. */
+    private static final int DWELL_RADIUS_STEP = 10;
+    private SwitchCompat dwellClickSwitch;
+    private SeekBar dwellTimeSeekBar;
+    private TextView progressDwellTime;
+    private SeekBar dwellRadiusSeekBar;
+    private TextView progressDwellRadius;
+
+    /** Joystick sliders step in percent of the full range: dead band 1 to 30, threshold 1 to 10. */
+    private static final int JOYSTICK_PERCENT_STEP = 1;
+    private SeekBar joystickDeadBandSeekBar;
+    private TextView progressJoystickDeadBand;
+    private SeekBar joystickChangeThresholdSeekBar;
+    private TextView progressJoystickChangeThreshold;
+
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
@@ -289,6 +307,45 @@ public class HeadBoardSettings extends AppCompatActivity {
             findViewById(R.id.pathCursorMinIncrease).setEnabled(isChecked);
         });
 
+        // Dwell Click
+        dwellTimeSeekBar = findViewById(R.id.dwellTimeSeekBar);
+        progressDwellTime = findViewById(R.id.progressDwellTime);
+        setUpSteppedSeekBarAndTextView(
+                dwellTimeSeekBar, progressDwellTime, String.valueOf(CursorMovementConfig.CursorMovementConfigType.DWELL_TIME_MS),
+                DWELL_TIME_STEP_MS, CursorMovementConfig.InitialRawValue.DWELL_TIME_MS
+        );
+
+        dwellRadiusSeekBar = findViewById(R.id.dwellRadiusSeekBar);
+        progressDwellRadius = findViewById(R.id.progressDwellRadius);
+        setUpSteppedSeekBarAndTextView(
+                dwellRadiusSeekBar, progressDwellRadius, String.valueOf(CursorMovementConfig.CursorMovementConfigType.DWELL_RADIUS),
+                DWELL_RADIUS_STEP, CursorMovementConfig.InitialRawValue.DWELL_RADIUS
+        );
+
+        boolean enableDwellClick = cursorMovementConfig.get(CursorMovementConfig.CursorMovementBooleanConfigType.DWELL_CLICK);
+        setDwellSettingsEnabled(enableDwellClick);
+        dwellClickSwitch = findViewById(R.id.dwellClickSwitch);
+        dwellClickSwitch.setChecked(enableDwellClick);
+        dwellClickSwitch.setOnCheckedChangeListener((buttonView, isChecked) -> {
+            sendValueToService("DWELL_CLICK", isChecked);
+            setDwellSettingsEnabled(isChecked);
+        });
+
+        // Joystick streaming
+        joystickDeadBandSeekBar = findViewById(R.id.joystickDeadBandSeekBar);
+        progressJoystickDeadBand = findViewById(R.id.progressJoystickDeadBand);
+        setUpSteppedSeekBarAndTextView(
+                joystickDeadBandSeekBar, progressJoystickDeadBand, String.valueOf(CursorMovementConfig.CursorMovementConfigType.JOYSTICK_DEAD_BAND),
+                JOYSTICK_PERCENT_STEP, CursorMovementConfig.InitialRawValue.JOYSTICK_DEAD_BAND
+        );
+
+        joystickChangeThresholdSeekBar = findViewById(R.id.joystickChangeThresholdSeekBar);
+        progressJoystickChangeThreshold = findViewById(R.id.progressJoystickChangeThreshold);
+        setUpSteppedSeekBarAndTextView(
+                joystickChangeThresholdSeekBar, progressJoystickChangeThreshold, String.valueOf(CursorMovementConfig.CursorMovementConfigType.JOYSTICK_CHANGE_THRESHOLD),
+                JOYSTICK_PERCENT_STEP, CursorMovementConfig.InitialRawValue.JOYSTICK_CHANGE_THRESHOLD
+        );
+
         // Binding buttons with individual listeners
         findViewById(R.id.holdDurationFaster).setOnClickListener(v -> {
             int currentValue = holdDurationSeekBar.getProgress();
@@ -463,6 +520,63 @@ public class HeadBoardSettings extends AppCompatActivity {
         findViewById(R.id.pathCursorMinIncrease).setOnClickListener(v -> {
             handleIncrease(pathCursorMinSeekBar, "PATH_CURSOR_MIN");
         });
+
+        findViewById(R.id.decreaseDwellTime).setOnClickListener(v -> {
+            stepSeekBar(dwellTimeSeekBar, -1, "DWELL_TIME_MS", DWELL_TIME_STEP_MS);
+        });
+
+        findViewById(R.id.increaseDwellTime).setOnClickListener(v -> {
+            stepSeekBar(dwellTimeSeekBar, 1, "DWELL_TIME_MS", DWELL_TIME_STEP_MS);
+        });
+
+        findViewById(R.id.decreaseDwellRadius).setOnClickListener(v -> {
+            stepSeekBar(dwellRadiusSeekBar, -1, "DWELL_RADIUS", DWELL_RADIUS_STEP);
+        });
+
+        findViewById(R.id.increaseDwellRadius).setOnClickListener(v -> {
+            stepSeekBar(dwellRadiusSeekBar, 1, "DWELL_RADIUS", DWELL_RADIUS_STEP);
+        });
+
+        findViewById(R.id.decreaseJoystickDeadBand).setOnClickListener(v -> {
+            stepSeekBar(joystickDeadBandSeekBar, -1, "JOYSTICK_DEAD_BAND", JOYSTICK_PERCENT_STEP);
+        });
+
+        findViewById(R.id.increaseJoystickDeadBand).setOnClickListener(v -> {
+            stepSeekBar(joystickDeadBandSeekBar, 1, "JOYSTICK_DEAD_BAND", JOYSTICK_PERCENT_STEP);
+        });
+
+        findViewById(R.id.decreaseJoystickChangeThreshold).setOnClickListener(v -> {
+            stepSeekBar(joystickChangeThresholdSeekBar, -1, "JOYSTICK_CHANGE_THRESHOLD", JOYSTICK_PERCENT_STEP);
+        });
+
+        findViewById(R.id.increaseJoystickChangeThreshold).setOnClickListener(v -> {
+            stepSeekBar(joystickChangeThresholdSeekBar, 1, "JOYSTICK_CHANGE_THRESHOLD", JOYSTICK_PERCENT_STEP);
+        });
+    }
+
+    private void setDwellSettingsEnabled(boolean enabled) {
+        findViewById(R.id.dwellTimeTxt).setEnabled(enabled);
+        findViewById(R.id.dwellRadiusTxt).setEnabled(enabled);
+        progressDwellTime.setEnabled(enabled);
+        progressDwellRadius.setEnabled(enabled);
+        dwellTimeSeekBar.setEnabled(enabled);
+        dwellRadiusSeekBar.setEnabled(enabled);
+        findViewById(R.id.decreaseDwellTime).setEnabled(enabled);
+        findViewById(R.id.increaseDwellTime).setEnabled(enabled);
+        findViewById(R.id.decreaseDwellRadius).setEnabled(enabled);
+        findViewById(R.id.increaseDwellRadius).setEnabled(enabled);
+    }
+
+    /**
+     * Move a stepped seek bar (see {@link #setUpSteppedSeekBarAndTextView}) by one step and save
+     * the new value.
+     */
+    private void stepSeekBar(SeekBar seekBar, int delta, String configName, int step) {
+        int newProgress = seekBar.getProgress() + delta;
+        if (newProgress >= seekBar.getMin() && newProgress <= seekBar.getMax()) {
+            seekBar.setProgress(newProgress);
+            sendValueToService(configName, (newProgress + 1) * step);
+        }
     }
 
     private void handleDecrease(SeekBar seekbar, String configName) {
@@ -739,6 +853,36 @@ public class HeadBoardSettings extends AppCompatActivity {
         });
     }
 
+    /**
+     * Set up a seek bar whose value is {@code step * (progress + 1)}, such as a time in ms.
+     */
+    private void setUpSteppedSeekBarAndTextView(SeekBar seekBar, TextView textView, String preferencesId, int step, int defaultValue) {
+        String profileName = ProfileManager.getCurrentProfile(this);
+        SharedPreferences preferences = getSharedPreferences(profileName, Context.MODE_PRIVATE);
+        int savedValue = preferences.getInt(preferencesId, defaultValue);
+        setSteppedSeekBarValue(seekBar, textView, step, savedValue);
+
+        seekBar.setOnSeekBarChangeListener(new SeekBar.OnSeekBarChangeListener() {
+            @Override
+            public void onProgressChanged(SeekBar seekBar, int progress, boolean fromUser) {
+                textView.setText(String.valueOf((progress + 1) * step));
+            }
+
+            @Override
+            public void onStartTrackingTouch(SeekBar seekBar) {}
+
+            @Override
+            public void onStopTrackingTouch(SeekBar seekBar) {
+                sendValueToService(preferencesId, (seekBar.getProgress() + 1) * step);
+            }
+        });
+    }
+
+    private static void setSteppedSeekBarValue(SeekBar seekBar, TextView textView, int step, int value) {
+        seekBar.setProgress(Math.max(0, Math.min(seekBar.getMax(), value / step - 1)));
+        textView.setText(String.valueOf(value));
+    }
+
     // Ensure to reload config on profile change
     private final BroadcastReceiver profileChangeReceiver = new BroadcastReceiver() {
         @Override
@@ -803,6 +947,17 @@ public class HeadBoardSettings extends AppCompatActivity {
             int pathCursorMin = (int) cursorMovementConfig.get(CursorMovementConfig.CursorMovementConfigType.PATH_CURSOR_MIN);
             pathCursorMinSeekBar.setProgress(pathCursorMin - 1);
             progressPathCursorMin.setText(String.valueOf(pathCursorMin - 1));
+
+            dwellClickSwitch.setChecked(cursorMovementConfig.get(CursorMovementConfig.CursorMovementBooleanConfigType.DWELL_CLICK));
+            setSteppedSeekBarValue(dwellTimeSeekBar, progressDwellTime, DWELL_TIME_STEP_MS,
+                    (int) cursorMovementConfig.get(CursorMovementConfig.CursorMovementConfigType.DWELL_TIME_MS));
+            setSteppedSeekBarValue(dwellRadiusSeekBar, progressDwellRadius, DWELL_RADIUS_STEP,
+                    (int) cursorMovementConfig.get(CursorMovementConfig.CursorMovementConfigType.DWELL_RADIUS));
+
+            setSteppedSeekBarValue(joystickDeadBandSeekBar, progressJoystickDeadBand, JOYSTICK_PERCENT_STEP,
+                    (int) cursorMovementConfig.get(CursorMovementConfig.CursorMovementConfigType.JOYSTICK_DEAD_BAND));
+            setSteppedSeekBarValue(joystickChangeThresholdSeekBar, progressJoystickChangeThreshold, JOYSTICK_PERCENT_STEP,
+                    (int) cursorMovementConfig.get(CursorMovementConfig.CursorMovementConfigType.JOYSTICK_CHANGE_THRESHOLD));
         }
     };
 
@@ -0,0 +1,202 @@
+package com.google.projectgameface;
+
+import android.util.Log;
+
+import java.util.Locale;
+
+/**
+ * Online calibration of the user's head range for one input source (pitch/yaw or nose tip).
+ *
+ * Tracks a low and a high quantile of each axis with {@link P2QuantileEstimator}s and maps raw
+ * coordinates into that range. Quantiles ignore the occasional bad landmark frame that used to
+ * stretch the old min/max range for the rest of the session, and periodic decay lets the range
+ * follow the user's posture over time.
+ *
+ * The estimates are persisted per profile and restored as a warm start, so the user does not have
+ * to sweep their head again after every restart.
+ *
+ * Fed once per camera frame, which the sample counts below are tuned for; the cursor updates in
+ * between would only repeat the same sample. Updated on the cursor thread and loaded or saved on
+ * the main thread, hence synchronized.
+ */
+class HeadRangeCalibrator {
+    private static final String TAG = "HeadRangeCalibrator";
+
+    /** Lower / upper quantile mapped to the edges of the cursor region. */
+    static final float LOW_QUANTILE = 0.02f;
+    static final float HIGH_QUANTILE = 0.98f;
+
+    /** Samples between two decay steps (~30 s at 30 fps); sets how fast old posture is forgotten. */
+    static final int DECAY_INTERVAL = 900;
+
+    /** Weight of a restored calibration, in samples (~5 s at 30 fps). */
+    static final int WARM_START_WEIGHT = 150;
+
+    /** Samples between two saves of the calibration to the profile. */
+    static final int SAVE_INTERVAL = 300;
+
+    /** Ranges narrower than this fraction of the raw input are treated as not calibrated yet. */
+    private static final float MIN_RANGE = 1e-3f;
+
+    private final String preferenceKey;
+    private final P2QuantileEstimator lowX = new P2QuantileEstimator(LOW_QUANTILE);
+    private final P2QuantileEstimator highX = new P2QuantileEstimator(HIGH_QUANTILE);
+    private final P2QuantileEstimator lowY = new P2QuantileEstimator(LOW_QUANTILE);
+    private final P2QuantileEstimator highY = new P2QuantileEstimator(HIGH_QUANTILE);
+
+    private int samplesSinceDecay = 0;
+    private int samplesSinceSave = 0;
+    private long lastFrameTimeMs = -1;
+    /** Profile the calibration was loaded from and is saved to. */
+    private String profileName;
+
+    /**
+     * @param preferenceKey Profile key the calibration is stored under.
+     */
+    HeadRangeCalibrator(String preferenceKey) {
+        this.preferenceKey = preferenceKey;
+    }
+
+    /**
+     * Feed the raw coordinate of a camera frame. O(1).
+     * @param rawXY Raw coordinate; (0, 0) means no face and is ignored.
+     * @param frameTimeMs Time of the camera frame; a frame that was already fed is ignored.
+     */
+    synchronized void update(float[] rawXY, long frameTimeMs) {
+        if (rawXY[0] == 0 && rawXY[1] == 0) {
+            return;
+        }
+        if (frameTimeMs == lastFrameTimeMs) {
+            return;
+        }
+        lastFrameTimeMs = frameTimeMs;
+        lowX.add(rawXY[0]);
+        highX.add(rawXY[0]);
+        lowY.add(rawXY[1]);
+        highY.add(rawXY[1]);
+
+        samplesSinceSave++;
+        if (++samplesSinceDecay >= DECAY_INTERVAL) {
+            samplesSinceDecay = 0;
+            lowX.decay();
+            highX.decay();
+            lowY.decay();
+            highY.decay();
+        }
+    }
+
+    /**
+     * Map a raw X coordinate into the calibrated range.
+     * @return 0 at the low quantile, 1 at the high quantile, 0.5 while not calibrated.
+     */
+    synchronized float normalizeX(float rawX) {
+        return normalize(rawX, lowX, highX);
+    }
+
+    /**
+     * Map a raw Y coordinate into the calibrated range.
+     * @return 0 at the low quantile, 1 at the high quantile, 0.5 while not calibrated.
+     */
+    synchronized float normalizeY(float rawY) {
+        return normalize(rawY, lowY, highY);
+    }
+
+    /** True once enough samples were gathered since the last save. */
+    synchronized boolean shouldSave() {
+        return samplesSinceSave >= SAVE_INTERVAL;
+    }
+
+    /**
+     * Restore the calibration saved in the given profile, or start from scratch if there is none.
+     */
+    synchronized void load(ProfileStore.Profile profile) {
+        profileName = profile.getName();
+        samplesSinceDecay = 0;
+        samplesSinceSave = 0;
+        String saved = profile.getString(preferenceKey, null);
+        if (saved == null) {
+            reset();
+            return;
+        }
+        String[] parts = saved.split(",");
+        if (parts.length != 20
+            || !restore(lowX, parts, 0)
+            || !restore(highX, parts, 5)
+            || !restore(lowY, parts, 10)
+            || !restore(highY, parts, 15)) {
+            Log.w(TAG, "Ignoring invalid calibration for " + preferenceKey + ": " + saved);
+            reset();
+            return;
+        }
+        Log.i(TAG, "Restored " + preferenceKey + ": x " + lowX.getQuantile() + " - " + highX.getQuantile()
+            + "; y " + lowY.getQuantile() + " - " + highY.getQuantile());
+    }
+
+    /**
+     * Persist the calibration to the profile it was loaded from, even if another profile became
+     * current since. Only the in-memory snapshot is updated synchronously; the disk write happens
+     * in the background.
+     */
+    synchronized void save(ProfileStore profileStore) {
+        samplesSinceSave = 0;
+        if (!lowX.isReady() || !lowY.isReady()) {
+            return;
+        }
+        if (profileName == null) {
+            return;
+        }
+        if (!profileName.equals(profileStore.getCurrentProfileName())
+            && !profileStore.getProfileNames().contains(profileName)) {
+            // The profile was removed since.
+            return;
+        }
+        StringBuilder builder = new StringBuilder();
+        append(builder, lowX);
+        append(builder, highX);
+        append(builder, lowY);
+        append(builder, highY);
+        profileStore.edit(profileName).putString(preferenceKey, builder.toString()).apply();
+    }
+
+    synchronized void reset() {
+        lowX.reset();
+        highX.reset();
+        lowY.reset();
+        highY.reset();
+        samplesSinceDecay = 0;
+        samplesSinceSave = 0;
+    }
+
+    private static float normalize(float raw, P2QuantileEstimator low, P2QuantileEstimator high) {
+        if (!low.isReady()) {
+            return 0.5f;
+        }
+        float min = low.getQuantile();
+        float max = high.getQuantile();
+        if (max - min < MIN_RANGE * Math.max(1f, Math.abs(max))) {
+            return 0.5f;
+        }
+        return (raw - min) / (max - min);
+    }
+
+    private static boolean restore(P2QuantileEstimator estimator, String[] parts, int offset) {
+        float[] markers = new float[5];
+        try {
+            for (int i = 0; i < markers.length; i++) {
+                markers[i] = Float.parseFloat(parts[offset + i]);
+            }
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        return estimator.restore(markers, WARM_START_WEIGHT);
+    }
+
+    private static void append(StringBuilder builder, P2QuantileEstimator estimator) {
+        for (float marker: estimator.getMarkers()) {
+            if (builder.length() > 0) {
+                builder.append(',');
+            }
+            builder.append(String.format(Locale.US, "%.4f", marker));
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.google.projectgameface;
+
+import android.os.Binder;
+import android.os.Build;
+import android.os.IBinder;
+import android.os.Parcel;
+import android.os.RemoteException;
+import android.os.SharedMemory;
+import android.system.ErrnoException;
+import android.util.Log;
+
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+
+/**
+ * Joystick transport for IMEs that can read values from shared memory instead of receiving a
+ * broadcast per update.
+ *
+ * The region holds a seqlock-protected record: [int sequence][float x][float y]. The sequence is
+ * odd while a write is in progress; readers retry until they see the same even sequence before
+ * and after reading x and y. Writes never cross process boundaries, so a send costs a few stores.
+ *
+ * The IME obtains the region once through {@link #getChannelBinder()}: transacting
+ * {@link #TRANSACTION_GET_SHARED_MEMORY} on that binder returns the {@link SharedMemory}
+ * parcelable in the reply.
+ */
+public class JoystickSharedMemoryTransport implements JoystickStreamer.Transport {
+    private static final String TAG = "JoystickShmTransport";
+
+    public static final int TRANSACTION_GET_SHARED_MEMORY = IBinder.FIRST_CALL_TRANSACTION;
+    private static final String DESCRIPTOR = "com.google.projectgameface.JoystickChannel";
+
+    private static final int OFFSET_SEQUENCE = 0;
+    private static final int OFFSET_X = 4;
+    private static final int OFFSET_Y = 8;
+    private static final int REGION_SIZE = 12;
+
+    private final SharedMemory sharedMemory;
+    private final ByteBuffer buffer;
+    private int sequence = 0;
+
+    private final Binder channelBinder = new Binder() {
+        @Override
+        protected boolean onTransact(int code, Parcel data, Parcel reply, int flags) throws RemoteException {
+            if (code == TRANSACTION_GET_SHARED_MEMORY) {
+                data.enforceInterface(DESCRIPTOR);
+                reply.writeNoException();
+                reply.writeParcelable(sharedMemory, 0);
+                return true;
+            }
+            return super.onTransact(code, data, reply, flags);
+        }
+    };
+
+    private JoystickSharedMemoryTransport(SharedMemory sharedMemory, ByteBuffer buffer) {
+        this.sharedMemory = sharedMemory;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Create the shared region.
+     * @return The transport, or null if shared memory is not available.
+     */
+    public static JoystickSharedMemoryTransport create() {
+        try {
+            SharedMemory sharedMemory = SharedMemory.create("HeadBoardJoystick", REGION_SIZE);
+            ByteBuffer buffer = sharedMemory.mapReadWrite();
+            return new JoystickSharedMemoryTransport(sharedMemory, buffer);
+        } catch (ErrnoException e) {
+            Log.e(TAG, "Failed to create joystick shared memory: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Binder handed to the IME in the channel handshake broadcast.
+     */
+    public IBinder getChannelBinder() {
+        return channelBinder;
+    }
+
+    @Override
+    public void send(float x, float y, Runnable onComplete) {
+        buffer.putInt(OFFSET_SEQUENCE, ++sequence);
+        storeStoreFence();
+        buffer.putFloat(OFFSET_X, x);
+        buffer.putFloat(OFFSET_Y, y);
+        storeStoreFence();
+        buffer.putInt(OFFSET_SEQUENCE, ++sequence);
+        onComplete.run();
+    }
+
+    /**
+     * Keep the sequence stores ordered around the value stores. Fences are only exposed from
+     * API 33; on older releases a reader may rarely pair x and y from adjacent updates, which is
+     * harmless for joystick input since each float is written atomically.
+     */
+    private static void storeStoreFence() {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.TIRAMISU) {
+            VarHandle.storeStoreFence();
+        }
+    }
+
+    /**
+     * Unmap and close the region. The IME keeps its own mapping until it closes it.
+     */
+    public void close() {
+        SharedMemory.unmap(buffer);
+        sharedMemory.close();
+    }
+}
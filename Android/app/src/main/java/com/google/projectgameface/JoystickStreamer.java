@@ -0,0 +1,201 @@
+package com.google.projectgameface;
+
+import android.os.SystemClock;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Streams normalized joystick values (yaw/pitch in -1.0 to 1.0) to an external IME.
+ *
+ * The tick loop offers a value every frame, but only values that actually changed are sent:
+ * - A dead-band around the center snaps small head movements to 0.
+ * - A change threshold drops values that are too close to the last one sent.
+ * - While a send is in flight, newer values overwrite a single pending slot, so the IME
+ *   always receives the latest value and never a backlog.
+ * - The minimum interval between sends follows the measured delivery time of the transport.
+ *
+ * Not thread-safe. {@link #offer} and the transport completion callback must run on the same
+ * thread (the main thread for the broadcast transport).
+ */
+public class JoystickStreamer {
+    /** Never send faster than the UI tick. */
+    static final long MIN_SEND_INTERVAL_MS = CursorAccessibilityService.UI_UPDATE;
+
+    /** Upper bound for the adaptive interval so a slow IME still gets ~10 updates per second. */
+    static final long MAX_SEND_INTERVAL_MS = 100;
+
+    /** Weight of the newest delivery time sample in the moving average. */
+    private static final float DELIVERY_TIME_SMOOTHING = 0.2f;
+
+    /**
+     * Delivers joystick values to the IME.
+     */
+    public interface Transport {
+        /**
+         * Send one joystick value.
+         * @param x          Normalized yaw (-1.0 to 1.0).
+         * @param y          Normalized pitch (-1.0 to 1.0).
+         * @param onComplete Must be run once the value has been delivered, on the thread that calls
+         *                   {@link JoystickStreamer#offer}. Fire-and-forget transports run it
+         *                   immediately.
+         */
+        void send(float x, float y, Runnable onComplete);
+    }
+
+    private final LongSupplier clock;
+    private Transport transport;
+    private float deadBand;
+    private float changeThreshold;
+
+    private boolean hasSent = false;
+    private float lastSentX;
+    private float lastSentY;
+    private long lastSendTime;
+
+    private boolean inFlight = false;
+    private boolean hasPending = false;
+    private float pendingX;
+    private float pendingY;
+
+    private float avgDeliveryMs = 0;
+    private long sendIntervalMs = MIN_SEND_INTERVAL_MS;
+    private int sendCount = 0;
+
+    private final Runnable onSendComplete = this::onSendComplete;
+
+    /**
+     * @param transport       Transport used to deliver values.
+     * @param deadBand        Values with magnitude below this are treated as 0.
+     * @param changeThreshold Minimum change on either axis for a new value to be sent.
+     */
+    public JoystickStreamer(Transport transport, float deadBand, float changeThreshold) {
+        this(transport, deadBand, changeThreshold, SystemClock::uptimeMillis);
+    }
+
+    /**
+     * @param clock Time source in ms, on the same time base as the values passed to {@link #offer}.
+     */
+    JoystickStreamer(Transport transport, float deadBand, float changeThreshold, LongSupplier clock) {
+        this.clock = clock;
+        this.transport = transport;
+        this.deadBand = deadBand;
+        this.changeThreshold = changeThreshold;
+    }
+
+    /**
+     * Swap the transport, e.g. when the IME announces support for a faster channel.
+     * The next offered value is always sent through the new transport.
+     */
+    public void setTransport(Transport transport) {
+        this.transport = transport;
+        reset();
+    }
+
+    public void setDeadBand(float deadBand) {
+        this.deadBand = deadBand;
+    }
+
+    public void setChangeThreshold(float changeThreshold) {
+        this.changeThreshold = changeThreshold;
+    }
+
+    /**
+     * Offer the latest joystick value. Called every tick while joystick mode is active.
+     * @param x   Normalized yaw (-1.0 to 1.0).
+     * @param y   Normalized pitch (-1.0 to 1.0).
+     * @param now Current time in ms, from the streamer's clock ({@link SystemClock#uptimeMillis()}
+     *            by default).
+     */
+    public void offer(float x, float y, long now) {
+        x = applyDeadBand(x);
+        y = applyDeadBand(y);
+
+        if (hasSent && !hasChanged(x, y)) {
+            // Nothing new; a stale pending value would only bring the IME back to this one.
+            hasPending = false;
+            return;
+        }
+
+        if (inFlight || now - lastSendTime < sendIntervalMs) {
+            pendingX = x;
+            pendingY = y;
+            hasPending = true;
+            return;
+        }
+
+        send(x, y, now);
+    }
+
+    /**
+     * Forget the last sent value so the next offer is sent unconditionally.
+     * Called when joystick mode is exited or the IME disables head tracking.
+     */
+    public void reset() {
+        hasSent = false;
+        hasPending = false;
+        inFlight = false;
+    }
+
+    /** Number of values handed to the transport since creation. */
+    public int getSendCount() {
+        return sendCount;
+    }
+
+    /** Current minimum interval between two sends, in ms. */
+    public long getSendIntervalMs() {
+        return sendIntervalMs;
+    }
+
+    private void send(float x, float y, long now) {
+        hasSent = true;
+        lastSentX = x;
+        lastSentY = y;
+        lastSendTime = now;
+        hasPending = false;
+        inFlight = true;
+        sendCount++;
+        transport.send(x, y, onSendComplete);
+    }
+
+    private void onSendComplete() {
+        if (!inFlight) {
+            // Stream was reset while this value was in flight.
+            return;
+        }
+        inFlight = false;
+        long now = clock.getAsLong();
+        updateSendInterval(now - lastSendTime);
+
+        // Flush the newest coalesced value right away if the rate limit allows it,
+        // otherwise it goes out with the next offer.
+        if (hasPending && now - lastSendTime >= sendIntervalMs) {
+            send(pendingX, pendingY, now);
+        }
+    }
+
+    private void updateSendInterval(long deliveryMs) {
+        avgDeliveryMs += DELIVERY_TIME_SMOOTHING * (deliveryMs - avgDeliveryMs);
+        sendIntervalMs = Math.max(MIN_SEND_INTERVAL_MS, Math.min(MAX_SEND_INTERVAL_MS, (long) avgDeliveryMs));
+    }
+
+    private boolean hasChanged(float x, float y) {
+        // Returning to center is always sent so the IME stops moving.
+        if (x == 0 && y == 0) {
+            return lastSentX != 0 || lastSentY != 0;
+        }
+        return Math.abs(x - lastSentX) >= changeThreshold || Math.abs(y - lastSentY) >= changeThreshold;
+    }
+
+    /**
+     * Snap values inside the dead-band to 0 and rescale the rest so the output
+     * still covers the full -1.0 to 1.0 range without a jump at the dead-band edge.
+     */
+    private float applyDeadBand(float value) {
+        float magnitude = Math.abs(value);
+        if (magnitude <= deadBand) {
+            return 0.0f;
+        }
+        float scaled = Math.min(1.0f, (magnitude - deadBand) / (1.0f - deadBand));
+        return Math.copySign(scaled, value);
+    }
+}
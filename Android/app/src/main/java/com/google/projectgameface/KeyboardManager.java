@@ -1,10 +1,14 @@
 package com.google.projectgameface;
 
+import android.app.Activity;
+import android.content.BroadcastReceiver;
 import android.content.Context;
 import android.content.Intent;
 import android.graphics.Point;
 import android.graphics.Rect;
 import android.os.Build;
+import android.os.Bundle;
+import android.os.SystemClock;
 import android.provider.Settings;
 import android.util.Log;
 import android.view.WindowManager;
@@ -37,6 +41,50 @@ public class KeyboardManager {
     private Rect navBarBounds = new Rect();
     private boolean isKeyboardOpen = false;
     private String currentKeyboard = "Unknown";
+    /**
+     * Last gesture profile sent to OpenBoard. OpenBoard only receives broadcasts while its process
+     * is running, so the profile is sent again every time the keyboard is shown.
+     */
+    private String gestureProfile = null;
+
+    private final JoystickStreamer joystickStreamer;
+    private JoystickSharedMemoryTransport joystickSharedMemoryTransport;
+    /** Reused for every joystick broadcast; extras are overwritten before each send. */
+    private final Intent joystickIntent = new Intent("com.justtype.nativeapp.EXTERNAL_JOYSTICK_INPUT");
+    private Runnable joystickDeliveredCallback;
+
+    /**
+     * Final receiver of the ordered joystick broadcast. Runs on the main thread once every
+     * receiver in JustType has handled the value, which ends the in-flight window of the stream.
+     */
+    private final BroadcastReceiver joystickDeliveredReceiver = new BroadcastReceiver() {
+        @Override
+        public void onReceive(Context context, Intent intent) {
+            completeJoystickDelivery();
+        }
+    };
+
+    private final JoystickStreamer.Transport joystickBroadcastTransport = new JoystickStreamer.Transport() {
+        @Override
+        public void send(float x, float y, Runnable onComplete) {
+            joystickIntent.putExtra("x", x); // yaw maps to x
+            joystickIntent.putExtra("y", y); // pitch maps to y
+            try {
+                if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.UPSIDE_DOWN_CAKE /* API 34 */) {
+                    joystickDeliveredCallback = onComplete;
+                    context.sendOrderedBroadcast(
+                        joystickIntent, null, joystickDeliveredReceiver, null, Activity.RESULT_OK, null, null);
+                } else {
+                    context.sendBroadcast(joystickIntent);
+                    onComplete.run();
+                }
+            } catch (Exception e) {
+                Log.e(TAG, "Error sending joystick input to JustType: " + e.getMessage());
+                joystickDeliveredCallback = null;
+                onComplete.run();
+            }
+        }
+    };
 
     public KeyboardManager(
         Context context,
@@ -52,6 +100,11 @@ public class KeyboardManager {
         this.windowManager = ContextCompat.getSystemService(this.context, WindowManager.class);
         this.screenSize = new Point();
         windowManager.getDefaultDisplay().getRealSize(screenSize);
+        this.joystickIntent.setPackage("com.justtype.nativeapp");
+        this.joystickStreamer = new JoystickStreamer(
+            joystickBroadcastTransport,
+            CursorMovementConfig.InitialRawValue.JOYSTICK_DEAD_BAND / 100f,
+            CursorMovementConfig.InitialRawValue.JOYSTICK_CHANGE_THRESHOLD / 100f);
     }
 
     /**
@@ -105,6 +158,7 @@ public class KeyboardManager {
         if (isKeyboardOpen == keyboardFound && keyboardBounds.equals(cursorController.getKeyboardBounds())) {
             return;
         }
+        boolean keyboardShown = keyboardFound && !isKeyboardOpen;
         isKeyboardOpen = keyboardFound;
 
         if (navBarFound) {
@@ -120,6 +174,9 @@ public class KeyboardManager {
             Log.d(TAG, "[checkForKeyboardBounds()] set kbd: " + keyboardBounds);
             cursorController.setKeyboardBounds(keyboardBounds);
             checkForKeyboardType();
+            if (keyboardShown && gestureProfile != null) {
+                sendGestureProfileToIME(gestureProfile);
+            }
         } else {
             // clear the kbd bounds when keyboard is not open
             Log.d(TAG, "[checkForKeyboardBounds()] clear kbd");
@@ -311,6 +368,19 @@ public class KeyboardManager {
         sendBroadcastToOpenBoardIME(intent);
     }
 
+    /**
+     * Select the gesture recognition profile OpenBoard uses for swipes.
+     * @param profile Config.IME_GESTURE_PROFILE_HEAD_POINTER while HeadBoard drives the keyboard,
+     *                Config.IME_GESTURE_PROFILE_TOUCH otherwise.
+     */
+    public void sendGestureProfileToIME(String profile) {
+        Log.d(TAG, "[openboard] Sending gesture profile to IME - " + profile);
+        gestureProfile = profile;
+        Intent intent = new Intent("org.dslul.openboard.inputmethod.latin.ACTION_SET_GESTURE_PROFILE");
+        intent.putExtra("profile", profile);
+        sendBroadcastToOpenBoardIME(intent);
+    }
+
     /**
      * Send long press delay to OpenBoard IME.
      * @param delay The long press delay in milliseconds.
@@ -414,20 +484,70 @@ public class KeyboardManager {
     }
 
     /**
-     * Send broadcast intent with normalized pitch/yaw values to JustType native app IME.
+     * Stream normalized pitch/yaw values to JustType native app IME.
+     * Called every tick in joystick mode; {@link JoystickStreamer} decides which values are
+     * actually sent, so unchanged head poses cost no IPC.
      * @param normalizedValues Array containing [x, y] normalized values (-1.0 to 1.0)
      */
     public void sendJoystickInputToJustType(float[] normalizedValues) {
         if (normalizedValues == null || normalizedValues.length < 2) {
             return;
         }
-        try {
-            Intent intent = new Intent("com.justtype.nativeapp.EXTERNAL_JOYSTICK_INPUT");
-            intent.putExtra("x", normalizedValues[0]); // yaw maps to x
-            intent.putExtra("y", normalizedValues[1]); // pitch maps to y
-            sendBroadcastToJustType(intent);
-        } catch (Exception e) {
-            Log.e(TAG, "Error sending joystick input to JustType: " + e.getMessage());
+        CursorMovementConfig config = cursorController.cursorMovementConfig;
+        joystickStreamer.setDeadBand(
+            Math.min(config.get(CursorMovementConfig.CursorMovementConfigType.JOYSTICK_DEAD_BAND), 90f) / 100f);
+        joystickStreamer.setChangeThreshold(
+            config.get(CursorMovementConfig.CursorMovementConfigType.JOYSTICK_CHANGE_THRESHOLD) / 100f);
+        joystickStreamer.offer(normalizedValues[0], normalizedValues[1], SystemClock.uptimeMillis());
+    }
+
+    /**
+     * Forget the last streamed joystick value so the next one is sent unconditionally.
+     * Called when joystick mode is exited.
+     */
+    public void resetJoystickStream() {
+        joystickStreamer.reset();
+        joystickDeliveredCallback = null;
+    }
+
+    /**
+     * Switch joystick streaming to shared memory. Called when JustType announces that it can
+     * read joystick values from a shared region; the region is handed over with a binder in the
+     * channel broadcast. Falls back to broadcasts if the region cannot be created.
+     */
+    public void enableJoystickSharedMemoryTransport() {
+        if (joystickSharedMemoryTransport == null) {
+            joystickSharedMemoryTransport = JoystickSharedMemoryTransport.create();
+            if (joystickSharedMemoryTransport == null) {
+                return;
+            }
+        }
+        Log.d(TAG, "[enableJoystickSharedMemoryTransport] Sending shared memory channel to JustType");
+        Bundle channel = new Bundle();
+        channel.putBinder("binder", joystickSharedMemoryTransport.getChannelBinder());
+        Intent intent = new Intent("com.justtype.nativeapp.JOYSTICK_SHARED_MEMORY_CHANNEL");
+        intent.putExtra("channel", channel);
+        sendBroadcastToJustType(intent);
+        joystickStreamer.setTransport(joystickSharedMemoryTransport);
+    }
+
+    /**
+     * Release the joystick shared memory region, if any, and go back to broadcasts.
+     */
+    public void releaseJoystickTransport() {
+        joystickStreamer.setTransport(joystickBroadcastTransport);
+        joystickDeliveredCallback = null;
+        if (joystickSharedMemoryTransport != null) {
+            joystickSharedMemoryTransport.close();
+            joystickSharedMemoryTransport = null;
+        }
+    }
+
+    private void completeJoystickDelivery() {
+        Runnable callback = joystickDeliveredCallback;
+        joystickDeliveredCallback = null;
+        if (callback != null) {
+            callback.run();
         }
     }
 
@@ -0,0 +1,284 @@
+package com.google.projectgameface;
+
+/**
+ * Sliding-window analysis of cursor motion, fed once per cursor update.
+ *
+ * Samples live in a primitive ring buffer and the window keeps running sums of path length, so
+ * adding a sample and asking for speed, displacement or straightness are O(1) and allocation-free.
+ * The same samples drive any number of {@link HoverZone}s (tap hover zone, dwell target).
+ *
+ * Not thread-safe; feed and query from the thread that updates the cursor (the main thread).
+ */
+class MotionAnalyzer {
+    /** Maximum number of zones that can be attached at the same time. */
+    private static final int MAX_ZONES = 4;
+
+    /**
+     * Notified when the cursor crosses the boundary of a {@link HoverZone}.
+     */
+    interface HoverZoneListener {
+        /**
+         * @param zone     The zone that changed.
+         * @param inside   True if the cursor entered the zone, false if it left.
+         * @param distance Distance between the cursor and the zone anchor (or its bounds), in px.
+         */
+        void onHoverZoneChanged(HoverZone zone, boolean inside, float distance);
+    }
+
+    /**
+     * Circular zone around an anchor point with separate enter and exit radii, so jitter at the
+     * edge does not flip the state every frame. A zone can also cover a rectangle around its
+     * anchor, the radii then being margins around the rectangle.
+     */
+    static class HoverZone {
+        private final HoverZoneListener listener;
+        private boolean active = false;
+        private float anchorX;
+        private float anchorY;
+        // The covered rectangle; a single point (the anchor) for circular zones.
+        private float left;
+        private float top;
+        private float right;
+        private float bottom;
+        private float enterRadiusSq;
+        private float exitRadiusSq;
+        private boolean inside;
+        private long enteredAt;
+        private float distance;
+
+        HoverZone(HoverZoneListener listener) {
+            this.listener = listener;
+        }
+
+        /**
+         * Anchor the zone. The cursor is considered inside until it moves past {@code exitRadius}.
+         * @param enterRadius Radius within which the cursor re-enters the zone, in px.
+         * @param exitRadius  Radius beyond which the cursor leaves the zone, in px. At least enterRadius.
+         */
+        void anchor(float x, float y, float enterRadius, float exitRadius, long now) {
+            anchor(x, y, x, y, x, y, enterRadius, exitRadius, now);
+        }
+
+        /**
+         * Anchor the zone on a point of a rectangle. The cursor is considered inside until it moves
+         * further than {@code exitMargin} from the rectangle.
+         * @param enterMargin Distance from the rectangle within which the cursor re-enters the zone, in px.
+         * @param exitMargin  Distance from the rectangle beyond which the cursor leaves the zone, in px.
+         */
+        void anchor(float x, float y, float left, float top, float right, float bottom,
+            float enterMargin, float exitMargin, long now) {
+            anchorX = x;
+            anchorY = y;
+            this.left = left;
+            this.top = top;
+            this.right = right;
+            this.bottom = bottom;
+            enterRadiusSq = enterMargin * enterMargin;
+            exitRadiusSq = Math.max(exitMargin, enterMargin) * Math.max(exitMargin, enterMargin);
+            inside = true;
+            enteredAt = now;
+            distance = 0;
+            active = true;
+        }
+
+        void clear() {
+            active = false;
+        }
+
+        boolean isActive() {
+            return active;
+        }
+
+        boolean isInside() {
+            return inside;
+        }
+
+        float getAnchorX() {
+            return anchorX;
+        }
+
+        float getAnchorY() {
+            return anchorY;
+        }
+
+        /** Distance between the last sample and the anchor (or the rectangle), in px. */
+        float getDistance() {
+            return distance;
+        }
+
+        /** Time the cursor has continuously been inside the zone, or 0 if it is outside. */
+        long getTimeInside(long now) {
+            return active && inside ? now - enteredAt : 0;
+        }
+
+        private void update(float x, float y, long now) {
+            float dx = Math.max(Math.max(left - x, x - right), 0);
+            float dy = Math.max(Math.max(top - y, y - bottom), 0);
+            float distanceSq = dx * dx + dy * dy;
+            boolean newInside = inside ? distanceSq <= exitRadiusSq : distanceSq <= enterRadiusSq;
+            if (newInside == inside) {
+                return;
+            }
+            inside = newInside;
+            if (inside) {
+                enteredAt = now;
+            }
+            distance = (float) Math.sqrt(distanceSq);
+            if (listener != null) {
+                listener.onHoverZoneChanged(this, inside, distance);
+            }
+        }
+    }
+
+    private final long windowMs;
+    private final long[] times;
+    private final float[] xs;
+    private final float[] ys;
+    /** Distance from the previous sample to this one. */
+    private final float[] steps;
+    private int head = 0;
+    private int size = 0;
+    private double pathLength = 0;
+
+    private final HoverZone[] zones = new HoverZone[MAX_ZONES];
+    private int zoneCount = 0;
+
+    /**
+     * @param windowMs Length of the analysis window.
+     * @param capacity Maximum samples kept; older samples are dropped even if still in the window.
+     */
+    MotionAnalyzer(long windowMs, int capacity) {
+        this.windowMs = windowMs;
+        times = new long[capacity];
+        xs = new float[capacity];
+        ys = new float[capacity];
+        steps = new float[capacity];
+    }
+
+    /**
+     * Attach a zone so it is updated with every sample. Zones are attached once and then
+     * anchored / cleared as needed.
+     */
+    void addZone(HoverZone zone) {
+        if (zoneCount == MAX_ZONES) {
+            throw new IllegalStateException("Too many hover zones");
+        }
+        zones[zoneCount++] = zone;
+    }
+
+    /**
+     * Add the latest cursor position. O(1) amortized.
+     */
+    void addSample(float x, float y, long now) {
+        float step = 0;
+        if (size > 0) {
+            int last = index(size - 1);
+            float dx = x - xs[last];
+            float dy = y - ys[last];
+            step = (float) Math.sqrt(dx * dx + dy * dy);
+        }
+        if (size == times.length) {
+            evictOldest();
+        }
+        int slot = index(size);
+        times[slot] = now;
+        xs[slot] = x;
+        ys[slot] = y;
+        steps[slot] = step;
+        size++;
+        if (size > 1) {
+            pathLength += step;
+        }
+        while (size > 1 && now - times[head] > windowMs) {
+            evictOldest();
+        }
+
+        for (int i = 0; i < zoneCount; i++) {
+            if (zones[i].active) {
+                zones[i].update(x, y, now);
+            }
+        }
+    }
+
+    /** Drop all samples, e.g. when a new gesture starts. Zones are left untouched. */
+    void clear() {
+        head = 0;
+        size = 0;
+        pathLength = 0;
+    }
+
+    int getSampleCount() {
+        return size;
+    }
+
+    /** X of the newest sample, or 0 if there is none. */
+    float getLastX() {
+        return size > 0 ? xs[index(size - 1)] : 0;
+    }
+
+    /** Y of the newest sample, or 0 if there is none. */
+    float getLastY() {
+        return size > 0 ? ys[index(size - 1)] : 0;
+    }
+
+    /** Time between the oldest and newest sample in the window. */
+    long getSpanMs() {
+        return size < 2 ? 0 : times[index(size - 1)] - times[head];
+    }
+
+    /** Distance travelled along the path inside the window, in px. */
+    float getPathLength() {
+        return (float) pathLength;
+    }
+
+    /** Straight-line distance between the oldest and newest sample, in px. */
+    float getNetDisplacement() {
+        if (size < 2) {
+            return 0;
+        }
+        int last = index(size - 1);
+        float dx = xs[last] - xs[head];
+        float dy = ys[last] - ys[head];
+        return (float) Math.sqrt(dx * dx + dy * dy);
+    }
+
+    /** Average speed over the window, in px per ms. */
+    float getAverageSpeed() {
+        long span = getSpanMs();
+        return span > 0 ? (float) (pathLength / span) : 0;
+    }
+
+    /**
+     * Direction consistency: 1 for a straight line, towards 0 for jitter around one spot.
+     */
+    float getStraightness() {
+        return pathLength > 0 ? (float) (getNetDisplacement() / pathLength) : 0;
+    }
+
+    /**
+     * Decide whether the motion in the window looks like an intentional swipe rather than hovering.
+     * @param minSpeed        Minimum average speed, in px per ms.
+     * @param minDisplacement Minimum net displacement, in px.
+     * @param minStraightness Minimum {@link #getStraightness()}.
+     */
+    boolean isIntentionalMovement(float minSpeed, float minDisplacement, float minStraightness) {
+        return size >= 3
+            && getAverageSpeed() > minSpeed
+            && getNetDisplacement() > minDisplacement
+            && getStraightness() >= minStraightness;
+    }
+
+    private void evictOldest() {
+        size--;
+        head = (head + 1) % times.length;
+        if (size > 1) {
+            pathLength -= steps[head];
+        } else {
+            pathLength = 0;
+        }
+    }
+
+    private int index(int offset) {
+        return (head + offset) % times.length;
+    }
+}
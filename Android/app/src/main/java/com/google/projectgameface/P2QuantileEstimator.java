@@ -0,0 +1,183 @@
+package com.google.projectgameface;
+
+/**
+ * Streaming estimate of a single quantile using the P-square algorithm (Jain & Chlamtac, 1985).
+ *
+ * Keeps five markers (min, p/2, p, (1+p)/2, max) and nudges them towards their ideal positions
+ * with a piecewise-parabolic fit, so each sample costs O(1) time and no memory. A single outlier
+ * only moves the inner markers by one position step.
+ *
+ * To follow a user whose posture drifts, {@link #decay()} halves the observation count so newer
+ * samples weigh more, and pulls the extreme markers halfway towards their neighbours so an old
+ * outlier does not stay in the fit forever.
+ */
+class P2QuantileEstimator {
+    private static final int MARKERS = 5;
+
+    private final float p;
+    /** Marker heights. */
+    private final float[] q = new float[MARKERS];
+    /** Actual marker positions (0-based sample ranks). */
+    private final int[] n = new int[MARKERS];
+    /** Desired marker positions. */
+    private final float[] np = new float[MARKERS];
+    /** Desired position increments per sample. */
+    private final float[] dn;
+
+    private int count = 0;
+
+    /**
+     * @param p Quantile to track, in (0, 1).
+     */
+    P2QuantileEstimator(float p) {
+        this.p = p;
+        this.dn = new float[]{0f, p / 2f, p, (1f + p) / 2f, 1f};
+    }
+
+    /** True once enough samples were seen (or restored) for {@link #getQuantile()} to be meaningful. */
+    boolean isReady() {
+        return count >= MARKERS;
+    }
+
+    float getQuantile() {
+        if (count >= MARKERS) {
+            return q[2];
+        }
+        // Fewer than five samples: nearest-rank on the sorted prefix.
+        return count == 0 ? 0f : q[Math.min(count - 1, Math.round(p * (count - 1)))];
+    }
+
+    void add(float x) {
+        if (count < MARKERS) {
+            insertSorted(x);
+            count++;
+            if (count == MARKERS) {
+                for (int i = 0; i < MARKERS; i++) {
+                    n[i] = i;
+                    np[i] = 4 * dn[i];
+                }
+            }
+            return;
+        }
+
+        int k;
+        if (x < q[0]) {
+            q[0] = x;
+            k = 0;
+        } else if (x >= q[4]) {
+            q[4] = x;
+            k = 3;
+        } else {
+            k = 0;
+            while (k < 3 && x >= q[k + 1]) {
+                k++;
+            }
+        }
+
+        for (int i = k + 1; i < MARKERS; i++) {
+            n[i]++;
+        }
+        for (int i = 0; i < MARKERS; i++) {
+            np[i] += dn[i];
+        }
+        count++;
+
+        for (int i = 1; i < MARKERS - 1; i++) {
+            float d = np[i] - n[i];
+            if ((d >= 1 && n[i + 1] - n[i] > 1) || (d <= -1 && n[i - 1] - n[i] < -1)) {
+                int step = d > 0 ? 1 : -1;
+                float candidate = parabolic(i, step);
+                if (q[i - 1] < candidate && candidate < q[i + 1]) {
+                    q[i] = candidate;
+                } else {
+                    q[i] = linear(i, step);
+                }
+                n[i] += step;
+            }
+        }
+    }
+
+    /**
+     * Halve the weight of everything seen so far.
+     */
+    void decay() {
+        if (count < MARKERS) {
+            return;
+        }
+        int total = Math.max(MARKERS - 1, n[4] / 2);
+        rebuildPositions(total);
+        q[0] += (q[1] - q[0]) / 2f;
+        q[4] += (q[3] - q[4]) / 2f;
+        count = total + 1;
+    }
+
+    /** Copy of the five marker heights, for persistence. */
+    float[] getMarkers() {
+        return q.clone();
+    }
+
+    /**
+     * Warm-start from persisted marker heights.
+     * @param markers Five non-decreasing marker heights from {@link #getMarkers()}.
+     * @param weight  Number of samples the restored state should count as.
+     * @return False if the markers are invalid; the estimator is left empty in that case.
+     */
+    boolean restore(float[] markers, int weight) {
+        reset();
+        if (markers == null || markers.length != MARKERS) {
+            return false;
+        }
+        for (int i = 0; i < MARKERS; i++) {
+            if (Float.isNaN(markers[i]) || (i > 0 && markers[i] < markers[i - 1])) {
+                return false;
+            }
+        }
+        System.arraycopy(markers, 0, q, 0, MARKERS);
+        int total = Math.max(MARKERS - 1, weight - 1);
+        rebuildPositions(total);
+        count = total + 1;
+        return true;
+    }
+
+    void reset() {
+        count = 0;
+    }
+
+    /**
+     * Place markers at their ideal ranks for {@code total + 1} samples, keeping them strictly
+     * increasing as P-square requires.
+     */
+    private void rebuildPositions(int total) {
+        for (int i = 0; i < MARKERS; i++) {
+            np[i] = total * dn[i];
+            n[i] = Math.round(np[i]);
+        }
+        n[0] = 0;
+        for (int i = 1; i < MARKERS; i++) {
+            n[i] = Math.max(n[i], n[i - 1] + 1);
+        }
+        n[4] = Math.max(n[4], total);
+        for (int i = MARKERS - 2; i > 0; i--) {
+            n[i] = Math.min(n[i], n[i + 1] - 1);
+        }
+    }
+
+    private void insertSorted(float x) {
+        int i = count;
+        while (i > 0 && q[i - 1] > x) {
+            q[i] = q[i - 1];
+            i--;
+        }
+        q[i] = x;
+    }
+
+    private float parabolic(int i, int d) {
+        float left = (n[i] - n[i - 1] + d) * (q[i + 1] - q[i]) / (n[i + 1] - n[i]);
+        float right = (n[i + 1] - n[i] - d) * (q[i] - q[i - 1]) / (n[i] - n[i - 1]);
+        return q[i] + (float) d / (n[i + 1] - n[i - 1]) * (left + right);
+    }
+
+    private float linear(int i, int d) {
+        return q[i] + d * (q[i + d] - q[i]) / (n[i + d] - n[i]);
+    }
+}
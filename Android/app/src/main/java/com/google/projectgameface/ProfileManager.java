@@ -1,51 +1,35 @@
 package com.google.projectgameface;
 
 import android.content.Context;
-import android.content.SharedPreferences;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
+/**
+ * Static facade over {@link ProfileStore}; profile names and the current profile are served from memory.
+ */
 public class ProfileManager {
 
     public static final String DEFAULT_PROFILE = "Default Profile";
-    private static final String PREF_PROFILES = "GameFaceProfiles";
-    private static final String PREF_CURRENT_PROFILE = "CurrentProfile";
 
     public static List<String> getProfiles(Context context) {
-        SharedPreferences prefs = context.getSharedPreferences(PREF_PROFILES, Context.MODE_PRIVATE);
-        String profiles = prefs.getString(PREF_PROFILES, DEFAULT_PROFILE);
-        return new ArrayList<>(Arrays.asList(profiles.split(",")));
+        return new ArrayList<>(ProfileStore.getInstance(context).getProfileNames());
     }
 
     public static void addProfile(Context context, String profileName) {
-        SharedPreferences prefs = context.getSharedPreferences(PREF_PROFILES, Context.MODE_PRIVATE);
-        String profiles = prefs.getString(PREF_PROFILES, DEFAULT_PROFILE);
-        if (!profiles.contains(profileName)) {
-            profiles = profiles + "," + profileName;
-            prefs.edit().putString(PREF_PROFILES, profiles).apply();
-        }
+        ProfileStore.getInstance(context).addProfile(profileName);
     }
 
     public static void removeProfile(Context context, String profileName) {
-        SharedPreferences prefs = context.getSharedPreferences(PREF_PROFILES, Context.MODE_PRIVATE);
-        String profiles = prefs.getString(PREF_PROFILES, DEFAULT_PROFILE);
-        List<String> profileList = new ArrayList<>(Arrays.asList(profiles.split(",")));
-        profileList.remove(profileName);
-        profiles = String.join(",", profileList);
-        prefs.edit().putString(PREF_PROFILES, profiles).apply();
-        // Also remove the profile's settings
-        context.getSharedPreferences(profileName, Context.MODE_PRIVATE).edit().clear().apply();
+        // Also removes the profile's settings.
+        ProfileStore.getInstance(context).removeProfile(profileName);
     }
 
     public static String getCurrentProfile(Context context) {
-        SharedPreferences prefs = context.getSharedPreferences(PREF_PROFILES, Context.MODE_PRIVATE);
-        return prefs.getString(PREF_CURRENT_PROFILE, DEFAULT_PROFILE);
+        return ProfileStore.getInstance(context).getCurrentProfileName();
     }
 
     public static void setCurrentProfile(Context context, String profileName) {
-        SharedPreferences prefs = context.getSharedPreferences(PREF_PROFILES, Context.MODE_PRIVATE);
-        prefs.edit().putString(PREF_CURRENT_PROFILE, profileName).apply();
+        ProfileStore.getInstance(context).setCurrentProfile(profileName);
     }
 }
\ No newline at end of file
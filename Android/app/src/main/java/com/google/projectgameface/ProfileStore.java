@@ -0,0 +1,345 @@
+package com.google.projectgameface;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * In-memory store of every profile's settings.
+ *
+ * All profiles are loaded once into immutable {@link Profile} snapshots, so reads and profile
+ * switches never touch disk. Each snapshot mirrors its profile's SharedPreferences: writes made
+ * through {@link #edit()} or directly through SharedPreferences (the settings activities) replace
+ * the snapshot with a fresh copy.
+ *
+ * Profile values are persisted by SharedPreferences' own background writer. The profile index
+ * (names and current profile) is a versioned JSON record written on a single background executor.
+ */
+public final class ProfileStore {
+    private static final String TAG = "ProfileStore";
+
+    /** Version of the persisted {@link ProfileIndex}. Bump when its layout changes. */
+    static final int INDEX_VERSION = 2;
+
+    private static final String PREF_PROFILES = "GameFaceProfiles";
+    private static final String PREF_PROFILE_INDEX = "ProfileIndex";
+    /** Pre-index storage: comma-joined profile names and the current profile name. */
+    private static final String LEGACY_PREF_PROFILES = "GameFaceProfiles";
+    private static final String LEGACY_PREF_CURRENT_PROFILE = "CurrentProfile";
+
+    private static ProfileStore instance;
+
+    /**
+     * Notified on the main thread when the current profile changes.
+     */
+    public interface OnProfileChangedListener {
+        void onProfileChanged(Profile profile);
+    }
+
+    /**
+     * Immutable snapshot of one profile's settings.
+     */
+    public static final class Profile {
+        private final String name;
+        private final Map<String, ?> values;
+
+        Profile(String name, Map<String, ?> values) {
+            this.name = name;
+            this.values = Collections.unmodifiableMap(new HashMap<>(values));
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public boolean contains(String key) {
+            return values.containsKey(key);
+        }
+
+        public int getInt(String key, int defValue) {
+            Object value = values.get(key);
+            return value != null ? (Integer) value : defValue;
+        }
+
+        public float getFloat(String key, float defValue) {
+            Object value = values.get(key);
+            return value != null ? (Float) value : defValue;
+        }
+
+        public boolean getBoolean(String key, boolean defValue) {
+            Object value = values.get(key);
+            return value != null ? (Boolean) value : defValue;
+        }
+
+        public String getString(String key, String defValue) {
+            Object value = values.get(key);
+            return value != null ? (String) value : defValue;
+        }
+    }
+
+    /**
+     * Persisted list of profiles. Replaces the comma-joined string used before version 2.
+     */
+    private static final class ProfileIndex {
+        int version;
+        List<String> profiles;
+        String current;
+
+        ProfileIndex(List<String> profiles, String current) {
+            this.version = INDEX_VERSION;
+            this.profiles = profiles;
+            this.current = current;
+        }
+    }
+
+    /**
+     * Edits a profile. Changes are visible to readers as soon as {@link #apply()} returns.
+     */
+    public final class Editor {
+        private final String profileName;
+        private final SharedPreferences.Editor editor;
+
+        private Editor(String profileName) {
+            this.profileName = profileName;
+            this.editor = getPreferences(profileName).edit();
+        }
+
+        public Editor putInt(String key, int value) {
+            editor.putInt(key, value);
+            return this;
+        }
+
+        public Editor putFloat(String key, float value) {
+            editor.putFloat(key, value);
+            return this;
+        }
+
+        public Editor putBoolean(String key, boolean value) {
+            editor.putBoolean(key, value);
+            return this;
+        }
+
+        public Editor putString(String key, String value) {
+            editor.putString(key, value);
+            return this;
+        }
+
+        public void apply() {
+            // apply() updates the in-memory preferences synchronously and queues the disk write.
+            editor.apply();
+            refreshSnapshot(profileName);
+        }
+    }
+
+    private final Context appContext;
+    private final Gson gson = new Gson();
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final ExecutorService indexWriter = Executors.newSingleThreadExecutor();
+    private final List<OnProfileChangedListener> listeners = new CopyOnWriteArrayList<>();
+    private final Map<String, Profile> snapshots = new ConcurrentHashMap<>();
+    /** Strong references; SharedPreferences only keeps weak references to its listeners. */
+    private final Map<String, SharedPreferences.OnSharedPreferenceChangeListener> mirrors =
+        new ConcurrentHashMap<>();
+
+    private volatile List<String> profileNames;
+    private volatile Profile currentProfile;
+
+    /**
+     * Get the process-wide store, loading every profile on first use.
+     */
+    public static synchronized ProfileStore getInstance(Context context) {
+        Context appContext = context.getApplicationContext();
+        if (instance == null || instance.appContext != appContext) {
+            instance = new ProfileStore(appContext);
+        }
+        return instance;
+    }
+
+    private ProfileStore(Context appContext) {
+        this.appContext = appContext;
+        ProfileIndex index = loadIndex();
+        profileNames = Collections.unmodifiableList(new ArrayList<>(index.profiles));
+        for (String name: profileNames) {
+            loadProfile(name);
+        }
+        currentProfile = loadProfile(index.current);
+        Log.i(TAG, "Loaded " + profileNames.size() + " profiles, current: " + index.current);
+    }
+
+    /** Snapshot of the current profile. Never blocks. */
+    public Profile getCurrentProfile() {
+        return currentProfile;
+    }
+
+    public String getCurrentProfileName() {
+        return currentProfile.getName();
+    }
+
+    /** Snapshot of the given profile, loading it if it was created outside the store. */
+    public Profile getProfile(String name) {
+        Profile profile = snapshots.get(name);
+        return profile != null ? profile : loadProfile(name);
+    }
+
+    public List<String> getProfileNames() {
+        return profileNames;
+    }
+
+    public Editor edit() {
+        return new Editor(getCurrentProfileName());
+    }
+
+    /** Edits the given profile, whether or not it is the current one. */
+    public Editor edit(String profileName) {
+        return new Editor(profileName);
+    }
+
+    /**
+     * Switch the current profile. Readers see the new profile immediately and listeners are
+     * notified on the main thread; only the index write touches disk, in the background.
+     */
+    public void setCurrentProfile(String name) {
+        if (name.equals(getCurrentProfileName())) {
+            return;
+        }
+        currentProfile = getProfile(name);
+        persistIndex();
+        notifyProfileChanged();
+    }
+
+    public synchronized void addProfile(String name) {
+        if (profileNames.contains(name)) {
+            return;
+        }
+        List<String> names = new ArrayList<>(profileNames);
+        names.add(name);
+        profileNames = Collections.unmodifiableList(names);
+        loadProfile(name);
+        persistIndex();
+    }
+
+    public synchronized void removeProfile(String name) {
+        List<String> names = new ArrayList<>(profileNames);
+        names.remove(name);
+        profileNames = Collections.unmodifiableList(names);
+        SharedPreferences.OnSharedPreferenceChangeListener mirror = mirrors.remove(name);
+        SharedPreferences preferences = getPreferences(name);
+        if (mirror != null) {
+            preferences.unregisterOnSharedPreferenceChangeListener(mirror);
+        }
+        preferences.edit().clear().apply();
+        snapshots.remove(name);
+        if (name.equals(getCurrentProfileName())) {
+            currentProfile = loadProfile(ProfileManager.DEFAULT_PROFILE);
+            notifyProfileChanged();
+        }
+        persistIndex();
+    }
+
+    public void addOnProfileChangedListener(OnProfileChangedListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeOnProfileChangedListener(OnProfileChangedListener listener) {
+        listeners.remove(listener);
+    }
+
+    private SharedPreferences getPreferences(String profileName) {
+        return appContext.getSharedPreferences(profileName, Context.MODE_PRIVATE);
+    }
+
+    /**
+     * Snapshot a profile and keep the snapshot in sync with its SharedPreferences.
+     */
+    private Profile loadProfile(String name) {
+        SharedPreferences preferences = getPreferences(name);
+        if (!mirrors.containsKey(name)) {
+            SharedPreferences.OnSharedPreferenceChangeListener mirror =
+                (sharedPreferences, key) -> refreshSnapshot(name);
+            mirrors.put(name, mirror);
+            preferences.registerOnSharedPreferenceChangeListener(mirror);
+        }
+        return refreshSnapshot(name);
+    }
+
+    private Profile refreshSnapshot(String name) {
+        Profile profile = new Profile(name, getPreferences(name).getAll());
+        snapshots.put(name, profile);
+        Profile current = currentProfile;
+        if (current != null && current.getName().equals(name)) {
+            currentProfile = profile;
+        }
+        return profile;
+    }
+
+    private void notifyProfileChanged() {
+        Profile profile = currentProfile;
+        Runnable notify = () -> {
+            for (OnProfileChangedListener listener: listeners) {
+                listener.onProfileChanged(profile);
+            }
+        };
+        if (Looper.myLooper() == Looper.getMainLooper()) {
+            notify.run();
+        } else {
+            mainHandler.post(notify);
+        }
+    }
+
+    private ProfileIndex loadIndex() {
+        SharedPreferences prefs = appContext.getSharedPreferences(PREF_PROFILES, Context.MODE_PRIVATE);
+        String json = prefs.getString(PREF_PROFILE_INDEX, null);
+        if (json != null) {
+            try {
+                ProfileIndex index = gson.fromJson(json, ProfileIndex.class);
+                if (index != null && index.version == INDEX_VERSION && index.profiles != null
+                    && !index.profiles.isEmpty() && index.current != null) {
+                    return index;
+                }
+                Log.w(TAG, "Unsupported profile index, migrating from legacy storage.");
+            } catch (JsonSyntaxException e) {
+                Log.e(TAG, "Corrupted profile index, migrating from legacy storage: " + e.getMessage());
+            }
+        }
+
+        // Migrate from the comma-joined profile list.
+        String legacyProfiles = prefs.getString(LEGACY_PREF_PROFILES, ProfileManager.DEFAULT_PROFILE);
+        String legacyCurrent = prefs.getString(LEGACY_PREF_CURRENT_PROFILE, ProfileManager.DEFAULT_PROFILE);
+        List<String> names = new ArrayList<>(Arrays.asList(legacyProfiles.split(",")));
+        if (!names.contains(legacyCurrent)) {
+            legacyCurrent = ProfileManager.DEFAULT_PROFILE;
+        }
+        ProfileIndex index = new ProfileIndex(names, legacyCurrent);
+        prefs.edit().putString(PREF_PROFILE_INDEX, gson.toJson(index)).apply();
+        return index;
+    }
+
+    private void persistIndex() {
+        String json = gson.toJson(new ProfileIndex(profileNames, getCurrentProfileName()));
+        indexWriter.execute(() -> {
+            boolean saved = appContext.getSharedPreferences(PREF_PROFILES, Context.MODE_PRIVATE)
+                .edit()
+                .putString(PREF_PROFILE_INDEX, json)
+                .commit();
+            if (!saved) {
+                Log.e(TAG, "Failed to persist profile index.");
+            }
+        });
+    }
+}
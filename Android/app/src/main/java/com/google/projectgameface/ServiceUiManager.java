@@ -22,7 +22,6 @@ import android.annotation.SuppressLint;
 import android.content.BroadcastReceiver;
 import android.content.Context;
 import android.content.Intent;
-import android.content.SharedPreferences;
 import android.graphics.Bitmap;
 import android.graphics.PixelFormat;
 import android.graphics.Point;
@@ -641,12 +640,7 @@ public class ServiceUiManager {
      */
     private void saveCameraBoxPosition(String key, float value) {
         Log.i(TAG, "saveDefaultPosition: " + key + " " + value);
-        String profileName = ProfileManager.getCurrentProfile(parentContext);
-        SharedPreferences preferences =
-            parentContext.getSharedPreferences(profileName, Context.MODE_PRIVATE);
-        SharedPreferences.Editor editor = preferences.edit();
-        editor.putFloat(key, value);
-        editor.apply();
+        ProfileStore.getInstance(parentContext).edit().putFloat(key, value).apply();
     }
 
     /**
@@ -783,9 +777,8 @@ public class ServiceUiManager {
         new BroadcastReceiver() {
             @Override
             public void onReceive(Context context, Intent intent) {
-                String profileName = ProfileManager.getCurrentProfile(parentContext);
-                SharedPreferences preferences =
-                    parentContext.getSharedPreferences(profileName, Context.MODE_PRIVATE);
+                ProfileStore.Profile preferences =
+                    ProfileStore.getInstance(parentContext).getCurrentProfile();
                 float positionX =
                     preferences.getFloat(
                         "savedFloatCamXNorm",
@@ -837,9 +830,7 @@ public class ServiceUiManager {
 
         // Update the camera box location
         // so it not going out of screen when rotate device.
-        String profileName = ProfileManager.getCurrentProfile(parentContext);
-        SharedPreferences preferences =
-            parentContext.getSharedPreferences(profileName, Context.MODE_PRIVATE);
+        ProfileStore.Profile preferences = ProfileStore.getInstance(parentContext).getCurrentProfile();
         cameraBoxLayoutParams.x =
             (int) (preferences.getFloat(
                 "savedFloatCamXNorm",
@@ -1033,5 +1024,16 @@ public class ServiceUiManager {
         }
     }
 
-}
+    /**
+     * Show dwell-click progress on the visible cursor.
+     *
+     * @param progress 0 to hide, up to 1 when the click fires.
+     */
+    public void cursorSetDwellProgress(float progress) {
+        // Dwelling follows the cursor; the path cursor view is only attached during events.
+        if (cursorView != null) {
+            cursorView.setDwellProgress(progress);
+        }
+    }
 
+}
@@ -54,8 +54,19 @@ object Config {
     const val DEFAULT_PATH_CURSOR: Int = 4
     const val DEFAULT_PATH_CURSOR_MIN: Int = 5
     const val HOVER_ZONE_RADIUS: Int = 150 // pixels
+    const val IME_GESTURE_PROFILE_HEAD_POINTER = "head_pointer" // OpenBoard gesture profile while HeadBoard is active
+    const val IME_GESTURE_PROFILE_TOUCH = "touch" // OpenBoard's default gesture profile
     const val D1A_DURATION: Int = 500 // (ms) rolling avg window
     const val SHOW_KEY_POPUP: Boolean = true
     const val HIGHLIGHT_KEY_ON_TOUCH: Boolean = true
     const val DEFAULT_ENABLE_PATH_CURSOR: Boolean = true
+
+    /* JustType Joystick Streaming */
+    const val DEFAULT_JOYSTICK_DEAD_BAND: Int = 5 // (% of full range) snapped to center
+    const val DEFAULT_JOYSTICK_CHANGE_THRESHOLD: Int = 2 // (% of full range) min change to send
+
+    /* Dwell Click */
+    const val DEFAULT_DWELL_CLICK: Boolean = false
+    const val DEFAULT_DWELL_TIME_MS: Int = 1000 // (ms) cursor must stay put this long to click
+    const val DEFAULT_DWELL_RADIUS: Int = 40 // (pixels) tolerance around the dwell anchor
 }
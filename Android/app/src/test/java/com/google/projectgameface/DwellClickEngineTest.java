@@ -0,0 +1,137 @@
+package com.google.projectgameface;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RunWith(AndroidJUnit4.class)
+public class DwellClickEngineTest {
+
+  /** Records clicks and the last reported progress. */
+  private static class RecordingCallback implements DwellClickEngine.Callback {
+    final List<int[]> clicks = new ArrayList<>();
+    float progress = 0;
+
+    @Override
+    public void onDwellProgress(float progress) {
+      this.progress = progress;
+    }
+
+    @Override
+    public void onDwellClick(int x, int y) {
+      clicks.add(new int[]{x, y});
+    }
+  }
+
+  /** Feeds one cursor tick, the way the service does. */
+  private static void tick(MotionAnalyzer analyzer, DwellClickEngine engine, float x, float y, long now) {
+    analyzer.addSample(x, y, now);
+    engine.update(now);
+  }
+
+  @Test
+  public void update_stillCursor_clicksOnceAfterDwellTime() {
+    MotionAnalyzer analyzer = new MotionAnalyzer(500, 64);
+    RecordingCallback callback = new RecordingCallback();
+    DwellClickEngine engine = new DwellClickEngine(analyzer, new DwellTargetCache(), callback, 1000, 20);
+
+    for (long t = 0; t <= 2000; t += 16) {
+      tick(analyzer, engine, 100 + ((t / 16) % 2 == 0 ? 0 : 4), 200, t);
+      if (t == 496) {
+        assertEquals(0.5f, callback.progress, 0.05f);
+      }
+    }
+
+    assertEquals(1, callback.clicks.size());
+    assertEquals(100, callback.clicks.get(0)[0]);
+    assertEquals(200, callback.clicks.get(0)[1]);
+  }
+
+  @Test
+  public void update_cursorLeavesZone_restartsDwell() {
+    MotionAnalyzer analyzer = new MotionAnalyzer(500, 64);
+    RecordingCallback callback = new RecordingCallback();
+    DwellClickEngine engine = new DwellClickEngine(analyzer, new DwellTargetCache(), callback, 1000, 20);
+
+    tick(analyzer, engine, 100, 100, 0);
+    tick(analyzer, engine, 100, 100, 800);
+    tick(analyzer, engine, 200, 100, 816);
+    assertEquals(0f, callback.progress, 0f);
+
+    tick(analyzer, engine, 200, 100, 832);
+    tick(analyzer, engine, 200, 100, 1500);
+    assertTrue(callback.clicks.isEmpty());
+
+    tick(analyzer, engine, 200, 100, 1900);
+    assertEquals(1, callback.clicks.size());
+    assertEquals(200, callback.clicks.get(0)[0]);
+  }
+
+  @Test
+  public void update_overCachedTarget_snapsToTargetCenter() {
+    MotionAnalyzer analyzer = new MotionAnalyzer(500, 64);
+    RecordingCallback callback = new RecordingCallback();
+    DwellTargetCache targets = new DwellTargetCache();
+    targets.addTarget(0, 0, 1000, 1000);
+    targets.addTarget(100, 100, 200, 180);
+    targets.addWindow(0, 0, 1000, 1000);
+    DwellClickEngine engine = new DwellClickEngine(analyzer, targets, callback, 1000, 10);
+
+    tick(analyzer, engine, 110, 110, 0);
+    // Further than the dwell radius from the anchor, but still on the target.
+    tick(analyzer, engine, 180, 170, 500);
+    tick(analyzer, engine, 180, 170, 1000);
+
+    assertEquals(1, callback.clicks.size());
+    assertEquals(150, callback.clicks.get(0)[0]);
+    assertEquals(140, callback.clicks.get(0)[1]);
+  }
+
+  @Test
+  public void update_nearEndOfWideTarget_clicksWhereCursorDwells() {
+    MotionAnalyzer analyzer = new MotionAnalyzer(500, 64);
+    RecordingCallback callback = new RecordingCallback();
+    DwellTargetCache targets = new DwellTargetCache();
+    // A list row, far wider than it is high.
+    targets.addTarget(0, 0, 1080, 150);
+    targets.addWindow(0, 0, 1080, 2000);
+    DwellClickEngine engine = new DwellClickEngine(analyzer, targets, callback, 1000, 20);
+
+    for (long t = 0; t <= 1200; t += 16) {
+      tick(analyzer, engine, 100 + ((t / 16) % 2 == 0 ? 0 : 4), 75, t);
+    }
+
+    assertEquals(1, callback.clicks.size());
+    assertEquals(100, callback.clicks.get(0)[0]);
+    assertEquals(75, callback.clicks.get(0)[1]);
+  }
+
+  @Test
+  public void update_leavesWideTarget_restartsDwell() {
+    MotionAnalyzer analyzer = new MotionAnalyzer(500, 64);
+    RecordingCallback callback = new RecordingCallback();
+    DwellTargetCache targets = new DwellTargetCache();
+    targets.addTarget(0, 0, 1080, 150);
+    targets.addWindow(0, 0, 1080, 2000);
+    DwellClickEngine engine = new DwellClickEngine(analyzer, targets, callback, 1000, 20);
+
+    tick(analyzer, engine, 100, 75, 0);
+    // Along the row, then just past its bottom edge: still dwelling.
+    tick(analyzer, engine, 300, 75, 400);
+    tick(analyzer, engine, 300, 170, 800);
+    assertTrue(engine.isDwelling());
+    assertTrue(callback.progress > 0);
+
+    // Well below the row.
+    tick(analyzer, engine, 300, 300, 900);
+    assertEquals(0f, callback.progress, 0f);
+    assertTrue(callback.clicks.isEmpty());
+  }
+}
@@ -0,0 +1,85 @@
+package com.google.projectgameface;
+
+import static org.junit.Assert.assertEquals;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RunWith(AndroidJUnit4.class)
+public class JoystickStreamerTest {
+
+  /** Records values and holds the completion callback until the test releases it. */
+  private static class FakeTransport implements JoystickStreamer.Transport {
+    final List<float[]> sent = new ArrayList<>();
+    Runnable pendingCompletion;
+    boolean completeImmediately = true;
+
+    @Override
+    public void send(float x, float y, Runnable onComplete) {
+      sent.add(new float[]{x, y});
+      if (completeImmediately) {
+        onComplete.run();
+      } else {
+        pendingCompletion = onComplete;
+      }
+    }
+  }
+
+  /** Time source driven by the tests. */
+  private long now = 1000;
+
+  private JoystickStreamer createStreamer(FakeTransport transport, float deadBand, float changeThreshold) {
+    return new JoystickStreamer(transport, deadBand, changeThreshold, () -> now);
+  }
+
+  @Test
+  public void offer_insideDeadBand_sendsCenterOnce() {
+    FakeTransport transport = new FakeTransport();
+    JoystickStreamer streamer = createStreamer(transport, 0.1f, 0.02f);
+
+    streamer.offer(0.05f, -0.05f, now);
+    streamer.offer(0.01f, 0.08f, now + 100);
+
+    assertEquals(1, transport.sent.size());
+    assertEquals(0.0f, transport.sent.get(0)[0], 0.0001);
+    assertEquals(0.0f, transport.sent.get(0)[1], 0.0001);
+  }
+
+  @Test
+  public void offer_belowChangeThreshold_isNotResent() {
+    FakeTransport transport = new FakeTransport();
+    JoystickStreamer streamer = createStreamer(transport, 0.0f, 0.05f);
+
+    streamer.offer(0.5f, 0.5f, now);
+    streamer.offer(0.52f, 0.49f, now + 100);
+    streamer.offer(0.6f, 0.5f, now + 200);
+
+    assertEquals(2, transport.sent.size());
+    assertEquals(0.6f, transport.sent.get(1)[0], 0.0001);
+  }
+
+  @Test
+  public void offer_whileInFlight_coalescesToLatestValue() {
+    FakeTransport transport = new FakeTransport();
+    transport.completeImmediately = false;
+    JoystickStreamer streamer = createStreamer(transport, 0.0f, 0.01f);
+
+    streamer.offer(0.1f, 0.1f, now);
+    streamer.offer(0.2f, 0.2f, now + 16);
+    streamer.offer(0.3f, 0.3f, now + 32);
+    streamer.offer(0.4f, 0.4f, now + 48);
+    assertEquals(1, transport.sent.size());
+
+    now += 64;
+    transport.pendingCompletion.run();
+
+    assertEquals(2, transport.sent.size());
+    assertEquals(0.4f, transport.sent.get(1)[0], 0.0001);
+    assertEquals(0.4f, transport.sent.get(1)[1], 0.0001);
+  }
+}
@@ -0,0 +1,73 @@
+package com.google.projectgameface;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(AndroidJUnit4.class)
+public class MotionAnalyzerTest {
+
+  @Test
+  public void addSample_straightFastMovement_isIntentional() {
+    MotionAnalyzer analyzer = new MotionAnalyzer(500, 64);
+
+    for (int i = 0; i < 20; i++) {
+      analyzer.addSample(i * 16f, 100f, i * 16L);
+    }
+
+    assertEquals(1.0f, analyzer.getAverageSpeed(), 0.001f);
+    assertEquals(1.0f, analyzer.getStraightness(), 0.001f);
+    assertTrue(analyzer.isIntentionalMovement(0.5f, 5f, 0.6f));
+  }
+
+  @Test
+  public void addSample_jitterInPlace_isNotIntentional() {
+    MotionAnalyzer analyzer = new MotionAnalyzer(500, 64);
+
+    for (int i = 0; i < 30; i++) {
+      analyzer.addSample(i % 2 == 0 ? 100f : 120f, 100f, i * 16L);
+    }
+
+    assertFalse(analyzer.isIntentionalMovement(0.5f, 5f, 0.6f));
+  }
+
+  @Test
+  public void addSample_evictsSamplesOutsideWindow() {
+    MotionAnalyzer analyzer = new MotionAnalyzer(100, 64);
+
+    for (int i = 0; i < 50; i++) {
+      analyzer.addSample(i * 10f, 0f, i * 10L);
+    }
+
+    assertEquals(100, analyzer.getSpanMs());
+    assertEquals(100f, analyzer.getPathLength(), 0.01f);
+    assertEquals(100f, analyzer.getNetDisplacement(), 0.01f);
+  }
+
+  @Test
+  public void hoverZone_usesExitRadiusToLeaveAndEnterRadiusToReturn() {
+    MotionAnalyzer analyzer = new MotionAnalyzer(500, 64);
+    final int[] changes = new int[1];
+    MotionAnalyzer.HoverZone zone =
+        new MotionAnalyzer.HoverZone((z, inside, distance) -> changes[0]++);
+    analyzer.addZone(zone);
+    zone.anchor(0f, 0f, 10f, 20f, 0);
+
+    analyzer.addSample(15f, 0f, 16);
+    assertTrue(zone.isInside());
+    analyzer.addSample(25f, 0f, 32);
+    assertFalse(zone.isInside());
+    analyzer.addSample(15f, 0f, 48);
+    assertFalse(zone.isInside());
+    analyzer.addSample(5f, 0f, 64);
+    assertTrue(zone.isInside());
+
+    assertEquals(2, changes[0]);
+    assertEquals(36, zone.getTimeInside(100));
+  }
+}
@@ -0,0 +1,65 @@
+package com.google.projectgameface;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.Random;
+
+@RunWith(AndroidJUnit4.class)
+public class P2QuantileEstimatorTest {
+
+  @Test
+  public void add_uniformSamples_tracksQuantile() {
+    P2QuantileEstimator estimator = new P2QuantileEstimator(0.9f);
+    Random random = new Random(42);
+
+    for (int i = 0; i < 5000; i++) {
+      estimator.add(random.nextFloat() * 100f);
+    }
+
+    assertEquals(90f, estimator.getQuantile(), 3f);
+  }
+
+  @Test
+  public void add_singleOutlier_doesNotStretchQuantile() {
+    P2QuantileEstimator estimator = new P2QuantileEstimator(0.98f);
+    Random random = new Random(7);
+
+    for (int i = 0; i < 2000; i++) {
+      estimator.add(i == 1000 ? 10000f : random.nextFloat() * 100f);
+    }
+
+    assertEquals(98f, estimator.getQuantile(), 5f);
+  }
+
+  @Test
+  public void restore_thenDecay_followsNewRange() {
+    P2QuantileEstimator estimator = new P2QuantileEstimator(0.5f);
+    assertTrue(estimator.restore(new float[]{0f, 25f, 50f, 75f, 100f}, 150));
+    assertEquals(50f, estimator.getQuantile(), 0.001f);
+
+    Random random = new Random(3);
+    for (int i = 0; i < 3000; i++) {
+      estimator.add(200f + random.nextFloat() * 100f);
+      if (i % 900 == 899) {
+        estimator.decay();
+      }
+    }
+
+    assertEquals(250f, estimator.getQuantile(), 5f);
+  }
+
+  @Test
+  public void restore_invalidMarkers_isRejected() {
+    P2QuantileEstimator estimator = new P2QuantileEstimator(0.5f);
+
+    assertFalse(estimator.restore(new float[]{0f, 50f, 25f, 75f, 100f}, 150));
+    assertFalse(estimator.isReady());
+  }
+}
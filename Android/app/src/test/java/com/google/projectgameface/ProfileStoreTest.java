@@ -0,0 +1,49 @@
+package com.google.projectgameface;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import android.content.Context;
+import androidx.test.core.app.ApplicationProvider;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(AndroidJUnit4.class)
+public class ProfileStoreTest {
+
+  @Test
+  public void edit_apply_isVisibleInCurrentSnapshot() {
+    ProfileStore store = ProfileStore.getInstance(ApplicationProvider.getApplicationContext());
+
+    store.edit().putInt("UP_SPEED", 9).apply();
+
+    assertEquals(9, store.getCurrentProfile().getInt("UP_SPEED", -1));
+  }
+
+  @Test
+  public void directSharedPreferencesWrite_isMirrored() {
+    Context context = ApplicationProvider.getApplicationContext();
+    ProfileStore store = ProfileStore.getInstance(context);
+
+    context.getSharedPreferences(store.getCurrentProfileName(), Context.MODE_PRIVATE)
+        .edit().putFloat("savedFloatCamXNorm", 0.25f).apply();
+
+    assertEquals(0.25f, store.getCurrentProfile().getFloat("savedFloatCamXNorm", -1f), 0.0001);
+  }
+
+  @Test
+  public void setCurrentProfile_swapsSnapshotAndNotifies() {
+    ProfileStore store = ProfileStore.getInstance(ApplicationProvider.getApplicationContext());
+    store.addProfile("Second");
+    final String[] notified = new String[1];
+    store.addOnProfileChangedListener(profile -> notified[0] = profile.getName());
+
+    store.setCurrentProfile("Second");
+
+    assertEquals("Second", store.getCurrentProfileName());
+    assertEquals("Second", notified[0]);
+    assertTrue(store.getProfileNames().contains("Second"));
+  }
+}
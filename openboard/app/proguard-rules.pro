@@ -15,3 +15,9 @@
 #-keepclassmembers class fqcn.of.javascript.interface.for.webview {
 #   public *;
 #}
+
+# The native learning code reads the fields of the batched input events by name, while Java only
+# writes them, so they must be neither removed nor renamed.
+-keepclassmembers class com.android.inputmethod.latin.utils.WordInputEventForPersonalization {
+    <fields>;
+}
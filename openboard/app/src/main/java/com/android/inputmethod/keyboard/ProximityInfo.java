@@ -42,6 +42,11 @@ public class ProximityInfo {
     @Nonnull
     private static final List<Key> EMPTY_KEY_LIST = Collections.emptyList();
     private static final float DEFAULT_TOUCH_POSITION_CORRECTION_RADIUS = 0.15f;
+    // The native proximity info has arrays of MAX_KEY_COUNT_IN_A_KEYBOARD elements for the key
+    // coordinates, sizes and sweet spots, and a key to key distance table, about 20KiB.
+    private static final int NATIVE_PROXIMITY_INFO_SIZE_BYTES = 20 * 1024;
+    private static final int LIST_OVERHEAD_BYTES = 32;
+    private static final int REFERENCE_SIZE_BYTES = 4;
 
     private final int mGridWidth;
     private final int mGridHeight;
@@ -230,6 +235,24 @@ public class ProximityInfo {
         return mNativeProximityInfo;
     }
 
+    /**
+     * Returns a rough estimate of the memory used by this proximity info, including the native
+     * proximity info, whose key arrays have a fixed size.
+     */
+    public int getEstimatedSizeInBytes() {
+        int size = 0;
+        for (final List<Key> neighborKeys : mGridNeighbors) {
+            if (neighborKeys != null) {
+                size += LIST_OVERHEAD_BYTES + neighborKeys.size() * REFERENCE_SIZE_BYTES;
+            }
+        }
+        if (mNativeProximityInfo != 0) {
+            size += NATIVE_PROXIMITY_INFO_SIZE_BYTES
+                    + mGridSize * MAX_PROXIMITY_CHARS_SIZE * Integer.SIZE / Byte.SIZE;
+        }
+        return size;
+    }
+
     @Override
     protected void finalize() throws Throwable {
         try {
@@ -41,15 +41,23 @@ public final class WordInputEventForPersonalization {
             new int[DecoderSpecificConstants.MAX_PREV_WORD_COUNT_FOR_N_GRAM][];
     public final boolean[] mIsPrevWordBeginningOfSentenceArray =
             new boolean[DecoderSpecificConstants.MAX_PREV_WORD_COUNT_FOR_N_GRAM];
+    // Whether the target word is a valid word. Read by the native code.
+    public final boolean mIsValid;
     // Time stamp in seconds.
     public final int mTimestamp;
 
     @UsedForTesting
     public WordInputEventForPersonalization(final CharSequence targetWord,
             final NgramContext ngramContext, final int timestamp) {
+        this(targetWord, ngramContext, true /* isValid */, timestamp);
+    }
+
+    public WordInputEventForPersonalization(final CharSequence targetWord,
+            final NgramContext ngramContext, final boolean isValid, final int timestamp) {
         mTargetWord = StringUtils.toCodePointArray(targetWord);
         mPrevWordsCount = ngramContext.getPrevWordCount();
         ngramContext.outputToArray(mPrevWordArray, mIsPrevWordBeginningOfSentenceArray);
+        mIsValid = isValid;
         mTimestamp = timestamp;
     }
 
@@ -34,6 +34,7 @@ public class IMEEventReceiver extends BroadcastReceiver {
     public static final String ACTION_GET_KEY_BOUNDS = "org.dslul.openboard.inputmethod.latin.ACTION_GET_KEY_BOUNDS";
     public static final String ACTION_SHOW_OR_HIDE_KEY_POPUP = "org.dslul.openboard.inputmethod.latin.ACTION_SHOW_OR_HIDE_KEY_POPUP";
     public static final String ACTION_HIGHLIGHT_KEY = "org.dslul.openboard.inputmethod.latin.ACTION_HIGHLIGHT_KEY";
+    public static final String ACTION_SET_GESTURE_PROFILE = "org.dslul.openboard.inputmethod.latin.ACTION_SET_GESTURE_PROFILE";
     
     // Intent extra keys
     private static final String EXTRA_X = "x";
@@ -46,6 +47,7 @@ public class IMEEventReceiver extends BroadcastReceiver {
     private static final String EXTRA_COLOR = "color";
     private static final String EXTRA_SHOW_KEY_PREVIEW = "showKeyPreview";
     private static final String EXTRA_WITH_ANIMATION = "withAnimation";
+    private static final String EXTRA_PROFILE = "profile";
     
     // Color constants
     private static final String COLOR_GREEN = "green";
@@ -150,6 +152,9 @@ public class IMEEventReceiver extends BroadcastReceiver {
                 case ACTION_HIGHLIGHT_KEY:
                     handleHighlightKey(intent);
                     break;
+                case ACTION_SET_GESTURE_PROFILE:
+                    handleSetGestureProfile(intent);
+                    break;
                 default:
                     Log.w(TAG, "Unknown action received: " + action);
                     break;
@@ -273,6 +278,38 @@ public class IMEEventReceiver extends BroadcastReceiver {
         }
     }
 
+    /**
+     * Handles selecting the gesture recognition profile for the input device, e.g. "head_pointer"
+     * while HeadBoard drives the keyboard and "touch" otherwise.
+     * @param intent The intent containing the profile name
+     */
+    private void handleSetGestureProfile(Intent intent) {
+        if (intent == null) {
+            Log.e(TAG, "handleSetGestureProfile: null intent");
+            return;
+        }
+
+        if (mIme == null) {
+            Log.e(TAG, "handleSetGestureProfile: LatinIME instance is null");
+            return;
+        }
+
+        String profile = intent.getStringExtra(EXTRA_PROFILE);
+        if (profile == null || profile.trim().isEmpty()) {
+            Log.e(TAG, "handleSetGestureProfile: null or empty profile");
+            return;
+        }
+
+        try {
+            // Kept in the preferences so that the profile survives a restart of the IME process,
+            // see LatinIME#onCreate().
+            Settings.writeGestureRecognitionProfile(getSharedPreferences(mIme), profile.trim());
+            mIme.setGestureRecognitionProfile(profile.trim());
+        } catch (Exception e) {
+            Log.e(TAG, "Error setting gesture profile", e);
+        }
+    }
+
     /**
      * Handles changing the gesture trail color.
      * Changes the color of the trail for the CURRENT gesture. Color will revert to default on next gesture.
@@ -23,6 +23,7 @@ import android.graphics.drawable.Drawable;
 import android.text.TextUtils;
 
 import android.util.Log;
+import org.dslul.openboard.inputmethod.keyboard.internal.CompiledKeyboardCache;
 import org.dslul.openboard.inputmethod.keyboard.internal.KeyDrawParams;
 import org.dslul.openboard.inputmethod.keyboard.internal.KeySpecParser;
 import org.dslul.openboard.inputmethod.keyboard.internal.KeyStyle;
@@ -35,6 +36,9 @@ import org.dslul.openboard.inputmethod.latin.R;
 import org.dslul.openboard.inputmethod.latin.common.Constants;
 import org.dslul.openboard.inputmethod.latin.common.StringUtils;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Locale;
 
@@ -241,6 +245,20 @@ public class Key implements Comparable<Key> {
         mHashCode = computeHashCode(this);
     }
 
+    /**
+     * Constructor for a key that looks like a template key, e.g. a recent key on the emoji
+     * palette that is restored from its key spec without building the keyboard it comes from.
+     */
+    public Key(@Nonnull final Key templateKey, @Nullable final String label, final int code,
+            @Nullable final String outputText) {
+        this(label, templateKey.mIconId, code, outputText, null /* hintLabel */,
+                templateKey.mLabelFlags, templateKey.mBackgroundType,
+                templateKey.mX - templateKey.mHorizontalGap / 2, templateKey.mY,
+                templateKey.mWidth + templateKey.mHorizontalGap,
+                templateKey.mHeight + templateKey.mVerticalGap,
+                templateKey.mHorizontalGap, templateKey.mVerticalGap);
+    }
+
     /**
      * Constructor for a key in a <GridRows/>.
      */
@@ -543,6 +561,98 @@ public class Key implements Comparable<Key> {
         mEnabled = key.mEnabled;
     }
 
+    /**
+     * Constructor for a key read from a compiled keyboard, see {@link #writeTo(DataOutputStream)}.
+     */
+    protected Key(@Nonnull final DataInputStream in) throws IOException {
+        mCode = in.readInt();
+        mLabel = CompiledKeyboardCache.readString(in);
+        mHintLabel = CompiledKeyboardCache.readString(in);
+        mLabelFlags = in.readInt();
+        mIconId = in.readInt();
+        mWidth = in.readInt();
+        mHeight = in.readInt();
+        mHorizontalGap = in.readInt();
+        mVerticalGap = in.readInt();
+        mX = in.readInt();
+        mY = in.readInt();
+        mHitBox.set(in.readInt(), in.readInt(), in.readInt(), in.readInt());
+        final int moreKeysCount = in.readInt();
+        if (moreKeysCount > 0) {
+            mMoreKeys = new MoreKeySpec[moreKeysCount];
+            for (int i = 0; i < moreKeysCount; i++) {
+                mMoreKeys[i] = MoreKeySpec.readFrom(in);
+            }
+        } else {
+            mMoreKeys = null;
+        }
+        mMoreKeysColumnAndFlags = in.readInt();
+        mBackgroundType = in.readInt();
+        mActionFlags = in.readInt();
+        mKeyVisualAttributes = in.readBoolean() ? KeyVisualAttributes.readFrom(in) : null;
+        if (in.readBoolean()) {
+            mOptionalAttributes = new OptionalAttributes(CompiledKeyboardCache.readString(in),
+                    in.readInt(), in.readInt(), in.readInt(), in.readInt());
+        } else {
+            mOptionalAttributes = null;
+        }
+        mEnabled = in.readBoolean();
+        mHashCode = computeHashCode(this);
+    }
+
+    /**
+     * Writes the attributes of this key so that {@link #readFrom(DataInputStream)} can recreate
+     * it without parsing the keyboard XML again. The pressed state is not written.
+     */
+    public void writeTo(@Nonnull final DataOutputStream out) throws IOException {
+        out.writeBoolean(isSpacer());
+        out.writeInt(mCode);
+        CompiledKeyboardCache.writeString(out, mLabel);
+        CompiledKeyboardCache.writeString(out, mHintLabel);
+        out.writeInt(mLabelFlags);
+        out.writeInt(mIconId);
+        out.writeInt(mWidth);
+        out.writeInt(mHeight);
+        out.writeInt(mHorizontalGap);
+        out.writeInt(mVerticalGap);
+        out.writeInt(mX);
+        out.writeInt(mY);
+        out.writeInt(mHitBox.left);
+        out.writeInt(mHitBox.top);
+        out.writeInt(mHitBox.right);
+        out.writeInt(mHitBox.bottom);
+        if (mMoreKeys == null) {
+            out.writeInt(0);
+        } else {
+            out.writeInt(mMoreKeys.length);
+            for (final MoreKeySpec moreKey : mMoreKeys) {
+                moreKey.writeTo(out);
+            }
+        }
+        out.writeInt(mMoreKeysColumnAndFlags);
+        out.writeInt(mBackgroundType);
+        out.writeInt(mActionFlags);
+        out.writeBoolean(mKeyVisualAttributes != null);
+        if (mKeyVisualAttributes != null) {
+            mKeyVisualAttributes.writeTo(out);
+        }
+        final OptionalAttributes attrs = mOptionalAttributes;
+        out.writeBoolean(attrs != null);
+        if (attrs != null) {
+            CompiledKeyboardCache.writeString(out, attrs.mOutputText);
+            out.writeInt(attrs.mAltCode);
+            out.writeInt(attrs.mDisabledIconId);
+            out.writeInt(attrs.mVisualInsetsLeft);
+            out.writeInt(attrs.mVisualInsetsRight);
+        }
+        out.writeBoolean(mEnabled);
+    }
+
+    @Nonnull
+    public static Key readFrom(@Nonnull final DataInputStream in) throws IOException {
+        return in.readBoolean() ? new Spacer(in) : new Key(in);
+    }
+
     @Nonnull
     public static Key removeRedundantMoreKeys(@Nonnull final Key key,
             @Nonnull final MoreKeySpec.LettersOnBaseLayout lettersOnBaseLayout) {
@@ -1135,5 +1245,9 @@ public class Key implements Comparable<Key> {
                     null /* hintLabel */, 0 /* labelFlags */, BACKGROUND_TYPE_EMPTY, x, y, width,
                     height, params.mHorizontalGap, params.mVerticalGap);
         }
+
+        Spacer(final DataInputStream in) throws IOException {
+            super(in);
+        }
     }
 }
@@ -0,0 +1,231 @@
+package org.dslul.openboard.inputmethod.keyboard;
+
+import com.android.inputmethod.keyboard.ProximityInfo;
+
+import org.dslul.openboard.inputmethod.keyboard.internal.MoreKeySpec;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * A memory bounded cache of the keyboards built by {@link KeyboardLayoutSet}.
+ *
+ * Keyboards are kept in two LRU segments. A keyboard enters the probation segment when it is built
+ * and moves to the protected segment when it is used again. Eviction takes the least recently used
+ * probation keyboard first, so a layout that was visited once goes before the layouts the user
+ * keeps switching to. The main alphabet keyboards start out protected.
+ *
+ * Sizes are estimates of the Java objects and the native proximity info of each keyboard. Keys
+ * shared between keyboards are counted in each of them.
+ */
+final class KeyboardCache {
+    // Share of the budget the protected segment can use before its least recently used keyboards
+    // are demoted to the probation segment.
+    private static final float PROTECTED_RATIO = 0.8f;
+    // Number of evicted ids remembered to tell rebuilds from first builds.
+    private static final int MAX_EVICTED_IDS = 32;
+
+    // Rough sizes of the objects, including their headers and the arrays they own.
+    private static final int KEYBOARD_OVERHEAD_BYTES = 512;
+    private static final int KEY_OVERHEAD_BYTES = 160;
+    private static final int MORE_KEY_OVERHEAD_BYTES = 48;
+    private static final int STRING_OVERHEAD_BYTES = 40;
+
+    private static final class Entry {
+        @Nonnull
+        public final Keyboard mKeyboard;
+        public final int mSize;
+
+        Entry(@Nonnull final Keyboard keyboard, final int size) {
+            mKeyboard = keyboard;
+            mSize = size;
+        }
+    }
+
+    // Both maps are in access order, the least recently used keyboard first.
+    private final LinkedHashMap<KeyboardId, Entry> mProbationEntries =
+            new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<KeyboardId, Entry> mProtectedEntries =
+            new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<KeyboardId, Boolean> mEvictedIds =
+            new LinkedHashMap<KeyboardId, Boolean>() {
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<KeyboardId, Boolean> eldest) {
+                    return size() > MAX_EVICTED_IDS;
+                }
+            };
+    private final int mMaxSize;
+    private int mProbationSize;
+    private int mProtectedSize;
+
+    private int mHitCount;
+    private int mMissCount;
+    private int mRebuildCount;
+    private int mEvictionCount;
+    private int mBuildCount;
+    private long mBuildTimeMillis;
+
+    /**
+     * @param maxSize the memory budget of the cache in bytes.
+     */
+    KeyboardCache(final int maxSize) {
+        mMaxSize = maxSize;
+    }
+
+    @Nullable
+    synchronized Keyboard get(@Nonnull final KeyboardId id) {
+        Entry entry = mProtectedEntries.get(id);
+        if (entry != null) {
+            mHitCount++;
+            return entry.mKeyboard;
+        }
+        entry = mProbationEntries.remove(id);
+        if (entry != null) {
+            mHitCount++;
+            mProbationSize -= entry.mSize;
+            addProtectedEntry(id, entry);
+            return entry.mKeyboard;
+        }
+        mMissCount++;
+        if (mEvictedIds.remove(id) != null) {
+            mRebuildCount++;
+        }
+        return null;
+    }
+
+    /**
+     * Adds a keyboard that was just built.
+     *
+     * @param isHot whether the keyboard is one of the main keyboards, which go directly to the
+     *        protected segment.
+     * @param buildTimeMillis the time it took to build the keyboard, for the statistics.
+     */
+    synchronized void put(@Nonnull final KeyboardId id, @Nonnull final Keyboard keyboard,
+            final boolean isHot, final long buildTimeMillis) {
+        mBuildCount++;
+        mBuildTimeMillis += buildTimeMillis;
+        removeEntry(id);
+        final Entry entry = new Entry(keyboard, estimateSizeInBytes(keyboard));
+        if (isHot) {
+            addProtectedEntry(id, entry);
+        } else {
+            mProbationEntries.put(id, entry);
+            mProbationSize += entry.mSize;
+        }
+        // Keep the new keyboard even if it doesn't fit on its own, it is about to be used.
+        trimToSize(mMaxSize, id);
+    }
+
+    /**
+     * Evicts keyboards until the cache uses at most the given number of bytes.
+     */
+    synchronized void trimToSize(final int maxSize) {
+        trimToSize(maxSize, null);
+    }
+
+    synchronized void clear() {
+        mProbationEntries.clear();
+        mProtectedEntries.clear();
+        mEvictedIds.clear();
+        mProbationSize = 0;
+        mProtectedSize = 0;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format(Locale.ROOT, "%d keyboards, %d/%d KiB, hits=%d misses=%d"
+                + " rebuilds=%d evictions=%d builds=%d avgBuildTime=%dms",
+                mProbationEntries.size() + mProtectedEntries.size(),
+                (mProbationSize + mProtectedSize) / 1024, mMaxSize / 1024, mHitCount, mMissCount,
+                mRebuildCount, mEvictionCount, mBuildCount,
+                mBuildCount == 0 ? 0 : mBuildTimeMillis / mBuildCount);
+    }
+
+    private void addProtectedEntry(final KeyboardId id, final Entry entry) {
+        mProtectedEntries.put(id, entry);
+        mProtectedSize += entry.mSize;
+        final int maxProtectedSize = (int) (mMaxSize * PROTECTED_RATIO);
+        final Iterator<Map.Entry<KeyboardId, Entry>> iterator =
+                mProtectedEntries.entrySet().iterator();
+        while (mProtectedSize > maxProtectedSize && iterator.hasNext()) {
+            final Map.Entry<KeyboardId, Entry> eldest = iterator.next();
+            if (eldest.getKey().equals(id)) {
+                break;
+            }
+            // Demoted keyboards get another chance in the probation segment.
+            iterator.remove();
+            mProtectedSize -= eldest.getValue().mSize;
+            mProbationEntries.put(eldest.getKey(), eldest.getValue());
+            mProbationSize += eldest.getValue().mSize;
+        }
+    }
+
+    private void removeEntry(final KeyboardId id) {
+        Entry entry = mProbationEntries.remove(id);
+        if (entry != null) {
+            mProbationSize -= entry.mSize;
+        }
+        entry = mProtectedEntries.remove(id);
+        if (entry != null) {
+            mProtectedSize -= entry.mSize;
+        }
+    }
+
+    private void trimToSize(final int maxSize, @Nullable final KeyboardId idToKeep) {
+        while (mProbationSize + mProtectedSize > maxSize) {
+            if (!evictEldest(mProbationEntries, idToKeep)
+                    && !evictEldest(mProtectedEntries, idToKeep)) {
+                return;
+            }
+        }
+    }
+
+    private boolean evictEldest(final LinkedHashMap<KeyboardId, Entry> entries,
+            @Nullable final KeyboardId idToKeep) {
+        final Iterator<Map.Entry<KeyboardId, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<KeyboardId, Entry> eldest = iterator.next();
+            if (eldest.getKey().equals(idToKeep)) {
+                continue;
+            }
+            iterator.remove();
+            if (entries == mProbationEntries) {
+                mProbationSize -= eldest.getValue().mSize;
+            } else {
+                mProtectedSize -= eldest.getValue().mSize;
+            }
+            mEvictedIds.put(eldest.getKey(), Boolean.TRUE);
+            mEvictionCount++;
+            return true;
+        }
+        return false;
+    }
+
+    static int estimateSizeInBytes(@Nonnull final Keyboard keyboard) {
+        int size = KEYBOARD_OVERHEAD_BYTES;
+        for (final Key key : keyboard.getSortedKeys()) {
+            size += KEY_OVERHEAD_BYTES + estimateSizeInBytes(key.getLabel())
+                    + estimateSizeInBytes(key.getHintLabel())
+                    + estimateSizeInBytes(key.getOutputText());
+            final MoreKeySpec[] moreKeys = key.getMoreKeys();
+            if (moreKeys == null) {
+                continue;
+            }
+            for (final MoreKeySpec moreKey : moreKeys) {
+                size += MORE_KEY_OVERHEAD_BYTES + estimateSizeInBytes(moreKey.mLabel)
+                        + estimateSizeInBytes(moreKey.mOutputText);
+            }
+        }
+        final ProximityInfo proximityInfo = keyboard.getProximityInfo();
+        return size + proximityInfo.getEstimatedSizeInBytes();
+    }
+
+    private static int estimateSizeInBytes(@Nullable final String string) {
+        return (string == null) ? 0 : STRING_OVERHEAD_BYTES + string.length() * 2;
+    }
+}
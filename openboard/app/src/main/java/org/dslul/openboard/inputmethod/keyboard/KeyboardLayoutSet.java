@@ -16,10 +16,12 @@
 
 package org.dslul.openboard.inputmethod.keyboard;
 
+import android.content.ComponentCallbacks2;
 import android.content.Context;
 import android.content.res.Resources;
 import android.content.res.TypedArray;
 import android.content.res.XmlResourceParser;
+import android.os.SystemClock;
 import android.text.InputType;
 import android.util.Log;
 import android.util.SparseArray;
@@ -30,6 +32,7 @@ import android.view.inputmethod.InputMethodSubtype;
 import org.dslul.openboard.inputmethod.compat.EditorInfoCompatUtils;
 import org.dslul.openboard.inputmethod.compat.InputMethodSubtypeCompatUtils;
 import org.dslul.openboard.inputmethod.compat.UserManagerCompatUtils;
+import org.dslul.openboard.inputmethod.keyboard.internal.CompiledKeyboardCache;
 import org.dslul.openboard.inputmethod.keyboard.internal.KeyboardBuilder;
 import org.dslul.openboard.inputmethod.keyboard.internal.KeyboardParams;
 import org.dslul.openboard.inputmethod.keyboard.internal.UniqueKeysCache;
@@ -37,6 +40,7 @@ import org.dslul.openboard.inputmethod.latin.InputAttributes;
 import org.dslul.openboard.inputmethod.latin.R;
 import org.dslul.openboard.inputmethod.latin.RichInputMethodSubtype;
 import org.dslul.openboard.inputmethod.latin.common.StringUtils;
+import org.dslul.openboard.inputmethod.latin.utils.ExecutorUtils;
 import org.dslul.openboard.inputmethod.latin.utils.InputTypeUtils;
 import org.dslul.openboard.inputmethod.latin.utils.ScriptUtils;
 import org.dslul.openboard.inputmethod.latin.utils.SubtypeLocaleUtils;
@@ -45,8 +49,11 @@ import org.xmlpull.v1.XmlPullParser;
 import org.xmlpull.v1.XmlPullParserException;
 
 import java.io.IOException;
-import java.lang.ref.SoftReference;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -74,19 +81,33 @@ public final class KeyboardLayoutSet {
     private final Context mContext;
     @Nonnull
     private final Params mParams;
-
-    // How many layouts we forcibly keep in cache. This only includes ALPHABET (default) and
-    // ALPHABET_AUTOMATIC_SHIFTED layouts - other layouts may stay in memory in the map of
-    // soft-references, but we forcibly cache this many alphabetic/auto-shifted layouts.
-    private static final int FORCIBLE_CACHE_SIZE = 4;
-    // By construction of soft references, anything that is also referenced somewhere else
-    // will stay in the cache. So we forcibly keep some references in an array to prevent
-    // them from disappearing from sKeyboardCache.
-    private static final Keyboard[] sForcibleKeyboardCache = new Keyboard[FORCIBLE_CACHE_SIZE];
-    private static final HashMap<KeyboardId, SoftReference<Keyboard>> sKeyboardCache =
-            new HashMap<>();
+    private volatile boolean mIsPrebuildingCancelled;
+
+    // Keyboards are built on the UI thread and prebuilt on the keyboard prebuild executor. Building
+    // is not thread safe, the params and the static caches below are shared by all builds.
+    private static final Object sBuildLock = new Object();
+    // The number of builds that are needed now and waiting for or holding the build lock. Prebuilds
+    // give way to them, so a keyboard the user switches to is not built after unrelated ones.
+    private static final AtomicInteger sRequestedBuildCount = new AtomicInteger();
+    // The keyboards prebuilt after the main keyboard is shown, most likely to be needed first.
+    private static final int[] PREBUILT_ELEMENT_IDS = {
+            KeyboardId.ELEMENT_ALPHABET,
+            KeyboardId.ELEMENT_ALPHABET_AUTOMATIC_SHIFTED,
+            KeyboardId.ELEMENT_SYMBOLS,
+            KeyboardId.ELEMENT_ALPHABET_MANUAL_SHIFTED,
+            KeyboardId.ELEMENT_SYMBOLS_SHIFTED,
+            KeyboardId.ELEMENT_ALPHABET_SHIFT_LOCKED
+    };
+    // Leaves the UI thread alone while the main keyboard is being laid out and drawn.
+    private static final long PREBUILD_DELAY_MILLIS = 200;
+
+    // Created on the first keyboard build, with the budget from the resources.
+    private static KeyboardCache sKeyboardCache;
+    private static int sKeyboardCacheMaxSize;
     @Nonnull
     private static final UniqueKeysCache sUniqueKeysCache = UniqueKeysCache.newInstance();
+    // Created on the first keyboard build, keyboards are compiled to binary files there.
+    private static CompiledKeyboardCache sCompiledKeyboardCache;
     private final static HashMap<InputMethodSubtype, Integer> sScriptIdsForSubtypes =
             new HashMap<>();
 
@@ -148,8 +169,40 @@ public final class KeyboardLayoutSet {
     }
 
     private static void clearKeyboardCache() {
-        sKeyboardCache.clear();
-        sUniqueKeysCache.clear();
+        synchronized (sBuildLock) {
+            if (sKeyboardCache != null) {
+                sKeyboardCache.clear();
+            }
+            sUniqueKeysCache.clear();
+        }
+    }
+
+    /**
+     * Releases cached keyboards when the system runs low on memory. Evicted keyboards are restored
+     * from their compiled layouts when they are needed again.
+     */
+    public static void onTrimMemory(final int level) {
+        if (sKeyboardCache == null) {
+            return;
+        }
+        switch (level) {
+        case ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW:
+        case ComponentCallbacks2.TRIM_MEMORY_BACKGROUND:
+            sKeyboardCache.trimToSize(sKeyboardCacheMaxSize / 2);
+            break;
+        case ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL:
+        case ComponentCallbacks2.TRIM_MEMORY_MODERATE:
+        case ComponentCallbacks2.TRIM_MEMORY_COMPLETE:
+            sKeyboardCache.trimToSize(0);
+            break;
+        default:
+            break;
+        }
+    }
+
+    @Nonnull
+    public static String getKeyboardCacheStats() {
+        return (sKeyboardCache == null) ? "empty" : sKeyboardCache.toString();
     }
 
     public static int getScriptId(final Resources resources,
@@ -172,25 +225,97 @@ public final class KeyboardLayoutSet {
 
     @Nonnull
     public Keyboard getKeyboard(final int baseKeyboardLayoutSetElementId) {
-        final int keyboardLayoutSetElementId;
+        sRequestedBuildCount.incrementAndGet();
+        try {
+            synchronized (sBuildLock) {
+                return getKeyboardLocked(baseKeyboardLayoutSetElementId);
+            }
+        } finally {
+            sRequestedBuildCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * Builds the keyboards the user is likely to switch to from the one that was just shown, such
+     * as the shifted and symbols keyboards, on the keyboard prebuild executor. The first shift or
+     * symbols key press then finds them in the cache. Stops at the next keyboard when
+     * {@link #cancelPrebuildingKeyboards()} is called, or as soon as a keyboard is requested with
+     * {@link #getKeyboard(int)}, which then only waits for the keyboard being prebuilt.
+     */
+    public void prebuildKeyboards() {
+        final ScheduledExecutorService executor =
+                ExecutorUtils.getBackgroundExecutor(ExecutorUtils.KEYBOARD_PREBUILD);
+        executor.schedule(new Runnable() {
+            @Override
+            public void run() {
+                final ArrayList<Integer> builtElementIds = new ArrayList<>();
+                for (final int baseElementId : PREBUILT_ELEMENT_IDS) {
+                    if (mIsPrebuildingCancelled) {
+                        return;
+                    }
+                    // Several base elements map to the same keyboard in phone and number modes.
+                    final int elementId = getKeyboardLayoutSetElementId(baseElementId);
+                    if (builtElementIds.contains(elementId)) {
+                        continue;
+                    }
+                    builtElementIds.add(elementId);
+                    try {
+                        if (!prebuildKeyboard(baseElementId)) {
+                            return;
+                        }
+                    } catch (final KeyboardLayoutSetException e) {
+                        // Already logged, and the UI thread will fail the same way if it gets
+                        // to need this keyboard.
+                        return;
+                    }
+                }
+            }
+        }, PREBUILD_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    public void cancelPrebuildingKeyboards() {
+        mIsPrebuildingCancelled = true;
+    }
+
+    /**
+     * Builds the keyboard unless another one is requested, in which case the remaining prebuilds
+     * are skipped: the user has moved on and those keyboards are built when they are needed.
+     * @return whether the keyboard was built or already cached.
+     */
+    private boolean prebuildKeyboard(final int baseKeyboardLayoutSetElementId) {
+        if (sRequestedBuildCount.get() > 0) {
+            return false;
+        }
+        synchronized (sBuildLock) {
+            if (sRequestedBuildCount.get() > 0) {
+                return false;
+            }
+            getKeyboardLocked(baseKeyboardLayoutSetElementId);
+            return true;
+        }
+    }
+
+    private int getKeyboardLayoutSetElementId(final int baseKeyboardLayoutSetElementId) {
         switch (mParams.mMode) {
             case KeyboardId.MODE_PHONE:
                 if (baseKeyboardLayoutSetElementId == KeyboardId.ELEMENT_SYMBOLS) {
-                    keyboardLayoutSetElementId = KeyboardId.ELEMENT_PHONE_SYMBOLS;
-                } else {
-                    keyboardLayoutSetElementId = KeyboardId.ELEMENT_PHONE;
+                    return KeyboardId.ELEMENT_PHONE_SYMBOLS;
                 }
-                break;
+                return KeyboardId.ELEMENT_PHONE;
             case KeyboardId.MODE_NUMBER:
             case KeyboardId.MODE_DATE:
             case KeyboardId.MODE_TIME:
             case KeyboardId.MODE_DATETIME:
-                keyboardLayoutSetElementId = KeyboardId.ELEMENT_NUMBER;
-                break;
+                return KeyboardId.ELEMENT_NUMBER;
             default:
-                keyboardLayoutSetElementId = baseKeyboardLayoutSetElementId;
-                break;
+                return baseKeyboardLayoutSetElementId;
         }
+    }
+
+    @Nonnull
+    private Keyboard getKeyboardLocked(final int baseKeyboardLayoutSetElementId) {
+        final int keyboardLayoutSetElementId =
+                getKeyboardLayoutSetElementId(baseKeyboardLayoutSetElementId);
 
         ElementParams elementParams = mParams.mKeyboardLayoutSetElementIdToParamsMap.get(
                 keyboardLayoutSetElementId);
@@ -217,42 +342,65 @@ public final class KeyboardLayoutSet {
 
     @Nonnull
     private Keyboard getKeyboard(final ElementParams elementParams, final KeyboardId id) {
-        final SoftReference<Keyboard> ref = sKeyboardCache.get(id);
-        final Keyboard cachedKeyboard = (ref == null) ? null : ref.get();
+        if (sKeyboardCache == null) {
+            sKeyboardCacheMaxSize = mContext.getResources().getInteger(
+                    R.integer.config_keyboard_cache_size_kb) * 1024;
+            sKeyboardCache = new KeyboardCache(sKeyboardCacheMaxSize);
+        }
+        final Keyboard cachedKeyboard = sKeyboardCache.get(id);
         if (cachedKeyboard != null) {
             if (DEBUG_CACHE) {
-                Log.d(TAG, "keyboard cache size=" + sKeyboardCache.size() + ": HIT  id=" + id);
+                Log.d(TAG, "keyboard cache " + sKeyboardCache + ": HIT  id=" + id);
             }
             return cachedKeyboard;
         }
 
-        final KeyboardBuilder<KeyboardParams> builder =
-                new KeyboardBuilder<>(mContext, new KeyboardParams(sUniqueKeysCache));
+        final long startTime = SystemClock.uptimeMillis();
         sUniqueKeysCache.setEnabled(id.isAlphabetKeyboard());
-        builder.setAllowRedundantMoreKes(elementParams.mAllowRedundantMoreKeys);
-        final int keyboardXmlId = elementParams.mKeyboardXmlId;
-        builder.load(keyboardXmlId, id);
-        if (mParams.mDisableTouchPositionCorrectionDataForTest) {
-            builder.disableTouchPositionCorrectionDataForTest();
-        }
-        builder.setProximityCharsCorrectionEnabled(elementParams.mProximityCharsCorrectionEnabled);
-        final Keyboard keyboard = builder.build();
-        sKeyboardCache.put(id, new SoftReference<>(keyboard));
-        if ((id.mElementId == KeyboardId.ELEMENT_ALPHABET
-                || id.mElementId == KeyboardId.ELEMENT_ALPHABET_AUTOMATIC_SHIFTED)
-                && !mParams.mIsSpellChecker) {
-            // We only forcibly cache the primary, "ALPHABET", layouts.
-            for (int i = sForcibleKeyboardCache.length - 1; i >= 1; --i) {
-                sForcibleKeyboardCache[i] = sForcibleKeyboardCache[i - 1];
+        // The spell checker builds its keyboards with dummy geometry and no touch position
+        // correction from an unthemed context, there is no point in compiling those.
+        final boolean useCompiledKeyboard = !mParams.mIsSpellChecker
+                && !mParams.mDisableTouchPositionCorrectionDataForTest;
+        if (useCompiledKeyboard && sCompiledKeyboardCache == null) {
+            sCompiledKeyboardCache = new CompiledKeyboardCache(mContext.getApplicationContext());
+        }
+        Keyboard keyboard = null;
+        boolean isCompiled = false;
+        if (useCompiledKeyboard) {
+            final KeyboardParams compiledParams = new KeyboardParams(sUniqueKeysCache);
+            if (sCompiledKeyboardCache.load(mContext, id, compiledParams)) {
+                compiledParams.mProximityCharsCorrectionEnabled =
+                        elementParams.mProximityCharsCorrectionEnabled;
+                keyboard = new Keyboard(compiledParams);
+                isCompiled = true;
             }
-            sForcibleKeyboardCache[0] = keyboard;
-            if (DEBUG_CACHE) {
-                Log.d(TAG, "forcing caching of keyboard with id=" + id);
+        }
+        if (keyboard == null) {
+            final KeyboardParams params = new KeyboardParams(sUniqueKeysCache);
+            final KeyboardBuilder<KeyboardParams> builder =
+                    new KeyboardBuilder<>(mContext, params);
+            builder.setAllowRedundantMoreKes(elementParams.mAllowRedundantMoreKeys);
+            final int keyboardXmlId = elementParams.mKeyboardXmlId;
+            builder.load(keyboardXmlId, id);
+            if (mParams.mDisableTouchPositionCorrectionDataForTest) {
+                builder.disableTouchPositionCorrectionDataForTest();
+            }
+            builder.setProximityCharsCorrectionEnabled(
+                    elementParams.mProximityCharsCorrectionEnabled);
+            keyboard = builder.build();
+            if (useCompiledKeyboard) {
+                sCompiledKeyboardCache.save(mContext, params);
             }
         }
+        final long buildTime = SystemClock.uptimeMillis() - startTime;
+        // The main alphabet keyboards are the ones the user comes back to all the time.
+        final boolean isHot = (id.mElementId == KeyboardId.ELEMENT_ALPHABET
+                || id.mElementId == KeyboardId.ELEMENT_ALPHABET_AUTOMATIC_SHIFTED)
+                && !mParams.mIsSpellChecker;
+        sKeyboardCache.put(id, keyboard, isHot, buildTime);
         if (DEBUG_CACHE) {
-            Log.d(TAG, "keyboard cache size=" + sKeyboardCache.size() + ": "
-                    + ((ref == null) ? "LOAD" : "GCed") + " id=" + id);
+            Log.d(TAG, "keyboard cache " + sKeyboardCache + ": "
+                    + (isCompiled ? "COMPILED" : "XML") + " in " + buildTime + "ms id=" + id);
         }
         return keyboard;
     }
@@ -131,11 +131,16 @@ public final class KeyboardSwitcher implements KeyboardState.SwitchActions {
                 && settingsValues.mIsSplitKeyboardEnabled);
         final boolean oneHandedModeEnabled = settingsValues.mOneHandedModeEnabled;
         builder.setOneHandedModeEnabled(oneHandedModeEnabled);
+        if (mKeyboardLayoutSet != null) {
+            // The keyboards of the previous editor won't be needed anymore.
+            mKeyboardLayoutSet.cancelPrebuildingKeyboards();
+        }
         mKeyboardLayoutSet = builder.build();
         try {
             mState.onLoadKeyboard(currentAutoCapsState, currentRecapitalizeState,
                     oneHandedModeEnabled);
             mKeyboardTextsSet.setLocale(mRichImm.getCurrentSubtypeLocale(), mThemeContext);
+            mKeyboardLayoutSet.prebuildKeyboards();
         } catch (KeyboardLayoutSetException e) {
             Log.w(TAG, "loading keyboard failed: " + e.mKeyboardId, e.getCause());
         }
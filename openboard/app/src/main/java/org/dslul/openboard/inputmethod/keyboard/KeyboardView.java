@@ -25,13 +25,19 @@ import android.graphics.Paint;
 import android.graphics.Paint.Align;
 import android.graphics.PorterDuff;
 import android.graphics.Rect;
+import android.graphics.RecordingCanvas;
+import android.graphics.RenderNode;
 import android.graphics.Typeface;
 import android.graphics.drawable.Drawable;
 import android.graphics.drawable.NinePatchDrawable;
+import android.os.Build;
 import android.text.TextUtils;
 import android.util.AttributeSet;
+import android.util.Log;
 import android.view.View;
 
+import androidx.annotation.RequiresApi;
+
 import org.dslul.openboard.inputmethod.keyboard.internal.KeyDrawParams;
 import org.dslul.openboard.inputmethod.keyboard.internal.KeyVisualAttributes;
 import org.dslul.openboard.inputmethod.latin.R;
@@ -39,7 +45,9 @@ import org.dslul.openboard.inputmethod.latin.common.Constants;
 import org.dslul.openboard.inputmethod.latin.settings.Settings;
 import org.dslul.openboard.inputmethod.latin.utils.TypefaceUtils;
 
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Locale;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -79,6 +87,10 @@ import javax.annotation.Nullable;
  * @attr ref R.styleable#Keyboard_Key_keyPreviewTextColor
  */
 public class KeyboardView extends View {
+    private static final String TAG = KeyboardView.class.getSimpleName();
+    private static final boolean DEBUG_DRAW_TIME = false;
+    private static final int DRAW_TIME_LOG_INTERVAL = 100;
+
     // XML attributes
     private final KeyVisualAttributes mKeyVisualAttributes;
     // Default keyLabelFlags from {@link KeyboardTheme}.
@@ -125,6 +137,39 @@ public class KeyboardView extends View {
     private final Paint mPaint = new Paint();
     private final Paint.FontMetrics mFontMetrics = new Paint.FontMetrics();
 
+    /**
+     * The position and size of the labels of a key. Measuring the labels is the most expensive
+     * part of drawing a key, and it only depends on the key and the draw params, so it is done
+     * once and reused whenever the key is drawn again, e.g. when it is pressed or highlighted.
+     */
+    private static final class KeyLabelLayout {
+        Typeface mLabelTypeface;
+        float mLabelSize;
+        float mLabelScaleX = 1.0f;
+        Align mLabelAlign = Align.CENTER;
+        float mLabelX;
+        float mLabelBaseline;
+        float mHintSize;
+        Align mHintAlign = Align.CENTER;
+        float mHintX;
+        float mHintBaseline;
+    }
+
+    // The label layouts of the keys of the current keyboard. The keyboard view is recreated when
+    // the theme changes, so they only have to be cleared when the keyboard or the draw params do.
+    private final HashMap<Key, KeyLabelLayout> mKeyLabelLayouts = new HashMap<>();
+
+    // The display lists of the keys when drawing on a hardware canvas. A hardware-accelerated
+    // view is redrawn as a whole, so only the invalidated keys are recorded again and the others
+    // replay their display list. Only used from {@link Build.VERSION_CODES#Q} on.
+    private final HashMap<Key, RenderNode> mKeyRenderNodes = new HashMap<>();
+
+    // Draw time statistics, see {@link #DEBUG_DRAW_TIME}.
+    private int mFullDrawCount;
+    private int mPartialDrawCount;
+    private long mFullDrawTimeNanos;
+    private long mPartialDrawTimeNanos;
+
     public KeyboardView(final Context context, final AttributeSet attrs) {
         this(context, attrs, R.attr.keyboardViewStyle);
     }
@@ -197,6 +242,8 @@ public class KeyboardView extends View {
         final int keyHeight = keyboard.mMostCommonKeyHeight - keyboard.mVerticalGap;
         mKeyDrawParams.updateParams(keyHeight, mKeyVisualAttributes);
         mKeyDrawParams.updateParams(keyHeight, keyboard.mKeyVisualAttributes);
+        mKeyLabelLayouts.clear();
+        freeKeyRenderNodes();
         invalidateAllKeys();
         requestLayout();
     }
@@ -222,6 +269,7 @@ public class KeyboardView extends View {
 
     protected void updateKeyDrawParams(final int keyHeight) {
         mKeyDrawParams.updateParams(keyHeight, mKeyVisualAttributes);
+        mKeyLabelLayouts.clear();
     }
 
     @Override
@@ -293,8 +341,12 @@ public class KeyboardView extends View {
         // Calculate clip region and set.
         final boolean drawAllKeys = mInvalidateAllKeys || mInvalidatedKeys.isEmpty();
         final boolean isHardwareAccelerated = canvas.isHardwareAccelerated();
-        // TODO: Confirm if it's really required to draw all keys when hardware acceleration is on.
-        if (drawAllKeys || isHardwareAccelerated) {
+        final long startTime = DEBUG_DRAW_TIME ? System.nanoTime() : 0;
+        final boolean usesKeyRenderNodes = isHardwareAccelerated
+                && Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q;
+        if (usesKeyRenderNodes) {
+            onDrawKeyRenderNodes(keyboard, canvas, paint, drawAllKeys);
+        } else if (drawAllKeys || isHardwareAccelerated) {
             if (!isHardwareAccelerated && background != null) {
                 // Need to draw keyboard background on {@link #mOffscreenBuffer}.
                 canvas.drawColor(Color.BLACK, PorterDuff.Mode.CLEAR);
@@ -324,10 +376,80 @@ public class KeyboardView extends View {
             }
         }
 
+        if (DEBUG_DRAW_TIME) {
+            updateDrawTimeStats(drawAllKeys || (isHardwareAccelerated && !usesKeyRenderNodes),
+                    System.nanoTime() - startTime);
+        }
         mInvalidatedKeys.clear();
         mInvalidateAllKeys = false;
     }
 
+    @RequiresApi(api = Build.VERSION_CODES.Q)
+    private void onDrawKeyRenderNodes(@Nonnull final Keyboard keyboard,
+            @Nonnull final Canvas canvas, @Nonnull final Paint paint, final boolean drawAllKeys) {
+        if (drawAllKeys) {
+            freeKeyRenderNodes();
+        } else {
+            for (final Key key : mInvalidatedKeys) {
+                final RenderNode node = mKeyRenderNodes.get(key);
+                if (node != null) {
+                    recordKeyRenderNode(key, node, paint);
+                }
+            }
+        }
+        for (final Key key : keyboard.getSortedKeys()) {
+            RenderNode node = mKeyRenderNodes.get(key);
+            if (node == null) {
+                node = new RenderNode(null);
+                // The view may be resized without the keys being invalidated.
+                node.setClipToBounds(false);
+                mKeyRenderNodes.put(key, node);
+                recordKeyRenderNode(key, node, paint);
+            }
+            canvas.drawRenderNode(node);
+        }
+    }
+
+    @RequiresApi(api = Build.VERSION_CODES.Q)
+    private void recordKeyRenderNode(@Nonnull final Key key, @Nonnull final RenderNode node,
+            @Nonnull final Paint paint) {
+        node.setPosition(0, 0, getWidth(), getHeight());
+        final RecordingCanvas recordingCanvas = node.beginRecording();
+        try {
+            onDrawKey(key, recordingCanvas, paint);
+        } finally {
+            node.endRecording();
+        }
+    }
+
+    private void freeKeyRenderNodes() {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
+            for (final RenderNode node : mKeyRenderNodes.values()) {
+                node.discardDisplayList();
+            }
+        }
+        mKeyRenderNodes.clear();
+    }
+
+    private void updateDrawTimeStats(final boolean isFullDraw, final long drawTimeNanos) {
+        if (isFullDraw) {
+            mFullDrawCount++;
+            mFullDrawTimeNanos += drawTimeNanos;
+        } else {
+            mPartialDrawCount++;
+            mPartialDrawTimeNanos += drawTimeNanos;
+        }
+        if ((mFullDrawCount + mPartialDrawCount) % DRAW_TIME_LOG_INTERVAL != 0) {
+            return;
+        }
+        final long fullDrawTimeMicros = (mFullDrawCount == 0) ? 0
+                : mFullDrawTimeNanos / mFullDrawCount / 1000;
+        final long partialDrawTimeMicros = (mPartialDrawCount == 0) ? 0
+                : mPartialDrawTimeNanos / mPartialDrawCount / 1000;
+        Log.d(TAG, String.format(Locale.ROOT, "full draws=%d avg=%dus, partial draws=%d avg=%dus",
+                mFullDrawCount, fullDrawTimeMicros, mPartialDrawCount, partialDrawTimeMicros));
+    }
+
     private void onDrawKey(@Nonnull final Key key, @Nonnull final Canvas canvas,
             @Nonnull final Paint paint) {
         final int keyDrawX = key.getDrawX() + getPaddingLeft();
@@ -381,45 +503,20 @@ public class KeyboardView extends View {
             @Nonnull final Paint paint, @Nonnull final KeyDrawParams params) {
         final int keyWidth = key.getDrawWidth();
         final int keyHeight = key.getHeight();
-        final float centerX = keyWidth * 0.5f;
-        final float centerY = keyHeight * 0.5f;
 
         // Draw key label.
         final Keyboard keyboard = getKeyboard();
         final Drawable icon = (keyboard == null) ? null
                 : key.getIcon(keyboard.mIconsSet, params.mAnimAlpha);
-        float labelX = centerX;
-        float labelBaseline = centerY;
         final String label = key.getLabel();
+        final String hintLabel = key.getHintLabel();
+        final KeyLabelLayout layout = (label == null && hintLabel == null) ? null
+                : getKeyLabelLayout(key, paint, params);
         if (label != null) {
-            paint.setTypeface(key.selectTypeface(params));
-            paint.setTextSize(key.selectTextSize(params));
-            final float labelCharHeight = TypefaceUtils.getReferenceCharHeight(paint);
-            final float labelCharWidth = TypefaceUtils.getReferenceCharWidth(paint);
-
-            // Vertical label text alignment.
-            labelBaseline = centerY + labelCharHeight / 2.0f;
-
-            // Horizontal label text alignment
-            if (key.isAlignLabelOffCenter()) {
-                // The label is placed off center of the key. Used mainly on "phone number" layout.
-                labelX = centerX + params.mLabelOffCenterRatio * labelCharWidth;
-                paint.setTextAlign(Align.LEFT);
-            } else {
-                labelX = centerX;
-                paint.setTextAlign(Align.CENTER);
-            }
-            if (key.needsAutoXScale()) {
-                final float ratio = Math.min(1.0f, (keyWidth * MAX_LABEL_RATIO) /
-                        TypefaceUtils.getStringWidth(label, paint));
-                if (key.needsAutoScale()) {
-                    final float autoSize = paint.getTextSize() * ratio;
-                    paint.setTextSize(autoSize);
-                } else {
-                    paint.setTextScaleX(ratio);
-                }
-            }
-
+            paint.setTypeface(layout.mLabelTypeface);
+            paint.setTextSize(layout.mLabelSize);
+            paint.setTextScaleX(layout.mLabelScaleX);
+            paint.setTextAlign(layout.mLabelAlign);
             if (key.isEnabled()) {
                 paint.setColor(key.selectTextColor(params));
                 // Set a drop shadow for the text if the shadow radius is positive value.
@@ -434,51 +531,22 @@ public class KeyboardView extends View {
                 paint.clearShadowLayer();
             }
             blendAlpha(paint, params.mAnimAlpha);
-            canvas.drawText(label, 0, label.length(), labelX, labelBaseline, paint);
+            canvas.drawText(label, 0, label.length(), layout.mLabelX, layout.mLabelBaseline, paint);
             // Turn off drop shadow and reset x-scale.
             paint.clearShadowLayer();
             paint.setTextScaleX(1.0f);
         }
 
         // Draw hint label.
-        final String hintLabel = key.getHintLabel();
         if (hintLabel != null && mShowsHints) {
-            paint.setTextSize(key.selectHintTextSize(params));
+            paint.setTextSize(layout.mHintSize);
             paint.setColor(key.selectHintTextColor(params));
             // TODO: Should add a way to specify type face for hint letters
             paint.setTypeface(Typeface.DEFAULT_BOLD);
+            paint.setTextAlign(layout.mHintAlign);
             blendAlpha(paint, params.mAnimAlpha);
-            final float labelCharHeight = TypefaceUtils.getReferenceCharHeight(paint);
-            final float labelCharWidth = TypefaceUtils.getReferenceCharWidth(paint);
-            final float hintX, hintBaseline;
-            if (key.hasHintLabel()) {
-                // The hint label is placed just right of the key label. Used mainly on
-                // "phone number" layout.
-                hintX = labelX + params.mHintLabelOffCenterRatio * labelCharWidth;
-                if (key.isAlignHintLabelToBottom(mDefaultKeyLabelFlags)) {
-                    hintBaseline = labelBaseline;
-                } else {
-                    hintBaseline = centerY + labelCharHeight / 2.0f;
-                }
-                paint.setTextAlign(Align.LEFT);
-            } else if (key.hasShiftedLetterHint()) {
-                // The hint label is placed at top-right corner of the key. Used mainly on tablet.
-                hintX = keyWidth - mKeyShiftedLetterHintPadding - labelCharWidth / 2.0f;
-                paint.getFontMetrics(mFontMetrics);
-                hintBaseline = -mFontMetrics.top;
-                paint.setTextAlign(Align.CENTER);
-            } else { // key.hasHintLetter()
-                // The hint letter is placed at top-right corner of the key. Used mainly on phone.
-                final float hintDigitWidth = TypefaceUtils.getReferenceDigitWidth(paint);
-                final float hintLabelWidth = TypefaceUtils.getStringWidth(hintLabel, paint);
-                hintX = keyWidth - mKeyHintLetterPadding
-                        - Math.max(hintDigitWidth, hintLabelWidth) / 2.0f;
-                hintBaseline = -paint.ascent();
-                paint.setTextAlign(Align.CENTER);
-            }
-            final float adjustmentY = params.mHintLabelVerticalAdjustment * labelCharHeight;
-            canvas.drawText(
-                    hintLabel, 0, hintLabel.length(), hintX, hintBaseline + adjustmentY, paint);
+            canvas.drawText(hintLabel, 0, hintLabel.length(), layout.mHintX, layout.mHintBaseline,
+                    paint);
         }
 
         // Draw key icon.
@@ -505,6 +573,101 @@ public class KeyboardView extends View {
         }
     }
 
+    @Nonnull
+    private KeyLabelLayout getKeyLabelLayout(@Nonnull final Key key, @Nonnull final Paint paint,
+            @Nonnull final KeyDrawParams params) {
+        KeyLabelLayout layout = mKeyLabelLayouts.get(key);
+        if (layout == null) {
+            layout = newKeyLabelLayout(key, paint, params);
+            mKeyLabelLayouts.put(key, layout);
+        }
+        return layout;
+    }
+
+    // Measures the labels of the key with the paint, which is left with the hint label settings.
+    @Nonnull
+    private KeyLabelLayout newKeyLabelLayout(@Nonnull final Key key, @Nonnull final Paint paint,
+            @Nonnull final KeyDrawParams params) {
+        final KeyLabelLayout layout = new KeyLabelLayout();
+        final int keyWidth = key.getDrawWidth();
+        final int keyHeight = key.getHeight();
+        final float centerX = keyWidth * 0.5f;
+        final float centerY = keyHeight * 0.5f;
+
+        layout.mLabelX = centerX;
+        layout.mLabelBaseline = centerY;
+        paint.setTextScaleX(1.0f);
+        final String label = key.getLabel();
+        if (label != null) {
+            layout.mLabelTypeface = key.selectTypeface(params);
+            paint.setTypeface(layout.mLabelTypeface);
+            paint.setTextSize(key.selectTextSize(params));
+            final float labelCharHeight = TypefaceUtils.getReferenceCharHeight(paint);
+            final float labelCharWidth = TypefaceUtils.getReferenceCharWidth(paint);
+
+            // Vertical label text alignment.
+            layout.mLabelBaseline = centerY + labelCharHeight / 2.0f;
+
+            // Horizontal label text alignment
+            if (key.isAlignLabelOffCenter()) {
+                // The label is placed off center of the key. Used mainly on "phone number" layout.
+                layout.mLabelX = centerX + params.mLabelOffCenterRatio * labelCharWidth;
+                layout.mLabelAlign = Align.LEFT;
+            } else {
+                layout.mLabelX = centerX;
+                layout.mLabelAlign = Align.CENTER;
+            }
+            layout.mLabelSize = paint.getTextSize();
+            if (key.needsAutoXScale()) {
+                final float ratio = Math.min(1.0f, (keyWidth * MAX_LABEL_RATIO) /
+                        TypefaceUtils.getStringWidth(label, paint));
+                if (key.needsAutoScale()) {
+                    layout.mLabelSize = paint.getTextSize() * ratio;
+                } else {
+                    layout.mLabelScaleX = ratio;
+                }
+            }
+        }
+
+        final String hintLabel = key.getHintLabel();
+        if (hintLabel != null) {
+            layout.mHintSize = key.selectHintTextSize(params);
+            paint.setTextSize(layout.mHintSize);
+            paint.setTypeface(Typeface.DEFAULT_BOLD);
+            final float labelCharHeight = TypefaceUtils.getReferenceCharHeight(paint);
+            final float labelCharWidth = TypefaceUtils.getReferenceCharWidth(paint);
+            final float hintBaseline;
+            if (key.hasHintLabel()) {
+                // The hint label is placed just right of the key label. Used mainly on
+                // "phone number" layout.
+                layout.mHintX = layout.mLabelX + params.mHintLabelOffCenterRatio * labelCharWidth;
+                if (key.isAlignHintLabelToBottom(mDefaultKeyLabelFlags)) {
+                    hintBaseline = layout.mLabelBaseline;
+                } else {
+                    hintBaseline = centerY + labelCharHeight / 2.0f;
+                }
+                layout.mHintAlign = Align.LEFT;
+            } else if (key.hasShiftedLetterHint()) {
+                // The hint label is placed at top-right corner of the key. Used mainly on tablet.
+                layout.mHintX = keyWidth - mKeyShiftedLetterHintPadding - labelCharWidth / 2.0f;
+                paint.getFontMetrics(mFontMetrics);
+                hintBaseline = -mFontMetrics.top;
+                layout.mHintAlign = Align.CENTER;
+            } else { // key.hasHintLetter()
+                // The hint letter is placed at top-right corner of the key. Used mainly on phone.
+                final float hintDigitWidth = TypefaceUtils.getReferenceDigitWidth(paint);
+                final float hintLabelWidth = TypefaceUtils.getStringWidth(hintLabel, paint);
+                layout.mHintX = keyWidth - mKeyHintLetterPadding
+                        - Math.max(hintDigitWidth, hintLabelWidth) / 2.0f;
+                hintBaseline = -paint.ascent();
+                layout.mHintAlign = Align.CENTER;
+            }
+            final float adjustmentY = params.mHintLabelVerticalAdjustment * labelCharHeight;
+            layout.mHintBaseline = hintBaseline + adjustmentY;
+        }
+        return layout;
+    }
+
     // Draw popup hint "..." at the bottom right corner of the key.
     protected void drawKeyPopupHint(@Nonnull final Key key, @Nonnull final Canvas canvas,
             @Nonnull final Paint paint, @Nonnull final KeyDrawParams params) {
@@ -579,9 +742,11 @@ public class KeyboardView extends View {
     protected void onDetachedFromWindow() {
         super.onDetachedFromWindow();
         freeOffscreenBuffer();
+        freeKeyRenderNodes();
     }
 
     public void deallocateMemory() {
         freeOffscreenBuffer();
+        freeKeyRenderNodes();
     }
 }
@@ -92,6 +92,9 @@ public final class PointerTracker implements PointerTrackerQueue.Element,
     private static PointerTrackerParams sParams;
     private static int sPointerStep = (int)(10.0 * Resources.getSystem().getDisplayMetrics().density);
     private static GestureStrokeRecognitionParams sGestureStrokeRecognitionParams;
+    // Recognition parameters of the keyboard theme, used by the touch profile.
+    private static GestureStrokeRecognitionParams sTouchGestureStrokeRecognitionParams;
+    private static String sGestureRecognitionProfile = GestureStrokeRecognitionParams.PROFILE_TOUCH;
     private static GestureStrokeDrawingParams sGestureStrokeDrawingParams;
     private static boolean sNeedsPhantomSuddenMoveEventHack;
     // Move this threshold to resource.
@@ -166,7 +169,10 @@ public final class PointerTracker implements PointerTrackerQueue.Element,
     public static void init(final TypedArray mainKeyboardViewAttr, final TimerProxy timerProxy,
             final DrawingProxy drawingProxy) {
         sParams = new PointerTrackerParams(mainKeyboardViewAttr);
-        sGestureStrokeRecognitionParams = new GestureStrokeRecognitionParams(mainKeyboardViewAttr);
+        sTouchGestureStrokeRecognitionParams =
+                new GestureStrokeRecognitionParams(mainKeyboardViewAttr);
+        sGestureStrokeRecognitionParams =
+                getGestureStrokeRecognitionParams(sGestureRecognitionProfile);
         sGestureStrokeDrawingParams = new GestureStrokeDrawingParams(mainKeyboardViewAttr);
         sTypingTimeRecorder = new TypingTimeRecorder(
                 sGestureStrokeRecognitionParams.mStaticTimeThresholdAfterFastTyping,
@@ -182,6 +188,38 @@ public final class PointerTracker implements PointerTrackerQueue.Element,
         sDrawingProxy = drawingProxy;
     }
 
+    /**
+     * Select the gesture recognition parameters for the input device driving the keyboard.
+     * Must be called on the UI thread.
+     * @param profile one of the GestureStrokeRecognitionParams.PROFILE_* names.
+     * @return false if the profile is unknown; the current profile is kept in that case.
+     */
+    public static boolean setGestureRecognitionProfile(final String profile) {
+        if (!GestureStrokeRecognitionParams.PROFILE_TOUCH.equals(profile)
+                && !GestureStrokeRecognitionParams.PROFILE_HEAD_POINTER.equals(profile)) {
+            return false;
+        }
+        sGestureRecognitionProfile = profile;
+        if (sTouchGestureStrokeRecognitionParams == null) {
+            // Not initialized yet, init() picks the profile up.
+            return true;
+        }
+        sGestureStrokeRecognitionParams = getGestureStrokeRecognitionParams(profile);
+        final int trackersSize = sTrackers.size();
+        for (int i = 0; i < trackersSize; ++i) {
+            sTrackers.get(i).mBatchInputArbiter.setRecognitionParams(
+                    sGestureStrokeRecognitionParams);
+        }
+        return true;
+    }
+
+    private static GestureStrokeRecognitionParams getGestureStrokeRecognitionParams(
+            final String profile) {
+        return GestureStrokeRecognitionParams.PROFILE_HEAD_POINTER.equals(profile)
+                ? GestureStrokeRecognitionParams.HEAD_POINTER
+                : sTouchGestureStrokeRecognitionParams;
+    }
+
     // Note that this method is called from a non-UI thread.
     public static void setMainDictionaryAvailability(final boolean mainDictionaryAvailable) {
         sGestureEnabler.setMainDictionaryAvailability(mainDictionaryAvailable);
@@ -204,8 +204,11 @@ class ClipboardHistoryView @JvmOverloads constructor(
     }
 
     override fun onKeyUp(clipId: Long) {
+        // The entry may have been removed since the key went down, e.g. by the retention time.
         val clipContent = clipboardHistoryManager?.getHistoryEntryContent(clipId)
-        keyboardActionListener?.onTextInput(clipContent?.content.toString())
+        if (clipContent != null) {
+            keyboardActionListener?.onTextInput(clipContent.content.toString())
+        }
         keyboardActionListener?.onReleaseKey(Constants.CODE_UNSPECIFIED,
                 false /* withSliding */)
     }
@@ -17,12 +17,15 @@
 package org.dslul.openboard.inputmethod.keyboard.emoji;
 
 import android.content.SharedPreferences;
+import android.os.Build;
 import android.text.TextUtils;
 import android.util.Log;
 
 import org.dslul.openboard.inputmethod.keyboard.Key;
 import org.dslul.openboard.inputmethod.keyboard.Keyboard;
+import org.dslul.openboard.inputmethod.keyboard.internal.CodesArrayParser;
 import org.dslul.openboard.inputmethod.keyboard.internal.MoreKeySpec;
+import org.dslul.openboard.inputmethod.latin.common.Constants;
 import org.dslul.openboard.inputmethod.latin.settings.Settings;
 import org.dslul.openboard.inputmethod.latin.utils.JsonUtils;
 
@@ -32,6 +35,8 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 
 /**
@@ -165,46 +170,54 @@ final class DynamicGridKeyboard extends Keyboard {
         Settings.writeEmojiRecentKeys(mPrefs, jsonStr);
     }
 
-    private static Key getKeyByCode(final Collection<DynamicGridKeyboard> keyboards,
-            final int code) {
-        for (final DynamicGridKeyboard keyboard : keyboards) {
-            for (final Key key : keyboard.getSortedKeys()) {
-                if (key.getCode() == code) {
-                    return key;
+    /**
+     * Loads the recent keys. They are built from the key specs of the emoji categories, the same
+     * way the category keyboards build them from their <GridRows />, so that none of the category
+     * keyboards has to be built for this.
+     * @param codesArrays the codesArray specs of the categories.
+     * @param textsArrays the textsArray specs of the categories.
+     */
+    public void loadRecentKeys(final Collection<String[]> codesArrays,
+            final Collection<String[]> textsArrays) {
+        final String str = Settings.readEmojiRecentKeys(mPrefs);
+        final List<Object> keys = JsonUtils.jsonStrToList(str);
+        if (keys.isEmpty()) {
+            return;
+        }
+        // A recent key is stored as its code, or as its output text if it has one.
+        final HashSet<Object> recentKeys = new HashSet<>(keys);
+        final Key templateKey = getTemplateKey(TEMPLATE_KEY_CODE_0);
+        final HashMap<Object, Key> keysByRecentKey = new HashMap<>();
+        for (final String[] codesArray : codesArrays) {
+            for (final String codesArraySpec : codesArray) {
+                if (Build.VERSION.SDK_INT
+                        < CodesArrayParser.getMinSupportSdkVersion(codesArraySpec)) {
+                    continue;
+                }
+                final int code = CodesArrayParser.parseCode(codesArraySpec);
+                final String outputText = CodesArrayParser.parseOutputText(codesArraySpec);
+                final Object recentKey = outputText != null ? outputText : code;
+                if (recentKeys.contains(recentKey) && !keysByRecentKey.containsKey(recentKey)) {
+                    keysByRecentKey.put(recentKey, new Key(templateKey,
+                            CodesArrayParser.parseLabel(codesArraySpec), code, outputText));
                 }
             }
         }
-        return null;
-    }
-
-    private static Key getKeyByOutputText(final Collection<DynamicGridKeyboard> keyboards,
-            final String outputText) {
-        for (final DynamicGridKeyboard keyboard : keyboards) {
-            for (final Key key : keyboard.getSortedKeys()) {
-                if (outputText.equals(key.getOutputText())) {
-                    return key;
+        for (final String[] textsArray : textsArrays) {
+            for (final String textArraySpec : textsArray) {
+                final String outputText = textArraySpec + (char)Constants.CODE_SPACE;
+                if (recentKeys.contains(outputText) && !keysByRecentKey.containsKey(outputText)) {
+                    keysByRecentKey.put(outputText, new Key(templateKey, textArraySpec,
+                            Constants.CODE_OUTPUT_TEXT, outputText));
                 }
             }
         }
-        return null;
-    }
-
-    public void loadRecentKeys(final Collection<DynamicGridKeyboard> keyboards) {
-        final String str = Settings.readEmojiRecentKeys(mPrefs);
-        final List<Object> keys = JsonUtils.jsonStrToList(str);
         for (final Object o : keys) {
-            final Key key;
-            if (o instanceof Integer) {
-                final int code = (Integer)o;
-                key = getKeyByCode(keyboards, code);
-            } else if (o instanceof String) {
-                final String outputText = (String)o;
-                key = getKeyByOutputText(keyboards, outputText);
-            } else {
+            if (!(o instanceof Integer) && !(o instanceof String)) {
                 Log.w(TAG, "Invalid object: " + o);
                 continue;
             }
-            addKeyLast(key);
+            addKeyLast(keysByRecentKey.get(o));
         }
     }
 
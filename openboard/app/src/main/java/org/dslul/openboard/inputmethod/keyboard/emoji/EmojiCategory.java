@@ -21,6 +21,7 @@ import android.content.res.Resources;
 import android.content.res.TypedArray;
 import android.graphics.Paint;
 import android.graphics.Rect;
+import android.os.Build;
 import android.util.Log;
 
 import androidx.core.graphics.PaintCompat;
@@ -28,15 +29,17 @@ import org.dslul.openboard.inputmethod.keyboard.Key;
 import org.dslul.openboard.inputmethod.keyboard.Keyboard;
 import org.dslul.openboard.inputmethod.keyboard.KeyboardId;
 import org.dslul.openboard.inputmethod.keyboard.KeyboardLayoutSet;
+import org.dslul.openboard.inputmethod.keyboard.internal.CodesArrayParser;
 import org.dslul.openboard.inputmethod.latin.R;
 import org.dslul.openboard.inputmethod.latin.settings.Settings;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Map;
 
 final class EmojiCategory {
     private final String TAG = EmojiCategory.class.getSimpleName();
@@ -117,6 +120,22 @@ final class EmojiCategory {
             KeyboardId.ELEMENT_EMOJI_CATEGORY9,
             KeyboardId.ELEMENT_EMOJI_CATEGORY10 };
 
+    // The key specs of the <GridRows /> of the category keyboards above. The page counts and the
+    // recent keys are computed from them, so that opening the palette doesn't build any category
+    // keyboard. The emoticons are a textsArray, all the others are a codesArray.
+    private static final int[] sCategoryKeySpecsArrayId = {
+            0 /* recents */,
+            R.array.emoji_smileys_emotion,
+            R.array.emoji_people_body,
+            R.array.emoji_animals_nature,
+            R.array.emoji_food_drink,
+            R.array.emoji_travel_places,
+            R.array.emoji_activities,
+            R.array.emoji_objects,
+            R.array.emoji_symbols,
+            R.array.emoji_flags,
+            R.array.emoji_emoticons };
+
     private final SharedPreferences mPrefs;
     private final Resources mRes;
     private final int mMaxRecentsKeyCount;
@@ -124,8 +143,18 @@ final class EmojiCategory {
     private final HashMap<String, Integer> mCategoryNameToIdMap = new HashMap<>();
     private final int[] mCategoryTabIconId = new int[sCategoryName.length];
     private final ArrayList<CategoryProperties> mShownCategories = new ArrayList<>();
-    private final ConcurrentHashMap<Long, DynamicGridKeyboard> mCategoryKeyboardMap =
-            new ConcurrentHashMap<>();
+    // The recents keyboard holds the user's recent keys and is never evicted.
+    private final DynamicGridKeyboard mRecentsKeyboard;
+    // Pages are built when they are shown and the least recently shown ones are evicted, so
+    // paging through all the categories doesn't keep every page in memory. The category keyboard
+    // they are sliced from is built by the layout set when its first page is shown. Guarded by
+    // itself.
+    private final LinkedHashMap<Long, DynamicGridKeyboard> mCategoryKeyboardMap;
+    // The emoji keys of the last category a page was built for, sorted in page order. Guarded by
+    // mCategoryKeyboardMap.
+    private int mSortedKeysCategoryId = ID_UNSPECIFIED;
+    private Key[] mSortedKeys;
+    private int mMaxKeyCountPerPage;
 
     private int mCurrentCategoryId = EmojiCategory.ID_UNSPECIFIED;
     private int mCurrentCategoryPageId = 0;
@@ -136,6 +165,19 @@ final class EmojiCategory {
         mRes = res;
         mMaxRecentsKeyCount = res.getInteger(R.integer.config_emoji_keyboard_max_recents_key_count);
         mLayoutSet = layoutSet;
+        final int maxCachedPageCount =
+                res.getInteger(R.integer.config_emoji_keyboard_max_cached_pages);
+        mCategoryKeyboardMap = new LinkedHashMap<Long, DynamicGridKeyboard>(
+                16, 0.75f, true /* accessOrder */) {
+            @Override
+            protected boolean removeEldestEntry(
+                    final Map.Entry<Long, DynamicGridKeyboard> eldest) {
+                return size() > maxCachedPageCount;
+            }
+        };
+        mRecentsKeyboard = new DynamicGridKeyboard(mPrefs,
+                mLayoutSet.getKeyboard(KeyboardId.ELEMENT_EMOJI_RECENTS),
+                mMaxRecentsKeyCount, ID_RECENTS);
         for (int i = 0; i < sCategoryName.length; ++i) {
             mCategoryNameToIdMap.put(sCategoryName[i], i);
             mCategoryTabIconId[i] = emojiPaletteViewAttr.getResourceId(
@@ -143,44 +185,49 @@ final class EmojiCategory {
         }
 
         int defaultCategoryId = EmojiCategory.ID_SMILEYS_EMOTION;
-        addShownCategoryId(EmojiCategory.ID_RECENTS);
-        addShownCategoryId(EmojiCategory.ID_SMILEYS_EMOTION);
-        addShownCategoryId(EmojiCategory.ID_PEOPLE_BODY);
-        addShownCategoryId(EmojiCategory.ID_ANIMALS_NATURE);
-        addShownCategoryId(EmojiCategory.ID_FOOD_DRINK);
-        addShownCategoryId(EmojiCategory.ID_TRAVEL_PLACES);
-        addShownCategoryId(EmojiCategory.ID_ACTIVITIES);
-        addShownCategoryId(EmojiCategory.ID_OBJECTS);
-        addShownCategoryId(EmojiCategory.ID_SYMBOLS);
+        final ArrayList<String[]> codesArrays = new ArrayList<>();
+        final ArrayList<String[]> textsArrays = new ArrayList<>();
+        addShownCategoryId(EmojiCategory.ID_RECENTS, codesArrays, textsArrays);
+        addShownCategoryId(EmojiCategory.ID_SMILEYS_EMOTION, codesArrays, textsArrays);
+        addShownCategoryId(EmojiCategory.ID_PEOPLE_BODY, codesArrays, textsArrays);
+        addShownCategoryId(EmojiCategory.ID_ANIMALS_NATURE, codesArrays, textsArrays);
+        addShownCategoryId(EmojiCategory.ID_FOOD_DRINK, codesArrays, textsArrays);
+        addShownCategoryId(EmojiCategory.ID_TRAVEL_PLACES, codesArrays, textsArrays);
+        addShownCategoryId(EmojiCategory.ID_ACTIVITIES, codesArrays, textsArrays);
+        addShownCategoryId(EmojiCategory.ID_OBJECTS, codesArrays, textsArrays);
+        addShownCategoryId(EmojiCategory.ID_SYMBOLS, codesArrays, textsArrays);
         if (canShowFlagEmoji()) {
-            addShownCategoryId(EmojiCategory.ID_FLAGS);
+            addShownCategoryId(EmojiCategory.ID_FLAGS, codesArrays, textsArrays);
         }
-        addShownCategoryId(EmojiCategory.ID_EMOTICONS);
-
-        DynamicGridKeyboard recentsKbd =
-                getKeyboard(EmojiCategory.ID_RECENTS, 0 /* categoryPageId */);
-        recentsKbd.loadRecentKeys(mCategoryKeyboardMap.values());
+        addShownCategoryId(EmojiCategory.ID_EMOTICONS, codesArrays, textsArrays);
+        mRecentsKeyboard.loadRecentKeys(codesArrays, textsArrays);
 
         mCurrentCategoryId = Settings.readLastShownEmojiCategoryId(mPrefs, defaultCategoryId);
         mCurrentCategoryPageId = Settings.readLastShownEmojiCategoryPageId(mPrefs, 0);
         if (!isShownCategoryId(mCurrentCategoryId)) {
             mCurrentCategoryId = defaultCategoryId;
         } else if (mCurrentCategoryId == EmojiCategory.ID_RECENTS &&
-                recentsKbd.getSortedKeys().isEmpty()) {
+                mRecentsKeyboard.getSortedKeys().isEmpty()) {
             mCurrentCategoryId = defaultCategoryId;
         }
 
-        if (mCurrentCategoryPageId >= computeCategoryPageCount(mCurrentCategoryId)) {
+        if (mCurrentCategoryPageId >= getCategoryPageCount(mCurrentCategoryId)) {
             mCurrentCategoryPageId = 0;
         }
     }
 
-    private void addShownCategoryId(final int categoryId) {
-        // Load a keyboard of categoryId
-        getKeyboard(categoryId, 0 /* categoryPageId */);
-        final CategoryProperties properties =
-                new CategoryProperties(categoryId, computeCategoryPageCount(categoryId));
-        mShownCategories.add(properties);
+    private void addShownCategoryId(final int categoryId, final ArrayList<String[]> codesArrays,
+            final ArrayList<String[]> textsArrays) {
+        final int pageCount;
+        if (categoryId == EmojiCategory.ID_RECENTS) {
+            pageCount = 1;
+        } else {
+            final String[] keySpecs = mRes.getStringArray(sCategoryKeySpecsArrayId[categoryId]);
+            final boolean isTextsArray = categoryId == EmojiCategory.ID_EMOTICONS;
+            (isTextsArray ? textsArrays : codesArrays).add(keySpecs);
+            pageCount = computeCategoryPageCount(keySpecs, isTextsArray);
+        }
+        mShownCategories.add(new CategoryProperties(categoryId, pageCount));
     }
 
     private boolean isShownCategoryId(final int categoryId) {
@@ -283,9 +330,17 @@ final class EmojiCategory {
         return getTabIdFromCategoryId(EmojiCategory.ID_RECENTS);
     }
 
-    private int computeCategoryPageCount(final int categoryId) {
-        final Keyboard keyboard = mLayoutSet.getKeyboard(sCategoryElementId[categoryId]);
-        return (keyboard.getSortedKeys().size() - 1) / computeMaxKeyCountPerPage() + 1;
+    // Counts the keys the category keyboard will have, it skips the emojis the platform doesn't
+    // support like the keyboard builder does.
+    private int computeCategoryPageCount(final String[] keySpecs, final boolean isTextsArray) {
+        int keyCount = 0;
+        for (final String keySpec : keySpecs) {
+            if (isTextsArray
+                    || Build.VERSION.SDK_INT >= CodesArrayParser.getMinSupportSdkVersion(keySpec)) {
+                keyCount++;
+            }
+        }
+        return (keyCount - 1) / computeMaxKeyCountPerPage() + 1;
     }
 
     // Returns a keyboard from the recycler view's adapter position.
@@ -302,46 +357,43 @@ final class EmojiCategory {
     }
 
     public DynamicGridKeyboard getKeyboard(final int categoryId, final int id) {
+        if (categoryId == EmojiCategory.ID_RECENTS) {
+            return mRecentsKeyboard;
+        }
         synchronized (mCategoryKeyboardMap) {
             final Long categoryKeyboardMapKey = getCategoryKeyboardMapKey(categoryId, id);
-            if (mCategoryKeyboardMap.containsKey(categoryKeyboardMapKey)) {
-                return mCategoryKeyboardMap.get(categoryKeyboardMapKey);
-            }
-
-            if (categoryId == EmojiCategory.ID_RECENTS) {
-                final DynamicGridKeyboard kbd = new DynamicGridKeyboard(mPrefs,
-                        mLayoutSet.getKeyboard(KeyboardId.ELEMENT_EMOJI_RECENTS),
-                        mMaxRecentsKeyCount, categoryId);
-                mCategoryKeyboardMap.put(categoryKeyboardMapKey, kbd);
-                return kbd;
+            final DynamicGridKeyboard cachedKeyboard =
+                    mCategoryKeyboardMap.get(categoryKeyboardMapKey);
+            if (cachedKeyboard != null) {
+                return cachedKeyboard;
             }
 
-            final Keyboard keyboard = mLayoutSet.getKeyboard(sCategoryElementId[categoryId]);
             final int keyCountPerPage = computeMaxKeyCountPerPage();
-            final Key[][] sortedKeysPages = sortKeysGrouped(
-                    keyboard.getSortedKeys(), keyCountPerPage);
-            for (int pageId = 0; pageId < sortedKeysPages.length; ++pageId) {
-                final DynamicGridKeyboard tempKeyboard = new DynamicGridKeyboard(mPrefs,
-                        mLayoutSet.getKeyboard(KeyboardId.ELEMENT_EMOJI_RECENTS),
-                        keyCountPerPage, categoryId);
-                for (final Key emojiKey : sortedKeysPages[pageId]) {
-                    if (emojiKey == null) {
-                        break;
-                    }
-                    tempKeyboard.addKeyLast(emojiKey);
-                }
-                mCategoryKeyboardMap.put(
-                        getCategoryKeyboardMapKey(categoryId, pageId), tempKeyboard);
+            if (mSortedKeysCategoryId != categoryId) {
+                final Keyboard keyboard = mLayoutSet.getKeyboard(sCategoryElementId[categoryId]);
+                mSortedKeys = sortKeys(keyboard.getSortedKeys());
+                mSortedKeysCategoryId = categoryId;
+            }
+            final DynamicGridKeyboard tempKeyboard = new DynamicGridKeyboard(mPrefs,
+                    mLayoutSet.getKeyboard(KeyboardId.ELEMENT_EMOJI_RECENTS),
+                    keyCountPerPage, categoryId);
+            final int end = Math.min(mSortedKeys.length, (id + 1) * keyCountPerPage);
+            for (int i = id * keyCountPerPage; i < end; ++i) {
+                tempKeyboard.addKeyLast(mSortedKeys[i]);
             }
-            return mCategoryKeyboardMap.get(categoryKeyboardMapKey);
+            mCategoryKeyboardMap.put(categoryKeyboardMapKey, tempKeyboard);
+            return tempKeyboard;
         }
     }
 
     private int computeMaxKeyCountPerPage() {
-        final DynamicGridKeyboard tempKeyboard = new DynamicGridKeyboard(mPrefs,
-                mLayoutSet.getKeyboard(KeyboardId.ELEMENT_EMOJI_RECENTS),
-                0, 0);
-        return MAX_LINE_COUNT_PER_PAGE * tempKeyboard.getColumnsCount();
+        if (mMaxKeyCountPerPage == 0) {
+            final DynamicGridKeyboard tempKeyboard = new DynamicGridKeyboard(mPrefs,
+                    mLayoutSet.getKeyboard(KeyboardId.ELEMENT_EMOJI_RECENTS),
+                    0, 0);
+            mMaxKeyCountPerPage = MAX_LINE_COUNT_PER_PAGE * tempKeyboard.getColumnsCount();
+        }
+        return mMaxKeyCountPerPage;
     }
 
     private static final Comparator<Key> EMOJI_KEY_COMPARATOR = (lhs, rhs) -> {
@@ -363,15 +415,10 @@ final class EmojiCategory {
         return lhs.getCode() < rhs.getCode() ? -1 : 1;
     };
 
-    private static Key[][] sortKeysGrouped(final List<Key> inKeys, final int maxPageCount) {
-        final ArrayList<Key> keys = new ArrayList<>(inKeys);
-        Collections.sort(keys, EMOJI_KEY_COMPARATOR);
-        final int pageCount = (keys.size() - 1) / maxPageCount + 1;
-        final Key[][] retval = new Key[pageCount][maxPageCount];
-        for (int i = 0; i < keys.size(); ++i) {
-            retval[i / maxPageCount][i % maxPageCount] = keys.get(i);
-        }
-        return retval;
+    private static Key[] sortKeys(final List<Key> inKeys) {
+        final Key[] keys = inKeys.toArray(new Key[inKeys.size()]);
+        Arrays.sort(keys, EMOJI_KEY_COMPARATOR);
+        return keys;
     }
 
     private static boolean canShowFlagEmoji() {
@@ -51,6 +51,13 @@ public abstract class AbstractDrawingPreview {
 
     public final void setPreviewEnabled(final boolean enabled) {
         mPreviewEnabled = enabled;
+        onPreviewEnabledChanged(enabled);
+    }
+
+    /**
+     * Called when the preview is enabled or disabled, for the previews that hold drawing state.
+     */
+    protected void onPreviewEnabledChanged(final boolean enabled) {
     }
 
     /**
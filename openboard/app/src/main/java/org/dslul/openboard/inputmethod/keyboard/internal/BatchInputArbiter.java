@@ -52,6 +52,10 @@ public class BatchInputArbiter {
         mRecognitionPoints.setKeyboardGeometry(keyWidth, keyboardHeight);
     }
 
+    public void setRecognitionParams(final GestureStrokeRecognitionParams params) {
+        mRecognitionPoints.setRecognitionParams(params);
+    }
+
     /**
      * Calculate elapsed time since the first gesture down.
      * @param eventTime the time of this event.
@@ -149,6 +153,14 @@ public class BatchInputArbiter {
             final int size = sAggregatedPointers.getPointerSize();
             if (size > sLastRecognitionPointSize && mRecognitionPoints.hasRecognitionTimePast(
                     moveEventTime, sLastRecognitionTime)) {
+                if (isStationarySince(sAggregatedPointers, sLastRecognitionPointSize)) {
+                    // Only synthetic timer points while the pointer rests on a key, which is
+                    // common with slow pointing devices. Decoding them would give the same
+                    // suggestions at the cost of a full decode; the tail batch input still
+                    // includes them.
+                    sLastRecognitionPointSize = size;
+                    return;
+                }
                 listener.onUpdateBatchInput(sAggregatedPointers, moveEventTime);
                 listener.onStartUpdateBatchInputTimer();
                 // The listener may change the size of the pointers (when auto-committing
@@ -159,6 +171,27 @@ public class BatchInputArbiter {
         }
     }
 
+    /**
+     * Returns true if all pointers from <code>start</code> on are at the position of the pointer
+     * just before it.
+     */
+    private static boolean isStationarySince(final InputPointers pointers, final int start) {
+        if (start <= 0) {
+            return false;
+        }
+        final int[] xCoordinates = pointers.getXCoordinates();
+        final int[] yCoordinates = pointers.getYCoordinates();
+        final int x = xCoordinates[start - 1];
+        final int y = yCoordinates[start - 1];
+        final int size = pointers.getPointerSize();
+        for (int index = start; index < size; index++) {
+            if (xCoordinates[index] != x || yCoordinates[index] != y) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Determine whether the batch input has ended successfully or continues.
      * @param upEventTime the time of this up event.
@@ -0,0 +1,318 @@
+package org.dslul.openboard.inputmethod.keyboard.internal;
+
+import android.content.Context;
+import android.content.pm.PackageInfo;
+import android.content.pm.PackageManager;
+import android.content.res.Configuration;
+import android.content.res.TypedArray;
+import android.util.Log;
+import android.view.inputmethod.InputMethodSubtype;
+
+import org.dslul.openboard.inputmethod.keyboard.Key;
+import org.dslul.openboard.inputmethod.keyboard.KeyboardId;
+import org.dslul.openboard.inputmethod.keyboard.KeyboardTheme;
+import org.dslul.openboard.inputmethod.latin.R;
+import org.dslul.openboard.inputmethod.latin.utils.ExecutorUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Keeps the keyboards built from the layout XML as compact binary files, so that a keyboard that
+ * was dropped from the in-memory cache can be restored with a single file read instead of parsing
+ * the XML, resolving the key styles and expanding the keyboard texts again.
+ *
+ * A keyboard is compiled the first time it is built from XML. The file is keyed by everything the
+ * build depends on: the {@link KeyboardId}, the keyboard theme, the resources configuration and
+ * the installed version of the app, so a stale file is never read.
+ */
+public final class CompiledKeyboardCache {
+    private static final String TAG = CompiledKeyboardCache.class.getSimpleName();
+    private static final boolean DEBUG = false;
+
+    private static final int FORMAT_VERSION = 1;
+    private static final String DIRECTORY_NAME = "compiled_keyboards";
+    private static final String FILE_EXTENSION = ".kbd";
+    private static final String TEMP_FILE_EXTENSION = ".tmp";
+    private static final int MAX_FILES = 64;
+
+    @Nonnull
+    private final File mDirectory;
+    @Nonnull
+    private final String mAppVersion;
+
+    public CompiledKeyboardCache(@Nonnull final Context context) {
+        mDirectory = new File(context.getCacheDir(), DIRECTORY_NAME);
+        mAppVersion = getAppVersion(context);
+    }
+
+    /**
+     * Reads the keyboard compiled for the given id into the params.
+     *
+     * @return true if the params are ready to build the keyboard, false if there is no usable
+     *         compiled keyboard. The params may have been partially filled in that case and must
+     *         not be used to build the keyboard from XML.
+     */
+    public boolean load(@Nonnull final Context context, @Nonnull final KeyboardId id,
+            @Nonnull final KeyboardParams params) {
+        final String cacheKey = getCacheKey(context, id);
+        final File file = getFile(cacheKey);
+        if (!file.isFile()) {
+            return false;
+        }
+        try {
+            final DataInputStream in = new DataInputStream(
+                    new ByteArrayInputStream(readFile(file)));
+            if (in.readInt() != FORMAT_VERSION || !cacheKey.equals(in.readUTF())) {
+                // Another keyboard with the same file name, or an older format.
+                return false;
+            }
+            params.mId = id;
+            readParams(in, params);
+            final int keyCount = in.readInt();
+            for (int i = 0; i < keyCount; i++) {
+                params.onAddCompiledKey(Key.readFrom(in));
+            }
+            loadIcons(context, params);
+            return true;
+        } catch (final IOException | RuntimeException e) {
+            Log.w(TAG, "Could not read compiled keyboard " + file, e);
+            file.delete();
+            return false;
+        }
+    }
+
+    /**
+     * Compiles the keyboard that was just built from XML with the given params. The params are
+     * written to memory right away, before the keyboard is used, and the file is written in the
+     * background.
+     */
+    public void save(@Nonnull final Context context, @Nonnull final KeyboardParams params) {
+        for (final Key key : params.mSortedKeys) {
+            if (key.getClass() != Key.class && !(key instanceof Key.Spacer)) {
+                // Only the keys the XML builder creates can be restored.
+                return;
+            }
+        }
+        final String cacheKey = getCacheKey(context, params.mId);
+        final byte[] data;
+        try {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            final DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(FORMAT_VERSION);
+            out.writeUTF(cacheKey);
+            writeParams(out, params);
+            out.writeInt(params.mSortedKeys.size());
+            for (final Key key : params.mSortedKeys) {
+                key.writeTo(out);
+            }
+            out.flush();
+            data = bytes.toByteArray();
+        } catch (final IOException e) {
+            Log.w(TAG, "Could not compile keyboard " + params.mId, e);
+            return;
+        }
+        ExecutorUtils.getBackgroundExecutor(ExecutorUtils.KEYBOARD).execute(new Runnable() {
+            @Override
+            public void run() {
+                writeFile(getFile(cacheKey), data);
+                trimFiles();
+            }
+        });
+    }
+
+    public static void writeString(@Nonnull final DataOutputStream out,
+            @Nullable final String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    @Nullable
+    public static String readString(@Nonnull final DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeParams(final DataOutputStream out, final KeyboardParams params)
+            throws IOException {
+        out.writeInt(params.mThemeId);
+        out.writeInt(params.mOccupiedHeight);
+        out.writeInt(params.mOccupiedWidth);
+        out.writeInt(params.mBaseHeight);
+        out.writeInt(params.mBaseWidth);
+        out.writeInt(params.mTopPadding);
+        out.writeInt(params.mBottomPadding);
+        out.writeInt(params.mLeftPadding);
+        out.writeInt(params.mRightPadding);
+        out.writeInt(params.mDefaultRowHeight);
+        out.writeInt(params.mDefaultKeyWidth);
+        out.writeInt(params.mHorizontalGap);
+        out.writeInt(params.mVerticalGap);
+        out.writeInt(params.mMoreKeysTemplate);
+        out.writeInt(params.mMaxMoreKeysKeyboardColumn);
+        out.writeInt(params.GRID_WIDTH);
+        out.writeInt(params.GRID_HEIGHT);
+        out.writeInt(params.mMostCommonKeyHeight);
+        out.writeInt(params.mMostCommonKeyWidth);
+        out.writeBoolean(params.mKeyVisualAttributes != null);
+        if (params.mKeyVisualAttributes != null) {
+            params.mKeyVisualAttributes.writeTo(out);
+        }
+        params.mTouchPositionCorrection.writeTo(out);
+    }
+
+    private static void readParams(final DataInputStream in, final KeyboardParams params)
+            throws IOException {
+        params.mThemeId = in.readInt();
+        params.mOccupiedHeight = in.readInt();
+        params.mOccupiedWidth = in.readInt();
+        params.mBaseHeight = in.readInt();
+        params.mBaseWidth = in.readInt();
+        params.mTopPadding = in.readInt();
+        params.mBottomPadding = in.readInt();
+        params.mLeftPadding = in.readInt();
+        params.mRightPadding = in.readInt();
+        params.mDefaultRowHeight = in.readInt();
+        params.mDefaultKeyWidth = in.readInt();
+        params.mHorizontalGap = in.readInt();
+        params.mVerticalGap = in.readInt();
+        params.mMoreKeysTemplate = in.readInt();
+        params.mMaxMoreKeysKeyboardColumn = in.readInt();
+        params.GRID_WIDTH = in.readInt();
+        params.GRID_HEIGHT = in.readInt();
+        params.mMostCommonKeyHeight = in.readInt();
+        params.mMostCommonKeyWidth = in.readInt();
+        params.mKeyVisualAttributes = in.readBoolean() ? KeyVisualAttributes.readFrom(in) : null;
+        params.mTouchPositionCorrection.readFrom(in);
+    }
+
+    // Icons are drawables and can't be compiled. The layouts never override the icons of the
+    // theme, so they are the ones of the keyboard style.
+    private static void loadIcons(final Context context, final KeyboardParams params) {
+        final TypedArray keyboardAttr = context.obtainStyledAttributes(
+                null, R.styleable.Keyboard, R.attr.keyboardStyle, R.style.Keyboard);
+        try {
+            params.mIconsSet.loadIcons(keyboardAttr);
+        } finally {
+            keyboardAttr.recycle();
+        }
+    }
+
+    @Nonnull
+    private String getCacheKey(final Context context, final KeyboardId id) {
+        final Configuration config = context.getResources().getConfiguration();
+        final InputMethodSubtype subtype = id.mSubtype.getRawSubtype();
+        return id.toString()
+                + " " + id.mCustomActionLabel
+                + " " + id.mOneHandedModeEnabled
+                + " " + subtype.getMode() + ":" + subtype.getExtraValue()
+                + " theme=" + KeyboardTheme.getKeyboardTheme(context).mThemeId
+                + " " + config.locale
+                + " " + config.densityDpi + "dpi"
+                + " " + config.fontScale
+                + " " + config.uiMode
+                + " " + config.orientation
+                + " " + config.screenWidthDp + "x" + config.screenHeightDp
+                + " " + config.smallestScreenWidthDp
+                + " " + mAppVersion;
+    }
+
+    @Nonnull
+    private File getFile(final String cacheKey) {
+        return new File(mDirectory, Integer.toHexString(cacheKey.hashCode()) + FILE_EXTENSION);
+    }
+
+    @Nonnull
+    private static byte[] readFile(final File file) throws IOException {
+        final FileInputStream inputStream = new FileInputStream(file);
+        try {
+            final byte[] data = new byte[(int) file.length()];
+            int offset = 0;
+            while (offset < data.length) {
+                final int read = inputStream.read(data, offset, data.length - offset);
+                if (read < 0) {
+                    throw new IOException("Unexpected end of file");
+                }
+                offset += read;
+            }
+            return data;
+        } finally {
+            inputStream.close();
+        }
+    }
+
+    private void writeFile(final File file, final byte[] data) {
+        if (!mDirectory.isDirectory() && !mDirectory.mkdirs()) {
+            Log.w(TAG, "Could not create " + mDirectory);
+            return;
+        }
+        // Write to a temporary file first so that readers never see a partial file.
+        final File tempFile = new File(mDirectory, file.getName() + TEMP_FILE_EXTENSION);
+        FileOutputStream outputStream = null;
+        try {
+            outputStream = new FileOutputStream(tempFile);
+            outputStream.write(data);
+            outputStream.close();
+            outputStream = null;
+            if (!tempFile.renameTo(file)) {
+                Log.w(TAG, "Could not rename " + tempFile + " to " + file);
+                tempFile.delete();
+            } else if (DEBUG) {
+                Log.d(TAG, "Compiled keyboard to " + file + ", " + data.length + " bytes");
+            }
+        } catch (final IOException e) {
+            Log.w(TAG, "Could not write compiled keyboard " + file, e);
+            tempFile.delete();
+        } finally {
+            if (outputStream != null) {
+                try {
+                    outputStream.close();
+                } catch (final IOException e) {
+                    // Nothing to do.
+                }
+            }
+        }
+    }
+
+    // Removes the least recently written files when there are too many, e.g. after the app was
+    // updated or the keyboard height was changed.
+    private void trimFiles() {
+        final File[] files = mDirectory.listFiles();
+        if (files == null || files.length <= MAX_FILES) {
+            return;
+        }
+        Arrays.sort(files, new Comparator<File>() {
+            @Override
+            public int compare(final File lhs, final File rhs) {
+                return Long.compare(rhs.lastModified(), lhs.lastModified());
+            }
+        });
+        for (int i = MAX_FILES; i < files.length; i++) {
+            files[i].delete();
+        }
+    }
+
+    @Nonnull
+    private static String getAppVersion(final Context context) {
+        try {
+            final PackageInfo info = context.getPackageManager().getPackageInfo(
+                    context.getPackageName(), 0);
+            return info.versionCode + "-" + info.lastUpdateTime;
+        } catch (final PackageManager.NameNotFoundException e) {
+            // Can't happen for our own package, but don't trust any compiled keyboard if it does.
+            return Long.toString(System.currentTimeMillis());
+        }
+    }
+}
@@ -54,11 +54,38 @@ public final class GestureStrokeRecognitionParams {
     // Parameters for gesture recognition
     public final int mRecognitionMinimumTime; // msec
     public final float mRecognitionSpeedThreshold; // keyWidth/sec
+    // Parameters for jitter suppression. A short step that turns back on the previous one is
+    // treated as tremor and not sampled. 0 disables the suppression.
+    public final float mJitterTolerance; // keyWidth
+
+    // Input device profiles that can be selected at runtime, see
+    // {@link org.dslul.openboard.inputmethod.keyboard.PointerTracker#setGestureRecognitionProfile}.
+    // Finger input, with the parameters of the keyboard theme.
+    public static final String PROFILE_TOUCH = "touch";
+    // Head pointer driven by HeadBoard: slow, noisy strokes with long dwells on keys.
+    public static final String PROFILE_HEAD_POINTER = "head_pointer";
 
     // Default GestureStrokeRecognitionPoints parameters.
     public static final GestureStrokeRecognitionParams DEFAULT =
             new GestureStrokeRecognitionParams();
 
+    // Parameters for a head pointer. It moves a few key widths per second at most, so the speed
+    // thresholds are lower, while the start thresholds and the sampling distance are raised so
+    // that tremor neither starts a gesture nor adds points.
+    public static final GestureStrokeRecognitionParams HEAD_POINTER =
+            new GestureStrokeRecognitionParams(
+                    350, // mStaticTimeThresholdAfterFastTyping, msec
+                    0.8f, // mDetectFastMoveSpeedThreshold, keyWidth/sec
+                    450, // mDynamicThresholdDecayDuration, msec
+                    300, // mDynamicTimeThresholdFrom, msec
+                    80, // mDynamicTimeThresholdTo, msec
+                    6.0f, // mDynamicDistanceThresholdFrom, keyWidth
+                    0.5f, // mDynamicDistanceThresholdTo, keyWidth
+                    0.25f, // mSamplingMinimumDistance, keyWidth
+                    200, // mRecognitionMinimumTime, msec
+                    2.0f, // mRecognitionSpeedThreshold, keyWidth/sec
+                    0.2f); // mJitterTolerance, keyWidth
+
     private GestureStrokeRecognitionParams() {
         // These parameter values are default and intended for testing.
         mStaticTimeThresholdAfterFastTyping = 350; // msec
@@ -72,6 +99,26 @@ public final class GestureStrokeRecognitionParams {
         mSamplingMinimumDistance = 1.0f / 6.0f; // keyWidth
         mRecognitionMinimumTime = 100; // msec
         mRecognitionSpeedThreshold = 5.5f; // keyWidth/sec
+        mJitterTolerance = 0.0f; // keyWidth
+    }
+
+    private GestureStrokeRecognitionParams(final int staticTimeThresholdAfterFastTyping,
+            final float detectFastMoveSpeedThreshold, final int dynamicThresholdDecayDuration,
+            final int dynamicTimeThresholdFrom, final int dynamicTimeThresholdTo,
+            final float dynamicDistanceThresholdFrom, final float dynamicDistanceThresholdTo,
+            final float samplingMinimumDistance, final int recognitionMinimumTime,
+            final float recognitionSpeedThreshold, final float jitterTolerance) {
+        mStaticTimeThresholdAfterFastTyping = staticTimeThresholdAfterFastTyping;
+        mDetectFastMoveSpeedThreshold = detectFastMoveSpeedThreshold;
+        mDynamicThresholdDecayDuration = dynamicThresholdDecayDuration;
+        mDynamicTimeThresholdFrom = dynamicTimeThresholdFrom;
+        mDynamicTimeThresholdTo = dynamicTimeThresholdTo;
+        mDynamicDistanceThresholdFrom = dynamicDistanceThresholdFrom;
+        mDynamicDistanceThresholdTo = dynamicDistanceThresholdTo;
+        mSamplingMinimumDistance = samplingMinimumDistance;
+        mRecognitionMinimumTime = recognitionMinimumTime;
+        mRecognitionSpeedThreshold = recognitionSpeedThreshold;
+        mJitterTolerance = jitterTolerance;
     }
 
     public GestureStrokeRecognitionParams(final TypedArray mainKeyboardViewAttr) {
@@ -105,5 +152,6 @@ public final class GestureStrokeRecognitionParams {
         mRecognitionSpeedThreshold = ResourceUtils.getFraction(mainKeyboardViewAttr,
                 R.styleable.MainKeyboardView_gestureRecognitionSpeedThreshold,
                 DEFAULT.mRecognitionSpeedThreshold);
+        mJitterTolerance = DEFAULT.mJitterTolerance;
     }
 }
@@ -43,9 +43,10 @@ public final class GestureStrokeRecognitionPoints {
     private final ResizableIntArray mYCoordinates = new ResizableIntArray(
             Constants.DEFAULT_GESTURE_POINTS_CAPACITY);
 
-    private final GestureStrokeRecognitionParams mRecognitionParams;
+    private GestureStrokeRecognitionParams mRecognitionParams;
 
     private int mKeyWidth; // pixel
+    private int mKeyboardHeight; // pixel
     private int mMinYCoordinate; // pixel
     private int mMaxYCoordinate; // pixel
     // Static threshold for starting gesture detection
@@ -59,6 +60,7 @@ public final class GestureStrokeRecognitionPoints {
     private int mGestureDynamicDistanceThresholdTo; // pixel
     // Variables for gesture sampling
     private int mGestureSamplingMinimumDistance; // pixel
+    private int mGestureJitterTolerance; // pixel
     private long mLastMajorEventTime;
     private int mLastMajorEventX;
     private int mLastMajorEventY;
@@ -79,6 +81,7 @@ public final class GestureStrokeRecognitionPoints {
     // TODO: Make this package private
     public void setKeyboardGeometry(final int keyWidth, final int keyboardHeight) {
         mKeyWidth = keyWidth;
+        mKeyboardHeight = keyboardHeight;
         mMinYCoordinate = -(int)(keyboardHeight * EXTRA_GESTURE_TRAIL_AREA_ABOVE_KEYBOARD_RATIO);
         mMaxYCoordinate = keyboardHeight;
         // TODO: Find an appropriate base metric for these length. Maybe diagonal length of the key?
@@ -90,6 +93,7 @@ public final class GestureStrokeRecognitionPoints {
                 keyWidth * mRecognitionParams.mDynamicDistanceThresholdTo);
         mGestureSamplingMinimumDistance = (int)(
                 keyWidth * mRecognitionParams.mSamplingMinimumDistance);
+        mGestureJitterTolerance = (int)(keyWidth * mRecognitionParams.mJitterTolerance);
         mGestureRecognitionSpeedThreshold = (int)(
                 keyWidth * mRecognitionParams.mRecognitionSpeedThreshold);
         if (DEBUG) {
@@ -103,6 +107,14 @@ public final class GestureStrokeRecognitionPoints {
         }
     }
 
+    // TODO: Make this package private
+    public void setRecognitionParams(final GestureStrokeRecognitionParams recognitionParams) {
+        mRecognitionParams = recognitionParams;
+        if (mKeyWidth > 0) {
+            setKeyboardGeometry(mKeyWidth, mKeyboardHeight);
+        }
+    }
+
     // TODO: Make this package private
     public int getLength() {
         return mEventTimes.getLength();
@@ -276,7 +288,7 @@ public final class GestureStrokeRecognitionPoints {
             // The first event of this stroke (a.k.a. down event).
             appendPoint(x, y, time);
             updateMajorEvent(x, y, time);
-        } else {
+        } else if (!isJitter(x, y)) {
             final int distance = detectFastMove(x, y, time);
             if (distance > mGestureSamplingMinimumDistance) {
                 appendPoint(x, y, time);
@@ -289,6 +301,26 @@ public final class GestureStrokeRecognitionPoints {
         return y >= mMinYCoordinate && y < mMaxYCoordinate;
     }
 
+    /**
+     * Returns true if the point is tremor around the last sampled point: a step shorter than the
+     * jitter tolerance that turns back on the previous step. Such points are neither sampled nor
+     * used to detect a fast move, since their speed is noise.
+     */
+    private boolean isJitter(final int x, final int y) {
+        final int size = getLength();
+        if (mGestureJitterTolerance <= 0 || size < 2) {
+            return false;
+        }
+        final int lastX = mXCoordinates.get(size - 1);
+        final int lastY = mYCoordinates.get(size - 1);
+        if (getDistance(lastX, lastY, x, y) >= mGestureJitterTolerance) {
+            return false;
+        }
+        final int previousDx = lastX - mXCoordinates.get(size - 2);
+        final int previousDy = lastY - mYCoordinates.get(size - 2);
+        return previousDx * (x - lastX) + previousDy * (y - lastY) < 0;
+    }
+
     private void updateIncrementalRecognitionSize(final int x, final int y, final int time) {
         final int msecs = (int)(time - mLastMajorEventTime);
         if (msecs <= 0) {
@@ -33,6 +33,10 @@ import org.dslul.openboard.inputmethod.latin.common.ResizableIntArray;
  * On the other hand, {@link GestureStrokeDrawingPoints} class holds drawing points of each gesture
  * stroke. This class holds drawing points of those gesture strokes to draw as a gesture trail.
  * Drawing points in this class will be asynchronously removed when fading out animation goes.
+ *
+ * Strokes are added on the UI thread and the trail is drawn on the gesture trail rendering thread,
+ * see {@link GestureTrailsDrawingPreview}. The drawing thread only holds the lock to copy the
+ * points it draws, so that adding points is never blocked by drawing.
  */
 final class GestureTrailDrawingPoints {
     public static final boolean DEBUG_SHOW_POINTS = false;
@@ -53,6 +57,13 @@ final class GestureTrailDrawingPoints {
     private int mTrailStartIndex;
     private int mLastInterpolatedDrawIndex;
 
+    // Copy of the points to draw, only used by the drawing thread.
+    private final ResizableIntArray mDrawingXCoordinates = new ResizableIntArray(DEFAULT_CAPACITY);
+    private final ResizableIntArray mDrawingYCoordinates = new ResizableIntArray(DEFAULT_CAPACITY);
+    private final ResizableIntArray mDrawingEventTimes = new ResizableIntArray(DEFAULT_CAPACITY);
+    private final ResizableIntArray mDrawingPointTypes = new ResizableIntArray(
+            DEBUG_SHOW_POINTS ? DEFAULT_CAPACITY : 0);
+
     // Use this value as imaginary zero because x-coordinates may be zero.
     private static final int DOWN_EVENT_MARKER = -128;
 
@@ -169,15 +180,22 @@ final class GestureTrailDrawingPoints {
      */
     public boolean drawGestureTrail(final Canvas canvas, final Paint paint,
             final Rect outBoundsRect, final GestureTrailDrawingParams params) {
+        final int sinceDown;
+        final boolean hasRemainingPoints;
         synchronized (mEventTimes) {
-            return drawGestureTrailLocked(canvas, paint, outBoundsRect, params);
+            sinceDown = (int)(SystemClock.uptimeMillis() - mCurrentTimeBase);
+            hasRemainingPoints = copyTrailLocked(sinceDown, params);
         }
+        drawTrail(canvas, paint, outBoundsRect, params, sinceDown);
+        return hasRemainingPoints;
     }
 
-    private boolean drawGestureTrailLocked(final Canvas canvas, final Paint paint,
-            final Rect outBoundsRect, final GestureTrailDrawingParams params) {
-        // Initialize bounds rectangle.
-        outBoundsRect.setEmpty();
+    // Removes the points that are too old to be drawn and copies the others for drawing.
+    private boolean copyTrailLocked(final int sinceDown, final GestureTrailDrawingParams params) {
+        mDrawingEventTimes.setLength(0);
+        mDrawingXCoordinates.setLength(0);
+        mDrawingYCoordinates.setLength(0);
+        mDrawingPointTypes.setLength(0);
         final int trailSize = mEventTimes.getLength();
         if (trailSize == 0) {
             return false;
@@ -187,7 +205,6 @@ final class GestureTrailDrawingPoints {
         final int[] xCoords = mXCoordinates.getPrimitiveArray();
         final int[] yCoords = mYCoordinates.getPrimitiveArray();
         final int[] pointTypes = mPointTypes.getPrimitiveArray();
-        final int sinceDown = (int)(SystemClock.uptimeMillis() - mCurrentTimeBase);
         int startIndex;
         for (startIndex = mTrailStartIndex; startIndex < trailSize; startIndex++) {
             final int elapsedTime = sinceDown - eventTimes[startIndex];
@@ -198,49 +215,14 @@ final class GestureTrailDrawingPoints {
         }
         mTrailStartIndex = startIndex;
 
-        if (startIndex < trailSize) {
-            paint.setColor(params.mTrailColor);
-            paint.setStyle(Paint.Style.FILL);
-            final RoundedLine roundedLine = mRoundedLine;
-            int p1x = getXCoordValue(xCoords[startIndex]);
-            int p1y = yCoords[startIndex];
-            final int lastTime = sinceDown - eventTimes[startIndex];
-            float r1 = getWidth(lastTime, params) / 2.0f;
-            for (int i = startIndex + 1; i < trailSize; i++) {
-                final int elapsedTime = sinceDown - eventTimes[i];
-                final int p2x = getXCoordValue(xCoords[i]);
-                final int p2y = yCoords[i];
-                final float r2 = getWidth(elapsedTime, params) / 2.0f;
-                // Draw trail line only when the current point isn't a down point.
-                if (!isDownEventXCoord(xCoords[i])) {
-                    final float body1 = r1 * params.mTrailBodyRatio;
-                    final float body2 = r2 * params.mTrailBodyRatio;
-                    final Path path = roundedLine.makePath(p1x, p1y, body1, p2x, p2y, body2);
-                    if (!path.isEmpty()) {
-                        roundedLine.getBounds(mRoundedLineBounds);
-                        if (params.mTrailShadowEnabled) {
-                            final float shadow2 = r2 * params.mTrailShadowRatio;
-                            paint.setShadowLayer(shadow2, 0.0f, 0.0f, params.mTrailColor);
-                            final int shadowInset = -(int)Math.ceil(shadow2);
-                            mRoundedLineBounds.inset(shadowInset, shadowInset);
-                        }
-                        // Take union for the bounds.
-                        outBoundsRect.union(mRoundedLineBounds);
-                        final int alpha = getAlpha(elapsedTime, params);
-                        paint.setAlpha(alpha);
-                        canvas.drawPath(path, paint);
-                    }
-                }
-                p1x = p2x;
-                p1y = p2y;
-                r1 = r2;
-            }
-            if (DEBUG_SHOW_POINTS) {
-                debugDrawPoints(canvas, startIndex, trailSize, paint);
-            }
+        final int newSize = trailSize - startIndex;
+        mDrawingEventTimes.append(mEventTimes, startIndex, newSize);
+        mDrawingXCoordinates.append(mXCoordinates, startIndex, newSize);
+        mDrawingYCoordinates.append(mYCoordinates, startIndex, newSize);
+        if (DEBUG_SHOW_POINTS) {
+            mDrawingPointTypes.append(mPointTypes, startIndex, newSize);
         }
 
-        final int newSize = trailSize - startIndex;
         if (newSize < startIndex) {
             mTrailStartIndex = 0;
             if (newSize > 0) {
@@ -265,11 +247,64 @@ final class GestureTrailDrawingPoints {
         return newSize > 0;
     }
 
+    private void drawTrail(final Canvas canvas, final Paint paint, final Rect outBoundsRect,
+            final GestureTrailDrawingParams params, final int sinceDown) {
+        // Initialize bounds rectangle.
+        outBoundsRect.setEmpty();
+        final int trailSize = mDrawingEventTimes.getLength();
+        if (trailSize == 0) {
+            return;
+        }
+
+        final int[] eventTimes = mDrawingEventTimes.getPrimitiveArray();
+        final int[] xCoords = mDrawingXCoordinates.getPrimitiveArray();
+        final int[] yCoords = mDrawingYCoordinates.getPrimitiveArray();
+        paint.setColor(params.mTrailColor);
+        paint.setStyle(Paint.Style.FILL);
+        final RoundedLine roundedLine = mRoundedLine;
+        int p1x = getXCoordValue(xCoords[0]);
+        int p1y = yCoords[0];
+        final int lastTime = sinceDown - eventTimes[0];
+        float r1 = getWidth(lastTime, params) / 2.0f;
+        for (int i = 1; i < trailSize; i++) {
+            final int elapsedTime = sinceDown - eventTimes[i];
+            final int p2x = getXCoordValue(xCoords[i]);
+            final int p2y = yCoords[i];
+            final float r2 = getWidth(elapsedTime, params) / 2.0f;
+            // Draw trail line only when the current point isn't a down point.
+            if (!isDownEventXCoord(xCoords[i])) {
+                final float body1 = r1 * params.mTrailBodyRatio;
+                final float body2 = r2 * params.mTrailBodyRatio;
+                final Path path = roundedLine.makePath(p1x, p1y, body1, p2x, p2y, body2);
+                if (!path.isEmpty()) {
+                    roundedLine.getBounds(mRoundedLineBounds);
+                    if (params.mTrailShadowEnabled) {
+                        final float shadow2 = r2 * params.mTrailShadowRatio;
+                        paint.setShadowLayer(shadow2, 0.0f, 0.0f, params.mTrailColor);
+                        final int shadowInset = -(int)Math.ceil(shadow2);
+                        mRoundedLineBounds.inset(shadowInset, shadowInset);
+                    }
+                    // Take union for the bounds.
+                    outBoundsRect.union(mRoundedLineBounds);
+                    final int alpha = getAlpha(elapsedTime, params);
+                    paint.setAlpha(alpha);
+                    canvas.drawPath(path, paint);
+                }
+            }
+            p1x = p2x;
+            p1y = p2y;
+            r1 = r2;
+        }
+        if (DEBUG_SHOW_POINTS) {
+            debugDrawPoints(canvas, 0, trailSize, paint);
+        }
+    }
+
     private void debugDrawPoints(final Canvas canvas, final int startIndex, final int endIndex,
             final Paint paint) {
-        final int[] xCoords = mXCoordinates.getPrimitiveArray();
-        final int[] yCoords = mYCoordinates.getPrimitiveArray();
-        final int[] pointTypes = mPointTypes.getPrimitiveArray();
+        final int[] xCoords = mDrawingXCoordinates.getPrimitiveArray();
+        final int[] yCoords = mDrawingYCoordinates.getPrimitiveArray();
+        final int[] pointTypes = mDrawingPointTypes.getPrimitiveArray();
         // {@link Paint} that is zero width stroke and anti alias off draws exactly 1 pixel.
         paint.setAntiAlias(false);
         paint.setStrokeWidth(0);
@@ -25,27 +25,66 @@ import android.graphics.PorterDuff;
 import android.graphics.PorterDuffXfermode;
 import android.graphics.Rect;
 import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Process;
+import android.os.SystemClock;
 import android.util.SparseArray;
 
 import org.dslul.openboard.inputmethod.keyboard.PointerTracker;
 
+import java.util.ArrayList;
+
 /**
  * Draw preview graphics of multiple gesture trails during gesture input.
+ *
+ * The trails are rendered on a dedicated thread into one of two offscreen buffers while the UI
+ * thread draws the other one, so the UI thread only copies a bitmap per frame however long the
+ * trails are. The buffers are swapped when a frame is rendered. A new frame is only rendered
+ * after the UI thread has drawn the last one, so the buffer the UI thread may still be showing is
+ * never drawn into. A frame the UI thread doesn't draw in time, e.g. because the view is hidden,
+ * doesn't hold back the next ones.
  */
 public final class GestureTrailsDrawingPreview extends AbstractDrawingPreview implements Runnable {
+    private static Handler sRenderingHandler;
+
+    // Time after which a frame the UI thread hasn't drawn is considered dropped.
+    private static final long FRAME_DRAW_TIMEOUT_MS = 200;
+
     private final SparseArray<GestureTrailDrawingPoints> mGestureTrails = new SparseArray<>();
     private final GestureTrailDrawingParams mDrawingParams;
-    private final Paint mGesturePaint;
+    private final Handler mDrawingHandler = new Handler();
+    private final Rect mOffscreenSrcRect = new Rect();
+
+    // Shared by the UI thread and the rendering thread, guarded by {@link #mBufferLock}.
+    private final Object mBufferLock = new Object();
     private int mOffscreenWidth;
     private int mOffscreenHeight;
     private int mOffscreenOffsetY;
-    private Bitmap mOffscreenBuffer;
-    private final Canvas mOffscreenCanvas = new Canvas();
-    private final Rect mOffscreenSrcRect = new Rect();
-    private final Rect mDirtyRect = new Rect();
+    // The buffer drawn by the UI thread and the bounding box of the trails in it.
+    private Bitmap mFrontBuffer;
+    private Rect mFrontDirtyRect = new Rect();
+    private int mFrontOffsetY;
+    // Whether the UI thread has drawn the front buffer since it was swapped in, and when it was.
+    private boolean mFrontBufferDrawn = true;
+    private long mFrontBufferSwapTime;
+    private boolean mFramePending;
+    // Whether a frame must be rendered once the UI thread has drawn the front buffer.
+    private boolean mNeedsFrame;
+
+    // Only used by the rendering thread.
+    private final Paint mGesturePaint;
+    private Bitmap mBackBuffer;
+    private final Canvas mBackCanvas = new Canvas();
+    private Rect mBackDirtyRect = new Rect();
     private final Rect mGestureTrailBoundsRect = new Rect(); // per trail
+    private final ArrayList<GestureTrailDrawingPoints> mDrawingTrails = new ArrayList<>();
 
-    private final Handler mDrawingHandler = new Handler();
+    private final Runnable mRenderFrame = new Runnable() {
+        @Override
+        public void run() {
+            renderFrame();
+        }
+    };
 
     public GestureTrailsDrawingPreview(final TypedArray mainKeyboardViewAttr) {
         mDrawingParams = new GestureTrailDrawingParams(mainKeyboardViewAttr);
@@ -55,9 +94,20 @@ public final class GestureTrailsDrawingPreview extends AbstractDrawingPreview im
         mGesturePaint = gesturePaint;
     }
 
+    private static synchronized Handler getRenderingHandler() {
+        if (sRenderingHandler == null) {
+            final HandlerThread renderingThread = new HandlerThread(
+                    GestureTrailsDrawingPreview.class.getSimpleName(),
+                    Process.THREAD_PRIORITY_DISPLAY);
+            renderingThread.start();
+            sRenderingHandler = new Handler(renderingThread.getLooper());
+        }
+        return sRenderingHandler;
+    }
+
     public void setTrailColor(final int color) {
         mDrawingParams.setTrailColor(color);
-        invalidateDrawingView();
+        requestFrame(0 /* delay */);
     }
 
     public GestureTrailDrawingParams getDrawingParams() {
@@ -68,38 +118,133 @@ public final class GestureTrailsDrawingPreview extends AbstractDrawingPreview im
     public void setKeyboardViewGeometry(final int[] originCoords, final int width,
             final int height) {
         super.setKeyboardViewGeometry(originCoords, width, height);
-        mOffscreenOffsetY = (int)(height
+        final int offscreenOffsetY = (int)(height
                 * GestureStrokeRecognitionPoints.EXTRA_GESTURE_TRAIL_AREA_ABOVE_KEYBOARD_RATIO);
-        mOffscreenWidth = width;
-        mOffscreenHeight = mOffscreenOffsetY + height;
+        synchronized (mBufferLock) {
+            mOffscreenOffsetY = offscreenOffsetY;
+            mOffscreenWidth = width;
+            mOffscreenHeight = offscreenOffsetY + height;
+        }
+    }
+
+    @Override
+    protected void onPreviewEnabledChanged(final boolean enabled) {
+        if (enabled) {
+            return;
+        }
+        // No frame is drawn while disabled, don't wait for one.
+        synchronized (mBufferLock) {
+            mFrontDirtyRect.setEmpty();
+            mFrontBufferDrawn = true;
+            mNeedsFrame = false;
+        }
     }
 
     @Override
     public void onDeallocateMemory() {
-        freeOffscreenBuffer();
+        synchronized (mBufferLock) {
+            mFrontBuffer = null;
+            mFrontDirtyRect.setEmpty();
+            mFrontBufferDrawn = true;
+            mNeedsFrame = false;
+        }
+        final Handler renderingHandler = getRenderingHandler();
+        renderingHandler.removeCallbacks(mRenderFrame);
+        renderingHandler.post(new Runnable() {
+            @Override
+            public void run() {
+                freeBackBuffer();
+            }
+        });
     }
 
-    private void freeOffscreenBuffer() {
-        mOffscreenCanvas.setBitmap(null);
-        mOffscreenCanvas.setMatrix(null);
-        if (mOffscreenBuffer != null) {
-            mOffscreenBuffer.recycle();
-            mOffscreenBuffer = null;
+    // Called on the rendering thread. The buffer isn't recycled because the last frame drawn by
+    // the UI thread may still refer to it.
+    private void freeBackBuffer() {
+        mBackCanvas.setBitmap(null);
+        mBackDirtyRect.setEmpty();
+        mBackBuffer = null;
+    }
+
+    // Called on the rendering thread.
+    private void mayAllocateBackBuffer(final int width, final int height) {
+        if (mBackBuffer != null && mBackBuffer.getWidth() == width
+                && mBackBuffer.getHeight() == height) {
+            return;
         }
+        freeBackBuffer();
+        mBackBuffer = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+        mBackCanvas.setBitmap(mBackBuffer);
     }
 
-    private void mayAllocateOffscreenBuffer() {
-        if (mOffscreenBuffer != null && mOffscreenBuffer.getWidth() == mOffscreenWidth
-                && mOffscreenBuffer.getHeight() == mOffscreenHeight) {
+    // Whether the back buffer can be drawn into: the UI thread drew the front buffer, or it hasn't
+    // tried for so long that it is not going to.
+    private boolean isFrontBufferConsumedLocked() {
+        return mFrontBufferDrawn
+                || SystemClock.uptimeMillis() - mFrontBufferSwapTime >= FRAME_DRAW_TIMEOUT_MS;
+    }
+
+    private void requestFrame(final long delay) {
+        synchronized (mBufferLock) {
+            if (!isFrontBufferConsumedLocked()) {
+                mNeedsFrame = true;
+                return;
+            }
+            if (mFramePending && delay > 0) {
+                return;
+            }
+            mFramePending = true;
+        }
+        final Handler renderingHandler = getRenderingHandler();
+        renderingHandler.removeCallbacks(mRenderFrame);
+        renderingHandler.postDelayed(mRenderFrame, delay);
+    }
+
+    // Called on the rendering thread.
+    private void renderFrame() {
+        final int width, height, offsetY;
+        synchronized (mBufferLock) {
+            mFramePending = false;
+            if (!isFrontBufferConsumedLocked()) {
+                mNeedsFrame = true;
+                return;
+            }
+            width = mOffscreenWidth;
+            height = mOffscreenHeight;
+            offsetY = mOffscreenOffsetY;
+        }
+        if (width <= 0 || height <= 0) {
             return;
         }
-        freeOffscreenBuffer();
-        mOffscreenBuffer = Bitmap.createBitmap(
-                mOffscreenWidth, mOffscreenHeight, Bitmap.Config.ARGB_8888);
-        mOffscreenCanvas.setBitmap(mOffscreenBuffer);
-        mOffscreenCanvas.translate(0, mOffscreenOffsetY);
+        mayAllocateBackBuffer(width, height);
+        mBackCanvas.save();
+        mBackCanvas.translate(0, offsetY);
+        final boolean needsUpdatingGestureTrail = drawGestureTrails(
+                mBackCanvas, mGesturePaint, mBackDirtyRect);
+        mBackCanvas.restore();
+
+        synchronized (mBufferLock) {
+            final Bitmap buffer = mFrontBuffer;
+            mFrontBuffer = mBackBuffer;
+            mBackBuffer = buffer;
+            final Rect dirtyRect = mFrontDirtyRect;
+            mFrontDirtyRect = mBackDirtyRect;
+            mBackDirtyRect = dirtyRect;
+            mFrontOffsetY = offsetY;
+            mFrontBufferDrawn = false;
+            mFrontBufferSwapTime = SystemClock.uptimeMillis();
+            mNeedsFrame = needsUpdatingGestureTrail;
+        }
+        mBackCanvas.setBitmap(mBackBuffer);
+        if (mBackBuffer != null && (mBackBuffer.getWidth() != width
+                || mBackBuffer.getHeight() != height)) {
+            // The geometry changed, the buffer is reallocated with the next frame.
+            freeBackBuffer();
+        }
+        mDrawingHandler.post(this);
     }
 
+    // Called on the rendering thread.
     private boolean drawGestureTrails(final Canvas offscreenCanvas, final Paint paint,
             final Rect dirtyRect) {
         // Clear previous dirty rectangle.
@@ -110,18 +255,24 @@ public final class GestureTrailsDrawingPreview extends AbstractDrawingPreview im
         }
         dirtyRect.setEmpty();
         boolean needsUpdatingGestureTrail = false;
-        // Draw gesture trails to offscreen buffer.
+        // Don't hold the lock while drawing, new trails are added on the UI thread.
+        mDrawingTrails.clear();
         synchronized (mGestureTrails) {
             // Trails count == fingers count that have ever been active.
             final int trailsCount = mGestureTrails.size();
             for (int index = 0; index < trailsCount; index++) {
-                final GestureTrailDrawingPoints trail = mGestureTrails.valueAt(index);
-                needsUpdatingGestureTrail |= trail.drawGestureTrail(offscreenCanvas, paint,
-                        mGestureTrailBoundsRect, mDrawingParams);
-                // {@link #mGestureTrailBoundsRect} has bounding box of the trail.
-                dirtyRect.union(mGestureTrailBoundsRect);
+                mDrawingTrails.add(mGestureTrails.valueAt(index));
             }
         }
+        // Draw gesture trails to offscreen buffer.
+        final int trailsCount = mDrawingTrails.size();
+        for (int index = 0; index < trailsCount; index++) {
+            final GestureTrailDrawingPoints trail = mDrawingTrails.get(index);
+            needsUpdatingGestureTrail |= trail.drawGestureTrail(offscreenCanvas, paint,
+                    mGestureTrailBoundsRect, mDrawingParams);
+            // {@link #mGestureTrailBoundsRect} has bounding box of the trail.
+            dirtyRect.union(mGestureTrailBoundsRect);
+        }
         return needsUpdatingGestureTrail;
     }
 
@@ -138,23 +289,29 @@ public final class GestureTrailsDrawingPreview extends AbstractDrawingPreview im
     @Override
     public void drawPreview(final Canvas canvas) {
         if (!isPreviewEnabled()) {
+            // Nothing is shown, but the frame is consumed so that rendering can go on.
+            synchronized (mBufferLock) {
+                mFrontBufferDrawn = true;
+                mNeedsFrame = false;
+            }
             return;
         }
-        mayAllocateOffscreenBuffer();
-        // Draw gesture trails to offscreen buffer.
-        final boolean needsUpdatingGestureTrail = drawGestureTrails(
-                mOffscreenCanvas, mGesturePaint, mDirtyRect);
-        if (needsUpdatingGestureTrail) {
-            mDrawingHandler.removeCallbacks(this);
-            mDrawingHandler.postDelayed(this, mDrawingParams.mUpdateInterval);
+        final boolean needsFrame;
+        synchronized (mBufferLock) {
+            // Transfer offscreen buffer to screen.
+            if (mFrontBuffer != null && !mFrontDirtyRect.isEmpty()) {
+                mOffscreenSrcRect.set(mFrontDirtyRect);
+                mOffscreenSrcRect.offset(0, mFrontOffsetY);
+                canvas.drawBitmap(mFrontBuffer, mOffscreenSrcRect, mFrontDirtyRect, null);
+                // Note: Defer clearing the dirty rectangle here because we will get cleared
+                // rectangle on the canvas.
+            }
+            mFrontBufferDrawn = true;
+            needsFrame = mNeedsFrame;
+            mNeedsFrame = false;
         }
-        // Transfer offscreen buffer to screen.
-        if (!mDirtyRect.isEmpty()) {
-            mOffscreenSrcRect.set(mDirtyRect);
-            mOffscreenSrcRect.offset(0, mOffscreenOffsetY);
-            canvas.drawBitmap(mOffscreenBuffer, mOffscreenSrcRect, mDirtyRect, null);
-            // Note: Defer clearing the dirty rectangle here because we will get cleared
-            // rectangle on the canvas.
+        if (needsFrame) {
+            requestFrame(mDrawingParams.mUpdateInterval);
         }
     }
 
@@ -176,8 +333,6 @@ public final class GestureTrailsDrawingPreview extends AbstractDrawingPreview im
             }
         }
         trail.addStroke(tracker.getGestureStrokeDrawingPoints(), tracker.getDownTime());
-
-        // TODO: Should narrow the invalidate region.
-        invalidateDrawingView();
+        requestFrame(0 /* delay */);
     }
 }
@@ -23,6 +23,10 @@ import android.util.SparseIntArray;
 import org.dslul.openboard.inputmethod.latin.R;
 import org.dslul.openboard.inputmethod.latin.utils.ResourceUtils;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -76,6 +80,9 @@ public final class KeyVisualAttributes {
         R.styleable.Keyboard_Key_keyLabelOffCenterRatio,
         R.styleable.Keyboard_Key_keyHintLabelOffCenterRatio
     };
+    // Written in place of the typeface style when the typeface is not specified.
+    private static final int NO_TYPEFACE = -1;
+
     private static final SparseIntArray sVisualAttributeIds = new SparseIntArray();
     private static final int ATTR_DEFINED = 1;
     private static final int ATTR_NOT_FOUND = 0;
@@ -145,4 +152,62 @@ public final class KeyVisualAttributes {
         mHintLabelOffCenterRatio = ResourceUtils.getFraction(keyAttr,
                 R.styleable.Keyboard_Key_keyHintLabelOffCenterRatio, 0.0f);
     }
+
+    public void writeTo(@Nonnull final DataOutputStream out) throws IOException {
+        out.writeInt(mTypeface == null ? NO_TYPEFACE : mTypeface.getStyle());
+        out.writeFloat(mLetterRatio);
+        out.writeInt(mLetterSize);
+        out.writeFloat(mLabelRatio);
+        out.writeInt(mLabelSize);
+        out.writeFloat(mLargeLetterRatio);
+        out.writeFloat(mHintLetterRatio);
+        out.writeFloat(mShiftedLetterHintRatio);
+        out.writeFloat(mHintLabelRatio);
+        out.writeFloat(mPreviewTextRatio);
+        out.writeInt(mTextColor);
+        out.writeInt(mTextInactivatedColor);
+        out.writeInt(mTextShadowColor);
+        out.writeInt(mFunctionalTextColor);
+        out.writeInt(mHintLetterColor);
+        out.writeInt(mHintLabelColor);
+        out.writeInt(mShiftedLetterHintInactivatedColor);
+        out.writeInt(mShiftedLetterHintActivatedColor);
+        out.writeInt(mPreviewTextColor);
+        out.writeFloat(mHintLabelVerticalAdjustment);
+        out.writeFloat(mLabelOffCenterRatio);
+        out.writeFloat(mHintLabelOffCenterRatio);
+    }
+
+    @Nonnull
+    public static KeyVisualAttributes readFrom(@Nonnull final DataInputStream in)
+            throws IOException {
+        return new KeyVisualAttributes(in);
+    }
+
+    private KeyVisualAttributes(@Nonnull final DataInputStream in) throws IOException {
+        final int typefaceStyle = in.readInt();
+        mTypeface = (typefaceStyle == NO_TYPEFACE) ? null
+                : Typeface.defaultFromStyle(typefaceStyle);
+        mLetterRatio = in.readFloat();
+        mLetterSize = in.readInt();
+        mLabelRatio = in.readFloat();
+        mLabelSize = in.readInt();
+        mLargeLetterRatio = in.readFloat();
+        mHintLetterRatio = in.readFloat();
+        mShiftedLetterHintRatio = in.readFloat();
+        mHintLabelRatio = in.readFloat();
+        mPreviewTextRatio = in.readFloat();
+        mTextColor = in.readInt();
+        mTextInactivatedColor = in.readInt();
+        mTextShadowColor = in.readInt();
+        mFunctionalTextColor = in.readInt();
+        mHintLetterColor = in.readInt();
+        mHintLabelColor = in.readInt();
+        mShiftedLetterHintInactivatedColor = in.readInt();
+        mShiftedLetterHintActivatedColor = in.readInt();
+        mPreviewTextColor = in.readInt();
+        mHintLabelVerticalAdjustment = in.readFloat();
+        mLabelOffCenterRatio = in.readFloat();
+        mHintLabelOffCenterRatio = in.readFloat();
+    }
 }
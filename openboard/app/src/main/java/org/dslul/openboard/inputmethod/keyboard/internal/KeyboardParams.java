@@ -136,6 +136,23 @@ public class KeyboardParams {
         }
     }
 
+    // Adds a key read by {@link CompiledKeyboardCache}. The key already went through
+    // {@link #onAddKey(Key)} and {@link #removeRedundantMoreKeys()} when it was compiled, and the
+    // most common key sizes are restored separately.
+    void onAddCompiledKey(@Nonnull final Key newKey) {
+        final Key key = mUniqueKeysCache.getUniqueKey(newKey);
+        mSortedKeys.add(key);
+        if (key.isSpacer()) {
+            return;
+        }
+        if (key.getCode() == Constants.CODE_SHIFT) {
+            mShiftKeys.add(key);
+        }
+        if (key.altCodeWhileTyping()) {
+            mAltCodeKeysWhileTyping.add(key);
+        }
+    }
+
     public void removeRedundantMoreKeys() {
         if (mAllowRedundantMoreKeys) {
             return;
@@ -39,6 +39,8 @@ public final class KeyboardTextsSet {
     private Resources mResources;
     private Locale mResourceLocale;
     private String mResourcePackageName;
+    // Keeps the texts table of the locale loaded while this set is in use, see
+    // {@link KeyboardTextsTable#getTextsTable(Locale, Resources)}.
     private String[] mTextsTable;
 
     public void setLocale(final Locale locale, final Context context) {
@@ -56,7 +58,7 @@ public final class KeyboardTextsSet {
         // Null means the current system locale.
         mResourceLocale = SubtypeLocaleUtils.NO_LANGUAGE.equals(locale.toString()) ? null : locale;
         mResourcePackageName = resourcePackageName;
-        mTextsTable = KeyboardTextsTable.getTextsTable(locale);
+        mTextsTable = KeyboardTextsTable.getTextsTable(locale, res);
     }
 
     public String getText(final String name) {
@@ -24,6 +24,9 @@ import org.dslul.openboard.inputmethod.latin.common.CollectionUtils;
 import org.dslul.openboard.inputmethod.latin.common.Constants;
 import org.dslul.openboard.inputmethod.latin.common.StringUtils;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Locale;
@@ -75,6 +78,27 @@ public final class MoreKeySpec {
         mIconId = KeySpecParser.getIconId(moreKeySpec);
     }
 
+    private MoreKeySpec(final int code, @Nullable final String label,
+            @Nullable final String outputText, final int iconId) {
+        mCode = code;
+        mLabel = label;
+        mOutputText = outputText;
+        mIconId = iconId;
+    }
+
+    public void writeTo(@Nonnull final DataOutputStream out) throws IOException {
+        out.writeInt(mCode);
+        CompiledKeyboardCache.writeString(out, mLabel);
+        CompiledKeyboardCache.writeString(out, mOutputText);
+        out.writeInt(mIconId);
+    }
+
+    @Nonnull
+    public static MoreKeySpec readFrom(@Nonnull final DataInputStream in) throws IOException {
+        return new MoreKeySpec(in.readInt(), CompiledKeyboardCache.readString(in),
+                CompiledKeyboardCache.readString(in), in.readInt());
+    }
+
     @Nonnull
     public Key buildKey(final int x, final int y, final int labelFlags,
             @Nonnull final KeyboardParams params) {
@@ -19,6 +19,12 @@ package org.dslul.openboard.inputmethod.keyboard.internal;
 import org.dslul.openboard.inputmethod.annotations.UsedForTesting;
 import org.dslul.openboard.inputmethod.latin.define.DebugFlags;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import javax.annotation.Nonnull;
+
 public final class TouchPositionCorrection {
     private static final int TOUCH_POSITION_CORRECTION_RECORD_SIZE = 3;
 
@@ -67,6 +73,36 @@ public final class TouchPositionCorrection {
         }
     }
 
+    public void writeTo(@Nonnull final DataOutputStream out) throws IOException {
+        out.writeBoolean(mEnabled);
+        final int length = (mRadii == null) ? 0 : mRadii.length;
+        out.writeInt(length);
+        for (int i = 0; i < length; i++) {
+            out.writeFloat(mXs[i]);
+            out.writeFloat(mYs[i]);
+            out.writeFloat(mRadii[i]);
+        }
+    }
+
+    public void readFrom(@Nonnull final DataInputStream in) throws IOException {
+        mEnabled = in.readBoolean();
+        final int length = in.readInt();
+        if (length == 0) {
+            mXs = null;
+            mYs = null;
+            mRadii = null;
+            return;
+        }
+        mXs = new float[length];
+        mYs = new float[length];
+        mRadii = new float[length];
+        for (int i = 0; i < length; i++) {
+            mXs[i] = in.readFloat();
+            mYs[i] = in.readFloat();
+            mRadii[i] = in.readFloat();
+        }
+    }
+
     @UsedForTesting
     public void setEnabled(final boolean enabled) {
         mEnabled = enabled;
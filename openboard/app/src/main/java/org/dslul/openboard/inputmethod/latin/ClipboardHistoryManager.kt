@@ -3,38 +3,33 @@ package org.dslul.openboard.inputmethod.latin
 import android.content.ClipboardManager
 import android.content.Context
 import android.text.TextUtils
-import android.util.Base64
-import android.util.Log
 import org.dslul.openboard.inputmethod.compat.ClipboardManagerCompat
-import org.dslul.openboard.inputmethod.latin.utils.JsonUtils
-import java.io.File
-import java.lang.Exception
-import java.util.*
 
 class ClipboardHistoryManager(
         private val latinIME: LatinIME
 ) : ClipboardManager.OnPrimaryClipChangedListener {
 
-    private lateinit var pinnedHistoryClipsFile: File
+    private lateinit var pinnedClipsJournal: PinnedClipsJournal
     private lateinit var clipboardManager: ClipboardManager
-    private val historyEntries: MutableList<ClipboardHistoryEntry>
+    // Sorted with the pinned clips first, then the most recent first. Positions are found by
+    // binary search and the entries by their timestamp, so the history stays fast when it grows.
+    private val historyEntries = ArrayList<ClipboardHistoryEntry>()
+    private val historyEntriesByTimeStamp = HashMap<Long, ClipboardHistoryEntry>()
     private var onHistoryChangeListener: OnHistoryChangeListener? = null
 
     fun onCreate() {
-        pinnedHistoryClipsFile = File(latinIME.filesDir, PINNED_CLIPS_DATA_FILE_NAME)
+        pinnedClipsJournal = PinnedClipsJournal(latinIME.filesDir)
         clipboardManager = latinIME.getSystemService(Context.CLIPBOARD_SERVICE) as ClipboardManager
         fetchPrimaryClip()
         clipboardManager.addPrimaryClipChangedListener(this)
-        startLoadPinnedClipsFromDisk()
+        pinnedClipsJournal.load { latinIME.mHandler.postUpdateClipboardPinnedClips(it) }
     }
 
     fun onPinnedClipsAvailable(pinnedClips: List<ClipboardHistoryEntry>) {
-        historyEntries.addAll(pinnedClips)
-        sortHistoryEntries()
-        if (onHistoryChangeListener != null) {
-            pinnedClips.forEach {
-                onHistoryChangeListener?.onClipboardHistoryEntryAdded(historyEntries.indexOf(it))
-            }
+        pinnedClips.forEach {
+            if (historyEntriesByTimeStamp.containsKey(it.timeStamp)) return@forEach
+            val at = addHistoryEntry(it)
+            onHistoryChangeListener?.onClipboardHistoryEntryAdded(at)
         }
     }
 
@@ -57,44 +52,86 @@ class ClipboardHistoryManager(
             // for the same clip. We can identify clips with their timestamps since API 26.
             // We use that to prevent unwanted duplicates.
             val timeStamp = ClipboardManagerCompat.getClipTimestamp(clipData)?.also { stamp ->
-                if (historyEntries.any { it.timeStamp == stamp }) return
+                if (historyEntriesByTimeStamp.containsKey(stamp)) return
             } ?: System.currentTimeMillis()
 
             val content = clipItem.coerceToText(latinIME)
             if (TextUtils.isEmpty(content)) return
 
-            val entry = ClipboardHistoryEntry(timeStamp, content)
-            historyEntries.add(entry)
-            sortHistoryEntries()
-            val at = historyEntries.indexOf(entry)
+            val at = addHistoryEntry(ClipboardHistoryEntry(timeStamp, content))
             onHistoryChangeListener?.onClipboardHistoryEntryAdded(at)
         }
     }
 
     fun toggleClipPinned(ts: Long) {
-        val from = historyEntries.indexOfFirst { it.timeStamp == ts }
-        val historyEntry = historyEntries[from].apply {
+        val historyEntry = historyEntriesByTimeStamp[ts] ?: return
+        val from = removeHistoryEntry(historyEntry)
+        historyEntry.apply {
             timeStamp = System.currentTimeMillis()
             isPinned = !isPinned
         }
-        sortHistoryEntries()
-        val to = historyEntries.indexOf(historyEntry)
+        val to = addHistoryEntry(historyEntry)
         onHistoryChangeListener?.onClipboardHistoryEntryMoved(from, to)
-        startSavePinnedClipsToDisk()
+        if (historyEntry.isPinned) {
+            val pinnedTimeStamp = historyEntry.timeStamp
+            pinnedClipsJournal.pin(pinnedTimeStamp, historyEntry.content) {
+                // The clip couldn't be saved, unpin it rather than losing it on the next start.
+                latinIME.mHandler.post {
+                    if (historyEntriesByTimeStamp[pinnedTimeStamp]?.isPinned == true) {
+                        toggleClipPinned(pinnedTimeStamp)
+                    }
+                }
+            }
+        } else {
+            pinnedClipsJournal.unpin(ts)
+        }
     }
 
     fun clearHistory() {
         ClipboardManagerCompat.clearPrimaryClip(clipboardManager)
-        val pos = historyEntries.indexOfFirst { !it.isPinned }
-        val count = historyEntries.count { !it.isPinned }
-        historyEntries.removeAll { !it.isPinned }
-        if (onHistoryChangeListener != null) {
+        val pos = getFirstUnpinnedPosition()
+        val count = historyEntries.size - pos
+        removeHistoryEntries(pos)
+        if (count > 0) {
             onHistoryChangeListener?.onClipboardHistoryEntriesRemoved(pos, count)
         }
     }
 
-    private fun sortHistoryEntries() {
-        historyEntries.sort()
+    // Returns the position the entry was added at.
+    private fun addHistoryEntry(entry: ClipboardHistoryEntry): Int {
+        val index = historyEntries.binarySearch(entry)
+        val at = if (index < 0) -(index + 1) else index
+        historyEntries.add(at, entry)
+        historyEntriesByTimeStamp[entry.timeStamp] = entry
+        return at
+    }
+
+    // Returns the position the entry was removed from.
+    private fun removeHistoryEntry(entry: ClipboardHistoryEntry): Int {
+        var at = historyEntries.binarySearch(entry)
+        // Entries that compare equal are next to each other, look for this one among them.
+        while (at > 0 && historyEntries[at - 1].compareTo(entry) == 0) at--
+        while (historyEntries[at] !== entry) at++
+        historyEntries.removeAt(at)
+        historyEntriesByTimeStamp.remove(entry.timeStamp)
+        return at
+    }
+
+    // Removes the entries from the given position to the end.
+    private fun removeHistoryEntries(from: Int) {
+        val removed = historyEntries.subList(from, historyEntries.size)
+        removed.forEach { historyEntriesByTimeStamp.remove(it.timeStamp) }
+        removed.clear()
+    }
+
+    private fun getFirstUnpinnedPosition(): Int {
+        var low = 0
+        var high = historyEntries.size
+        while (low < high) {
+            val mid = (low + high) ushr 1
+            if (historyEntries[mid].isPinned) low = mid + 1 else high = mid
+        }
+        return low
     }
 
     private fun checkClipRetentionElapsed() {
@@ -102,7 +139,14 @@ class ClipboardHistoryManager(
         if (mins <= 0) return // No retention limit
         val maxClipRetentionTime = mins * 60 * 1000L
         val now = System.currentTimeMillis()
-        historyEntries.removeAll { !it.isPinned && (now - it.timeStamp) > maxClipRetentionTime }
+        // Unpinned clips are sorted from the most recent, so the expired ones are at the end.
+        val firstUnpinned = getFirstUnpinnedPosition()
+        var from = historyEntries.size
+        while (from > firstUnpinned
+                && (now - historyEntries[from - 1].timeStamp) > maxClipRetentionTime) {
+            from--
+        }
+        removeHistoryEntries(from)
     }
 
     // We do not want to update history while user is visualizing it, so we check retention only
@@ -113,7 +157,7 @@ class ClipboardHistoryManager(
 
     fun getHistoryEntry(position: Int) = historyEntries[position]
 
-    fun getHistoryEntryContent(timeStamp: Long) = historyEntries.first { it.timeStamp == timeStamp }
+    fun getHistoryEntryContent(timeStamp: Long) = historyEntriesByTimeStamp[timeStamp]
 
     fun setHistoryChangeListener(l: OnHistoryChangeListener?) {
         onHistoryChangeListener = l
@@ -125,59 +169,6 @@ class ClipboardHistoryManager(
         return clipData.getItemAt(0)?.coerceToText(latinIME) ?: ""
     }
 
-    private fun startLoadPinnedClipsFromDisk() {
-        object : Thread("$TAG-load") {
-            override fun run() {
-                loadFromDisk()
-            }
-        }.start()
-    }
-
-    private fun loadFromDisk() {
-        // Debugging
-        if (pinnedHistoryClipsFile.exists() && !pinnedHistoryClipsFile.canRead()) {
-            Log.w(TAG, "Attempt to read pinned clips file $pinnedHistoryClipsFile without permission")
-        }
-        var list = emptyList<ClipboardHistoryEntry>()
-        try {
-            if (pinnedHistoryClipsFile.exists()) {
-                val bytes = Base64.decode(pinnedHistoryClipsFile.readText(), Base64.DEFAULT)
-                list = JsonUtils.jsonBytesToHistoryEntryList(bytes)
-            }
-        } catch (e: Exception) {
-            Log.w(TAG, "Couldn't retrieve $pinnedHistoryClipsFile content", e)
-        }
-        latinIME.mHandler.postUpdateClipboardPinnedClips(list)
-    }
-
-    private fun startSavePinnedClipsToDisk() {
-        val localCopy = historyEntries.filter { it.isPinned }.map { it.copy() }
-        object : Thread("$TAG-save") {
-            override fun run() {
-                saveToDisk(localCopy)
-            }
-        }.start()
-    }
-
-    private fun saveToDisk(list: List<ClipboardHistoryEntry>) {
-        // Debugging
-        if (pinnedHistoryClipsFile.exists() && !pinnedHistoryClipsFile.canWrite()) {
-            Log.w(TAG, "Attempt to write pinned clips file $pinnedHistoryClipsFile without permission")
-        }
-        try {
-            pinnedHistoryClipsFile.createNewFile()
-            val jsonStr = JsonUtils.historyEntryListToJsonStr(list)
-            if (!TextUtils.isEmpty(jsonStr)) {
-                val rawText = Base64.encodeToString(jsonStr.encodeToByteArray(), Base64.DEFAULT)
-                pinnedHistoryClipsFile.writeText(rawText)
-            } else {
-                pinnedHistoryClipsFile.writeText("")
-            }
-        } catch (e: Exception) {
-            Log.w(TAG, "Couldn't write to $pinnedHistoryClipsFile", e)
-        }
-    }
-
     interface OnHistoryChangeListener {
         fun onClipboardHistoryEntryAdded(at: Int)
         fun onClipboardHistoryEntriesRemoved(pos: Int, count: Int)
@@ -185,11 +176,6 @@ class ClipboardHistoryManager(
     }
 
     companion object {
-        const val PINNED_CLIPS_DATA_FILE_NAME = "pinned_clips.data"
         const val TAG = "ClipboardHistoryManager"
     }
-
-    init {
-        historyEntries = LinkedList()
-    }
-}
\ No newline at end of file
+}
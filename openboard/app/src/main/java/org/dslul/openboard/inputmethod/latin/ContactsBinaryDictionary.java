@@ -32,6 +32,7 @@ import org.dslul.openboard.inputmethod.latin.permissions.PermissionsUtil;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Locale;
 
 import javax.annotation.Nullable;
@@ -50,6 +51,12 @@ public class ContactsBinaryDictionary extends ExpandableBinaryDictionary
     private final boolean mUseFirstLastBigrams;
     private final ContactsManager mContactsManager;
 
+    /**
+     * The names of the user's own profile, which are only read when the dictionary is built.
+     * Only accessed by the update tasks.
+     */
+    private ArrayList<String> mProfileNames = new ArrayList<>();
+
     protected ContactsBinaryDictionary(final Context context, final Locale locale,
             final File dictFile, final String name) {
         super(context, getDictName(name, locale, dictFile), locale, Dictionary.TYPE_CONTACTS,
@@ -98,6 +105,9 @@ public class ContactsBinaryDictionary extends ExpandableBinaryDictionary
         for (final String name : validNames) {
             addNameLocked(name);
         }
+        if (uri.equals(ContactsContract.Profile.CONTENT_URI)) {
+            mProfileNames = validNames;
+        }
         if (uri.equals(Contacts.CONTENT_URI)) {
             // Since we were able to add content successfully, update the local
             // state of the manager.
@@ -110,9 +120,35 @@ public class ContactsBinaryDictionary extends ExpandableBinaryDictionary
      * bigrams depending on locale.
      */
     private void addNameLocked(final String name) {
-        int len = StringUtils.codePointCount(name);
         NgramContext ngramContext = NgramContext.getEmptyPrevWordsContext(
                 BinaryDictionary.MAX_PREV_WORD_COUNT_FOR_N_GRAM);
+        for (final String word : getNameWords(name)) {
+            if (DEBUG) {
+                Log.d(TAG, "addName " + name + ", " + word + ", "  + ngramContext);
+            }
+            runGCIfRequiredLocked(true /* mindsBlockByGC */);
+            addUnigramLocked(word, ContactsDictionaryConstants.FREQUENCY_FOR_CONTACTS,
+                    null /* shortcut */, 0 /* shortcutFreq */, false /* isNotAWord */,
+                    false /* isPossiblyOffensive */,
+                    BinaryDictionary.NOT_A_VALID_TIMESTAMP);
+            if (ngramContext.isValid() && mUseFirstLastBigrams) {
+                runGCIfRequiredLocked(true /* mindsBlockByGC */);
+                addNgramEntryLocked(ngramContext,
+                        word,
+                        ContactsDictionaryConstants.FREQUENCY_FOR_CONTACTS_BIGRAM,
+                        BinaryDictionary.NOT_A_VALID_TIMESTAMP);
+            }
+            ngramContext = ngramContext.getNextNgramContext(
+                    new NgramContext.WordInfo(word));
+        }
+    }
+
+    /**
+     * Returns the words of a name (e.g., firstname/lastname) that go into the dictionary.
+     */
+    private static ArrayList<String> getNameWords(final String name) {
+        final ArrayList<String> words = new ArrayList<>();
+        int len = StringUtils.codePointCount(name);
         // TODO: Better tokenization for non-Latin writing systems
         for (int i = 0; i < len; i++) {
             if (Character.isLetter(name.codePointAt(i))) {
@@ -126,30 +162,60 @@ public class ContactsBinaryDictionary extends ExpandableBinaryDictionary
                 // capitalization of i.
                 final int wordLen = StringUtils.codePointCount(word);
                 if (wordLen <= MAX_WORD_LENGTH && wordLen > 1) {
-                    if (DEBUG) {
-                        Log.d(TAG, "addName " + name + ", " + word + ", "  + ngramContext);
-                    }
+                    words.add(word);
+                }
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Removes the words of the names that are gone, unless another name still uses them, and
+     * adds the new names.
+     */
+    private void updateNamesLocked(final ArrayList<String> previousNames,
+            final ArrayList<String> names) {
+        final HashSet<String> previousNameSet = new HashSet<>(previousNames);
+        final HashSet<String> nameSet = new HashSet<>(names);
+        final HashSet<String> wordsInUse = new HashSet<>();
+        for (final String name : names) {
+            wordsInUse.addAll(getNameWords(name));
+        }
+        for (final String name : mProfileNames) {
+            wordsInUse.addAll(getNameWords(name));
+        }
+        for (final String previousName : previousNameSet) {
+            if (nameSet.contains(previousName)) {
+                continue;
+            }
+            for (final String word : getNameWords(previousName)) {
+                // Adding the word also keeps it from being removed twice.
+                if (wordsInUse.add(word)) {
                     runGCIfRequiredLocked(true /* mindsBlockByGC */);
-                    addUnigramLocked(word, ContactsDictionaryConstants.FREQUENCY_FOR_CONTACTS,
-                            null /* shortcut */, 0 /* shortcutFreq */, false /* isNotAWord */,
-                            false /* isPossiblyOffensive */,
-                            BinaryDictionary.NOT_A_VALID_TIMESTAMP);
-                    if (ngramContext.isValid() && mUseFirstLastBigrams) {
-                        runGCIfRequiredLocked(true /* mindsBlockByGC */);
-                        addNgramEntryLocked(ngramContext,
-                                word,
-                                ContactsDictionaryConstants.FREQUENCY_FOR_CONTACTS_BIGRAM,
-                                BinaryDictionary.NOT_A_VALID_TIMESTAMP);
-                    }
-                    ngramContext = ngramContext.getNextNgramContext(
-                            new NgramContext.WordInfo(word));
+                    removeUnigramLocked(word);
                 }
             }
         }
+        for (final String name : nameSet) {
+            if (!previousNameSet.contains(name)) {
+                addNameLocked(name);
+            }
+        }
     }
 
     @Override
     public void onContactsChange() {
         setNeedsToRecreate();
     }
+
+    @Override
+    public void onContactNamesChange(final ArrayList<String> previousNames,
+            final ArrayList<String> names) {
+        updateDictionaryWithWriteLock(new Runnable() {
+            @Override
+            public void run() {
+                updateNamesLocked(previousNames, names);
+            }
+        });
+    }
 }
@@ -30,6 +30,7 @@ import org.dslul.openboard.inputmethod.latin.permissions.PermissionsUtil;
 import org.dslul.openboard.inputmethod.latin.utils.ExecutorUtils;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -88,7 +89,16 @@ public class ContactsContentObserver implements Runnable {
             }
             return;
         }
-        if (haveContentsChanged()) {
+        final ArrayList<String> previousNames = new ArrayList<>();
+        final ArrayList<String> names = new ArrayList<>();
+        if (mManager.syncChangedContacts(previousNames, names)) {
+            if (!new HashSet<>(names).equals(new HashSet<>(previousNames))) {
+                if (DebugFlags.DEBUG_ENABLED) {
+                    Log.d(TAG, "run() : Contact names have changed. Notifying listeners.");
+                }
+                mContactsChangedListener.onContactNamesChange(previousNames, names);
+            }
+        } else if (haveContentsChanged()) {
             if (DebugFlags.DEBUG_ENABLED) {
                 Log.d(TAG, "run() : Contacts have changed. Notifying listeners.");
             }
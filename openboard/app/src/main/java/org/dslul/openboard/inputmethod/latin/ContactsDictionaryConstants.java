@@ -18,6 +18,7 @@ package org.dslul.openboard.inputmethod.latin;
 
 import android.provider.BaseColumns;
 import android.provider.ContactsContract.Contacts;
+import android.provider.ContactsContract.DeletedContacts;
 
 /**
  * Constants related to Contacts Content Provider.
@@ -27,8 +28,14 @@ public class ContactsDictionaryConstants {
      * Projections for {@link Contacts.CONTENT_URI}
      */
     public static final String[] PROJECTION = { BaseColumns._ID, Contacts.DISPLAY_NAME,
-            Contacts.TIMES_CONTACTED, Contacts.LAST_TIME_CONTACTED, Contacts.IN_VISIBLE_GROUP };
+            Contacts.TIMES_CONTACTED, Contacts.LAST_TIME_CONTACTED, Contacts.IN_VISIBLE_GROUP,
+            Contacts.CONTACT_LAST_UPDATED_TIMESTAMP };
     public static final String[] PROJECTION_ID_ONLY = { BaseColumns._ID };
+    /**
+     * Projection for {@link DeletedContacts.CONTENT_URI}
+     */
+    public static final String[] PROJECTION_DELETED = { DeletedContacts.CONTACT_ID,
+            DeletedContacts.CONTACT_DELETED_TIMESTAMP };
 
     /**
      * Frequency for contacts information into the dictionary
@@ -45,8 +52,16 @@ public class ContactsDictionaryConstants {
      * Index of the column for 'name' in content providers:
      * Contacts & ContactsContract.Profile.
      */
+    public static final int ID_INDEX = 0;
     public static final int NAME_INDEX = 1;
     public static final int TIMES_CONTACTED_INDEX = 2;
     public static final int LAST_TIME_CONTACTED_INDEX = 3;
     public static final int IN_VISIBLE_GROUP_INDEX = 4;
+    public static final int LAST_UPDATED_TIMESTAMP_INDEX = 5;
+
+    /**
+     * Index of the columns in {@link #PROJECTION_DELETED}.
+     */
+    public static final int DELETED_ID_INDEX = 0;
+    public static final int DELETED_TIMESTAMP_INDEX = 1;
 }
@@ -21,14 +21,17 @@ import android.database.Cursor;
 import android.database.sqlite.SQLiteException;
 import android.net.Uri;
 import android.provider.ContactsContract.Contacts;
+import android.provider.ContactsContract.DeletedContacts;
 import android.text.TextUtils;
 import android.util.Log;
 
 import org.dslul.openboard.inputmethod.latin.common.Constants;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -48,6 +51,7 @@ public class ContactsManager {
     public static final int MAX_CONTACT_NAMES = 200;
 
     protected static class RankedContact {
+        public final long mId;
         public final String mName;
         public final long mLastContactedTime;
         public final int mTimesContacted;
@@ -56,6 +60,7 @@ public class ContactsManager {
         private float mAffinity = 0.0f;
 
         RankedContact(final Cursor cursor) {
+            mId = cursor.getLong(ContactsDictionaryConstants.ID_INDEX);
             mName = cursor.getString(
                     ContactsDictionaryConstants.NAME_INDEX);
             mTimesContacted = cursor.getInt(
@@ -105,6 +110,11 @@ public class ContactsManager {
      */
     public interface ContactsChangedListener {
         void onContactsChange();
+
+        /**
+         * Called instead of {@link #onContactsChange()} when the names that changed are known.
+         */
+        void onContactNamesChange(ArrayList<String> previousNames, ArrayList<String> names);
     }
 
     /**
@@ -119,6 +129,20 @@ public class ContactsManager {
      */
     private AtomicInteger mHashCodeAtLastRebuild = new AtomicInteger(0);
 
+    /**
+     * The valid contacts of {@link Contacts#CONTENT_URI} by id, and the names picked from them,
+     * as of the most recent sync. Null until the dictionary has been built once, since changes
+     * can only be synced incrementally from a known state. Guarded by this.
+     */
+    private HashMap<Long, RankedContact> mContactsAtLastSync;
+    private HashSet<String> mNamesAtLastSync;
+    /** The most recent update or deletion time seen by the last sync. Guarded by this. */
+    private long mLastSyncTimestamp;
+
+    /** The contacts read by the last {@link #getValidNames(Uri)}. Guarded by this. */
+    private HashMap<Long, RankedContact> mLastQueriedContacts;
+    private long mLastQueriedTimestamp;
+
     private final Context mContext;
     private final ContactsContentObserver mObserver;
 
@@ -149,26 +173,23 @@ public class ContactsManager {
      * contacts appearing first.
      */
     public ArrayList<String> getValidNames(final Uri uri) {
-        // Check all contacts since it's not possible to find out which names have changed.
-        // This is needed because it's possible to receive extraneous onChange events even when no
-        // name has changed.
+        // Check all contacts. Later changes are synced with syncChangedContacts(), which only
+        // reads the contacts that have changed since.
         final Cursor cursor = mContext.getContentResolver().query(uri,
                 ContactsDictionaryConstants.PROJECTION, null, null, null);
-        final ArrayList<RankedContact> contacts = new ArrayList<>();
-        int maxTimesContacted = 0;
+        final HashMap<Long, RankedContact> contacts = new HashMap<>();
+        long lastUpdatedTimestamp = 0;
         if (cursor != null) {
             try {
                 if (cursor.moveToFirst()) {
                     while (!cursor.isAfterLast()) {
+                        lastUpdatedTimestamp = Math.max(lastUpdatedTimestamp, cursor.getLong(
+                                ContactsDictionaryConstants.LAST_UPDATED_TIMESTAMP_INDEX));
                         final String name = cursor.getString(
                                 ContactsDictionaryConstants.NAME_INDEX);
                         if (isValidName(name)) {
-                            final int timesContacted = cursor.getInt(
-                                    ContactsDictionaryConstants.TIMES_CONTACTED_INDEX);
-                            if (timesContacted > maxTimesContacted) {
-                                maxTimesContacted = timesContacted;
-                            }
-                            contacts.add(new RankedContact(cursor));
+                            final RankedContact contact = new RankedContact(cursor);
+                            contacts.put(contact.mId, contact);
                         }
                         cursor.moveToNext();
                     }
@@ -177,6 +198,92 @@ public class ContactsManager {
                 cursor.close();
             }
         }
+        if (Contacts.CONTENT_URI.equals(uri)) {
+            synchronized (this) {
+                mLastQueriedContacts = contacts;
+                mLastQueriedTimestamp = lastUpdatedTimestamp;
+            }
+        }
+        return pickNames(contacts.values());
+    }
+
+    /**
+     * Applies the contacts that were added, changed or deleted since the last sync to the names
+     * of the last sync. Only the changed rows are read from the provider.
+     *
+     * @param outPreviousNames receives the names of the last sync.
+     * @param outNames receives the current names.
+     * @return false if the names can't be synced incrementally and have to be read again with
+     *     {@link #getValidNames(Uri)}.
+     */
+    public synchronized boolean syncChangedContacts(final ArrayList<String> outPreviousNames,
+            final ArrayList<String> outNames) {
+        if (mContactsAtLastSync == null) {
+            return false;
+        }
+        final String[] selectionArgs = { Long.toString(mLastSyncTimestamp) };
+        long lastSyncTimestamp = mLastSyncTimestamp;
+        Cursor cursor = null;
+        try {
+            cursor = mContext.getContentResolver().query(Contacts.CONTENT_URI,
+                    ContactsDictionaryConstants.PROJECTION,
+                    Contacts.CONTACT_LAST_UPDATED_TIMESTAMP + " > ?", selectionArgs, null);
+            if (cursor != null && cursor.moveToFirst()) {
+                do {
+                    lastSyncTimestamp = Math.max(lastSyncTimestamp, cursor.getLong(
+                            ContactsDictionaryConstants.LAST_UPDATED_TIMESTAMP_INDEX));
+                    final long id = cursor.getLong(ContactsDictionaryConstants.ID_INDEX);
+                    if (isValidName(cursor.getString(ContactsDictionaryConstants.NAME_INDEX))) {
+                        mContactsAtLastSync.put(id, new RankedContact(cursor));
+                    } else {
+                        mContactsAtLastSync.remove(id);
+                    }
+                } while (cursor.moveToNext());
+            }
+            if (cursor != null) {
+                cursor.close();
+            }
+            cursor = mContext.getContentResolver().query(DeletedContacts.CONTENT_URI,
+                    ContactsDictionaryConstants.PROJECTION_DELETED,
+                    DeletedContacts.CONTACT_DELETED_TIMESTAMP + " > ?", selectionArgs, null);
+            if (cursor != null && cursor.moveToFirst()) {
+                do {
+                    lastSyncTimestamp = Math.max(lastSyncTimestamp, cursor.getLong(
+                            ContactsDictionaryConstants.DELETED_TIMESTAMP_INDEX));
+                    mContactsAtLastSync.remove(
+                            cursor.getLong(ContactsDictionaryConstants.DELETED_ID_INDEX));
+                } while (cursor.moveToNext());
+            }
+        } catch (final SQLiteException e) {
+            Log.e(TAG, "SQLiteException in the remote Contacts process.", e);
+            // The contacts may have been partially updated, start over from a full read.
+            mContactsAtLastSync = null;
+            return false;
+        } finally {
+            if (null != cursor) {
+                cursor.close();
+            }
+        }
+        final ArrayList<String> names = pickNames(mContactsAtLastSync.values());
+        outPreviousNames.addAll(mNamesAtLastSync);
+        outNames.addAll(names);
+        mNamesAtLastSync = new HashSet<>(names);
+        mLastSyncTimestamp = lastSyncTimestamp;
+        mHashCodeAtLastRebuild.set(names.hashCode());
+        return true;
+    }
+
+    /**
+     * Returns the names of the contacts with the highest affinity.
+     */
+    private static ArrayList<String> pickNames(final Collection<RankedContact> validContacts) {
+        final ArrayList<RankedContact> contacts = new ArrayList<>(validContacts);
+        int maxTimesContacted = 0;
+        for (RankedContact contact : contacts) {
+            if (contact.mTimesContacted > maxTimesContacted) {
+                maxTimesContacted = contact.mTimesContacted;
+            }
+        }
         final long currentTime = System.currentTimeMillis();
         for (RankedContact contact : contacts) {
             contact.computeAffinity(maxTimesContacted, currentTime);
@@ -233,6 +340,12 @@ public class ContactsManager {
     public void updateLocalState(final ArrayList<String> names) {
         mContactCountAtLastRebuild.set(getContactCount());
         mHashCodeAtLastRebuild.set(names.hashCode());
+        synchronized (this) {
+            mContactsAtLastSync = mLastQueriedContacts;
+            mNamesAtLastSync = new HashSet<>(names);
+            mLastSyncTimestamp = mLastQueriedTimestamp;
+            mLastQueriedContacts = null;
+        }
     }
 
     /**
@@ -103,6 +103,14 @@ public interface DictionaryFacilitator {
      */
     void onFinishInput(Context context);
 
+    /**
+     * Called when a gesture starts and when it ends or is canceled. Learning writes are held
+     * back in between, so they don't delay the lookups for the gesture.
+     */
+    void onStartBatchInput();
+
+    void onEndBatchInput();
+
     boolean isActive();
 
     Locale getLocale();
@@ -164,6 +172,12 @@ public interface DictionaryFacilitator {
 
     boolean isValidSpellingWord(final String word);
 
+    /**
+     * Returns a number that changes whenever any of the dictionaries may have changed, so callers
+     * can tell whether the lookups they cached are still current.
+     */
+    int getDictionaryGeneration();
+
     boolean isValidSuggestionWord(final String word);
 
     boolean clearUserHistoryDictionary(final Context context);
@@ -18,6 +18,7 @@ package org.dslul.openboard.inputmethod.latin;
 
 import android.Manifest;
 import android.content.Context;
+import android.os.SystemClock;
 import android.text.TextUtils;
 import android.util.Log;
 import android.util.LruCache;
@@ -45,9 +46,15 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -68,7 +75,22 @@ public class DictionaryFacilitatorImpl implements DictionaryFacilitator {
     // dictionary.
     private static final int CAPITALIZED_FORM_MAX_PROBABILITY_FOR_INSERT = 140;
 
+    // Time secondary dictionaries (contacts, user history, user dictionary) get to return their
+    // suggestions, measured from when their lookups start. The main dictionary is always waited for.
+    private static final long SECONDARY_DICTIONARY_TIMEOUT_MILLIS = 50;
+
     private DictionaryGroup mDictionaryGroup = new DictionaryGroup();
+    // Lookups running on the suggestions pool, with the keyboard each of them uses. A traverse
+    // session must not be used by two lookups at once, so a dictionary that is still busy with the
+    // same session id is skipped. Holding the keyboard here keeps its native proximity info from
+    // being finalized until the lookup is done, even if the keyboard is evicted meanwhile.
+    private final ConcurrentHashMap<SecondaryLookupKey, Keyboard> mSecondaryLookupsInFlight =
+            new ConcurrentHashMap<>();
+    // Recent lookups, keyed on the input, the context and the dictionary generation.
+    private final SuggestionResultsCache mSuggestionResultsCache = new SuggestionResultsCache();
+    // Renewed whenever the dictionary group or its main dictionary is replaced. Together with
+    // the content generations of the sub dictionaries it forms the dictionary generation.
+    private final AtomicInteger mDictionaryGroupGeneration = new AtomicInteger();
     private volatile CountDownLatch mLatchForWaitingLoadingMainDictionaries = new CountDownLatch(0);
     // To synchronize assigning mDictionaryGroup to ensure closing dictionaries.
     private final Object mLock = new Object();
@@ -231,6 +253,16 @@ public class DictionaryFacilitatorImpl implements DictionaryFacilitator {
         }
     }
 
+    @Override
+    public void onStartBatchInput() {
+        ExpandableBinaryDictionary.setBatchInputInProgress(true);
+    }
+
+    @Override
+    public void onEndBatchInput() {
+        ExpandableBinaryDictionary.setBatchInputInProgress(false);
+    }
+
     @Override
     public boolean isActive() {
         return mDictionaryGroup.mLocale != null;
@@ -358,6 +390,7 @@ public class DictionaryFacilitatorImpl implements DictionaryFacilitator {
         synchronized (mLock) {
             oldDictionaryGroup = mDictionaryGroup;
             mDictionaryGroup = newDictionaryGroup;
+            invalidateSuggestionResultsCache();
             if (hasAtLeastOneUninitializedMainDictionary()) {
                 asyncReloadUninitializedMainDictionaries(context, newLocale, listener);
             }
@@ -410,6 +443,7 @@ public class DictionaryFacilitatorImpl implements DictionaryFacilitator {
         synchronized (mLock) {
             if (locale.equals(dictionaryGroup.mLocale)) {
                 dictionaryGroup.setMainDict(mainDict);
+                invalidateSuggestionResultsCache();
             } else {
                 // Dictionary facilitator has been reset for another locale.
                 mainDict.close();
@@ -450,6 +484,7 @@ public class DictionaryFacilitatorImpl implements DictionaryFacilitator {
             }
         }
         mDictionaryGroup = new DictionaryGroup(locale, mainDictionary, account, subDicts);
+        invalidateSuggestionResultsCache();
     }
 
     public void closeDictionaries() {
@@ -457,6 +492,7 @@ public class DictionaryFacilitatorImpl implements DictionaryFacilitator {
         synchronized (mLock) {
             dictionaryGroupToClose = mDictionaryGroup;
             mDictionaryGroup = new DictionaryGroup();
+            invalidateSuggestionResultsCache();
         }
         for (final String dictType : ALL_DICTIONARY_TYPES) {
             dictionaryGroupToClose.closeDict(dictType);
@@ -609,38 +645,184 @@ public class DictionaryFacilitatorImpl implements DictionaryFacilitator {
         putWordIntoValidSpellingWordCache("unlearnFromUserHistory", word.toLowerCase());
     }
 
+    private void invalidateSuggestionResultsCache() {
+        mDictionaryGroupGeneration.set(ExpandableBinaryDictionary.newGeneration());
+        mSuggestionResultsCache.clear();
+    }
+
+    // Changes whenever a dictionary of the group may have changed: the group or its main
+    // dictionary was replaced, or a sub dictionary ran a write task (learning, unlearning,
+    // clearing, a contacts or user dictionary change...). All the generations come from the same
+    // increasing counter, so the latest of them never repeats a former dictionary generation.
+    private int getDictionaryGeneration(final DictionaryGroup dictionaryGroup) {
+        int generation = mDictionaryGroupGeneration.get();
+        for (final ExpandableBinaryDictionary subDict : dictionaryGroup.mSubDictMap.values()) {
+            generation = Math.max(generation, subDict.getContentGeneration());
+        }
+        return generation;
+    }
+
+    @Override
+    public int getDictionaryGeneration() {
+        return getDictionaryGeneration(mDictionaryGroup);
+    }
+
+    /**
+     * Returns the suggestions for the given input. Identical requests are answered from a small
+     * cache until a dictionary changes, so the returned results must not be modified.
+     */
     // TODO: Revise the way to fusion suggestion results.
     @Override
-    @Nonnull public SuggestionResults getSuggestionResults(ComposedData composedData,
-            NgramContext ngramContext, @Nonnull final Keyboard keyboard,
-            SettingsValuesForSuggestion settingsValuesForSuggestion, int sessionId,
-            int inputStyle) {
-        long proximityInfoHandle = keyboard.getProximityInfo().getNativeProximityInfo();
+    @Nonnull public SuggestionResults getSuggestionResults(final ComposedData composedData,
+            final NgramContext ngramContext, @Nonnull final Keyboard keyboard,
+            final SettingsValuesForSuggestion settingsValuesForSuggestion, final int sessionId,
+            final int inputStyle) {
+        final DictionaryGroup dictionaryGroup = mDictionaryGroup;
+        final float weightForLocale = composedData.mIsBatchMode
+                ? dictionaryGroup.mWeightForGesturingInLocale
+                : dictionaryGroup.mWeightForTypingInLocale;
+        final SuggestionResultsCache.Key cacheKey = new SuggestionResultsCache.Key(composedData,
+                ngramContext, keyboard, settingsValuesForSuggestion, weightForLocale, sessionId,
+                getDictionaryGeneration(dictionaryGroup));
+        final SuggestionResults cachedResults = mSuggestionResultsCache.get(cacheKey);
+        if (null != cachedResults) {
+            return cachedResults;
+        }
+
+        final long proximityInfoHandle = keyboard.getProximityInfo().getNativeProximityInfo();
         final SuggestionResults suggestionResults = new SuggestionResults(
                 SuggestedWords.MAX_SUGGESTIONS, ngramContext.isBeginningOfSentenceContext(),
                 false /* firstSuggestionExceedsConfidenceThreshold */);
 //        Log.d(TAG, "*** settingsValuesForSuggestion.mWeightOfLangModelVsSpatialModel: " + settingsValuesForSuggestion.mWeightOfLangModelVsSpatialModel);
+        boolean isComplete = true;
+
+        // The secondary dictionaries use the language model weight the main dictionary leaves in
+        // the in/out array, as when the dictionaries were looked up one after the other. The
+        // decoder keeps a valid weight as it is, so in that case the secondary dictionaries can
+        // start with it right away. Otherwise they wait for the weight the main dictionary
+        // computes.
         final float[] weightOfLangModelVsSpatialModel =
                 new float[] { settingsValuesForSuggestion.mWeightOfLangModelVsSpatialModel };
+        final boolean isWeightKnownBeforeLookup = weightOfLangModelVsSpatialModel[0] >= 0.0f;
+        final Dictionary mainDictionary = dictionaryGroup.getDict(Dictionary.TYPE_MAIN);
+        if (!isWeightKnownBeforeLookup && null != mainDictionary) {
+            addSuggestions(suggestionResults, mainDictionary.getSuggestions(composedData,
+                    ngramContext, proximityInfoHandle, settingsValuesForSuggestion, sessionId,
+                    weightForLocale, weightOfLangModelVsSpatialModel));
+        }
+
+        // Secondary dictionaries are looked up in parallel on the suggestions pool while the main
+        // dictionary is looked up on this thread, so the latency is that of the slowest dictionary
+        // rather than the sum.
+        final float weightOfLangModelVsSpatialModelForSecondaries =
+                weightOfLangModelVsSpatialModel[0];
+        final long secondaryStartTime = SystemClock.uptimeMillis();
+        final CompletionService<ArrayList<SuggestedWordInfo>> completionService =
+                new ExecutorCompletionService<>(
+                        ExecutorUtils.getBackgroundExecutor(ExecutorUtils.SUGGESTIONS));
+        int pendingLookups = 0;
         for (final String dictType : ALL_DICTIONARY_TYPES) {
-            final Dictionary dictionary = mDictionaryGroup.getDict(dictType);
+            if (Dictionary.TYPE_MAIN.equals(dictType)) continue;
+            final Dictionary dictionary = dictionaryGroup.getDict(dictType);
             if (null == dictionary) continue;
-            final float weightForLocale = composedData.mIsBatchMode
-                    ? mDictionaryGroup.mWeightForGesturingInLocale
-                    : mDictionaryGroup.mWeightForTypingInLocale;
-            final ArrayList<SuggestedWordInfo> dictionarySuggestions =
-                    dictionary.getSuggestions(composedData, ngramContext,
-                            proximityInfoHandle, settingsValuesForSuggestion, sessionId,
-                            weightForLocale, weightOfLangModelVsSpatialModel);
-            if (null == dictionarySuggestions) continue;
-            suggestionResults.addAll(dictionarySuggestions);
-            if (null != suggestionResults.mRawSuggestions) {
-                suggestionResults.mRawSuggestions.addAll(dictionarySuggestions);
+            final SecondaryLookupKey lookupKey = new SecondaryLookupKey(dictionary, sessionId);
+            if (null != mSecondaryLookupsInFlight.putIfAbsent(lookupKey, keyboard)) {
+                // A lookup that missed its deadline still owns this dictionary's traverse session.
+                Log.w(TAG, "Skipping " + dictType + " dictionary, previous lookup still running");
+                isComplete = false;
+                continue;
             }
+            completionService.submit(new Callable<ArrayList<SuggestedWordInfo>>() {
+                @Override
+                public ArrayList<SuggestedWordInfo> call() {
+                    try {
+                        return dictionary.getSuggestions(composedData, ngramContext,
+                                keyboard.getProximityInfo().getNativeProximityInfo(),
+                                settingsValuesForSuggestion, sessionId, weightForLocale,
+                                new float[] { weightOfLangModelVsSpatialModelForSecondaries });
+                    } finally {
+                        mSecondaryLookupsInFlight.remove(lookupKey);
+                    }
+                }
+            });
+            pendingLookups++;
+        }
+
+        if (isWeightKnownBeforeLookup && null != mainDictionary) {
+            addSuggestions(suggestionResults, mainDictionary.getSuggestions(composedData,
+                    ngramContext, proximityInfoHandle, settingsValuesForSuggestion, sessionId,
+                    weightForLocale, weightOfLangModelVsSpatialModel));
+        }
+
+        // Merge secondary results as they complete, but don't let a slow one hold up the strip.
+        final long deadline = secondaryStartTime + SECONDARY_DICTIONARY_TIMEOUT_MILLIS;
+        for (; pendingLookups > 0; --pendingLookups) {
+            final Future<ArrayList<SuggestedWordInfo>> lookup;
+            try {
+                lookup = completionService.poll(
+                        Math.max(0, deadline - SystemClock.uptimeMillis()), TimeUnit.MILLISECONDS);
+            } catch (final InterruptedException e) {
+                Log.w(TAG, "Interrupted while waiting for dictionary suggestions", e);
+                Thread.currentThread().interrupt();
+                isComplete = false;
+                break;
+            }
+            if (null == lookup) {
+                Log.w(TAG, pendingLookups + " dictionary lookups missed the "
+                        + SECONDARY_DICTIONARY_TIMEOUT_MILLIS + "ms deadline");
+                isComplete = false;
+                break;
+            }
+            try {
+                addSuggestions(suggestionResults, lookup.get());
+            } catch (final ExecutionException | InterruptedException e) {
+                Log.e(TAG, "Dictionary lookup failed", e);
+                isComplete = false;
+            }
+        }
+        // Partial results are not worth remembering, and neither are results a dictionary changed
+        // under while they were being computed.
+        if (isComplete && dictionaryGroup == mDictionaryGroup
+                && cacheKey.getGeneration() == getDictionaryGeneration(dictionaryGroup)) {
+            mSuggestionResultsCache.put(cacheKey, suggestionResults);
         }
         return suggestionResults;
     }
 
+    /**
+     * Identifies the traverse session a secondary dictionary lookup uses.
+     */
+    private static final class SecondaryLookupKey {
+        private final Dictionary mDictionary;
+        private final int mSessionId;
+
+        SecondaryLookupKey(final Dictionary dictionary, final int sessionId) {
+            mDictionary = dictionary;
+            mSessionId = sessionId;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (!(o instanceof SecondaryLookupKey)) return false;
+            final SecondaryLookupKey other = (SecondaryLookupKey) o;
+            return mDictionary == other.mDictionary && mSessionId == other.mSessionId;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(mDictionary) + mSessionId;
+        }
+    }
+
+    private static void addSuggestions(final SuggestionResults suggestionResults,
+            @Nullable final ArrayList<SuggestedWordInfo> dictionarySuggestions) {
+        if (null == dictionarySuggestions) return;
+        suggestionResults.addAll(dictionarySuggestions);
+        if (null != suggestionResults.mRawSuggestions) {
+            suggestionResults.mRawSuggestions.addAll(dictionarySuggestions);
+        }
+    }
+
     public boolean isValidSpellingWord(final String word) {
         if (mValidSpellingWordReadCache != null) {
             final Boolean cachedValue = mValidSpellingWordReadCache.get(word);
@@ -0,0 +1,217 @@
+package org.dslul.openboard.inputmethod.latin;
+
+import android.content.Context;
+import android.util.Log;
+
+import org.dslul.openboard.inputmethod.latin.utils.ExecutorUtils;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps the main dictionaries of the locales the user is likely to switch to next open in the
+ * background, so a subtype switch does not have to wait for the dictionary to load.
+ *
+ * Prefetched dictionaries are {@link ReadOnlyBinaryDictionary} instances, which share their
+ * native dictionary with any other instance opened on the same file. When the facilitator opens
+ * the main dictionary after a switch it gets the already mapped and page-warmed one.
+ *
+ * All work happens on the low-priority prefetch executor, shortly after the request, so it never
+ * queues in front of the loading of the current locale's dictionaries on the keyboard executor.
+ * Reading a dictionary to warm it up stops as soon as a newer request or close() comes in.
+ */
+public final class DictionaryPrefetcher {
+    private static final String TAG = DictionaryPrefetcher.class.getSimpleName();
+    private static final boolean DEBUG = false;
+
+    /** Number of locales besides the current one whose dictionaries are kept open. */
+    public static final int MAX_PREFETCHED_LOCALES = 2;
+    /** Total size of the prefetched dictionary files. */
+    private static final long MEMORY_BUDGET_BYTES = 48L * 1024 * 1024;
+    private static final int WARM_UP_BUFFER_SIZE = 64 * 1024;
+    // Gives the dictionaries of the locale just switched to a head start on the storage.
+    private static final long PREFETCH_DELAY_MILLIS = 2000;
+
+    // Only accessed on the prefetch executor.
+    private final HashMap<Locale, ArrayList<ReadOnlyBinaryDictionary>> mPrefetchedDictionaries =
+            new HashMap<>();
+    private volatile boolean mIsClosed = false;
+    // Incremented by each request, so that the work for an older one can be abandoned.
+    private final AtomicInteger mRequestCount = new AtomicInteger();
+
+    /**
+     * Asynchronously opens the main dictionaries of the given locales, most likely first, as far
+     * as the memory budget allows, and closes previously prefetched ones that are not listed.
+     */
+    public void prefetch(final Context context, final List<Locale> locales) {
+        final Context appContext = context.getApplicationContext();
+        final ArrayList<Locale> localesToPrefetch = new ArrayList<>(locales);
+        final int request = mRequestCount.incrementAndGet();
+        ExecutorUtils.getBackgroundExecutor(ExecutorUtils.PREFETCH).schedule(new Runnable() {
+            @Override
+            public void run() {
+                if (request == mRequestCount.get()) {
+                    doPrefetch(appContext, localesToPrefetch, request);
+                }
+            }
+        }, PREFETCH_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Asynchronously closes all prefetched dictionaries.
+     */
+    public void close() {
+        mIsClosed = true;
+        mRequestCount.incrementAndGet();
+        ExecutorUtils.getBackgroundExecutor(ExecutorUtils.PREFETCH).execute(new Runnable() {
+            @Override
+            public void run() {
+                closeAll();
+            }
+        });
+    }
+
+    /**
+     * Asynchronously closes all prefetched dictionaries to give their memory back, and abandons
+     * the pending requests. Unlike {@link #close()}, the next request prefetches again.
+     */
+    public void trimMemory() {
+        mRequestCount.incrementAndGet();
+        ExecutorUtils.getBackgroundExecutor(ExecutorUtils.PREFETCH).execute(new Runnable() {
+            @Override
+            public void run() {
+                closeAll();
+            }
+        });
+    }
+
+    void doPrefetch(final Context context, final List<Locale> locales, final int request) {
+        if (mIsClosed) {
+            // A request scheduled before close() must not open anything anymore.
+            return;
+        }
+        // Drop the locales that are no longer wanted first so their budget can be reused.
+        final Iterator<Map.Entry<Locale, ArrayList<ReadOnlyBinaryDictionary>>> iterator =
+                mPrefetchedDictionaries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<Locale, ArrayList<ReadOnlyBinaryDictionary>> entry = iterator.next();
+            final int index = locales.indexOf(entry.getKey());
+            if (index < 0 || index >= MAX_PREFETCHED_LOCALES) {
+                closeDictionaries(entry.getValue());
+                iterator.remove();
+            }
+        }
+
+        long usedBytes = 0;
+        for (int i = 0; i < locales.size() && i < MAX_PREFETCHED_LOCALES; i++) {
+            if (request != mRequestCount.get()) {
+                // A newer request will finish the job.
+                break;
+            }
+            final Locale locale = locales.get(i);
+            final ArrayList<AssetFileAddress> files =
+                    BinaryDictionaryGetter.getDictionaryFiles(locale, context, false);
+            long size = 0;
+            for (final AssetFileAddress file : files) {
+                size += file.mLength;
+            }
+            if (usedBytes + size > MEMORY_BUDGET_BYTES) {
+                // Less likely locales don't get to use the budget either.
+                final ArrayList<ReadOnlyBinaryDictionary> dictionaries =
+                        mPrefetchedDictionaries.remove(locale);
+                if (dictionaries != null) {
+                    closeDictionaries(dictionaries);
+                }
+                continue;
+            }
+            usedBytes += size;
+            if (mPrefetchedDictionaries.containsKey(locale)) {
+                continue;
+            }
+            mPrefetchedDictionaries.put(locale, openDictionaries(locale, files, request));
+        }
+        if (DEBUG) {
+            Log.d(TAG, "Prefetched " + mPrefetchedDictionaries.keySet() + ", "
+                    + usedBytes + " bytes");
+        }
+    }
+
+    private void closeAll() {
+        for (final ArrayList<ReadOnlyBinaryDictionary> dictionaries
+                : mPrefetchedDictionaries.values()) {
+            closeDictionaries(dictionaries);
+        }
+        mPrefetchedDictionaries.clear();
+    }
+
+    // Opens the dictionaries the same way DictionaryFactory does, so the facilitator's instances
+    // share the native dictionaries opened here.
+    private ArrayList<ReadOnlyBinaryDictionary> openDictionaries(final Locale locale,
+            final ArrayList<AssetFileAddress> files, final int request) {
+        final ArrayList<ReadOnlyBinaryDictionary> dictionaries = new ArrayList<>();
+        final byte[] buffer = new byte[WARM_UP_BUFFER_SIZE];
+        for (final AssetFileAddress file : files) {
+            final ReadOnlyBinaryDictionary dictionary = new ReadOnlyBinaryDictionary(
+                    file.mFilename, file.mOffset, file.mLength,
+                    false /* useFullEditDistance */, locale, Dictionary.TYPE_MAIN);
+            if (!dictionary.isValidDictionary()) {
+                // Leave broken files to DictionaryFactory, which knows how to report them.
+                dictionary.close();
+                continue;
+            }
+            dictionaries.add(dictionary);
+            warmUp(file, buffer, request);
+        }
+        return dictionaries;
+    }
+
+    private static void closeDictionaries(final ArrayList<ReadOnlyBinaryDictionary> dictionaries) {
+        for (final ReadOnlyBinaryDictionary dictionary : dictionaries) {
+            dictionary.close();
+        }
+    }
+
+    // Reads the dictionary once so its pages are in the page cache, and the first lookups after
+    // a switch don't fault them in from storage. Stops between chunks once the request is stale.
+    private void warmUp(final AssetFileAddress file, final byte[] buffer, final int request) {
+        FileInputStream inputStream = null;
+        try {
+            inputStream = new FileInputStream(file.mFilename);
+            long toSkip = file.mOffset;
+            while (toSkip > 0) {
+                final long skipped = inputStream.skip(toSkip);
+                if (skipped <= 0) {
+                    return;
+                }
+                toSkip -= skipped;
+            }
+            long remaining = file.mLength;
+            while (remaining > 0 && request == mRequestCount.get()) {
+                final int read = inputStream.read(buffer, 0,
+                        (int) Math.min(buffer.length, remaining));
+                if (read < 0) {
+                    break;
+                }
+                remaining -= read;
+            }
+        } catch (final IOException e) {
+            Log.w(TAG, "Could not warm up " + file, e);
+        } finally {
+            if (inputStream != null) {
+                try {
+                    inputStream.close();
+                } catch (final IOException e) {
+                    // Nothing to do.
+                }
+            }
+        }
+    }
+}
@@ -17,6 +17,8 @@
 package org.dslul.openboard.inputmethod.latin;
 
 import android.content.Context;
+import android.os.SystemClock;
+import android.text.TextUtils;
 import android.util.Log;
 
 import com.android.inputmethod.latin.BinaryDictionary;
@@ -34,6 +36,7 @@ import org.dslul.openboard.inputmethod.latin.settings.SettingsValuesForSuggestio
 import org.dslul.openboard.inputmethod.latin.utils.AsyncResultHolder;
 import org.dslul.openboard.inputmethod.latin.utils.CombinedFormatUtils;
 import org.dslul.openboard.inputmethod.latin.utils.ExecutorUtils;
+import org.dslul.openboard.inputmethod.latin.utils.SerialExecutor;
 import com.android.inputmethod.latin.utils.WordInputEventForPersonalization;
 
 import java.io.File;
@@ -44,6 +47,7 @@ import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -69,6 +73,13 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
 
     private static final int TIMEOUT_FOR_READ_OPS_IN_MILLISECONDS = 100;
 
+    // Learning input events are queued for this long and then applied in a single write-locked
+    // batch, so committing words does not take the write lock once per word.
+    private static final long LEARNING_BATCH_DELAY_MILLIS = 1000;
+    // A batch is held back while a gesture is in progress, but not for longer than this.
+    private static final long MAX_LEARNING_DELAY_MILLIS = 5000;
+    private static final int MAX_PENDING_INPUT_EVENTS = 64;
+
     /**
      * The maximum length of a word in this dictionary.
      */
@@ -89,6 +100,19 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
      */
     private BinaryDictionary mBinaryDictionary;
 
+    /**
+     * The dictionary being built by {@link #createNewDictionary()}, which the initial contents
+     * are written to. Only accessed by the update tasks.
+     */
+    private BinaryDictionary mNewBinaryDictionary;
+
+    /**
+     * Runs the tasks of this dictionary in order. Dictionaries don't share a thread, so a slow
+     * reload of one of them does not hold back the updates of the others.
+     */
+    private final SerialExecutor mUpdateExecutor =
+            new SerialExecutor(ExecutorUtils.DICTIONARY_UPDATES);
+
     /**
      * The name of this dictionary, used as a part of the filename for storing the binary
      * dictionary.
@@ -101,18 +125,57 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
     /** Indicates whether a task for reloading the dictionary has been scheduled. */
     private final AtomicBoolean mIsReloading;
 
+    /** Source of all the generations, so that they only ever increase across dictionaries. */
+    private static final AtomicInteger sLastGeneration = new AtomicInteger();
+
+    /** Renewed around each write-locked task. See {@link #getContentGeneration()}. */
+    private final AtomicInteger mContentGeneration = new AtomicInteger();
+
     /** Indicates whether the current dictionary needs to be recreated. */
     private boolean mNeedsToRecreate;
 
     private final ReentrantReadWriteLock mLock;
 
+    /** Learning input events that have not been applied yet. Guarded by itself. */
+    private final ArrayList<WordInputEventForPersonalization> mPendingInputEvents =
+            new ArrayList<>();
+    /** Uptime when the oldest pending input event was queued. Guarded by mPendingInputEvents. */
+    private long mOldestPendingInputEventTime;
+    /** Whether a batch is scheduled. Guarded by mPendingInputEvents. */
+    private boolean mIsApplyingPendingInputEventsScheduled;
+
+    private static volatile boolean sIsBatchInputInProgress = false;
+
+    private final Runnable mApplyPendingInputEventsTask = new Runnable() {
+        @Override
+        public void run() {
+            synchronized (mPendingInputEvents) {
+                if (sIsBatchInputInProgress && SystemClock.uptimeMillis()
+                        - mOldestPendingInputEventTime < MAX_LEARNING_DELAY_MILLIS) {
+                    // Don't make the lookups for the current gesture wait for the write lock.
+                    ExecutorUtils.getBackgroundExecutor(ExecutorUtils.DICTIONARY_UPDATES)
+                            .schedule(this, LEARNING_BATCH_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+                    return;
+                }
+                mIsApplyingPendingInputEventsScheduled = false;
+            }
+            asyncExecuteTaskWithWriteLock(new Runnable() {
+                @Override
+                public void run() {
+                    applyPendingInputEventsLocked();
+                }
+            });
+        }
+    };
+
     private Map<String, String> mAdditionalAttributeMap = null;
 
     /* A extension for a binary dictionary file. */
     protected static final String DICT_FILE_EXTENSION = ".dict";
 
     /**
-     * Abstract method for loading initial contents of a given dictionary.
+     * Abstract method for loading initial contents of a given dictionary. The contents go to a
+     * new dictionary that lookups don't see until it is complete.
      */
     protected abstract void loadInitialContentsLocked();
 
@@ -165,11 +228,45 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
     }
 
     private void asyncExecuteTaskWithWriteLock(final Runnable task) {
-        asyncExecuteTaskWithLock(mLock.writeLock(), task);
+        mUpdateExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                executeTaskWithWriteLock(task);
+            }
+        });
     }
 
-    private static void asyncExecuteTaskWithLock(final Lock lock, final Runnable task) {
-        ExecutorUtils.getBackgroundExecutor(ExecutorUtils.KEYBOARD).execute(new Runnable() {
+    // Must be called from an update task.
+    private void executeTaskWithWriteLock(final Runnable task) {
+        mLock.writeLock().lock();
+        // Bumped on both sides so lookups that overlap the task are never taken as current.
+        mContentGeneration.set(newGeneration());
+        try {
+            task.run();
+        } finally {
+            mContentGeneration.set(newGeneration());
+            mLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns a counter that changes after every task that may have modified the dictionary, so
+     * callers can tell whether suggestions they cached from it are still current. A new value is
+     * greater than any generation returned before by any dictionary.
+     */
+    public int getContentGeneration() {
+        return mContentGeneration.get();
+    }
+
+    /**
+     * Returns a generation greater than all the previous ones.
+     */
+    static int newGeneration() {
+        return sLastGeneration.incrementAndGet();
+    }
+
+    private void asyncExecuteTaskWithLock(final Lock lock, final Runnable task) {
+        mUpdateExecutor.execute(new Runnable() {
             @Override
             public void run() {
                 lock.lock();
@@ -202,6 +299,7 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
         asyncExecuteTaskWithWriteLock(new Runnable() {
             @Override
             public void run() {
+                applyPendingInputEventsLocked();
                 closeBinaryDictionary();
             }
         });
@@ -230,6 +328,10 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
 
     void removeBinaryDictionaryLocked() {
         closeBinaryDictionary();
+        removeDictFile();
+    }
+
+    private void removeDictFile() {
         if (mDictFile.exists() && !FileUtils.deleteRecursively(mDictFile)) {
             Log.e(TAG, "Can't remove a file: " + mDictFile.getName());
         }
@@ -242,12 +344,24 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
     }
 
     void createOnMemoryBinaryDictionaryLocked() {
-        mBinaryDictionary = new BinaryDictionary(
+        mBinaryDictionary = newOnMemoryBinaryDictionary();
+    }
+
+    private BinaryDictionary newOnMemoryBinaryDictionary() {
+        return new BinaryDictionary(
                 mDictFile.getAbsolutePath(), true /* useFullEditDistance */, mLocale, mDictType,
                 DICTIONARY_FORMAT_VERSION, getHeaderAttributeMap());
     }
 
+    // Update tasks write to the dictionary being built, if any, and to the current one otherwise.
+    private BinaryDictionary getBinaryDictionaryForUpdate() {
+        return mNewBinaryDictionary != null ? mNewBinaryDictionary : mBinaryDictionary;
+    }
+
     public void clear() {
+        synchronized (mPendingInputEvents) {
+            mPendingInputEvents.clear();
+        }
         asyncExecuteTaskWithWriteLock(new Runnable() {
             @Override
             public void run() {
@@ -273,12 +387,13 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
     }
 
     protected void runGCIfRequiredLocked(final boolean mindsBlockByGC) {
-        if (mBinaryDictionary.needsToRunGC(mindsBlockByGC)) {
-            mBinaryDictionary.flushWithGC();
+        final BinaryDictionary binaryDictionary = getBinaryDictionaryForUpdate();
+        if (binaryDictionary.needsToRunGC(mindsBlockByGC)) {
+            binaryDictionary.flushWithGC();
         }
     }
 
-    private void updateDictionaryWithWriteLock(@Nonnull final Runnable updateTask) {
+    protected void updateDictionaryWithWriteLock(@Nonnull final Runnable updateTask) {
         reloadDictionaryIfRequired();
         final Runnable task = new Runnable() {
             @Override
@@ -311,12 +426,21 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
     protected void addUnigramLocked(final String word, final int frequency,
             final String shortcutTarget, final int shortcutFreq, final boolean isNotAWord,
             final boolean isPossiblyOffensive, final int timestamp) {
-        if (!mBinaryDictionary.addUnigramEntry(word, frequency, shortcutTarget, shortcutFreq,
-                false /* isBeginningOfSentence */, isNotAWord, isPossiblyOffensive, timestamp)) {
+        if (!getBinaryDictionaryForUpdate().addUnigramEntry(word, frequency, shortcutTarget,
+                shortcutFreq, false /* isBeginningOfSentence */, isNotAWord, isPossiblyOffensive,
+                timestamp)) {
             Log.e(TAG, "Cannot add unigram entry. word: " + word);
         }
     }
 
+    protected void removeUnigramLocked(final String word) {
+        if (!getBinaryDictionaryForUpdate().removeUnigramEntry(word)) {
+            if (DEBUG) {
+                Log.i(TAG, "Cannot remove unigram entry: " + word);
+            }
+        }
+    }
+
     /**
      * Dynamically remove the unigram entry from the dictionary.
      */
@@ -329,6 +453,7 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
                 if (binaryDictionary == null) {
                     return;
                 }
+                applyPendingInputEventsLocked();
                 runGCIfRequiredLocked(true /* mindsBlockByGC */);
                 if (!binaryDictionary.removeUnigramEntry(word)) {
                     if (DEBUG) {
@@ -359,7 +484,8 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
 
     protected void addNgramEntryLocked(@Nonnull final NgramContext ngramContext, final String word,
             final int frequency, final int timestamp) {
-        if (!mBinaryDictionary.addNgramEntry(ngramContext, word, frequency, timestamp)) {
+        if (!getBinaryDictionaryForUpdate().addNgramEntry(ngramContext, word, frequency,
+                timestamp)) {
             if (DEBUG) {
                 Log.i(TAG, "Cannot add n-gram entry.");
                 Log.i(TAG, "  NgramContext: " + ngramContext + ", word: " + word);
@@ -369,9 +495,21 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
 
     /**
      * Update dictionary for the word with the ngramContext.
+     *
+     * Single occurrences are queued and applied together with the other occurrences of the next
+     * second or so, see {@link #applyPendingInputEventsLocked()}.
      */
     public void updateEntriesForWord(@Nonnull final NgramContext ngramContext,
             final String word, final boolean isValidWord, final int count, final int timestamp) {
+        if (count == 1) {
+            if (TextUtils.isEmpty(word)) {
+                return;
+            }
+            reloadDictionaryIfRequired();
+            queueInputEvent(new WordInputEventForPersonalization(word, ngramContext, isValidWord,
+                    timestamp));
+            return;
+        }
         updateDictionaryWithWriteLock(new Runnable() {
             @Override
             public void run() {
@@ -390,6 +528,54 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
         });
     }
 
+    private void queueInputEvent(@Nonnull final WordInputEventForPersonalization inputEvent) {
+        synchronized (mPendingInputEvents) {
+            if (mPendingInputEvents.isEmpty()) {
+                mOldestPendingInputEventTime = SystemClock.uptimeMillis();
+            }
+            mPendingInputEvents.add(inputEvent);
+            if (mPendingInputEvents.size() >= MAX_PENDING_INPUT_EVENTS
+                    && !sIsBatchInputInProgress) {
+                ExecutorUtils.getBackgroundExecutor(ExecutorUtils.DICTIONARY_UPDATES).execute(
+                        mApplyPendingInputEventsTask);
+            } else if (!mIsApplyingPendingInputEventsScheduled) {
+                ExecutorUtils.getBackgroundExecutor(ExecutorUtils.DICTIONARY_UPDATES).schedule(
+                        mApplyPendingInputEventsTask, LEARNING_BATCH_DELAY_MILLIS,
+                        TimeUnit.MILLISECONDS);
+            }
+            mIsApplyingPendingInputEventsScheduled = true;
+        }
+    }
+
+    /**
+     * Applies the queued learning input events in one batch. The native code checks whether GC
+     * is needed between events, the regular GC and flush are left to {@link #onFinishInput()}.
+     */
+    private void applyPendingInputEventsLocked() {
+        final WordInputEventForPersonalization[] inputEvents;
+        synchronized (mPendingInputEvents) {
+            if (mPendingInputEvents.isEmpty()) {
+                return;
+            }
+            inputEvents = mPendingInputEvents.toArray(
+                    new WordInputEventForPersonalization[mPendingInputEvents.size()]);
+            mPendingInputEvents.clear();
+        }
+        final BinaryDictionary binaryDictionary = getBinaryDictionary();
+        if (binaryDictionary == null) {
+            return;
+        }
+        binaryDictionary.updateEntriesForInputEvents(inputEvents);
+    }
+
+    /**
+     * Tells the dictionaries whether a gesture is being input, so that queued learning input
+     * events are not applied while it is decoded.
+     */
+    public static void setBatchInputInProgress(final boolean isBatchInputInProgress) {
+        sIsBatchInputInProgress = isBatchInputInProgress;
+    }
+
     /**
      * Used by Sketch.
      * {@see https://cs.corp.google.com/#android/vendor/unbundled_google/packages/LatinIMEGoogle/tools/sketch/ime-simulator/src/com/android/inputmethod/sketch/imesimulator/ImeSimulator.java&q=updateEntriesForInputEventsCallback&l=286}
@@ -548,14 +734,29 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
     }
 
     /**
-     * Create a new binary dictionary and load initial contents.
+     * Create a new binary dictionary and load initial contents. The contents are loaded into a
+     * separate instance without holding the lock, so lookups keep using the current dictionary
+     * until the new one is swapped in. Must be called from an update task.
      */
-    void createNewDictionaryLocked() {
-        removeBinaryDictionaryLocked();
-        createOnMemoryBinaryDictionaryLocked();
-        loadInitialContentsLocked();
+    void createNewDictionary() {
+        final BinaryDictionary newBinaryDictionary = newOnMemoryBinaryDictionary();
+        mNewBinaryDictionary = newBinaryDictionary;
+        try {
+            loadInitialContentsLocked();
+        } finally {
+            mNewBinaryDictionary = null;
+        }
+        // The current dictionary keeps its mapping of the removed file until it is closed.
+        removeDictFile();
         // Run GC and flush to file when initial contents have been loaded.
-        mBinaryDictionary.flushWithGCIfHasUpdated();
+        newBinaryDictionary.flushWithGCIfHasUpdated();
+        executeTaskWithWriteLock(new Runnable() {
+            @Override
+            public void run() {
+                closeBinaryDictionary();
+                mBinaryDictionary = newBinaryDictionary;
+            }
+        });
     }
 
     /**
@@ -564,6 +765,8 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
      */
     protected void setNeedsToRecreate() {
         mNeedsToRecreate = true;
+        // The content is stale already, even though the reload only happens on the next access.
+        mContentGeneration.set(newGeneration());
     }
 
     void clearNeedsToRecreate() {
@@ -601,29 +804,35 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
             return;
         }
         final File dictFile = mDictFile;
-        asyncExecuteTaskWithWriteLock(new Runnable() {
+        mUpdateExecutor.execute(new Runnable() {
             @Override
             public void run() {
                 try {
                     if (!dictFile.exists() || isNeededToRecreate()) {
                         // If the dictionary file does not exist or contents have been updated,
-                        // generate a new one.
-                        createNewDictionaryLocked();
+                        // generate a new one. The flag is cleared first so that a change while
+                        // the contents are loaded triggers another reload.
+                        clearNeedsToRecreate();
+                        createNewDictionary();
                     } else if (getBinaryDictionary() == null) {
                         // Otherwise, load the existing dictionary.
-                        loadBinaryDictionaryLocked();
+                        executeTaskWithWriteLock(new Runnable() {
+                            @Override
+                            public void run() {
+                                loadBinaryDictionaryLocked();
+                            }
+                        });
                         final BinaryDictionary binaryDictionary = getBinaryDictionary();
                         if (binaryDictionary != null && !(isValidDictionaryLocked()
                                 // TODO: remove the check below
                                 && matchesExpectedBinaryDictFormatVersionForThisType(
                                         binaryDictionary.getFormatVersion()))) {
                             // Binary dictionary or its format version is not valid. Regenerate
-                            // the dictionary file. createNewDictionaryLocked will remove the
+                            // the dictionary file. createNewDictionary will remove the
                             // existing files if appropriate.
-                            createNewDictionaryLocked();
+                            createNewDictionary();
                         }
                     }
-                    clearNeedsToRecreate();
                 } finally {
                     isReloading.set(false);
                 }
@@ -632,7 +841,8 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
     }
 
     /**
-     * Flush binary dictionary to dictionary file.
+     * Flush binary dictionary to dictionary file. Pending learning input events are applied
+     * first, and GC runs here rather than while typing when it is not urgent.
      */
     @Override
     public void onFinishInput() {
@@ -643,6 +853,7 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
                 if (binaryDictionary == null) {
                     return;
                 }
+                applyPendingInputEventsLocked();
                 if (binaryDictionary.needsToRunGC(false /* mindsBlockByGC */)) {
                     binaryDictionary.flushWithGCIfHasUpdated();
                 } else {
@@ -673,6 +884,7 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
         asyncExecuteTaskWithWriteLock(new Runnable() {
             @Override
             public void run() {
+                applyPendingInputEventsLocked();
                 countDownLatch.countDown();
             }
         });
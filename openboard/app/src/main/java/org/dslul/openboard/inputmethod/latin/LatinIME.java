@@ -18,6 +18,7 @@ package org.dslul.openboard.inputmethod.latin;
 
 import android.app.AlertDialog;
 import android.content.BroadcastReceiver;
+import android.content.ComponentCallbacks2;
 import android.content.Context;
 import android.content.DialogInterface;
 import android.content.DialogInterface.OnClickListener;
@@ -66,6 +67,7 @@ import org.dslul.openboard.inputmethod.keyboard.Key;
 import org.dslul.openboard.inputmethod.keyboard.Keyboard;
 import org.dslul.openboard.inputmethod.keyboard.KeyboardActionListener;
 import org.dslul.openboard.inputmethod.keyboard.KeyboardId;
+import org.dslul.openboard.inputmethod.keyboard.KeyboardLayoutSet;
 import org.dslul.openboard.inputmethod.keyboard.KeyboardSwitcher;
 import org.dslul.openboard.inputmethod.keyboard.MainKeyboardView;
 import org.dslul.openboard.inputmethod.keyboard.MoreKeysPanel;
@@ -154,6 +156,8 @@ public class LatinIME extends InputMethodService implements KeyboardActionListen
                     false /* isNeededForSpellChecking */);
     final InputLogic mInputLogic = new InputLogic(this /* LatinIME */,
             this /* SuggestionStripViewAccessor */, mDictionaryFacilitator);
+    // Keeps the dictionaries of the locales the user is likely to switch to next open.
+    private final DictionaryPrefetcher mDictionaryPrefetcher = new DictionaryPrefetcher();
     // We expect to have only one decoder in almost all cases, hence the default capacity of 1.
     // If it turns out we need several, it will get grown seamlessly.
     final SparseArray<HardwareEventDecoder> mHardwareEventDecoders = new SparseArray<>(1);
@@ -646,6 +650,7 @@ public class LatinIME extends InputMethodService implements KeyboardActionListen
         // {@link #resetDictionaryFacilitatorIfNecessary()}.
         loadSettings();
         resetDictionaryFacilitatorIfNecessary();
+        prefetchDictionariesForLikelySubtypes();
 
         // Register to receive ringer mode change.
         final IntentFilter filter = new IntentFilter();
@@ -689,8 +694,13 @@ public class LatinIME extends InputMethodService implements KeyboardActionListen
         eventFilter.addAction(IMEEventReceiver.ACTION_GET_KEY_INFO);
         eventFilter.addAction(IMEEventReceiver.ACTION_GET_KEY_BOUNDS);
         eventFilter.addAction(IMEEventReceiver.ACTION_SHOW_OR_HIDE_KEY_POPUP);
+        eventFilter.addAction(IMEEventReceiver.ACTION_SET_GESTURE_PROFILE);
         registerReceiver(imeEventReceiver, eventFilter, null, null, RECEIVER_EXPORTED);
         Log.d(TAG, "[HeadBoard] IMEEventReceiver registered for motion and key events.");
+        // HeadBoard only sends the gesture profile when it is enabled or disabled, which may have
+        // happened while this process wasn't running.
+        setGestureRecognitionProfile(Settings.readGestureRecognitionProfile(
+                DeviceProtectedUtils.getSharedPreferences(this)));
     }
 
     // Has to be package-visible for unit tests
@@ -794,6 +804,7 @@ public class LatinIME extends InputMethodService implements KeyboardActionListen
     public void onDestroy() {
         mClipboardHistoryManager.onDestroy();
         mDictionaryFacilitator.closeDictionaries();
+        mDictionaryPrefetcher.close();
         mSettings.onDestroy();
         unregisterReceiver(mHideSoftInputReceiver);
         unregisterReceiver(mRingerModeChangeReceiver);
@@ -812,6 +823,24 @@ public class LatinIME extends InputMethodService implements KeyboardActionListen
         super.onDestroy();
     }
 
+    @Override
+    public void onTrimMemory(final int level) {
+        super.onTrimMemory(level);
+        KeyboardLayoutSet.onTrimMemory(level);
+        switch (level) {
+        case ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW:
+        case ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL:
+        case ComponentCallbacks2.TRIM_MEMORY_BACKGROUND:
+        case ComponentCallbacks2.TRIM_MEMORY_MODERATE:
+        case ComponentCallbacks2.TRIM_MEMORY_COMPLETE:
+            // The prefetched dictionaries are only a head start for a subtype switch.
+            mDictionaryPrefetcher.trimMemory();
+            break;
+        default:
+            break;
+        }
+    }
+
 
     // Dispatch MotionEvent within LatinIME
     public void dispatchMotionEvent(float x, float y, int action) {
@@ -896,14 +925,26 @@ public class LatinIME extends InputMethodService implements KeyboardActionListen
             // Get the gesture trails drawing preview
             GestureTrailsDrawingPreview gesturePreview = mainKeyboardView.getGestureTrailsDrawingPreview();
             if (gesturePreview != null) {
-                // Update the trail color using the proper method
+                // Update the trail color using the proper method. This only redraws the trails,
+                // not the keyboard.
                 gesturePreview.setTrailColor(color);
-                // Force a redraw
-                mainKeyboardView.invalidate();
             }
         }
     }
 
+    /**
+     * Select the gesture recognition profile for the device driving the keyboard, e.g. a head
+     * pointer. Ongoing gestures keep the sampling done so far.
+     * @param profile one of the GestureStrokeRecognitionParams.PROFILE_* names.
+     */
+    public void setGestureRecognitionProfile(final String profile) {
+        if (PointerTracker.setGestureRecognitionProfile(profile)) {
+            Log.d(TAG, "Gesture recognition profile set to: " + profile);
+        } else {
+            Log.w(TAG, "Unknown gesture recognition profile: " + profile);
+        }
+    }
+
     private Map<String, MoreKeysPanel[]> keyCoordsToAltPopups = new HashMap<>(2);
 
     public void showOrHideKeyPopup(boolean showKeyPreview, int[] coords, boolean withAnimation, boolean isLongPressPopup) {
@@ -1166,6 +1207,12 @@ public class LatinIME extends InputMethodService implements KeyboardActionListen
         mInputLogic.onSubtypeChanged(SubtypeLocaleUtils.getCombiningRulesExtraValue(subtype),
                 mSettings.getCurrent());
         loadKeyboard();
+        prefetchDictionariesForLikelySubtypes();
+    }
+
+    private void prefetchDictionariesForLikelySubtypes() {
+        mDictionaryPrefetcher.prefetch(this /* context */, mRichImm.getLikelyNextSubtypeLocales(
+                DictionaryPrefetcher.MAX_PREFETCHED_LOCALES));
     }
 
     void onStartInputInternal(final EditorInfo editorInfo, final boolean restarting) {
@@ -2285,6 +2332,7 @@ public class LatinIME extends InputMethodService implements KeyboardActionListen
         final Keyboard keyboard = mKeyboardSwitcher.getKeyboard();
         final int keyboardMode = keyboard != null ? keyboard.mId.mMode : -1;
         p.println("  Keyboard mode = " + keyboardMode);
+        p.println("  Keyboard cache = " + KeyboardLayoutSet.getKeyboardCacheStats());
         final SettingsValues settingsValues = mSettings.getCurrent();
         p.println(settingsValues.dump());
         p.println(mDictionaryFacilitator.dump(this /* context */));
@@ -17,6 +17,7 @@
 package org.dslul.openboard.inputmethod.latin;
 
 import android.content.ContentResolver;
+import android.content.ContentUris;
 import android.content.Context;
 import android.database.ContentObserver;
 import android.database.Cursor;
@@ -26,20 +27,22 @@ import android.text.TextUtils;
 import android.util.Log;
 
 import org.dslul.openboard.inputmethod.annotations.UsedForTesting;
-import org.dslul.openboard.inputmethod.latin.common.CollectionUtils;
 import org.dslul.openboard.inputmethod.latin.common.LocaleUtils;
 import org.dslul.openboard.inputmethod.latin.define.DebugFlags;
 import org.dslul.openboard.inputmethod.latin.utils.ExecutorUtils;
 
 import java.io.Closeable;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
-import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -51,6 +54,13 @@ import javax.annotation.Nullable;
  * This class provides the ability to look into the system-wide "Personal dictionary". It loads the
  * data once when created and reloads it when notified of changes to {@link UserDictionary}
  *
+ * Reloads are incremental: a change to a single entry only queries that entry, and a change to the
+ * whole dictionary is diffed against the loaded entries. Only the locales that changed are
+ * re-indexed. Each locale keeps its words and shortcuts in sorted arrays, so lookups are binary
+ * searches that don't allocate. Edits from the settings UI notify a change to the whole dictionary,
+ * so those reloads still query and compare every row, and their cost grows with the size of the
+ * dictionary.
+ *
  * It can be used directly to validate words or expand shortcuts, and it can be used by instances
  * of {@link PersonalLanguageModelHelper} that create language model files for a specific input
  * locale.
@@ -131,6 +141,8 @@ public class PersonalDictionaryLookup implements Closeable {
      *    3. It may be called multiple times quickly in succession (and is in fact called so
      *       when the dictionary is edited through its settings UI, when sometimes multiple
      *       notifications are sent for the edited entry, but also for the entire dictionary).
+     *    4. It records the entries the notifications are about, so that the reload only reads
+     *       those entries.
      */
     private class PersonalDictionaryContentObserver extends ContentObserver implements Runnable {
         public PersonalDictionaryContentObserver() {
@@ -153,6 +165,8 @@ public class PersonalDictionaryLookup implements Closeable {
             if (DebugFlags.DEBUG_ENABLED) {
                 Log.d(mTag, "onChange() : URI = " + uri);
             }
+            addPendingChange(uri);
+
             // Cancel (but don't interrupt) any pending reloads (except the initial load).
             if (mReloadFuture != null && !mReloadFuture.isCancelled() &&
                     !mReloadFuture.isDone()) {
@@ -186,26 +200,237 @@ public class PersonalDictionaryLookup implements Closeable {
             new PersonalDictionaryContentObserver();
 
     /**
-     * Indicates that a load is in progress, so no need for another.
+     * Held while loading, so that the initial load and the reloads apply their changes in turn.
      */
-    private AtomicBoolean mIsLoading = new AtomicBoolean(false);
+    private final Object mLoadLock = new Object();
 
     /**
      * Indicates that this lookup object has been close()d.
      */
     private AtomicBoolean mIsClosed = new AtomicBoolean(false);
 
+    private static final String[] PROJECTION = {
+            UserDictionary.Words._ID,
+            UserDictionary.Words.WORD,
+            UserDictionary.Words.LOCALE,
+            UserDictionary.Words.SHORTCUT,
+            UserDictionary.Words.FREQUENCY };
+
+    /**
+     * An entry of the personal dictionary, as read from a row of {@link UserDictionary}.
+     */
+    private static final class Entry {
+        final long mId;
+        final Locale mLocale;
+        // The word lowercased with its locale, and as it appears.
+        final String mWord;
+        final String mRawWord;
+        @Nullable final String mShortcut;
+        final int mFrequency;
+
+        Entry(final long id, @Nonnull final Locale locale, @Nonnull final String rawWord,
+                @Nullable final String shortcut, final int frequency) {
+            mId = id;
+            mLocale = locale;
+            mWord = rawWord.toLowerCase(locale);
+            mRawWord = rawWord;
+            mShortcut = shortcut;
+            mFrequency = frequency;
+        }
+
+        boolean hasSameContents(@Nonnull final Entry other) {
+            return mLocale.equals(other.mLocale) && mRawWord.equals(other.mRawWord)
+                    && TextUtils.equals(mShortcut, other.mShortcut)
+                    && mFrequency == other.mFrequency;
+        }
+    }
+
+    // Sorts by word, then by descending frequency, so that the first of equal words is kept.
+    private static final Comparator<Entry> WORD_ORDER = new Comparator<Entry>() {
+        @Override
+        public int compare(final Entry lhs, final Entry rhs) {
+            final int result = lhs.mWord.compareTo(rhs.mWord);
+            return (result != 0) ? result : Integer.compare(rhs.mFrequency, lhs.mFrequency);
+        }
+    };
+
+    // Sorts by shortcut, then by descending frequency, so that the first of equal shortcuts is
+    // kept. Only for entries with a shortcut.
+    private static final Comparator<Entry> SHORTCUT_ORDER = new Comparator<Entry>() {
+        @Override
+        public int compare(final Entry lhs, final Entry rhs) {
+            final int result = lhs.mShortcut.compareTo(rhs.mShortcut);
+            return (result != 0) ? result : Integer.compare(rhs.mFrequency, lhs.mFrequency);
+        }
+    };
+
+    /**
+     * The words and shortcuts of one dictionary locale, in sorted arrays for binary searches.
+     */
+    private static final class LocaleTable {
+        final Locale mLocale;
+        final String mLocaleString;
+        // Lowercased words, and the words as they appear at the same index.
+        final String[] mWords;
+        final String[] mRawWords;
+        // Shortcuts, and the words they expand to at the same index.
+        final String[] mShortcuts;
+        final String[] mExpansions;
+
+        LocaleTable(@Nonnull final Locale locale, @Nonnull final Collection<Entry> entries) {
+            mLocale = locale;
+            mLocaleString = locale.toString();
+            final Entry[] sortedEntries = entries.toArray(new Entry[entries.size()]);
+            Arrays.sort(sortedEntries, WORD_ORDER);
+            final ArrayList<String> words = new ArrayList<>(sortedEntries.length);
+            final ArrayList<String> rawWords = new ArrayList<>(sortedEntries.length);
+            final ArrayList<Entry> shortcutEntries = new ArrayList<>();
+            for (final Entry entry : sortedEntries) {
+                if (words.isEmpty() || !entry.mWord.equals(words.get(words.size() - 1))) {
+                    words.add(entry.mWord);
+                    rawWords.add(entry.mRawWord);
+                }
+                if (entry.mShortcut != null) {
+                    shortcutEntries.add(entry);
+                }
+            }
+            mWords = words.toArray(new String[words.size()]);
+            mRawWords = rawWords.toArray(new String[rawWords.size()]);
+
+            Collections.sort(shortcutEntries, SHORTCUT_ORDER);
+            final ArrayList<String> shortcuts = new ArrayList<>(shortcutEntries.size());
+            final ArrayList<String> expansions = new ArrayList<>(shortcutEntries.size());
+            for (final Entry entry : shortcutEntries) {
+                if (shortcuts.isEmpty()
+                        || !entry.mShortcut.equals(shortcuts.get(shortcuts.size() - 1))) {
+                    // Map to the raw input, which might be capitalized.
+                    // This lets the user create a shortcut from "gm" to "General Motors".
+                    shortcuts.add(entry.mShortcut);
+                    expansions.add(entry.mRawWord);
+                }
+            }
+            mShortcuts = shortcuts.toArray(new String[shortcuts.size()]);
+            mExpansions = expansions.toArray(new String[expansions.size()]);
+        }
+    }
+
+    /**
+     * An immutable state of the personal dictionary. The tables an input locale looks into are
+     * resolved on its first lookup and kept with the snapshot.
+     */
+    private static final class Snapshot {
+        final HashMap<Locale, LocaleTable> mTables;
+        final int mWordCount;
+        final int mShortcutCount;
+        private final ConcurrentHashMap<Locale, LocaleTable[]> mWordTables =
+                new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<Locale, LocaleTable[]> mShortcutTables =
+                new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<Locale, Set<String>> mWordsForLocale =
+                new ConcurrentHashMap<>();
+
+        Snapshot(@Nonnull final HashMap<Locale, LocaleTable> tables) {
+            mTables = tables;
+            int wordCount = 0;
+            int shortcutCount = 0;
+            for (final LocaleTable table : tables.values()) {
+                wordCount += table.mWords.length;
+                shortcutCount += table.mShortcuts.length;
+            }
+            mWordCount = wordCount;
+            mShortcutCount = shortcutCount;
+        }
+
+        // Returns the tables of the dictionary locales that match the input locale.
+        @Nonnull
+        LocaleTable[] getWordTables(@Nonnull final Locale inputLocale) {
+            LocaleTable[] wordTables = mWordTables.get(inputLocale);
+            if (wordTables == null) {
+                final String inputLocaleString = inputLocale.toString();
+                final ArrayList<LocaleTable> tables = new ArrayList<>();
+                for (final LocaleTable table : mTables.values()) {
+                    final int matchLevel =
+                            LocaleUtils.getMatchLevel(table.mLocaleString, inputLocaleString);
+                    if (LocaleUtils.isMatch(matchLevel)) {
+                        tables.add(table);
+                    }
+                }
+                wordTables = tables.toArray(new LocaleTable[tables.size()]);
+                mWordTables.put(inputLocale, wordTables);
+            }
+            return wordTables;
+        }
+
+        // Returns the tables to look for shortcuts in, in order: the country-specific ones (en_US,
+        // en_UK, fr_FR, etc.), the language-specific ones (en, fr, etc.), then the global ones.
+        @Nonnull
+        LocaleTable[] getShortcutTables(@Nonnull final Locale inputLocale) {
+            LocaleTable[] shortcutTables = mShortcutTables.get(inputLocale);
+            if (shortcutTables == null) {
+                final ArrayList<LocaleTable> tables = new ArrayList<>(3);
+                if (!TextUtils.isEmpty(inputLocale.getCountry())) {
+                    addShortcutTable(tables, inputLocale);
+                }
+                addShortcutTable(tables,
+                        LocaleUtils.constructLocaleFromString(inputLocale.getLanguage()));
+                addShortcutTable(tables, ANY_LOCALE);
+                shortcutTables = tables.toArray(new LocaleTable[tables.size()]);
+                mShortcutTables.put(inputLocale, shortcutTables);
+            }
+            return shortcutTables;
+        }
+
+        private void addShortcutTable(@Nonnull final ArrayList<LocaleTable> tables,
+                @Nonnull final Locale locale) {
+            final LocaleTable table = mTables.get(locale);
+            if (table != null && table.mShortcuts.length > 0) {
+                tables.add(table);
+            }
+        }
+
+        @Nonnull
+        Set<String> getWordsForLocale(@Nonnull final Locale inputLocale) {
+            Set<String> words = mWordsForLocale.get(inputLocale);
+            if (words == null) {
+                final HashSet<String> wordSet = new HashSet<>();
+                for (final LocaleTable table : getWordTables(inputLocale)) {
+                    Collections.addAll(wordSet, table.mRawWords);
+                }
+                words = Collections.unmodifiableSet(wordSet);
+                mWordsForLocale.put(inputLocale, words);
+            }
+            return words;
+        }
+    }
+
     /**
-     * We store a map from a dictionary word to the set of locales & raw string(as it appears)
-     * We then iterate over the set of locales to find a match using LocaleUtils.
+     * The current state of the dictionary, replaced as a whole on every reload that changes it.
      */
-    private volatile HashMap<String, HashMap<Locale, String>> mDictWords;
+    private volatile Snapshot mSnapshot;
 
     /**
-     * We store a map from a shortcut to a word for each locale.
-     * Shortcuts that apply to any locale are keyed by {@link #ANY_LOCALE}.
+     * The loaded entries by id, and by locale then id. Guarded by mLoadLock.
      */
-    private volatile HashMap<Locale, HashMap<String, String>> mShortcutsPerLocale;
+    private final HashMap<Long, Entry> mEntries = new HashMap<>();
+    private final HashMap<Locale, HashMap<Long, Entry>> mEntriesByLocale = new HashMap<>();
+
+    /**
+     * The number of loaded entries for each distinct lowercased word, and whether the last full
+     * load stopped at MAX_NUM_ENTRIES words. Guarded by mLoadLock.
+     */
+    private final HashMap<String, Integer> mWordCounts = new HashMap<>();
+    private boolean mIsCapReached;
+
+    /**
+     * The ids of the entries that changed since the last reload. Guarded by itself, like
+     * mIsWholeDictionaryChanged.
+     */
+    private final HashSet<Long> mPendingChangedIds = new HashSet<>();
+
+    /**
+     * Whether a change without an entry id was notified since the last reload.
+     */
+    private boolean mIsWholeDictionaryChanged;
 
     /**
      *  The last-scheduled reload future.  Saved in order to cancel a pending reload if a new one
@@ -301,7 +526,7 @@ public class PersonalDictionaryLookup implements Closeable {
      * @return true if the initial load is successful
      */
     public boolean isLoaded() {
-        return mDictWords != null && mShortcutsPerLocale != null;
+        return mSnapshot != null;
     }
 
     /**
@@ -316,26 +541,11 @@ public class PersonalDictionaryLookup implements Closeable {
      * @return set of words that apply to the given locale.
      */
     public Set<String> getWordsForLocale(@Nonnull final Locale inputLocale) {
-        final HashMap<String, HashMap<Locale, String>> dictWords = mDictWords;
-        if (CollectionUtils.isNullOrEmpty(dictWords)) {
+        final Snapshot snapshot = mSnapshot;
+        if (snapshot == null || snapshot.mWordCount == 0) {
             return Collections.emptySet();
         }
-
-        final Set<String> words = new HashSet<>();
-        final String inputLocaleString = inputLocale.toString();
-        for (String word : dictWords.keySet()) {
-            HashMap<Locale, String> localeStringMap = dictWords.get(word);
-                if (!CollectionUtils.isNullOrEmpty(localeStringMap)) {
-                    for (Locale wordLocale : localeStringMap.keySet()) {
-                        final String wordLocaleString = wordLocale.toString();
-                        final int match = LocaleUtils.getMatchLevel(wordLocaleString, inputLocaleString);
-                        if (LocaleUtils.isMatch(match)) {
-                            words.add(localeStringMap.get(wordLocale));
-                        }
-                    }
-            }
-        }
-        return words;
+        return snapshot.getWordsForLocale(inputLocale);
     }
 
     /**
@@ -350,34 +560,14 @@ public class PersonalDictionaryLookup implements Closeable {
      * @return set of shortcuts that apply to the given locale.
      */
     public Set<String> getShortcutsForLocale(@Nonnull final Locale inputLocale) {
-        final Map<Locale, HashMap<String, String>> shortcutsPerLocale = mShortcutsPerLocale;
-        if (CollectionUtils.isNullOrEmpty(shortcutsPerLocale)) {
+        final Snapshot snapshot = mSnapshot;
+        if (snapshot == null || snapshot.mShortcutCount == 0) {
             return Collections.emptySet();
         }
-
         final Set<String> shortcuts = new HashSet<>();
-        if (!TextUtils.isEmpty(inputLocale.getCountry())) {
-            // First look for the country-specific shortcut: en_US, en_UK, fr_FR, etc.
-            final Map<String, String> countryShortcuts = shortcutsPerLocale.get(inputLocale);
-            if (!CollectionUtils.isNullOrEmpty(countryShortcuts)) {
-                shortcuts.addAll(countryShortcuts.keySet());
-            }
+        for (final LocaleTable table : snapshot.getShortcutTables(inputLocale)) {
+            Collections.addAll(shortcuts, table.mShortcuts);
         }
-
-        // Next look for the language-specific shortcut: en, fr, etc.
-        final Locale languageOnlyLocale =
-                LocaleUtils.constructLocaleFromString(inputLocale.getLanguage());
-        final Map<String, String> languageShortcuts = shortcutsPerLocale.get(languageOnlyLocale);
-        if (!CollectionUtils.isNullOrEmpty(languageShortcuts)) {
-            shortcuts.addAll(languageShortcuts.keySet());
-        }
-
-        // If all else fails, look for a global shortcut.
-        final Map<String, String> globalShortcuts = shortcutsPerLocale.get(ANY_LOCALE);
-        if (!CollectionUtils.isNullOrEmpty(globalShortcuts)) {
-            shortcuts.addAll(globalShortcuts.keySet());
-        }
-
         return shortcuts;
     }
 
@@ -392,7 +582,9 @@ public class PersonalDictionaryLookup implements Closeable {
      * @return true iff the word has been matched for this locale in the dictionary.
      */
     public boolean isValidWord(@Nonnull final String word, @Nonnull final Locale inputLocale) {
-        if (!isLoaded()) {
+        // Atomically obtain the current snapshot.
+        final Snapshot snapshot = mSnapshot;
+        if (snapshot == null) {
             // This is a corner case in the event the initial load of the dictionary has not
             // completed. In that case, we assume the word is not a valid word in the dictionary.
             if (DebugFlags.DEBUG_ENABLED) {
@@ -404,47 +596,37 @@ public class PersonalDictionaryLookup implements Closeable {
         if (DebugFlags.DEBUG_ENABLED) {
             Log.d(mTag, "isValidWord() : Word [" + word + "] in Locale [" + inputLocale + "]");
         }
-        // Atomically obtain the current copy of mDictWords;
-        final HashMap<String, HashMap<Locale, String>> dictWords = mDictWords;
         // Lowercase the word using the given locale. Note, that dictionary
         // words are lowercased using their locale, and theoretically the
         // lowercasing between two matching locales may differ. For simplicity
         // we ignore that possibility.
-        final String lowercased = word.toLowerCase(inputLocale);
-        final HashMap<Locale, String> dictLocales = dictWords.get(lowercased);
-
-        if (CollectionUtils.isNullOrEmpty(dictLocales)) {
-            if (DebugFlags.DEBUG_ENABLED) {
-                Log.d(mTag, "isValidWord() : No entry for word [" + word + "]");
-            }
-            return false;
-        } else {
-            if (DebugFlags.DEBUG_ENABLED) {
-                Log.d(mTag, "isValidWord() : Found entry for word [" + word + "]");
-            }
-            // Iterate over the locales this word is in.
-            for (final Locale dictLocale : dictLocales.keySet()) {
-                final int matchLevel = LocaleUtils.getMatchLevel(dictLocale.toString(),
-                        inputLocale.toString());
-                if (DebugFlags.DEBUG_ENABLED) {
-                    Log.d(mTag, "isValidWord() : MatchLevel for DictLocale [" + dictLocale
-                            + "] and InputLocale [" + inputLocale + "] is " + matchLevel);
-                }
-                if (LocaleUtils.isMatch(matchLevel)) {
-                    if (DebugFlags.DEBUG_ENABLED) {
-                        Log.d(mTag, "isValidWord() : MatchLevel " + matchLevel + " IS a match");
-                    }
-                    return true;
-                }
+        final String lowercased = isLowerCase(word) ? word : word.toLowerCase(inputLocale);
+        for (final LocaleTable table : snapshot.getWordTables(inputLocale)) {
+            if (Arrays.binarySearch(table.mWords, lowercased) >= 0) {
                 if (DebugFlags.DEBUG_ENABLED) {
-                    Log.d(mTag, "isValidWord() : MatchLevel " + matchLevel + " is NOT a match");
+                    Log.d(mTag, "isValidWord() : Found word [" + word + "] for DictLocale ["
+                            + table.mLocale + "]");
                 }
+                return true;
             }
-            if (DebugFlags.DEBUG_ENABLED) {
-                Log.d(mTag, "isValidWord() : False, since none of the locales matched");
+        }
+        if (DebugFlags.DEBUG_ENABLED) {
+            Log.d(mTag, "isValidWord() : False, since none of the locales matched");
+        }
+        return false;
+    }
+
+    // Whether lowercasing the word would leave it unchanged, in which case it doesn't need a copy.
+    private static boolean isLowerCase(@Nonnull final String word) {
+        final int length = word.length();
+        for (int i = 0; i < length; ) {
+            final int codePoint = word.codePointAt(i);
+            if (Character.toLowerCase(codePoint) != codePoint) {
+                return false;
             }
-            return false;
+            i += Character.charCount(codePoint);
         }
+        return true;
     }
 
     /**
@@ -460,192 +642,280 @@ public class PersonalDictionaryLookup implements Closeable {
             Log.d(mTag, "expandShortcut() : Shortcut [" + shortcut + "] for [" + inputLocale + "]");
         }
 
-        // Atomically obtain the current copy of mShortcuts;
-        final HashMap<Locale, HashMap<String, String>> shortcutsPerLocale = mShortcutsPerLocale;
+        // Atomically obtain the current snapshot.
+        final Snapshot snapshot = mSnapshot;
 
         // Exit as early as possible. Most users don't use shortcuts.
-        if (CollectionUtils.isNullOrEmpty(shortcutsPerLocale)) {
+        if (snapshot == null || snapshot.mShortcutCount == 0) {
             if (DebugFlags.DEBUG_ENABLED) {
                 Log.d(mTag, "expandShortcut() : User has no shortcuts");
             }
             return null;
         }
 
-        if (!TextUtils.isEmpty(inputLocale.getCountry())) {
-            // First look for the country-specific shortcut: en_US, en_UK, fr_FR, etc.
-            final String expansionForCountry = expandShortcut(
-                    shortcutsPerLocale, shortcut, inputLocale);
-            if (!TextUtils.isEmpty(expansionForCountry)) {
+        for (final LocaleTable table : snapshot.getShortcutTables(inputLocale)) {
+            final int index = Arrays.binarySearch(table.mShortcuts, shortcut);
+            if (index >= 0 && !TextUtils.isEmpty(table.mExpansions[index])) {
                 if (DebugFlags.DEBUG_ENABLED) {
-                    Log.d(mTag, "expandShortcut() : Country expansion is ["
-                            + expansionForCountry + "]");
+                    Log.d(mTag, "expandShortcut() : Expansion for [" + table.mLocale + "] is ["
+                            + table.mExpansions[index] + "]");
                 }
-                return expansionForCountry;
+                return table.mExpansions[index];
             }
         }
+        return null;
+    }
 
-        // Next look for the language-specific shortcut: en, fr, etc.
-        final Locale languageOnlyLocale =
-                LocaleUtils.constructLocaleFromString(inputLocale.getLanguage());
-        final String expansionForLanguage = expandShortcut(
-                shortcutsPerLocale, shortcut, languageOnlyLocale);
-        if (!TextUtils.isEmpty(expansionForLanguage)) {
-            if (DebugFlags.DEBUG_ENABLED) {
-                Log.d(mTag, "expandShortcut() : Language expansion is ["
-                        + expansionForLanguage + "]");
+    private void addPendingChange(@Nullable final Uri uri) {
+        final long id = getEntryId(uri);
+        synchronized (mPendingChangedIds) {
+            if (id < 0) {
+                mIsWholeDictionaryChanged = true;
+            } else {
+                mPendingChangedIds.add(id);
             }
-            return expansionForLanguage;
-        }
-
-        // If all else fails, look for a global shortcut.
-        final String expansionForGlobal = expandShortcut(shortcutsPerLocale, shortcut, ANY_LOCALE);
-        if (!TextUtils.isEmpty(expansionForGlobal) && DebugFlags.DEBUG_ENABLED) {
-            Log.d(mTag, "expandShortcut() : Global expansion is [" + expansionForGlobal + "]");
         }
-        return expansionForGlobal;
     }
 
-    @Nullable private String expandShortcut(
-            @Nullable final HashMap<Locale, HashMap<String, String>> shortcutsPerLocale,
-            @Nonnull final String shortcut,
-            @Nonnull final Locale locale) {
-        if (CollectionUtils.isNullOrEmpty(shortcutsPerLocale)) {
-            return null;
+    // Returns the id of the entry the uri is about, or -1 if it is about the whole dictionary.
+    private static long getEntryId(@Nullable final Uri uri) {
+        if (uri == null || !UserDictionary.AUTHORITY.equals(uri.getAuthority())) {
+            return -1;
         }
-        final HashMap<String, String> localeShortcuts = shortcutsPerLocale.get(locale);
-        if (CollectionUtils.isNullOrEmpty(localeShortcuts)) {
-            return null;
+        final List<String> pathSegments = uri.getPathSegments();
+        if (pathSegments.size() != 2) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(pathSegments.get(1));
+        } catch (final NumberFormatException e) {
+            return -1;
         }
-        return localeShortcuts.get(shortcut);
     }
 
     /**
-     * Loads the personal dictionary in the current thread.
+     * Loads the changes to the personal dictionary in the current thread.
      *
-     * Only one reload can happen at a time. If already running, will exit quickly.
+     * If only changes to known entries were notified, only those entries are read. Otherwise the
+     * whole dictionary is read and compared to the loaded entries. Only the locales with changed
+     * entries are indexed again, and the listeners are only notified if something changed.
      */
     private void loadPersonalDictionary() {
-        // Bail out if already in the process of loading.
-        if (!mIsLoading.compareAndSet(false, true)) {
-            Log.i(mTag, "loadPersonalDictionary() : Already Loading (exit)");
-            return;
-        }
-        Log.i(mTag, "loadPersonalDictionary() : Start Loading");
-        HashMap<String, HashMap<Locale, String>> dictWords = new HashMap<>();
-        HashMap<Locale, HashMap<String, String>> shortcutsPerLocale = new HashMap<>();
-        // Load the dictionary.  Items are returned in the default sort order (by frequency).
-        Cursor cursor = mResolver.query(UserDictionary.Words.CONTENT_URI,
-                null, null, null, UserDictionary.Words.DEFAULT_SORT_ORDER);
-        if (null == cursor || cursor.getCount() < 1) {
-            Log.i(mTag, "loadPersonalDictionary() : Empty");
-        } else {
-            // Iterate over the entries in the personal dictionary.  Note, that iteration is in
-            // descending frequency by default.
-            while (dictWords.size() < MAX_NUM_ENTRIES && cursor.moveToNext()) {
-                // If there is no column for locale, skip this entry. An empty
-                // locale on the other hand will not be skipped.
-                final int dictLocaleIndex = cursor.getColumnIndex(UserDictionary.Words.LOCALE);
-                if (dictLocaleIndex < 0) {
-                    if (DebugFlags.DEBUG_ENABLED) {
-                        Log.d(mTag, "loadPersonalDictionary() : Entry without LOCALE, skipping");
-                    }
-                    continue;
-                }
-                // If there is no column for word, skip this entry.
-                final int dictWordIndex = cursor.getColumnIndex(UserDictionary.Words.WORD);
-                if (dictWordIndex < 0) {
-                    if (DebugFlags.DEBUG_ENABLED) {
-                        Log.d(mTag, "loadPersonalDictionary() : Entry without WORD, skipping");
-                    }
-                    continue;
-                }
-                // If the word is null, skip this entry.
-                final String rawDictWord = cursor.getString(dictWordIndex);
-                if (null == rawDictWord) {
-                    if (DebugFlags.DEBUG_ENABLED) {
-                        Log.d(mTag, "loadPersonalDictionary() : Null word");
-                    }
-                    continue;
-                }
-                // If the locale is null, that's interpreted to mean all locales. Note, the special
-                // zz locale for an Alphabet (QWERTY) layout will not match any actual language.
-                String localeString = cursor.getString(dictLocaleIndex);
-                if (null == localeString) {
-                    if (DebugFlags.DEBUG_ENABLED) {
-                        Log.d(mTag, "loadPersonalDictionary() : Null locale for word [" +
-                                rawDictWord + "], assuming all locales");
-                    }
-                    // For purposes of LocaleUtils, an empty locale matches everything.
-                    localeString = "";
-                }
-                final Locale dictLocale = LocaleUtils.constructLocaleFromString(localeString);
-                // Lowercase the word before storing it.
-                final String dictWord = rawDictWord.toLowerCase(dictLocale);
-                if (DebugFlags.DEBUG_ENABLED) {
-                    Log.d(mTag, "loadPersonalDictionary() : Adding word [" + dictWord
-                            + "] for locale " + dictLocale + "with value" + rawDictWord);
+        synchronized (mLoadLock) {
+            final Long[] changedIds;
+            synchronized (mPendingChangedIds) {
+                // A change without an id may be any entry, e.g. a deletion from the settings UI
+                // followed by the addition of the edited word, which only notifies the new id.
+                changedIds = (mSnapshot == null || mIsWholeDictionaryChanged) ? new Long[0]
+                        : mPendingChangedIds.toArray(new Long[mPendingChangedIds.size()]);
+                mPendingChangedIds.clear();
+                mIsWholeDictionaryChanged = false;
+            }
+            final HashSet<Locale> changedLocales = new HashSet<>();
+            if (changedIds.length == 0) {
+                Log.i(mTag, "loadPersonalDictionary() : Start Loading");
+                loadAllEntries(changedLocales);
+            } else {
+                Log.i(mTag, "loadPersonalDictionary() : Loading " + changedIds.length
+                        + " changed entries");
+                boolean isEntryRemoved = false;
+                for (final Long id : changedIds) {
+                    isEntryRemoved |= loadEntry(id, changedLocales);
                 }
-                // Check if there is an existing entry for this word.
-                HashMap<Locale, String> dictLocales = dictWords.get(dictWord);
-                if (CollectionUtils.isNullOrEmpty(dictLocales)) {
-                    // If there is no entry for this word, create one.
-                    if (DebugFlags.DEBUG_ENABLED) {
-                        Log.d(mTag, "loadPersonalDictionary() : Word [" + dictWord +
-                                "] not seen for other locales, creating new entry");
-                    }
-                    dictLocales = new HashMap<>();
-                    dictWords.put(dictWord, dictLocales);
+                if (mWordCounts.size() > MAX_NUM_ENTRIES || (isEntryRemoved && mIsCapReached)) {
+                    // Drop the lowest-frequency words again, or pull in the words that were left
+                    // out by the cap.
+                    loadAllEntries(changedLocales);
                 }
-                // Append the locale to the list of locales this word is in.
-                dictLocales.put(dictLocale, rawDictWord);
-
-                // If there is no column for a shortcut, we're done.
-                final int shortcutIndex = cursor.getColumnIndex(UserDictionary.Words.SHORTCUT);
-                if (shortcutIndex < 0) {
-                    if (DebugFlags.DEBUG_ENABLED) {
-                        Log.d(mTag, "loadPersonalDictionary() : Entry without SHORTCUT, done");
-                    }
-                    continue;
+            }
+            if (mSnapshot != null && changedLocales.isEmpty()) {
+                Log.i(mTag, "loadPersonalDictionary() : No changes");
+                return;
+            }
+
+            final HashMap<Locale, LocaleTable> tables = (mSnapshot == null)
+                    ? new HashMap<Locale, LocaleTable>()
+                    : new HashMap<Locale, LocaleTable>(mSnapshot.mTables);
+            for (final Locale locale : changedLocales) {
+                final HashMap<Long, Entry> localeEntries = mEntriesByLocale.get(locale);
+                if (localeEntries == null || localeEntries.isEmpty()) {
+                    mEntriesByLocale.remove(locale);
+                    tables.remove(locale);
+                } else {
+                    tables.put(locale, new LocaleTable(locale, localeEntries.values()));
                 }
-                // If the shortcut is null, we're done.
-                final String shortcut = cursor.getString(shortcutIndex);
-                if (shortcut == null) {
-                    if (DebugFlags.DEBUG_ENABLED) {
-                        Log.d(mTag, "loadPersonalDictionary() : Null shortcut");
+            }
+            final Snapshot snapshot = new Snapshot(tables);
+
+            List<DictionaryStats> stats = new ArrayList<>();
+            stats.add(new DictionaryStats(ANY_LOCALE, Dictionary.TYPE_USER, snapshot.mWordCount));
+            stats.add(new DictionaryStats(ANY_LOCALE, Dictionary.TYPE_USER_SHORTCUT,
+                    snapshot.mShortcutCount));
+            mDictionaryStats = stats;
+
+            // Atomically replace the snapshot.
+            mSnapshot = snapshot;
+
+            Log.i(mTag, "loadPersonalDictionary() : Loaded " + snapshot.mWordCount
+                    + " words and " + snapshot.mShortcutCount + " shortcuts, "
+                    + changedLocales.size() + " locales changed");
+        }
+
+        notifyListeners();
+    }
+
+    /**
+     * Reads the whole dictionary and applies the differences with the loaded entries.
+     */
+    private void loadAllEntries(@Nonnull final Set<Locale> changedLocales) {
+        final HashMap<Long, Entry> entries = new HashMap<>();
+        final HashSet<String> words = new HashSet<>();
+        // Load the dictionary.  Items are returned in the default sort order (by frequency).
+        final Cursor cursor = mResolver.query(UserDictionary.Words.CONTENT_URI,
+                PROJECTION, null, null, UserDictionary.Words.DEFAULT_SORT_ORDER);
+        if (null == cursor || cursor.getCount() < 1) {
+            Log.i(mTag, "loadPersonalDictionary() : Empty");
+        }
+        if (null != cursor) {
+            try {
+                // Iterate over the entries in the personal dictionary.  Note, that iteration is
+                // in descending frequency by default.
+                while (words.size() < MAX_NUM_ENTRIES && cursor.moveToNext()) {
+                    final Entry entry = readEntry(cursor);
+                    if (entry != null) {
+                        entries.put(entry.mId, entry);
+                        words.add(entry.mWord);
                     }
-                    continue;
-                }
-                // Else, save the shortcut.
-                HashMap<String, String> localeShortcuts = shortcutsPerLocale.get(dictLocale);
-                if (localeShortcuts == null) {
-                    localeShortcuts = new HashMap<>();
-                    shortcutsPerLocale.put(dictLocale, localeShortcuts);
                 }
-                // Map to the raw input, which might be capitalized.
-                // This lets the user create a shortcut from "gm" to "General Motors".
-                localeShortcuts.put(shortcut, rawDictWord);
+            } finally {
+                cursor.close();
             }
         }
+        final ArrayList<Long> removedIds = new ArrayList<>();
+        for (final Long id : mEntries.keySet()) {
+            if (!entries.containsKey(id)) {
+                removedIds.add(id);
+            }
+        }
+        for (final Long id : removedIds) {
+            removeEntry(id, changedLocales);
+        }
+        for (final Entry entry : entries.values()) {
+            putEntry(entry, changedLocales);
+        }
+        mIsCapReached = words.size() >= MAX_NUM_ENTRIES;
+    }
 
-        List<DictionaryStats> stats = new ArrayList<>();
-        stats.add(new DictionaryStats(ANY_LOCALE, Dictionary.TYPE_USER, dictWords.size()));
-        int numShortcuts = 0;
-        for (HashMap<String, String> shortcuts : shortcutsPerLocale.values()) {
-            numShortcuts += shortcuts.size();
+    /**
+     * Reads a single entry of the dictionary and applies its change to the loaded entries.
+     *
+     * @return true if a loaded entry was removed or replaced.
+     */
+    private boolean loadEntry(@Nonnull final Long id, @Nonnull final Set<Locale> changedLocales) {
+        final Cursor cursor = mResolver.query(
+                ContentUris.withAppendedId(UserDictionary.Words.CONTENT_URI, id),
+                PROJECTION, null, null, null);
+        if (null == cursor) {
+            Log.w(mTag, "loadPersonalDictionary() : Couldn't query entry " + id);
+            return false;
+        }
+        Entry entry = null;
+        try {
+            if (cursor.moveToFirst()) {
+                entry = readEntry(cursor);
+            }
+        } finally {
+            cursor.close();
         }
-        stats.add(new DictionaryStats(ANY_LOCALE, Dictionary.TYPE_USER_SHORTCUT, numShortcuts));
-        mDictionaryStats = stats;
+        if (entry == null) {
+            // The entry was deleted.
+            return removeEntry(id, changedLocales);
+        }
+        return putEntry(entry, changedLocales);
+    }
 
-        // Atomically replace the copy of mDictWords and mShortcuts.
-        mDictWords = dictWords;
-        mShortcutsPerLocale = shortcutsPerLocale;
+    /**
+     * @return true if a different entry with the same id was replaced.
+     */
+    private boolean putEntry(@Nonnull final Entry entry,
+            @Nonnull final Set<Locale> changedLocales) {
+        final Entry oldEntry = mEntries.put(entry.mId, entry);
+        if (oldEntry != null) {
+            if (oldEntry.hasSameContents(entry)) {
+                return false;
+            }
+            mEntriesByLocale.get(oldEntry.mLocale).remove(oldEntry.mId);
+            changedLocales.add(oldEntry.mLocale);
+            removeWord(oldEntry.mWord);
+        }
+        HashMap<Long, Entry> localeEntries = mEntriesByLocale.get(entry.mLocale);
+        if (localeEntries == null) {
+            localeEntries = new HashMap<>();
+            mEntriesByLocale.put(entry.mLocale, localeEntries);
+        }
+        localeEntries.put(entry.mId, entry);
+        changedLocales.add(entry.mLocale);
+        final Integer count = mWordCounts.get(entry.mWord);
+        mWordCounts.put(entry.mWord, (count == null) ? 1 : count + 1);
+        return oldEntry != null;
+    }
 
-        // Allow other calls to loadPersonalDictionary to execute now.
-        mIsLoading.set(false);
+    /**
+     * @return true if a loaded entry was removed.
+     */
+    private boolean removeEntry(@Nonnull final Long id,
+            @Nonnull final Set<Locale> changedLocales) {
+        final Entry oldEntry = mEntries.remove(id);
+        if (oldEntry == null) {
+            return false;
+        }
+        mEntriesByLocale.get(oldEntry.mLocale).remove(id);
+        changedLocales.add(oldEntry.mLocale);
+        removeWord(oldEntry.mWord);
+        return true;
+    }
 
-        Log.i(mTag, "loadPersonalDictionary() : Loaded " + mDictWords.size()
-                + " words and " + numShortcuts + " shortcuts");
+    private void removeWord(@Nonnull final String word) {
+        final int count = mWordCounts.get(word);
+        if (count == 1) {
+            mWordCounts.remove(word);
+        } else {
+            mWordCounts.put(word, count - 1);
+        }
+    }
 
-        notifyListeners();
+    @Nullable
+    private Entry readEntry(@Nonnull final Cursor cursor) {
+        final long id = cursor.getLong(cursor.getColumnIndex(UserDictionary.Words._ID));
+        // If the word is null, skip this entry.
+        final String rawDictWord = cursor.getString(
+                cursor.getColumnIndex(UserDictionary.Words.WORD));
+        if (null == rawDictWord) {
+            if (DebugFlags.DEBUG_ENABLED) {
+                Log.d(mTag, "loadPersonalDictionary() : Null word");
+            }
+            return null;
+        }
+        // If the locale is null, that's interpreted to mean all locales. Note, the special
+        // zz locale for an Alphabet (QWERTY) layout will not match any actual language.
+        String localeString = cursor.getString(
+                cursor.getColumnIndex(UserDictionary.Words.LOCALE));
+        if (null == localeString) {
+            if (DebugFlags.DEBUG_ENABLED) {
+                Log.d(mTag, "loadPersonalDictionary() : Null locale for word [" +
+                        rawDictWord + "], assuming all locales");
+            }
+            // For purposes of LocaleUtils, an empty locale matches everything.
+            localeString = "";
+        }
+        final Locale dictLocale = LocaleUtils.constructLocaleFromString(localeString);
+        final String shortcut = cursor.getString(
+                cursor.getColumnIndex(UserDictionary.Words.SHORTCUT));
+        final int frequency = cursor.getInt(cursor.getColumnIndex(UserDictionary.Words.FREQUENCY));
+        if (DebugFlags.DEBUG_ENABLED) {
+            Log.d(mTag, "loadPersonalDictionary() : Read word [" + rawDictWord
+                    + "] for locale " + dictLocale + " with shortcut " + shortcut);
+        }
+        return new Entry(id, dictLocale, rawDictWord, shortcut, frequency);
     }
 }
@@ -0,0 +1,301 @@
+package org.dslul.openboard.inputmethod.latin
+
+import android.util.Base64
+import android.util.Log
+import org.dslul.openboard.inputmethod.latin.utils.ExecutorUtils
+import org.dslul.openboard.inputmethod.latin.utils.JsonUtils
+import java.io.BufferedInputStream
+import java.io.BufferedOutputStream
+import java.io.DataInputStream
+import java.io.DataOutputStream
+import java.io.EOFException
+import java.io.File
+import java.io.FileInputStream
+import java.io.FileOutputStream
+import java.io.IOException
+
+/**
+ * Keeps the pinned clipboard clips on disk as an append-only journal, so pinning or unpinning a
+ * clip writes a single record instead of rewriting all the pinned clips. The journal is compacted
+ * when it has grown well past the clips it holds. Long clips are stored in files of their own and
+ * the journal only refers to them. A long clip whose file can't be written is not pinned, except
+ * when migrating the legacy file, which then keeps it until it can be moved.
+ *
+ * All the disk accesses run in order on the clipboard executor.
+ */
+class PinnedClipsJournal(filesDir: File) {
+
+    private val journalFile = File(filesDir, JOURNAL_FILE_NAME)
+    private val contentDir = File(filesDir, CONTENT_DIR_NAME)
+    private val legacyFile = File(filesDir, LEGACY_DATA_FILE_NAME)
+    private val executor = ExecutorUtils.getBackgroundExecutor(ExecutorUtils.CLIPBOARD)
+
+    // The pinned clips as of the end of the journal, in pinning order. The content is null for
+    // the clips stored out of line. Only accessed on the executor.
+    private val pinnedClips = LinkedHashMap<Long, String?>()
+    // The clips of the legacy file that couldn't be moved to the journal. They stay in the legacy
+    // file, which only holds them from then on. Only accessed on the executor.
+    private val legacyClips = LinkedHashMap<Long, String>()
+    private var recordCount = 0
+
+    /**
+     * Reads the pinned clips, then passes them to the callback on the executor.
+     */
+    fun load(callback: (List<ClipboardHistoryEntry>) -> Unit) {
+        executor.execute {
+            callback(readPinnedClips())
+        }
+    }
+
+    /**
+     * Pins the clip. If it can't be stored, onFailed is called on the executor and the clip is
+     * not pinned.
+     */
+    fun pin(timeStamp: Long, content: CharSequence, onFailed: () -> Unit) {
+        val text = content.toString()
+        executor.execute {
+            val inlineContent = try {
+                storeContent(timeStamp, text)
+            } catch (e: IOException) {
+                Log.w(TAG, "Couldn't pin clip $timeStamp", e)
+                onFailed()
+                return@execute
+            }
+            pinnedClips[timeStamp] = inlineContent
+            appendRecord { out -> writePinRecord(out, timeStamp, inlineContent) }
+        }
+    }
+
+    fun unpin(timeStamp: Long) {
+        executor.execute {
+            if (legacyClips.remove(timeStamp) != null) {
+                writeLegacyFile()
+            }
+            if (pinnedClips.containsKey(timeStamp)) {
+                val inlineContent = pinnedClips.remove(timeStamp)
+                appendRecord { out ->
+                    out.writeByte(OP_UNPIN)
+                    out.writeLong(timeStamp)
+                }
+                if (inlineContent == null) {
+                    getContentFile(timeStamp).delete()
+                }
+            }
+        }
+    }
+
+    private fun readPinnedClips(): List<ClipboardHistoryEntry> {
+        pinnedClips.clear()
+        legacyClips.clear()
+        recordCount = 0
+        var needsCompaction = false
+        if (legacyFile.exists()) {
+            readLegacyFile()
+            needsCompaction = true
+        }
+        if (journalFile.exists()) {
+            try {
+                DataInputStream(BufferedInputStream(FileInputStream(journalFile))).use { input ->
+                    if (input.readInt() != FORMAT_VERSION) {
+                        throw IOException("Unknown journal format")
+                    }
+                    while (readRecord(input)) {
+                        recordCount++
+                    }
+                }
+            } catch (e: IOException) {
+                // Typically a record cut short when the process died while appending it. The
+                // records before it are kept and the journal is rewritten without it.
+                Log.w(TAG, "Couldn't read all of $journalFile", e)
+                needsCompaction = true
+            }
+        }
+        if (needsCompaction) {
+            compact()
+        }
+        val list = ArrayList<ClipboardHistoryEntry>(pinnedClips.size)
+        for ((timeStamp, inlineContent) in pinnedClips) {
+            val content = inlineContent ?: readContentFile(timeStamp) ?: continue
+            list.add(ClipboardHistoryEntry(timeStamp, content, true))
+        }
+        for ((timeStamp, content) in legacyClips) {
+            list.add(ClipboardHistoryEntry(timeStamp, content, true))
+        }
+        return list
+    }
+
+    // Returns false at the end of the journal.
+    private fun readRecord(input: DataInputStream): Boolean {
+        val op = try {
+            input.readByte().toInt()
+        } catch (e: EOFException) {
+            return false
+        }
+        when (op) {
+            OP_PIN -> {
+                val timeStamp = input.readLong()
+                pinnedClips[timeStamp] = if (input.readBoolean()) null else input.readUTF()
+            }
+            OP_UNPIN -> pinnedClips.remove(input.readLong())
+            else -> throw IOException("Unknown record $op")
+        }
+        return true
+    }
+
+    // Clips pinned before the journal were saved all at once as Base64 wrapped JSON.
+    private fun readLegacyFile() {
+        try {
+            val bytes = Base64.decode(legacyFile.readText(), Base64.DEFAULT)
+            for (entry in JsonUtils.jsonBytesToHistoryEntryList(bytes)) {
+                val content = entry.content.toString()
+                try {
+                    pinnedClips[entry.timeStamp] = storeContent(entry.timeStamp, content)
+                } catch (e: IOException) {
+                    Log.w(TAG, "Couldn't move clip ${entry.timeStamp} out of $legacyFile", e)
+                    legacyClips[entry.timeStamp] = content
+                }
+            }
+        } catch (e: Exception) {
+            Log.w(TAG, "Couldn't retrieve $legacyFile content", e)
+        }
+    }
+
+    // Rewrites the legacy file with the clips that are still only stored there, or removes it
+    // once there are none.
+    private fun writeLegacyFile() {
+        if (legacyClips.isEmpty()) {
+            legacyFile.delete()
+            return
+        }
+        val entries = legacyClips.map { (timeStamp, content) ->
+            ClipboardHistoryEntry(timeStamp, content, true)
+        }
+        val jsonStr = JsonUtils.historyEntryListToJsonStr(entries)
+        try {
+            legacyFile.writeText(
+                    Base64.encodeToString(jsonStr.encodeToByteArray(), Base64.DEFAULT))
+        } catch (e: IOException) {
+            Log.w(TAG, "Couldn't write $legacyFile", e)
+        }
+    }
+
+    private fun appendRecord(write: (DataOutputStream) -> Unit) {
+        try {
+            val isNewFile = !journalFile.exists()
+            DataOutputStream(BufferedOutputStream(FileOutputStream(journalFile, true))).use { out ->
+                if (isNewFile) {
+                    out.writeInt(FORMAT_VERSION)
+                }
+                write(out)
+            }
+            recordCount++
+        } catch (e: IOException) {
+            Log.w(TAG, "Couldn't append to $journalFile", e)
+        }
+        if (recordCount > pinnedClips.size + MAX_OBSOLETE_RECORDS) {
+            compact()
+        }
+    }
+
+    // Rewrites the journal with one record per pinned clip, and removes the content files of the
+    // clips that are not pinned anymore.
+    private fun compact() {
+        val tempFile = File(journalFile.path + TEMP_FILE_EXTENSION)
+        try {
+            DataOutputStream(BufferedOutputStream(FileOutputStream(tempFile))).use { out ->
+                out.writeInt(FORMAT_VERSION)
+                for ((timeStamp, inlineContent) in pinnedClips) {
+                    writePinRecord(out, timeStamp, inlineContent)
+                }
+            }
+            if (!tempFile.renameTo(journalFile)) {
+                Log.w(TAG, "Couldn't rename $tempFile to $journalFile")
+                tempFile.delete()
+                return
+            }
+        } catch (e: IOException) {
+            Log.w(TAG, "Couldn't compact $journalFile", e)
+            tempFile.delete()
+            return
+        }
+        recordCount = pinnedClips.size
+        writeLegacyFile()
+        contentDir.listFiles()?.forEach { file ->
+            val timeStamp = file.name.removeSuffix(CONTENT_FILE_EXTENSION).toLongOrNull()
+            if (timeStamp == null || !pinnedClips.containsKey(timeStamp)
+                    || pinnedClips[timeStamp] != null) {
+                file.delete()
+            }
+        }
+    }
+
+    // Returns the content to keep in the journal, or null if it was stored out of line. Throws if
+    // the clip can't be stored at all.
+    @Throws(IOException::class)
+    private fun storeContent(timeStamp: Long, content: String): String? {
+        if (content.length <= MAX_INLINE_CONTENT_LENGTH) {
+            return content
+        }
+        if (!contentDir.isDirectory && !contentDir.mkdirs()) {
+            Log.w(TAG, "Couldn't create $contentDir")
+        }
+        val file = getContentFile(timeStamp)
+        val tempFile = File(file.path + TEMP_FILE_EXTENSION)
+        var error: IOException? = null
+        try {
+            tempFile.writeText(content)
+            if (tempFile.renameTo(file)) {
+                return null
+            }
+            Log.w(TAG, "Couldn't rename $tempFile to $file")
+        } catch (e: IOException) {
+            Log.w(TAG, "Couldn't write $file", e)
+            error = e
+        }
+        tempFile.delete()
+        // Writing the clip inline is better than losing it. Modified UTF-8 takes up to 3 bytes
+        // per char, and a record can't hold more than 64KiB.
+        if (content.length <= MAX_UTF_LENGTH / 3) {
+            return content
+        }
+        throw error ?: IOException("Couldn't store $file")
+    }
+
+    private fun readContentFile(timeStamp: Long): String? {
+        val file = getContentFile(timeStamp)
+        return try {
+            file.readText()
+        } catch (e: IOException) {
+            Log.w(TAG, "Couldn't read $file", e)
+            null
+        }
+    }
+
+    private fun getContentFile(timeStamp: Long) =
+            File(contentDir, timeStamp.toString() + CONTENT_FILE_EXTENSION)
+
+    private fun writePinRecord(out: DataOutputStream, timeStamp: Long, inlineContent: String?) {
+        out.writeByte(OP_PIN)
+        out.writeLong(timeStamp)
+        out.writeBoolean(inlineContent == null)
+        if (inlineContent != null) {
+            out.writeUTF(inlineContent)
+        }
+    }
+
+    companion object {
+        const val TAG = "PinnedClipsJournal"
+        const val JOURNAL_FILE_NAME = "pinned_clips.journal"
+        const val CONTENT_DIR_NAME = "pinned_clips"
+        const val LEGACY_DATA_FILE_NAME = "pinned_clips.data"
+        private const val CONTENT_FILE_EXTENSION = ".txt"
+        private const val TEMP_FILE_EXTENSION = ".tmp"
+        private const val FORMAT_VERSION = 1
+        private const val OP_PIN = 1
+        private const val OP_UNPIN = 2
+        // Longer clips are stored in their own file.
+        private const val MAX_INLINE_CONTENT_LENGTH = 4096
+        private const val MAX_UTF_LENGTH = 65535
+        private const val MAX_OBSOLETE_RECORDS = 64
+    }
+}
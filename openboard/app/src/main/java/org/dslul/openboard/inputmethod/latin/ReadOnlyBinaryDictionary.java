@@ -22,7 +22,9 @@ import org.dslul.openboard.inputmethod.latin.SuggestedWords.SuggestedWordInfo;
 import org.dslul.openboard.inputmethod.latin.common.ComposedData;
 import org.dslul.openboard.inputmethod.latin.settings.SettingsValuesForSuggestion;
 
+import java.io.File;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Locale;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -30,21 +32,91 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
  * This class provides binary dictionary reading operations with locking. An instance of this class
  * can be used by multiple threads. Note that different session IDs must be used when multiple
  * threads get suggestions using this class.
+ *
+ * The underlying native dictionary maps its file read-only. Instances opened on the same file
+ * region (by the IME and by each spell checker facilitator, for example) share one native
+ * dictionary, which is closed when the last of them is closed.
  */
 public final class ReadOnlyBinaryDictionary extends Dictionary {
+    private final SharedBinaryDictionary mSharedDictionary;
     /**
-     * A lock for accessing binary dictionary. Only closing binary dictionary is the operation
-     * that change the state of dictionary.
+     * The lock of the shared native dictionary. Reads hold it for each native call, closing an
+     * instance holds its write lock, so the native dictionary is never freed under a read.
      */
-    private final ReentrantReadWriteLock mLock = new ReentrantReadWriteLock();
-
+    private final ReentrantReadWriteLock mLock;
     private final BinaryDictionary mBinaryDictionary;
+    // Written under mLock's write lock, read under its read lock.
+    private boolean mIsClosed = false;
+
+    /**
+     * A native dictionary and the number of open instances using it.
+     */
+    private static final class SharedBinaryDictionary {
+        public final String mKey;
+        public final BinaryDictionary mBinaryDictionary;
+        public final ReentrantReadWriteLock mLock = new ReentrantReadWriteLock();
+        // Guarded by sSharedDictionaries.
+        public int mRefCount = 1;
+
+        public SharedBinaryDictionary(final String key, final BinaryDictionary binaryDictionary) {
+            mKey = key;
+            mBinaryDictionary = binaryDictionary;
+        }
+    }
+
+    // Open native dictionaries by file region. Guarded by itself.
+    private static final HashMap<String, SharedBinaryDictionary> sSharedDictionaries =
+            new HashMap<>();
 
     public ReadOnlyBinaryDictionary(final String filename, final long offset, final long length,
             final boolean useFullEditDistance, final Locale locale, final String dictType) {
         super(dictType, locale);
-        mBinaryDictionary = new BinaryDictionary(filename, offset, length, useFullEditDistance,
-                locale, dictType, false /* isUpdatable */);
+        mSharedDictionary = acquireSharedDictionary(filename, offset, length, useFullEditDistance,
+                locale, dictType);
+        mLock = mSharedDictionary.mLock;
+        mBinaryDictionary = mSharedDictionary.mBinaryDictionary;
+    }
+
+    private static SharedBinaryDictionary acquireSharedDictionary(final String filename,
+            final long offset, final long length, final boolean useFullEditDistance,
+            final Locale locale, final String dictType) {
+        // The modification time is part of the key so that a dictionary file replaced by an
+        // update is opened anew rather than served from the old mapping.
+        final String key = filename + ":" + offset + ":" + length + ":"
+                + new File(filename).lastModified() + ":" + useFullEditDistance + ":" + locale
+                + ":" + dictType;
+        synchronized (sSharedDictionaries) {
+            final SharedBinaryDictionary sharedDictionary = sSharedDictionaries.get(key);
+            if (sharedDictionary != null) {
+                sharedDictionary.mRefCount++;
+                return sharedDictionary;
+            }
+            final SharedBinaryDictionary newSharedDictionary = new SharedBinaryDictionary(key,
+                    new BinaryDictionary(filename, offset, length, useFullEditDistance, locale,
+                            dictType, false /* isUpdatable */));
+            // Broken files are not shared; the caller closes and discards them.
+            if (newSharedDictionary.mBinaryDictionary.isValidDictionary()) {
+                sSharedDictionaries.put(key, newSharedDictionary);
+            }
+            return newSharedDictionary;
+        }
+    }
+
+    /**
+     * Drops a reference to the shared dictionary and closes the native dictionary with the last
+     * one. Must be called with the write lock of the shared dictionary held.
+     */
+    private static void releaseSharedDictionaryLocked(
+            final SharedBinaryDictionary sharedDictionary) {
+        synchronized (sSharedDictionaries) {
+            if (--sharedDictionary.mRefCount > 0) {
+                return;
+            }
+            if (sSharedDictionaries.get(sharedDictionary.mKey) == sharedDictionary) {
+                sSharedDictionaries.remove(sharedDictionary.mKey);
+            }
+        }
+        sharedDictionary.mBinaryDictionary.close();
     }
 
     public boolean isValidDictionary() {
@@ -59,6 +131,9 @@ public final class ReadOnlyBinaryDictionary extends Dictionary {
             final float[] inOutWeightOfLangModelVsSpatialModel) {
         if (mLock.readLock().tryLock()) {
             try {
+                if (mIsClosed) {
+                    return null;
+                }
                 return mBinaryDictionary.getSuggestions(composedData, ngramContext,
                         proximityInfoHandle, settingsValuesForSuggestion, sessionId,
                         weightForLocale, inOutWeightOfLangModelVsSpatialModel);
@@ -73,6 +148,9 @@ public final class ReadOnlyBinaryDictionary extends Dictionary {
     public boolean isInDictionary(final String word) {
         if (mLock.readLock().tryLock()) {
             try {
+                if (mIsClosed) {
+                    return false;
+                }
                 return mBinaryDictionary.isInDictionary(word);
             } finally {
                 mLock.readLock().unlock();
@@ -85,6 +163,9 @@ public final class ReadOnlyBinaryDictionary extends Dictionary {
     public boolean shouldAutoCommit(final SuggestedWordInfo candidate) {
         if (mLock.readLock().tryLock()) {
             try {
+                if (mIsClosed) {
+                    return false;
+                }
                 return mBinaryDictionary.shouldAutoCommit(candidate);
             } finally {
                 mLock.readLock().unlock();
@@ -97,6 +178,9 @@ public final class ReadOnlyBinaryDictionary extends Dictionary {
     public int getFrequency(final String word) {
         if (mLock.readLock().tryLock()) {
             try {
+                if (mIsClosed) {
+                    return NOT_A_PROBABILITY;
+                }
                 return mBinaryDictionary.getFrequency(word);
             } finally {
                 mLock.readLock().unlock();
@@ -109,6 +193,9 @@ public final class ReadOnlyBinaryDictionary extends Dictionary {
     public int getMaxFrequencyOfExactMatches(final String word) {
         if (mLock.readLock().tryLock()) {
             try {
+                if (mIsClosed) {
+                    return NOT_A_PROBABILITY;
+                }
                 return mBinaryDictionary.getMaxFrequencyOfExactMatches(word);
             } finally {
                 mLock.readLock().unlock();
@@ -121,7 +208,11 @@ public final class ReadOnlyBinaryDictionary extends Dictionary {
     public void close() {
         mLock.writeLock().lock();
         try {
-            mBinaryDictionary.close();
+            // Other instances may still use the native dictionary, so only drop our reference.
+            if (!mIsClosed) {
+                mIsClosed = true;
+                releaseSharedDictionaryLocked(mSharedDictionary);
+            }
         } finally {
             mLock.writeLock().unlock();
         }
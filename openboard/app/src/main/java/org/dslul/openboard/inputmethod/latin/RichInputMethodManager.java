@@ -30,12 +30,14 @@ import android.view.inputmethod.InputMethodSubtype;
 import org.dslul.openboard.inputmethod.annotations.UsedForTesting;
 import org.dslul.openboard.inputmethod.compat.InputMethodManagerCompatWrapper;
 import org.dslul.openboard.inputmethod.compat.InputMethodSubtypeCompatUtils;
+import org.dslul.openboard.inputmethod.latin.common.LocaleUtils;
 import org.dslul.openboard.inputmethod.latin.settings.Settings;
 import org.dslul.openboard.inputmethod.latin.utils.AdditionalSubtypeUtils;
 import org.dslul.openboard.inputmethod.latin.utils.DeviceProtectedUtils;
 import org.dslul.openboard.inputmethod.latin.utils.LanguageOnSpacebarUtils;
 import org.dslul.openboard.inputmethod.latin.utils.SubtypeLocaleUtils;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -69,8 +71,12 @@ public class RichInputMethodManager {
     private RichInputMethodSubtype mCurrentRichInputMethodSubtype;
     private InputMethodInfo mShortcutInputMethodInfo;
     private InputMethodSubtype mShortcutSubtype;
+    // Locales of the recently used subtypes, most recent first.
+    private final ArrayList<Locale> mRecentSubtypeLocales = new ArrayList<>();
 
     private static final int INDEX_NOT_FOUND = -1;
+    private static final int MAX_RECENT_SUBTYPE_LOCALES = 5;
+    private static final String RECENT_SUBTYPE_LOCALES_SEPARATOR = ",";
 
     public static RichInputMethodManager getInstance() {
         sInstance.checkInitialized();
@@ -108,6 +114,15 @@ public class RichInputMethodManager {
 
         // Initialize the current input method subtype and the shortcut IME.
         refreshSubtypeCaches();
+
+        final String recentSubtypeLocales = Settings.readRecentSubtypeLocales(
+                DeviceProtectedUtils.getSharedPreferences(context));
+        for (final String localeString
+                : recentSubtypeLocales.split(RECENT_SUBTYPE_LOCALES_SEPARATOR)) {
+            if (!localeString.isEmpty()) {
+                mRecentSubtypeLocales.add(LocaleUtils.constructLocaleFromString(localeString));
+            }
+        }
     }
 
     public InputMethodSubtype[] getAdditionalSubtypes() {
@@ -322,11 +337,63 @@ public class RichInputMethodManager {
     public void onSubtypeChanged(@Nonnull final InputMethodSubtype newSubtype) {
         updateCurrentSubtype(newSubtype);
         updateShortcutIme();
+        recordSubtypeLocaleUsage(mCurrentRichInputMethodSubtype.getLocale());
         if (DEBUG) {
             Log.w(TAG, "onSubtypeChanged: " + mCurrentRichInputMethodSubtype.getNameForLogging());
         }
     }
 
+    private void recordSubtypeLocaleUsage(@Nonnull final Locale locale) {
+        if (!mRecentSubtypeLocales.isEmpty() && mRecentSubtypeLocales.get(0).equals(locale)) {
+            return;
+        }
+        mRecentSubtypeLocales.remove(locale);
+        mRecentSubtypeLocales.add(0, locale);
+        while (mRecentSubtypeLocales.size() > MAX_RECENT_SUBTYPE_LOCALES) {
+            mRecentSubtypeLocales.remove(mRecentSubtypeLocales.size() - 1);
+        }
+        final StringBuilder sb = new StringBuilder();
+        for (final Locale recentLocale : mRecentSubtypeLocales) {
+            if (sb.length() > 0) {
+                sb.append(RECENT_SUBTYPE_LOCALES_SEPARATOR);
+            }
+            sb.append(recentLocale.toString());
+        }
+        Settings.writeRecentSubtypeLocales(
+                DeviceProtectedUtils.getSharedPreferences(mContext), sb.toString());
+    }
+
+    /**
+     * Returns the locales of the enabled subtypes the user is most likely to switch to next,
+     * most likely first: recently used ones, then the other enabled ones in list order.
+     * The current subtype's locale is not included.
+     */
+    @Nonnull
+    public List<Locale> getLikelyNextSubtypeLocales(final int maxCount) {
+        final Locale currentLocale = getCurrentSubtypeLocale();
+        final ArrayList<Locale> enabledLocales = new ArrayList<>();
+        for (final InputMethodSubtype subtype
+                : getMyEnabledInputMethodSubtypeList(true /* allowsImplicitlySelectedSubtypes */)) {
+            final Locale locale = SubtypeLocaleUtils.getSubtypeLocale(subtype);
+            if (!locale.equals(currentLocale) && !enabledLocales.contains(locale)) {
+                enabledLocales.add(locale);
+            }
+        }
+        final ArrayList<Locale> likelyLocales = new ArrayList<>();
+        for (final Locale locale : mRecentSubtypeLocales) {
+            if (likelyLocales.size() < maxCount && enabledLocales.remove(locale)) {
+                likelyLocales.add(locale);
+            }
+        }
+        for (final Locale locale : enabledLocales) {
+            if (likelyLocales.size() >= maxCount) {
+                break;
+            }
+            likelyLocales.add(locale);
+        }
+        return likelyLocales;
+    }
+
     private static RichInputMethodSubtype sForcedSubtypeForTesting = null;
 
     @UsedForTesting
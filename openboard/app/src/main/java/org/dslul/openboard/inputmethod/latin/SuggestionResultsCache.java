@@ -0,0 +1,126 @@
+package org.dslul.openboard.inputmethod.latin;
+
+import android.util.LruCache;
+
+import org.dslul.openboard.inputmethod.keyboard.Keyboard;
+import org.dslul.openboard.inputmethod.latin.common.ComposedData;
+import org.dslul.openboard.inputmethod.latin.common.InputPointers;
+import org.dslul.openboard.inputmethod.latin.settings.SettingsValuesForSuggestion;
+import org.dslul.openboard.inputmethod.latin.utils.SuggestionResults;
+
+import java.util.Arrays;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * A small LRU cache of dictionary lookups, so that decoding the same input twice (the last batch
+ * update and the end of a gesture, or the same typed prefix again after a backspace) is answered
+ * from memory. The input style is not part of the key since the lookups do not depend on it.
+ *
+ * Input coordinates are quantized to a few pixels before they are compared, so tiny differences
+ * in the path still hit. Entries carry the dictionary generation they were computed with and
+ * are ignored once any dictionary has changed since.
+ *
+ * Cached results are shared between callers and must not be modified.
+ */
+final class SuggestionResultsCache {
+    private static final int CACHE_SIZE = 16;
+    // Coordinates are compared in blocks of 4x4 pixels.
+    private static final int COORDINATE_QUANTIZATION_SHIFT = 2;
+
+    private final LruCache<Key, SuggestionResults> mCache = new LruCache<>(CACHE_SIZE);
+
+    static final class Key {
+        private final int[] mQuantizedCoordinates;
+        private final String mTypedWord;
+        private final boolean mIsBatchMode;
+        private final NgramContext mNgramContext;
+        private final Keyboard mKeyboard;
+        private final boolean mBlockPotentiallyOffensive;
+        private final float mWeightOfLangModelVsSpatialModel;
+        private final float mWeightForLocale;
+        private final int mSessionId;
+        private final int mGeneration;
+        private final int mHashCode;
+
+        Key(@Nonnull final ComposedData composedData, @Nonnull final NgramContext ngramContext,
+                @Nonnull final Keyboard keyboard,
+                @Nonnull final SettingsValuesForSuggestion settingsValuesForSuggestion,
+                final float weightForLocale, final int sessionId, final int generation) {
+            mQuantizedCoordinates = quantizeCoordinates(composedData);
+            mTypedWord = composedData.mTypedWord;
+            mIsBatchMode = composedData.mIsBatchMode;
+            mNgramContext = ngramContext;
+            mKeyboard = keyboard;
+            mBlockPotentiallyOffensive = settingsValuesForSuggestion.mBlockPotentiallyOffensive;
+            mWeightOfLangModelVsSpatialModel =
+                    settingsValuesForSuggestion.mWeightOfLangModelVsSpatialModel;
+            mWeightForLocale = weightForLocale;
+            mSessionId = sessionId;
+            mGeneration = generation;
+            mHashCode = Arrays.hashCode(new Object[] { Arrays.hashCode(mQuantizedCoordinates),
+                    mTypedWord, mIsBatchMode, mNgramContext, System.identityHashCode(mKeyboard),
+                    mGeneration });
+        }
+
+        int getGeneration() {
+            return mGeneration;
+        }
+
+        @Override
+        public int hashCode() {
+            return mHashCode;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            final Key other = (Key) o;
+            return mHashCode == other.mHashCode
+                    && mGeneration == other.mGeneration
+                    && mIsBatchMode == other.mIsBatchMode
+                    && mKeyboard == other.mKeyboard
+                    && mBlockPotentiallyOffensive == other.mBlockPotentiallyOffensive
+                    && mWeightOfLangModelVsSpatialModel == other.mWeightOfLangModelVsSpatialModel
+                    && mWeightForLocale == other.mWeightForLocale
+                    && mSessionId == other.mSessionId
+                    && mTypedWord.equals(other.mTypedWord)
+                    && mNgramContext.equals(other.mNgramContext)
+                    && Arrays.equals(mQuantizedCoordinates, other.mQuantizedCoordinates);
+        }
+
+        // Only the points the decoder reads are part of the key: the whole path for a gesture, one
+        // point per typed code point otherwise (the composer keeps stale points after a backspace).
+        private static int[] quantizeCoordinates(final ComposedData composedData) {
+            final InputPointers inputPointers = composedData.mInputPointers;
+            int count = inputPointers.getPointerSize();
+            if (!composedData.mIsBatchMode) {
+                count = Math.min(count, composedData.mTypedWord.codePointCount(
+                        0, composedData.mTypedWord.length()));
+            }
+            final int[] xCoordinates = inputPointers.getXCoordinates();
+            final int[] yCoordinates = inputPointers.getYCoordinates();
+            final int[] quantized = new int[count * 2];
+            for (int i = 0; i < count; i++) {
+                quantized[i * 2] = xCoordinates[i] >> COORDINATE_QUANTIZATION_SHIFT;
+                quantized[i * 2 + 1] = yCoordinates[i] >> COORDINATE_QUANTIZATION_SHIFT;
+            }
+            return quantized;
+        }
+    }
+
+    @Nullable
+    SuggestionResults get(@Nonnull final Key key) {
+        return mCache.get(key);
+    }
+
+    void put(@Nonnull final Key key, @Nonnull final SuggestionResults suggestionResults) {
+        mCache.put(key, suggestionResults);
+    }
+
+    void clear() {
+        mCache.evictAll();
+    }
+}
@@ -493,6 +493,7 @@ public final class InputLogic {
     public void onStartBatchInput(final SettingsValues settingsValues,
             final KeyboardSwitcher keyboardSwitcher, final LatinIME.UIHandler handler) {
         mWordBeingCorrectedByCursor = null;
+        mDictionaryFacilitator.onStartBatchInput();
         mInputLogicHandler.onStartBatchInput();
         handler.showGesturePreviewAndSuggestionStrip(
                 SuggestedWords.getEmptyInstance(), false /* dismissGestureFloatingPreviewText */);
@@ -565,9 +566,11 @@ public final class InputLogic {
     public void onEndBatchInput(final InputPointers batchPointers) {
         mInputLogicHandler.updateTailBatchInput(batchPointers, mAutoCommitSequenceNumber);
         ++mAutoCommitSequenceNumber;
+        mDictionaryFacilitator.onEndBatchInput();
     }
 
     public void onCancelBatchInput(final LatinIME.UIHandler handler) {
+        mDictionaryFacilitator.onEndBatchInput();
         mInputLogicHandler.onCancelBatchInput();
         handler.showGesturePreviewAndSuggestionStrip(
                 SuggestedWords.getEmptyInstance(), true /* dismissGestureFloatingPreviewText */);
@@ -37,6 +37,8 @@ class InputLogicHandler implements Handler.Callback {
     private boolean mInBatchInput; // synchronized using {@link #mLock}.
 
     private static final int MSG_GET_SUGGESTED_WORDS = 1;
+    // Same as MSG_GET_SUGGESTED_WORDS, for a batch input update. At most one is pending at a time.
+    private static final int MSG_UPDATE_BATCH_INPUT = 2;
 
     // A handler that never does anything. This is used for cases where events come before anything
     // is initialized, though probably only the monkey can actually do this.
@@ -94,6 +96,7 @@ class InputLogicHandler implements Handler.Callback {
     public boolean handleMessage(final Message msg) {
         switch (msg.what) {
             case MSG_GET_SUGGESTED_WORDS:
+            case MSG_UPDATE_BATCH_INPUT:
                 mLatinIME.getSuggestedWords(msg.arg1 /* inputStyle */,
                         msg.arg2 /* sequenceNumber */, (OnGetSuggestedWordsCallback) msg.obj);
                 break;
@@ -138,8 +141,18 @@ class InputLogicHandler implements Handler.Callback {
                     showGestureSuggestionsWithPreviewVisuals(suggestedWords, isTailBatchInput);
                 }
             };
-            getSuggestedWords(isTailBatchInput ? SuggestedWords.INPUT_STYLE_TAIL_BATCH
-                    : SuggestedWords.INPUT_STYLE_UPDATE_BATCH, sequenceNumber, callback);
+            // The word composer shares the pointers that are being appended to, so a pending
+            // update would decode the latest input anyway. Replace it rather than queueing another
+            // decode of the whole path; on long, slow gestures those used to pile up in front of
+            // the tail batch input.
+            mNonUIThreadHandler.removeMessages(MSG_UPDATE_BATCH_INPUT);
+            if (isTailBatchInput) {
+                getSuggestedWords(SuggestedWords.INPUT_STYLE_TAIL_BATCH, sequenceNumber, callback);
+            } else {
+                mNonUIThreadHandler.obtainMessage(MSG_UPDATE_BATCH_INPUT,
+                        SuggestedWords.INPUT_STYLE_UPDATE_BATCH, sequenceNumber, callback)
+                        .sendToTarget();
+            }
         }
     }
 
@@ -26,6 +26,7 @@ import android.os.Build;
 import android.util.Log;
 
 import android.view.Gravity;
+import org.dslul.openboard.inputmethod.keyboard.internal.GestureStrokeRecognitionParams;
 import org.dslul.openboard.inputmethod.latin.AudioAndHapticFeedbackManager;
 import org.dslul.openboard.inputmethod.latin.InputAttributes;
 import org.dslul.openboard.inputmethod.latin.R;
@@ -107,6 +108,8 @@ public final class Settings implements SharedPreferences.OnSharedPreferenceChang
     public static final String PREF_KEY_LONGPRESS_TIMEOUT = "pref_key_longpress_timeout";
     public static final String PREF_KEY_LONGPRESS_SHIFT_LOCK_TIMEOUT = "pref_key_longpress_shift_lock_timeout";
     public static final String PREF_KEY_REPEAT_START_TIMEOUT = "pref_key_repeat_start_timeout";
+    public static final String PREF_GESTURE_RECOGNITION_PROFILE =
+            "pref_gesture_recognition_profile";
     public static final String PREF_ENABLE_EMOJI_ALT_PHYSICAL_KEY =
             "pref_enable_emoji_alt_physical_key";
     public static final String PREF_GESTURE_PREVIEW_TRAIL = "pref_gesture_preview_trail";
@@ -143,6 +146,9 @@ public final class Settings implements SharedPreferences.OnSharedPreferenceChang
     private static final String PREF_CORPUS_HANDLES_FOR_PERSONALIZATION =
             "pref_corpus_handles_for_personalization";
 
+    // Locales of the recently used subtypes, most recent first.
+    private static final String PREF_RECENT_SUBTYPE_LOCALES = "pref_recent_subtype_locales";
+
     // Emoji
     public static final String PREF_EMOJI_RECENT_KEYS = "emoji_recent_keys";
     public static final String PREF_EMOJI_CATEGORY_LAST_TYPED_ID = "emoji_category_last_typed_id";
@@ -512,6 +518,24 @@ public final class Settings implements SharedPreferences.OnSharedPreferenceChang
         return mPrefs.getStringSet(PREF_CORPUS_HANDLES_FOR_PERSONALIZATION, emptySet);
     }
 
+    public static void writeRecentSubtypeLocales(final SharedPreferences prefs, final String str) {
+        prefs.edit().putString(PREF_RECENT_SUBTYPE_LOCALES, str).apply();
+    }
+
+    public static String readRecentSubtypeLocales(final SharedPreferences prefs) {
+        return prefs.getString(PREF_RECENT_SUBTYPE_LOCALES, "");
+    }
+
+    public static void writeGestureRecognitionProfile(final SharedPreferences prefs,
+            final String profile) {
+        prefs.edit().putString(PREF_GESTURE_RECOGNITION_PROFILE, profile).apply();
+    }
+
+    public static String readGestureRecognitionProfile(final SharedPreferences prefs) {
+        return prefs.getString(PREF_GESTURE_RECOGNITION_PROFILE,
+                GestureStrokeRecognitionParams.PROFILE_TOUCH);
+    }
+
     public static void writeEmojiRecentKeys(final SharedPreferences prefs, String str) {
         prefs.edit().putString(PREF_EMOJI_RECENT_KEYS, str).apply();
     }
@@ -32,6 +32,7 @@ import org.dslul.openboard.inputmethod.latin.DictionaryFacilitatorLruCache;
 import org.dslul.openboard.inputmethod.latin.NgramContext;
 import org.dslul.openboard.inputmethod.latin.R;
 import org.dslul.openboard.inputmethod.latin.RichInputMethodSubtype;
+import org.dslul.openboard.inputmethod.latin.Suggest;
 import org.dslul.openboard.inputmethod.latin.SuggestedWords;
 import org.dslul.openboard.inputmethod.latin.common.ComposedData;
 import org.dslul.openboard.inputmethod.latin.settings.SettingsValuesForSuggestion;
@@ -67,12 +68,17 @@ public final class AndroidSpellCheckerService extends SpellCheckerService
     private final int MAX_NUM_OF_THREADS_READ_DICTIONARY = 2;
     private final Semaphore mSemaphore = new Semaphore(MAX_NUM_OF_THREADS_READ_DICTIONARY,
             true /* fair */);
+    // Main dictionaries are shared with the IME in this process, so the session ids must not
+    // collide with the ones Suggest uses.
+    private static final int FIRST_SESSION_ID = Math.max(Suggest.SESSION_ID_TYPING,
+            Suggest.SESSION_ID_GESTURE) + 1;
     // TODO: Make each spell checker session has its own session id.
     private final ConcurrentLinkedQueue<Integer> mSessionIdPool = new ConcurrentLinkedQueue<>();
 
     private final DictionaryFacilitatorLruCache mDictionaryFacilitatorCache =
             new DictionaryFacilitatorLruCache(this /* context */, DICTIONARY_NAME_PREFIX);
     private final ConcurrentHashMap<Locale, Keyboard> mKeyboardCache = new ConcurrentHashMap<>();
+    private final SpellCheckResultsCache mResultsCache = new SpellCheckResultsCache();
 
     // The threshold for a suggestion to be considered "recommended".
     private float mRecommendedThreshold;
@@ -86,7 +92,7 @@ public final class AndroidSpellCheckerService extends SpellCheckerService
     public AndroidSpellCheckerService() {
         super();
         for (int i = 0; i < MAX_NUM_OF_THREADS_READ_DICTIONARY; i++) {
-            mSessionIdPool.add(i);
+            mSessionIdPool.add(FIRST_SESSION_ID + i);
         }
     }
 
@@ -203,6 +209,28 @@ public final class AndroidSpellCheckerService extends SpellCheckerService
         }
     }
 
+    /**
+     * Returns the dictionary generation for the locale, which the results cache entries are
+     * checked against.
+     */
+    public int getDictionaryGeneration(final Locale locale) {
+        mSemaphore.acquireUninterruptibly();
+        try {
+            final DictionaryFacilitator dictionaryFacilitator =
+                    mDictionaryFacilitatorCache.get(locale);
+            return dictionaryFacilitator.getDictionaryGeneration();
+        } finally {
+            mSemaphore.release();
+        }
+    }
+
+    /**
+     * Returns the cache of spell checking results shared by all the sessions.
+     */
+    SpellCheckResultsCache getResultsCache() {
+        return mResultsCache;
+    }
+
     @Override
     public boolean onUnbind(final Intent intent) {
         mSemaphore.acquireUninterruptibly(MAX_NUM_OF_THREADS_READ_DICTIONARY);
@@ -212,6 +240,7 @@ public final class AndroidSpellCheckerService extends SpellCheckerService
             mSemaphore.release(MAX_NUM_OF_THREADS_READ_DICTIONARY);
         }
         mKeyboardCache.clear();
+        mResultsCache.clear();
         return false;
     }
 
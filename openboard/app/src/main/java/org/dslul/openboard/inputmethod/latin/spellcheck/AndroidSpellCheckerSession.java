@@ -84,7 +84,7 @@ public final class AndroidSpellCheckerSession extends AndroidWordLevelSpellCheck
                 if (TextUtils.isEmpty(splitText)) {
                     continue;
                 }
-                if (mSuggestionsCache.getSuggestionsFromCache(splitText.toString()) == null) {
+                if (!isCachedTypoWithSuggestions(splitText.toString())) {
                     continue;
                 }
                 final int newLength = splitText.length();
@@ -198,7 +198,7 @@ public final class AndroidSpellCheckerSession extends AndroidWordLevelSpellCheck
         long ident = Binder.clearCallingIdentity();
         try {
             final int length = textInfos.length;
-            final SuggestionsInfo[] retval = new SuggestionsInfo[length];
+            final NgramContext[] ngramContexts = new NgramContext[length];
             for (int i = 0; i < length; ++i) {
                 final CharSequence prevWord;
                 if (sequentialWords && i > 0) {
@@ -211,11 +211,15 @@ public final class AndroidSpellCheckerSession extends AndroidWordLevelSpellCheck
                 } else {
                     prevWord = null;
                 }
-                final NgramContext ngramContext =
-                        new NgramContext(new NgramContext.WordInfo(prevWord));
-                final TextInfo textInfo = textInfos[i];
-                retval[i] = onGetSuggestionsInternal(textInfo, ngramContext, suggestionsLimit);
-                retval[i].setCookieAndSequence(textInfo.getCookie(), textInfo.getSequence());
+                ngramContexts[i] = new NgramContext(new NgramContext.WordInfo(prevWord));
+            }
+            // The contexts only depend on the text of the previous words, so the words can be
+            // checked all at once.
+            final SuggestionsInfo[] retval =
+                    onGetSuggestionsInternal(textInfos, ngramContexts, suggestionsLimit);
+            for (int i = 0; i < length; ++i) {
+                retval[i].setCookieAndSequence(textInfos[i].getCookie(),
+                        textInfos[i].getSequence());
             }
             return retval;
         } finally {
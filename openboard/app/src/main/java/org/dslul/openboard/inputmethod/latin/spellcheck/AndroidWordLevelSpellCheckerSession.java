@@ -16,14 +16,10 @@
 
 package org.dslul.openboard.inputmethod.latin.spellcheck;
 
-import android.content.ContentResolver;
-import android.database.ContentObserver;
 import android.os.Binder;
-import android.provider.UserDictionary.Words;
 import android.service.textservice.SpellCheckerService.Session;
 import android.text.TextUtils;
 import android.util.Log;
-import android.util.LruCache;
 import android.view.inputmethod.InputMethodManager;
 import android.view.inputmethod.InputMethodSubtype;
 import android.view.textservice.SuggestionsInfo;
@@ -38,13 +34,18 @@ import org.dslul.openboard.inputmethod.latin.common.LocaleUtils;
 import org.dslul.openboard.inputmethod.latin.common.StringUtils;
 import org.dslul.openboard.inputmethod.latin.define.DebugFlags;
 import com.android.inputmethod.latin.utils.BinaryDictionaryUtils;
+import org.dslul.openboard.inputmethod.latin.utils.ExecutorUtils;
 import org.dslul.openboard.inputmethod.latin.utils.ScriptUtils;
 import org.dslul.openboard.inputmethod.latin.utils.StatsUtils;
 import org.dslul.openboard.inputmethod.latin.utils.SuggestionResults;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public abstract class AndroidWordLevelSpellCheckerSession extends Session {
     private static final String TAG = AndroidWordLevelSpellCheckerSession.class.getSimpleName();
@@ -56,60 +57,12 @@ public abstract class AndroidWordLevelSpellCheckerSession extends Session {
     // Cache this for performance
     private int mScript; // One of SCRIPT_LATIN or SCRIPT_CYRILLIC for now.
     private final AndroidSpellCheckerService mService;
-    protected final SuggestionsCache mSuggestionsCache = new SuggestionsCache();
-    private final ContentObserver mObserver;
 
     private static final String quotesRegexp =
             "(\\u0022|\\u0027|\\u0060|\\u00B4|\\u2018|\\u2018|\\u201C|\\u201D)";
 
-    private static final class SuggestionsParams {
-        public final String[] mSuggestions;
-        public final int mFlags;
-        public SuggestionsParams(String[] suggestions, int flags) {
-            mSuggestions = suggestions;
-            mFlags = flags;
-        }
-    }
-
-    protected static final class SuggestionsCache {
-        private static final int MAX_CACHE_SIZE = 50;
-        private final LruCache<String, SuggestionsParams> mUnigramSuggestionsInfoCache =
-                new LruCache<>(MAX_CACHE_SIZE);
-
-        private static String generateKey(final String query) {
-            return query + "";
-        }
-
-        public SuggestionsParams getSuggestionsFromCache(final String query) {
-            return mUnigramSuggestionsInfoCache.get(query);
-        }
-
-        public void putSuggestionsToCache(
-                final String query, final String[] suggestions, final int flags) {
-            if (suggestions == null || TextUtils.isEmpty(query)) {
-                return;
-            }
-            mUnigramSuggestionsInfoCache.put(
-                    generateKey(query),
-                    new SuggestionsParams(suggestions, flags));
-        }
-
-        public void clearCache() {
-            mUnigramSuggestionsInfoCache.evictAll();
-        }
-    }
-
     AndroidWordLevelSpellCheckerSession(final AndroidSpellCheckerService service) {
         mService = service;
-        final ContentResolver cres = service.getContentResolver();
-
-        mObserver = new ContentObserver(null) {
-            @Override
-            public void onChange(boolean self) {
-                mSuggestionsCache.clearCache();
-            }
-        };
-        cres.registerContentObserver(Words.CONTENT_URI, true, mObserver);
     }
 
     private void updateLocale() {
@@ -155,12 +108,6 @@ public abstract class AndroidWordLevelSpellCheckerSession extends Session {
         return super.getLocale();
     }
 
-    @Override
-    public void onClose() {
-        final ContentResolver cres = mService.getContentResolver();
-        cres.unregisterContentObserver(mObserver);
-    }
-
     private static final int CHECKABILITY_CHECKABLE = 0;
     private static final int CHECKABILITY_TOO_MANY_NON_LETTERS = 1;
     private static final int CHECKABILITY_CONTAINS_PERIOD = 2;
@@ -258,14 +205,113 @@ public abstract class AndroidWordLevelSpellCheckerSession extends Session {
 
     protected SuggestionsInfo onGetSuggestionsInternal(
             final TextInfo textInfo, final NgramContext ngramContext, final int suggestionsLimit) {
+        updateLocale();
+        return checkWord(textInfo, ngramContext, suggestionsLimit);
+    }
+
+    /**
+     * Gets the suggestions for the words of a batch, each with its own n-gram context. The words
+     * are checked in parallel on the calling thread and a spelling executor thread, and a word
+     * that appears several times is only looked up once.
+     */
+    protected SuggestionsInfo[] onGetSuggestionsInternal(final TextInfo[] textInfos,
+            final NgramContext[] ngramContexts, final int suggestionsLimit) {
+        updateLocale();
+        final int length = textInfos.length;
+        final SuggestionsInfo[] retval = new SuggestionsInfo[length];
+        final HashSet<String> words = new HashSet<>();
+        final int[] firstOccurrences = new int[length];
+        int wordCount = 0;
+        for (int i = 0; i < length; ++i) {
+            if (words.add(textInfos[i].getText())) {
+                firstOccurrences[wordCount++] = i;
+            }
+        }
+        final int checkCount = wordCount;
+        final AtomicInteger nextCheck = new AtomicInteger();
+        // The helper thread has no calling identity to clear, it already acts on our behalf.
+        final Runnable checker = new Runnable() {
+            @Override
+            public void run() {
+                int check;
+                while ((check = nextCheck.getAndIncrement()) < checkCount) {
+                    final int i = firstOccurrences[check];
+                    retval[i] = checkWord(textInfos[i], ngramContexts[i], suggestionsLimit);
+                }
+            }
+        };
+        // The service doesn't read the dictionaries from more than two threads at once, so a
+        // single helper thread is enough.
+        final Future<?> helper = checkCount > 1
+                ? ExecutorUtils.getBackgroundExecutor(ExecutorUtils.SPELLING).submit(checker)
+                : null;
+        checker.run();
+        if (helper != null) {
+            waitForHelper(helper);
+        }
+        // The repeated words, and any word the helper failed to check. Checked words are
+        // answered by the results cache.
+        for (int i = 0; i < length; ++i) {
+            if (retval[i] == null) {
+                retval[i] = checkWord(textInfos[i], ngramContexts[i], suggestionsLimit);
+            }
+        }
+        return retval;
+    }
+
+    private static void waitForHelper(final Future<?> helper) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                helper.get();
+                break;
+            } catch (final ExecutionException e) {
+                Log.e(TAG, "Exception while spellchecking", e);
+                break;
+            } catch (final InterruptedException e) {
+                // The helper writes to the results, it must be done before they are returned.
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns whether the word was reported as a typo with suggestions, and this is still current.
+     */
+    protected boolean isCachedTypoWithSuggestions(final String word) {
+        // Reading the generation may load the dictionaries, see onGetSuggestions().
+        final long ident = Binder.clearCallingIdentity();
+        try {
+            return mService.getResultsCache().isTypoWithSuggestions(mLocale, word,
+                    mService.getDictionaryGeneration(mLocale));
+        } finally {
+            Binder.restoreCallingIdentity(ident);
+        }
+    }
+
+    // Doesn't change the session, so that the words of a batch can be checked in parallel once
+    // the locale is up to date.
+    private SuggestionsInfo checkWord(final TextInfo textInfo, final NgramContext ngramContext,
+            final int suggestionsLimit) {
         try {
-            updateLocale();
             final String text = textInfo.getText().
                     replaceAll(AndroidSpellCheckerService.APOSTROPHE,
                             AndroidSpellCheckerService.SINGLE_QUOTE).
                     replaceAll("^" + quotesRegexp, "").
                     replaceAll(quotesRegexp + "$", "");
 
+            // Read before the lookups, so that a result computed while a dictionary changes is
+            // not taken as current afterwards.
+            final int generation = mService.getDictionaryGeneration(mLocale);
+            final SuggestionsInfo cachedResult = mService.getResultsCache().get(
+                    mLocale, text, suggestionsLimit, generation);
+            if (cachedResult != null) {
+                return cachedResult;
+            }
+
             if (!mService.hasMainDictionaryForLocale(mLocale)) {
                 return AndroidSpellCheckerService.getNotInDictEmptySuggestions(
                         false /* reportAsTypo */);
@@ -284,16 +330,19 @@ public abstract class AndroidWordLevelSpellCheckerSession extends Session {
                         }
                     }
                     if (allWordsAreValid) {
-                        return new SuggestionsInfo(SuggestionsInfo.RESULT_ATTR_LOOKS_LIKE_TYPO
+                        return cacheResult(text, SuggestionsInfo.RESULT_ATTR_LOOKS_LIKE_TYPO
                                 | SuggestionsInfo.RESULT_ATTR_HAS_RECOMMENDED_SUGGESTIONS,
                                 new String[] {
-                                        TextUtils.join(Constants.STRING_SPACE, splitText) });
+                                        TextUtils.join(Constants.STRING_SPACE, splitText) },
+                                SpellCheckResultsCache.ANY_SUGGESTIONS_LIMIT, generation);
                     }
                 }
-                return mService.isValidWord(mLocale, text) ?
-                        AndroidSpellCheckerService.getInDictEmptySuggestions() :
-                        AndroidSpellCheckerService.getNotInDictEmptySuggestions(
-                                CHECKABILITY_CONTAINS_PERIOD == checkability /* reportAsTypo */);
+                return cacheResult(text, mService.isValidWord(mLocale, text)
+                        ? SuggestionsInfo.RESULT_ATTR_IN_THE_DICTIONARY
+                        : (CHECKABILITY_CONTAINS_PERIOD == checkability /* reportAsTypo */
+                                ? SuggestionsInfo.RESULT_ATTR_LOOKS_LIKE_TYPO : 0),
+                        EMPTY_STRING_ARRAY, SpellCheckResultsCache.ANY_SUGGESTIONS_LIMIT,
+                        generation);
             }
 
             // Handle normal words.
@@ -303,7 +352,9 @@ public abstract class AndroidWordLevelSpellCheckerSession extends Session {
                 if (DebugFlags.DEBUG_ENABLED) {
                     Log.i(TAG, "onGetSuggestionsInternal() : [" + text + "] is a valid word");
                 }
-                return AndroidSpellCheckerService.getInDictEmptySuggestions();
+                return cacheResult(text, SuggestionsInfo.RESULT_ATTR_IN_THE_DICTIONARY,
+                        EMPTY_STRING_ARRAY, SpellCheckResultsCache.ANY_SUGGESTIONS_LIMIT,
+                        generation);
             }
             if (DebugFlags.DEBUG_ENABLED) {
                 Log.i(TAG, "onGetSuggestionsInternal() : [" + text + "] is NOT a valid word");
@@ -351,9 +402,7 @@ public abstract class AndroidWordLevelSpellCheckerSession extends Session {
                     | (result.mHasRecommendedSuggestions
                             ? SuggestionsInfo.RESULT_ATTR_HAS_RECOMMENDED_SUGGESTIONS
                             : 0);
-            final SuggestionsInfo retval = new SuggestionsInfo(flags, result.mSuggestions);
-            mSuggestionsCache.putSuggestionsToCache(text, result.mSuggestions, flags);
-            return retval;
+            return cacheResult(text, flags, result.mSuggestions, suggestionsLimit, generation);
         } catch (RuntimeException e) {
             // Don't kill the keyboard if there is a bug in the spell checker
             Log.e(TAG, "Exception while spellchecking", e);
@@ -362,6 +411,13 @@ public abstract class AndroidWordLevelSpellCheckerSession extends Session {
         }
     }
 
+    private SuggestionsInfo cacheResult(final String text, final int flags,
+            final String[] suggestions, final int suggestionsLimit, final int generation) {
+        mService.getResultsCache().put(mLocale, text, flags, suggestions, suggestionsLimit,
+                generation);
+        return new SuggestionsInfo(flags, suggestions);
+    }
+
     private static final class Result {
         public final String[] mSuggestions;
         public final boolean mHasRecommendedSuggestions;
@@ -0,0 +1,102 @@
+package org.dslul.openboard.inputmethod.latin.spellcheck;
+
+import android.util.LruCache;
+import android.view.textservice.SuggestionsInfo;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * The spell checking results of the recently checked words, shared by all the sessions of the
+ * spell checker service, so that a word is looked up in the dictionaries once no matter how many
+ * documents, apps or sessions check it.
+ *
+ * Results are keyed on the locale and the word. Suggestions depend on the suggestions limit, so
+ * a result only answers requests for as many suggestions as it was computed with, or fewer. Like
+ * the results of the previous per-session cache, they don't depend on the previous word. Entries
+ * carry the dictionary generation they were computed with and are ignored once any dictionary
+ * has changed since.
+ */
+final class SpellCheckResultsCache {
+    private static final int MAX_CACHE_SIZE = 1000;
+    // For the results that are the same whatever the suggestions limit.
+    static final int ANY_SUGGESTIONS_LIMIT = Integer.MAX_VALUE;
+
+    private static final class Result {
+        public final int mFlags;
+        @Nullable
+        public final String[] mSuggestions;
+        public final int mSuggestionsLimit;
+        public final int mGeneration;
+
+        Result(final int flags, @Nullable final String[] suggestions, final int suggestionsLimit,
+                final int generation) {
+            mFlags = flags;
+            mSuggestions = suggestions;
+            mSuggestionsLimit = suggestionsLimit;
+            mGeneration = generation;
+        }
+    }
+
+    private final LruCache<String, Result> mCache = new LruCache<>(MAX_CACHE_SIZE);
+
+    /**
+     * Returns a new SuggestionsInfo for the cached result of the word, or null if there is none
+     * that is current and was computed with enough suggestions.
+     */
+    @Nullable
+    SuggestionsInfo get(@Nullable final Locale locale, @Nonnull final String word,
+            final int suggestionsLimit, final int generation) {
+        final Result result = mCache.get(getKey(locale, word));
+        if (result == null || result.mGeneration != generation) {
+            return null;
+        }
+        if (result.mSuggestionsLimit == suggestionsLimit
+                || result.mSuggestionsLimit == ANY_SUGGESTIONS_LIMIT) {
+            return new SuggestionsInfo(result.mFlags, result.mSuggestions);
+        }
+        // Without any suggestion to give, a typo is not reported as having recommended ones.
+        if (suggestionsLimit <= 0 || result.mSuggestionsLimit < suggestionsLimit) {
+            return null;
+        }
+        if (result.mSuggestions == null) {
+            return new SuggestionsInfo(result.mFlags, null);
+        }
+        return new SuggestionsInfo(result.mFlags, result.mSuggestions.length <= suggestionsLimit
+                ? result.mSuggestions : Arrays.copyOf(result.mSuggestions, suggestionsLimit));
+    }
+
+    /**
+     * @param suggestionsLimit the limit the suggestions were computed with, or
+     *        {@link #ANY_SUGGESTIONS_LIMIT} if the result doesn't depend on it.
+     * @param generation the dictionary generation from before the result was computed.
+     */
+    void put(@Nullable final Locale locale, @Nonnull final String word, final int flags,
+            @Nullable final String[] suggestions, final int suggestionsLimit,
+            final int generation) {
+        mCache.put(getKey(locale, word),
+                new Result(flags, suggestions, suggestionsLimit, generation));
+    }
+
+    /**
+     * Returns whether the word was last reported as a typo with suggestions.
+     */
+    boolean isTypoWithSuggestions(@Nullable final Locale locale, @Nonnull final String word,
+            final int generation) {
+        final Result result = mCache.get(getKey(locale, word));
+        return result != null && result.mGeneration == generation
+                && (result.mFlags & SuggestionsInfo.RESULT_ATTR_LOOKS_LIKE_TYPO) != 0
+                && result.mSuggestions != null && result.mSuggestions.length > 0;
+    }
+
+    void clear() {
+        mCache.evictAll();
+    }
+
+    private static String getKey(@Nullable final Locale locale, @Nonnull final String word) {
+        return locale + "\u0000" + word;
+    }
+}
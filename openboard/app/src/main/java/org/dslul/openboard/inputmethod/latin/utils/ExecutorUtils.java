@@ -35,24 +35,84 @@ public class ExecutorUtils {
 
     public static final String KEYBOARD = "Keyboard";
     public static final String SPELLING = "Spelling";
+    public static final String SUGGESTIONS = "Suggestions";
+    public static final String DICTIONARY_UPDATES = "DictionaryUpdates";
+    public static final String CLIPBOARD = "Clipboard";
+    /**
+     * Speculative work that must never delay the other executors, such as prefetching the
+     * dictionaries of other locales. Runs at the lowest thread priority.
+     */
+    public static final String PREFETCH = "Prefetch";
+    /**
+     * Builds the keyboards likely to be switched to next, apart from the {@link #KEYBOARD}
+     * executor so that it doesn't queue up behind them.
+     */
+    public static final String KEYBOARD_PREBUILD = "KeyboardPrebuild";
+
+    /**
+     * Threads for per-dictionary suggestion lookups. One per secondary dictionary type (contacts,
+     * user history, user dictionary); the main dictionary is looked up on the calling thread.
+     */
+    private static final int SUGGESTIONS_POOL_SIZE = 3;
+
+    /**
+     * Threads for checking the words of a spell checker batch in parallel. Each batch uses at
+     * most one of them besides its calling thread, so two sessions can check batches at once.
+     */
+    private static final int SPELLING_POOL_SIZE = 2;
+
+    /**
+     * Threads for updating the expandable dictionaries. Each dictionary runs its tasks in order
+     * through a {@link SerialExecutor}, so a slow reload of one dictionary leaves a thread for the
+     * others.
+     */
+    private static final int DICTIONARY_UPDATES_POOL_SIZE = 2;
 
     private static ScheduledExecutorService sKeyboardExecutorService = newExecutorService(KEYBOARD);
-    private static ScheduledExecutorService sSpellingExecutorService = newExecutorService(SPELLING);
+    private static ScheduledExecutorService sSpellingExecutorService =
+            newExecutorService(SPELLING, SPELLING_POOL_SIZE);
+    private static ScheduledExecutorService sSuggestionsExecutorService =
+            newExecutorService(SUGGESTIONS, SUGGESTIONS_POOL_SIZE);
+    private static ScheduledExecutorService sDictionaryUpdatesExecutorService =
+            newExecutorService(DICTIONARY_UPDATES, DICTIONARY_UPDATES_POOL_SIZE);
+    private static ScheduledExecutorService sClipboardExecutorService =
+            newExecutorService(CLIPBOARD);
+    private static ScheduledExecutorService sPrefetchExecutorService =
+            newLowPriorityExecutorService(PREFETCH);
+    private static ScheduledExecutorService sKeyboardPrebuildExecutorService =
+            newExecutorService(KEYBOARD_PREBUILD);
 
     private static ScheduledExecutorService newExecutorService(final String name) {
         return Executors.newSingleThreadScheduledExecutor(new ExecutorFactory(name));
     }
 
+    private static ScheduledExecutorService newExecutorService(final String name,
+            final int poolSize) {
+        return Executors.newScheduledThreadPool(poolSize, new ExecutorFactory(name));
+    }
+
+    private static ScheduledExecutorService newLowPriorityExecutorService(final String name) {
+        return Executors.newSingleThreadScheduledExecutor(
+                new ExecutorFactory(name, Thread.MIN_PRIORITY));
+    }
+
     private static class ExecutorFactory implements ThreadFactory {
         private final String mName;
+        private final int mPriority;
 
         private ExecutorFactory(final String name) {
+            this(name, Thread.NORM_PRIORITY);
+        }
+
+        private ExecutorFactory(final String name, final int priority) {
             mName = name;
+            mPriority = priority;
         }
 
         @Override
         public Thread newThread(final Runnable runnable) {
             Thread thread = new Thread(runnable, TAG);
+            thread.setPriority(mPriority);
             thread.setUncaughtExceptionHandler(new UncaughtExceptionHandler() {
                 @Override
                 public void uncaughtException(Thread thread, Throwable ex) {
@@ -89,6 +149,16 @@ public class ExecutorUtils {
                 return sKeyboardExecutorService;
             case SPELLING:
                 return sSpellingExecutorService;
+            case SUGGESTIONS:
+                return sSuggestionsExecutorService;
+            case DICTIONARY_UPDATES:
+                return sDictionaryUpdatesExecutorService;
+            case CLIPBOARD:
+                return sClipboardExecutorService;
+            case PREFETCH:
+                return sPrefetchExecutorService;
+            case KEYBOARD_PREBUILD:
+                return sKeyboardPrebuildExecutorService;
             default:
                 throw new IllegalArgumentException("Invalid executor: " + name);
         }
@@ -111,7 +181,23 @@ public class ExecutorUtils {
                 sKeyboardExecutorService = newExecutorService(KEYBOARD);
                 break;
             case SPELLING:
-                sSpellingExecutorService = newExecutorService(SPELLING);
+                sSpellingExecutorService = newExecutorService(SPELLING, SPELLING_POOL_SIZE);
+                break;
+            case SUGGESTIONS:
+                sSuggestionsExecutorService = newExecutorService(SUGGESTIONS, SUGGESTIONS_POOL_SIZE);
+                break;
+            case DICTIONARY_UPDATES:
+                sDictionaryUpdatesExecutorService = newExecutorService(DICTIONARY_UPDATES,
+                        DICTIONARY_UPDATES_POOL_SIZE);
+                break;
+            case CLIPBOARD:
+                sClipboardExecutorService = newExecutorService(CLIPBOARD);
+                break;
+            case PREFETCH:
+                sPrefetchExecutorService = newLowPriorityExecutorService(PREFETCH);
+                break;
+            case KEYBOARD_PREBUILD:
+                sKeyboardPrebuildExecutorService = newExecutorService(KEYBOARD_PREBUILD);
                 break;
             default:
                 throw new IllegalArgumentException("Invalid executor: " + name);
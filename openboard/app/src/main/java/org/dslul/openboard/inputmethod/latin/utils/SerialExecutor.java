@@ -0,0 +1,46 @@
+package org.dslul.openboard.inputmethod.latin.utils;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+
+/**
+ * Runs tasks one at a time, in submission order, on one of the background executors of
+ * {@link ExecutorUtils}. Unlike a single thread executor it does not hold a thread of its own,
+ * so several serial executors can share a pool without one blocking the others.
+ */
+public final class SerialExecutor implements Executor {
+    private final String mExecutorName;
+    private final ArrayDeque<Runnable> mTasks = new ArrayDeque<>();
+    private Runnable mActiveTask;
+
+    /**
+     * @param executorName the name of the background executor to run the tasks on.
+     */
+    public SerialExecutor(final String executorName) {
+        mExecutorName = executorName;
+    }
+
+    @Override
+    public synchronized void execute(final Runnable task) {
+        mTasks.offer(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    task.run();
+                } finally {
+                    scheduleNext();
+                }
+            }
+        });
+        if (mActiveTask == null) {
+            scheduleNext();
+        }
+    }
+
+    private synchronized void scheduleNext() {
+        mActiveTask = mTasks.poll();
+        if (mActiveTask != null) {
+            ExecutorUtils.getBackgroundExecutor(mExecutorName).execute(mActiveTask);
+        }
+    }
+}
@@ -24,14 +24,17 @@ import java.util.jar.JarFile;
 public class MakeKeyboardText {
     static class Options {
         private static final String OPTION_JAVA = "-java";
+        private static final String OPTION_RES = "-res";
 
         public final String mJava;
+        public final String mRes;
 
         public static void usage(String message) {
             if (message != null) {
                 System.err.println(message);
             }
-            System.err.println("usage: make-keyboard-text " + OPTION_JAVA + " <java_output_dir>");
+            System.err.println("usage: make-keyboard-text " + OPTION_JAVA + " <java_output_dir> "
+                    + OPTION_RES + " <res_output_dir>");
             System.exit(1);
         }
 
@@ -39,11 +42,14 @@ public class MakeKeyboardText {
             final LinkedList<String> args = new LinkedList<>(Arrays.asList(argsArray));
             String arg = null;
             String java = null;
+            String res = null;
             try {
                 while (!args.isEmpty()) {
                     arg = args.removeFirst();
                     if (arg.equals(OPTION_JAVA)) {
                         java = args.removeFirst();
+                    } else if (arg.equals(OPTION_RES)) {
+                        res = args.removeFirst();
                     } else {
                         usage("Unknown option: " + arg);
                     }
@@ -53,6 +59,7 @@ public class MakeKeyboardText {
             }
 
             mJava = java;
+            mRes = res;
         }
     }
 
@@ -61,5 +68,6 @@ public class MakeKeyboardText {
         final JarFile jar = JarUtils.getJarFile(MakeKeyboardText.class);
         final MoreKeysResources resources = new MoreKeysResources(jar);
         resources.writeToJava(options.mJava);
+        resources.writeToResource(options.mRes);
     }
 }
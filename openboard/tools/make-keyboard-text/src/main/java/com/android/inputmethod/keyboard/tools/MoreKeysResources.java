@@ -16,7 +16,10 @@
 
 package com.android.inputmethod.keyboard.tools;
 
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.LineNumberReader;
@@ -35,11 +38,16 @@ public class MoreKeysResources {
     private static final String JAVA_TEMPLATE = "KeyboardTextsTable.tmpl";
     private static final String MARK_NAMES = "@NAMES@";
     private static final String MARK_DEFAULT_TEXTS = "@DEFAULT_TEXTS@";
-    private static final String MARK_TEXTS = "@TEXTS@";
-    private static final String TEXTS_ARRAY_NAME_PREFIX = "TEXTS_";
-    private static final String MARK_LOCALES_AND_TEXTS = "@LOCALES_AND_TEXTS@";
+    private static final String MARK_LOCALES = "@LOCALES@";
     private static final String EMPTY_STRING_VAR = "EMPTY";
 
+    // The texts of the locales are written to a raw resource instead of the java source, so that
+    // only the tables of the locales in use are loaded. This must be kept in sync with
+    // KeyboardTextsTable.tmpl.
+    private static final String RESOURCE_DIR = "raw";
+    private static final String RESOURCE_FILE = "keyboard_texts.bin";
+    private static final int RESOURCE_FORMAT_VERSION = 1;
+
     private final JarFile mJar;
     // String resources maps sorted by its language. The language is determined from the jar entry
     // name by calling {@link JarUtils#getLocaleFromEntryName(String)}.
@@ -134,6 +142,87 @@ public class MoreKeysResources {
         }
     }
 
+    /**
+     * Writes the texts tables of all locales but the default one to a raw resource.
+     *
+     * The resource starts with an index of the locales and the offsets of their tables, followed
+     * by the tables. A table is its length and its texts, each one a flag telling whether it is
+     * defined followed by the text in modified UTF-8.
+     */
+    public void writeToResource(final String resDir) {
+        final ArrayList<String> localeCodes = new ArrayList<>();
+        final ByteArrayOutputStream tables = new ByteArrayOutputStream();
+        final ArrayList<Integer> tableOffsets = new ArrayList<>();
+        try {
+            final DataOutputStream tablesOut = new DataOutputStream(tables);
+            for (final StringResourceMap resMap : mResourcesMap.values()) {
+                if (resMap == mDefaultResourceMap) continue;
+                localeCodes.add(LocaleUtils.getLocaleCode(resMap.mLocale));
+                tableOffsets.add(tablesOut.size());
+                writeTextsTable(tablesOut, resMap);
+            }
+            tablesOut.flush();
+            // The size of the index doesn't depend on the offsets, write it once to know where
+            // the tables start.
+            final int indexSize = writeIndex(new DataOutputStream(new ByteArrayOutputStream()),
+                    localeCodes, tableOffsets, 0);
+            final ByteArrayOutputStream resource = new ByteArrayOutputStream();
+            writeIndex(new DataOutputStream(resource), localeCodes, tableOffsets, indexSize);
+            tables.writeTo(resource);
+            if (resDir == null) {
+                System.out.format("%s: %d locales, %d bytes\n", RESOURCE_FILE, localeCodes.size(),
+                        resource.size());
+                return;
+            }
+            final File outDir = new File(resDir, RESOURCE_DIR);
+            outDir.mkdirs();
+            final FileOutputStream out = new FileOutputStream(new File(outDir, RESOURCE_FILE));
+            try {
+                resource.writeTo(out);
+            } finally {
+                JarUtils.close(out);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private int writeIndex(final DataOutputStream out, final ArrayList<String> localeCodes,
+            final ArrayList<Integer> tableOffsets, final int tablesOffset) throws IOException {
+        out.writeInt(RESOURCE_FORMAT_VERSION);
+        out.writeInt(mSortedResourceNames.length);
+        out.writeInt(localeCodes.size());
+        for (int i = 0; i < localeCodes.size(); i++) {
+            out.writeUTF(localeCodes.get(i));
+            out.writeInt(tablesOffset + tableOffsets.get(i));
+        }
+        out.flush();
+        return out.size();
+    }
+
+    private void writeTextsTable(final DataOutputStream out, final StringResourceMap resMap)
+            throws IOException {
+        final int tableSize = getTextsTableSize(resMap);
+        out.writeInt(tableSize);
+        for (int index = 0; index < tableSize; index++) {
+            final StringResource res = resMap.get(mSortedResourceNames[index]);
+            out.writeBoolean(res != null);
+            if (res != null) {
+                out.writeUTF(unescapeJavaString(res.mValue));
+            }
+        }
+    }
+
+    // Returns the length of the texts table of the locale, up to its last defined text.
+    private int getTextsTableSize(final StringResourceMap resMap) {
+        for (int index = mSortedResourceNames.length - 1; index >= 0; index--) {
+            if (resMap.contains(mSortedResourceNames[index])) {
+                return index + 1;
+            }
+        }
+        return 0;
+    }
+
     private void inflateTemplate(final LineNumberReader in, final PrintStream out)
             throws IOException {
         String line;
@@ -142,10 +231,8 @@ public class MoreKeysResources {
                 dumpNames(out);
             } else if (line.contains(MARK_DEFAULT_TEXTS)) {
                 dumpDefaultTexts(out);
-            } else if (line.contains(MARK_TEXTS)) {
-                dumpTexts(out);
-            } else if (line.contains(MARK_LOCALES_AND_TEXTS)) {
-                dumpLocalesMap(out);
+            } else if (line.contains(MARK_LOCALES)) {
+                dumpLocales(out);
             } else {
                 out.println(line);
             }
@@ -162,46 +249,22 @@ public class MoreKeysResources {
     }
 
     private void dumpDefaultTexts(final PrintStream out) {
-        final int outputArraySize = dumpTextsInternal(out, mDefaultResourceMap);
-        mDefaultResourceMap.setOutputArraySize(outputArraySize);
-    }
-
-    private static String getArrayNameForLocale(final Locale locale) {
-        return TEXTS_ARRAY_NAME_PREFIX + LocaleUtils.getLocaleCode(locale);
+        dumpTextsInternal(out, mDefaultResourceMap);
     }
 
-    private void dumpTexts(final PrintStream out) {
+    private void dumpLocales(final PrintStream out) {
         for (final StringResourceMap resMap : mResourcesMap.values()) {
-            final Locale locale = resMap.mLocale;
             if (resMap == mDefaultResourceMap) continue;
-            out.format("    /* Locale %s: %s */\n",
-                    locale, LocaleUtils.getLocaleDisplayName(locale));
-            out.format("    private static final String[] " + getArrayNameForLocale(locale)
-                    + " = {\n");
-            final int outputArraySize = dumpTextsInternal(out, resMap);
-            resMap.setOutputArraySize(outputArraySize);
-            out.format("    };\n\n");
-        }
-    }
-
-    private void dumpLocalesMap(final PrintStream out) {
-        for (final StringResourceMap resMap : mResourcesMap.values()) {
             final Locale locale = resMap.mLocale;
-            final String localeStr = LocaleUtils.getLocaleCode(locale);
-            final String localeToDump = (locale == LocaleUtils.DEFAULT_LOCALE)
-                    ? String.format("\"%s\"", localeStr)
-                    : String.format("\"%s\"%s", localeStr, "       ".substring(localeStr.length()));
-            out.format("        %s, %-12s /* %3d/%3d %s */\n",
-                    localeToDump, getArrayNameForLocale(locale) + ",",
-                    resMap.getResources().size(), resMap.getOutputArraySize(),
+            out.format("    //  %-8s /* %3d/%3d %s */\n", LocaleUtils.getLocaleCode(locale),
+                    resMap.getResources().size(), getTextsTableSize(resMap),
                     LocaleUtils.getLocaleDisplayName(locale));
         }
     }
 
-    private int dumpTextsInternal(final PrintStream out, final StringResourceMap resMap) {
+    private void dumpTextsInternal(final PrintStream out, final StringResourceMap resMap) {
         final ArrayInitializerFormatter formatter =
                 new ArrayInitializerFormatter(out, 100, "        ", mSortedResourceNames);
-        int outputArraySize = 0;
         boolean successiveNull = false;
         final int namesCount = mSortedResourceNames.length;
         for (int index = 0; index < namesCount; index++) {
@@ -219,7 +282,6 @@ public class MoreKeysResources {
                     formatter.outElement(String.format("\"%s\",", escaped));
                 }
                 successiveNull = false;
-                outputArraySize = formatter.getCurrentIndex();
             } else {
                 formatter.outElement("null,");
                 successiveNull = true;
@@ -228,7 +290,6 @@ public class MoreKeysResources {
         if (!successiveNull) {
             formatter.flush();
         }
-        return outputArraySize;
     }
 
     private static String addPrefix(final String prefix, final String lines) {
@@ -239,6 +300,37 @@ public class MoreKeysResources {
         return sb.toString();
     }
 
+    // The texts are written as java string literals in the XML files. The texts in the java source
+    // are used as they are, the texts in the resource must be the values of the literals.
+    private static String unescapeJavaString(final String text) {
+        final StringBuilder sb = new StringBuilder();
+        final int length = text.length();
+        for (int i = 0; i < length; i++) {
+            final char c = text.charAt(i);
+            if (c != '\\') {
+                sb.append(c);
+                continue;
+            }
+            if (i + 1 >= length) {
+                throw new RuntimeException("Unterminated escape sequence in " + text);
+            }
+            final char escaped = text.charAt(++i);
+            if (escaped == 'u') {
+                if (i + 5 > length) {
+                    throw new RuntimeException("Illegal unicode escape sequence in " + text);
+                }
+                sb.append((char)Integer.parseInt(text.substring(i + 1, i + 5), 16));
+                i += 4;
+            } else if (escaped == '\\' || escaped == '"' || escaped == '\'') {
+                sb.append(escaped);
+            } else {
+                throw new RuntimeException("Unsupported escape sequence \\" + escaped + " in "
+                        + text);
+            }
+        }
+        return sb.toString();
+    }
+
     private static String escapeNonAscii(final String text) {
         final StringBuilder sb = new StringBuilder();
         final int length = text.length();
@@ -42,12 +42,6 @@ public class StringResourceMap {
     // Name to string resource map.
     private final Map<String, StringResource> mResourcesMap;
 
-    // The length of String[] that is created from this {@link StringResourceMap}. The length is
-    // calculated in {@link MoreKeysResources#dumpTexts(OutputStream)} and recorded by
-    // {@link #setOutputArraySize(int)}. The recorded length is used as a part of comment by
-    // {@link MoreKeysResources#dumpLocaleMap(OutputStream)} via {@link #getOutputArraySize()}.
-    private int mOutputArraySize;
-
     public StringResourceMap(final String jarEntryName) {
         mLocale = JarUtils.getLocaleFromEntryName(jarEntryName);
         final StringResourceHandler handler = new StringResourceHandler();
@@ -92,14 +86,6 @@ public class StringResourceMap {
         return mResourcesMap.get(name);
     }
 
-    public void setOutputArraySize(final int arraySize) {
-        mOutputArraySize = arraySize;
-    }
-
-    public int getOutputArraySize() {
-        return mOutputArraySize;
-    }
-
     static class StringResourceHandler extends DefaultHandler2 {
         private static final String TAG_RESOURCES = "resources";
         private static final String TAG_STRING = "string";